@@ -17,5 +17,5 @@
 # The service configuration annotation for a Solace service attached to a `solace:Listener`.
 #
 # Specifies the subscription (queue or topic) and the flow options for the service.
-# Exactly one of `queueName` or `topicName` must be provided.
+# Either `queueName`, or at least one of `topicName` and `topicNames`, must be provided.
 public annotation ServiceConfiguration ServiceConfig on service;
@@ -31,7 +31,7 @@ public isolated client class Caller {
     #
     # + message - The message to acknowledge
     # + return - Error if acknowledgement fails
-    isolated remote function ack(Message message) returns Error? = @java:Method {
+    isolated remote function ack(AnydataMessage message) returns Error? = @java:Method {
         'class: "io.xlibb.solace.caller.CallerActions"
     } external;
 
@@ -44,8 +44,26 @@ public isolated client class Caller {
     # + requeue - If true, the message is requeued for redelivery (FAILED outcome).
     # If false, the message moves to the DMQ immediately, if configured. If not, the message is simply
     # discarded. (REJECTED outcome)
+    # + delay - Redelivery delay in seconds for a requeued message. The message is held unsettled and redelivered
+    # once the delay expires, as set by the service's `redeliveryBackoff.action`. If not given, the service's
+    # `redeliveryBackoff` delay applies, or the message is requeued immediately if the service has no backoff policy
     # + return - Error if NACK fails
-    isolated remote function nack(Message message, boolean requeue = true) returns Error? = @java:Method {
+    isolated remote function nack(AnydataMessage message, boolean requeue = true, decimal? delay = ())
+            returns Error? = @java:Method {
+        'class: "io.xlibb.solace.caller.CallerActions"
+    } external;
+
+    # Reply to a request message.
+    #
+    # The reply is sent to the request's `replyTo` destination with the request's `correlationId`, through the
+    # listener's own connection. When the listener connection is transacted, the reply is sent as part of the current
+    # transaction, i.e. when it is committed.
+    #
+    # + request - The request message received by `onMessage`
+    # + response - The reply message. A `byte[]` payload is sent as is, a `string` as UTF-8 text, an `xml` as XML and
+    # any other payload as JSON
+    # + return - Error if the request has no `replyTo` destination or the reply cannot be sent
+    isolated remote function reply(AnydataMessage request, AnydataMessage response) returns Error? = @java:Method {
         'class: "io.xlibb.solace.caller.CallerActions"
     } external;
 
@@ -16,3 +16,45 @@
 
 # Represents a Solace distinct error.
 public type Error distinct error;
+
+# Represents a failure to bind a received message's payload to the type a service or `receivePayload` asked for.
+public type PayloadBindingError distinct Error;
+
+# Represents a failure to serialize the payload of a message being sent.
+public type PayloadSerializationError distinct Error;
+
+# Represents a request sent by `MessageProducer.request` that received no reply within its timeout.
+public type RequestTimeoutError distinct Error;
+
+# Details of a subscription change requested for a service whose endpoint does not support it
+public type SubscriptionChangeErrorDetail record {|
+    # The type name of the attached service
+    string serviceName;
+    # The name of the durable topic endpoint the service consumes from
+    string endpointName;
+|};
+
+# Represents a `Listener.subscribe` or `unsubscribe` call for a service consuming from a durable topic endpoint,
+# whose single subscription cannot be changed without losing its messages.
+public type SubscriptionChangeError distinct (Error & error<SubscriptionChangeErrorDetail>);
+
+# A send included in a transaction that failed to commit
+public type UncommittedSend record {|
+    # The topic or queue name the message was sent to
+    string destination;
+    # The application message ID of the message, if it had one
+    string applicationMessageId?;
+|};
+
+# Details of a transaction that failed to commit
+public type CommitErrorDetail record {|
+    # Number of sends included in the transaction
+    int sendCount;
+    # The sends included in the transaction, in the order they were made
+    UncommittedSend[] sends;
+    # Whether the broker rolled the transaction back. If false, the outcome of the commit is unknown
+    boolean rolledBack;
+|};
+
+# Represents the failure of a transaction commit made by a producer's `autoCommit` policy or `flush()`.
+public type CommitError distinct (Error & error<CommitErrorDetail>);
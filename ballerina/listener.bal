@@ -25,7 +25,14 @@ import ballerina/jballerina.java;
 # Each attached service declares its subscription via the `@solace:ServiceConfig` annotation.
 # - Queue subscriptions: guaranteed delivery via a `FlowReceiver`.
 # - Durable topic endpoint subscriptions: guaranteed delivery via a `FlowReceiver`.
-# - Direct topic subscriptions: at-most-once delivery via an `XMLMessageConsumer`.
+# - Direct topic subscriptions: at-most-once delivery via the session's `XMLMessageConsumer`. Any number
+#   of direct topic services can share a listener; each message is routed to every service whose topic
+#   subscription (including `*` and `>` wildcards) matches the message's topic.
+#
+# The first parameter of `onMessage` is either a `solace:Message`, a record including
+# `solace:AnydataMessage` that narrows the `payload` type, or the payload type alone (e.g. a record,
+# `json`, `xml` or `string`). A typed payload is decoded natively from the message bytes; one that
+# cannot be decoded fails the message with a `PayloadBindingError`.
 #
 # Example queue listener:
 # ```ballerina
@@ -50,13 +57,13 @@ public isolated class Listener {
     # Initialize a new listener with the given connection configuration.
     #
     # + url - The broker URL with format: [protocol:]host[:port]
-    # + config - The connection configuration (auth, SSL/TLS, retry, etc.)
+    # + config - The listener configuration (auth, SSL/TLS, retry, transaction batching, etc.)
     # + return - Error if initialization fails
-    public isolated function init(string url, *CommonConnectionConfiguration config) returns Error? {
+    public isolated function init(string url, *ListenerConfiguration config) returns Error? {
         return self.initListener(url, config);
     }
 
-    isolated function initListener(string url, CommonConnectionConfiguration config) returns Error? = @java:Method {
+    isolated function initListener(string url, ListenerConfiguration config) returns Error? = @java:Method {
         'class: "io.xlibb.solace.listener.ListenerActions",
         name: "init"
     } external;
@@ -66,6 +73,10 @@ public isolated class Listener {
     # The service must declare a remote `onMessage` method and may optionally declare an `onError`
     # method. Its subscription is read from the `@solace:ServiceConfig` annotation.
     #
+    # Before the listener is started, the service's endpoint is not bound yet, so a missing queue or an
+    # endpoint that cannot be provisioned is reported by `start()` rather than here. Once the listener is
+    # running, the endpoint is bound immediately and such errors are returned by `attach`.
+    #
     # + s - The service object to attach
     # + name - Optional service name (ignored; subscription is taken from the annotation)
     # + return - Error if attachment fails
@@ -87,7 +98,9 @@ public isolated class Listener {
 
     # Start the listener.
     #
-    # Begins delivering messages to all attached services.
+    # Begins delivering messages to all attached services. The endpoints of services attached before
+    # the listener started are bound here, concurrently; if any cannot be bound (e.g. a queue does not
+    # exist), none of the services is started, and the returned error names every failed service.
     #
     # + return - Error if start fails
     public isolated function 'start() returns Error? = @java:Method {
@@ -95,6 +108,60 @@ public isolated class Listener {
         name: "start"
     } external;
 
+    # Add topic subscriptions to an attached service without detaching it.
+    #
+    # A direct topic service receives messages for the new subscriptions as soon as they are added, with
+    # no gap for the subscriptions it keeps. For a queue service, the subscriptions are added to the queue
+    # itself and persist on the broker. The subscription of a durable topic endpoint cannot be changed,
+    # so a `SubscriptionChangeError` naming the service and endpoint is returned for such a service.
+    #
+    # + s - The attached service
+    # + topics - The topic subscriptions to add (may contain `*` and `>` wildcards)
+    # + return - Error if the service is not attached or a subscription cannot be added
+    public isolated function subscribe(Service s, string[] topics) returns Error? = @java:Method {
+        'class: "io.xlibb.solace.listener.ListenerActions",
+        name: "subscribe"
+    } external;
+
+    # Remove topic subscriptions from an attached service without detaching it.
+    #
+    # Subscriptions the service does not have are ignored. As with `subscribe`, a service consuming
+    # from a durable topic endpoint gets a `SubscriptionChangeError`.
+    #
+    # + s - The attached service
+    # + topics - The topic subscriptions to remove
+    # + return - Error if the service is not attached or a subscription cannot be removed
+    public isolated function unsubscribe(Service s, string[] topics) returns Error? = @java:Method {
+        'class: "io.xlibb.solace.listener.ListenerActions",
+        name: "unsubscribe"
+    } external;
+
+    # Pause message delivery without releasing flows or subscriptions.
+    #
+    # A paused service's flow is stopped, so the broker holds further messages for it until the service
+    # is resumed; messages already received are still processed. When no service is given, every attached
+    # service is paused, as is any service attached before the listener is resumed. A paused direct topic
+    # service's subscriptions are removed from the session, so direct messages published meanwhile are
+    # not delivered to it.
+    #
+    # + s - The service to pause, or `()` to pause every service
+    # + return - Error if the service is not attached or delivery cannot be paused
+    public isolated function pause(Service? s = ()) returns Error? = @java:Method {
+        'class: "io.xlibb.solace.listener.ListenerActions",
+        name: "pause"
+    } external;
+
+    # Resume message delivery paused with `pause()`.
+    #
+    # A service that is also paused by its circuit breaker or rate limit resumes once those clear.
+    #
+    # + s - The service to resume, or `()` to resume every service
+    # + return - Error if the service is not attached or delivery cannot be resumed
+    public isolated function resume(Service? s = ()) returns Error? = @java:Method {
+        'class: "io.xlibb.solace.listener.ListenerActions",
+        name: "resume"
+    } external;
+
     # Gracefully stop the listener.
     #
     # Stops delivery to attached services and waits for in-flight message processing to complete
@@ -77,6 +77,25 @@ public isolated function init(string url, *ConsumerConfiguration config) returns
         name: "receive"
     } external;
 
+    # Receive a message with a timeout and bind it to a typed message record or to its payload alone.
+    #
+    # The payload is decoded directly from the received bytes: as UTF-8 text for `string`, as XML for `xml`,
+    # unchanged for `byte[]`, and as JSON converted to the target type otherwise. When only the payload is
+    # returned there is no message to acknowledge, so use it with `AUTO_ACK` or a transacted consumer.
+    # ```ballerina
+    # Order? order = check consumer->receivePayload(5);
+    # ```
+    #
+    # + timeout - Maximum time in seconds to wait for a message. A timeout of zero never expires
+    # + T - The type to bind the message to: a record including `AnydataMessage`, or the payload type
+    # + return - The bound message or payload, or nil if timeout occurs; `PayloadBindingError` if the payload
+    # cannot be bound to the type, or Error if receive fails
+    isolated remote function receivePayload(decimal timeout = 0.0, typedesc<anydata> T = <>)
+            returns T|Error? = @java:Method {
+        'class: "io.xlibb.solace.consumer.ConsumerActions",
+        name: "receivePayload"
+    } external;
+
     # Receive a message without waiting.
     #
     # Returns immediately with a message if available, or nil if no message is available.
@@ -95,7 +114,7 @@ public isolated function init(string url, *ConsumerConfiguration config) returns
     #
     # + message - The message to acknowledge
     # + return - Error if acknowledgement fails
-    isolated remote function ack(Message message) returns Error? = @java:Method {
+    isolated remote function ack(AnydataMessage message) returns Error? = @java:Method {
         'class: "io.xlibb.solace.consumer.ConsumerActions",
         name: "acknowledge"
     } external;
@@ -112,11 +131,57 @@ public isolated function init(string url, *ConsumerConfiguration config) returns
     # Only use this method if the subscription is configured with ackMode = "SUPPORTED_MESSAGE_ACK_CLIENT"
     # and the consumer flow is configured to support required settlement outcomes.
     # For transacted flows, settlement outcomes are ignored.
-    isolated remote function nack(Message message, boolean requeue = true) returns Error? = @java:Method {
+    isolated remote function nack(AnydataMessage message, boolean requeue = true) returns Error? = @java:Method {
         'class: "io.xlibb.solace.consumer.ConsumerActions",
         name: "nack"
     } external;
 
+    # Add topic subscriptions to a direct topic consumer at runtime.
+    #
+    # Topics that are already subscribed are skipped. The remaining subscriptions are added in bulk, waiting
+    # for broker confirmation only on the last one, so large subscription sets avoid a round-trip per topic.
+    # Only supported when the consumer was created with a DEFAULT (direct) topic subscription.
+    #
+    # + topics - The topic subscriptions to add (may contain `*` and `>` wildcards)
+    # + return - Error if a subscription cannot be added
+    isolated remote function subscribe(string[] topics) returns Error? = @java:Method {
+        'class: "io.xlibb.solace.consumer.ConsumerActions",
+        name: "subscribe"
+    } external;
+
+    # Remove topic subscriptions from a direct topic consumer at runtime.
+    #
+    # Topics that are not currently subscribed are ignored.
+    #
+    # + topics - The topic subscriptions to remove
+    # + return - Error if a subscription cannot be removed
+    isolated remote function unsubscribe(string[] topics) returns Error? = @java:Method {
+        'class: "io.xlibb.solace.consumer.ConsumerActions",
+        name: "unsubscribe"
+    } external;
+
+    # Pause the consumer without releasing its flow or subscriptions.
+    #
+    # For a queue or durable topic consumer the broker holds further messages until `resume()` is
+    # called, so an application can apply backpressure (e.g. while a downstream system is saturated).
+    # A direct topic consumer has no endpoint to hold its messages: those published while it is
+    # paused are buffered by the client only up to its receive buffer, and the rest are lost.
+    # Messages already received by the consumer can still be read with `receive()`.
+    #
+    # + return - Error if the consumer cannot be paused
+    isolated remote function pause() returns Error? = @java:Method {
+        'class: "io.xlibb.solace.consumer.ConsumerActions",
+        name: "pause"
+    } external;
+
+    # Resume a consumer paused with `pause()`.
+    #
+    # + return - Error if the consumer cannot be resumed
+    isolated remote function resume() returns Error? = @java:Method {
+        'class: "io.xlibb.solace.consumer.ConsumerActions",
+        name: "resume"
+    } external;
+
     # Commit the current transaction.
     #
     # Only applicable in transacted mode. Commits all message operations since the last commit/rollback.
@@ -39,12 +39,16 @@ import ballerina/jballerina.java;
 # ```
 public isolated client class MessageProducer {
 
+    private final Serializer? serializer;
+
     # Initialize a new MessageProducer with the given connection configuration.
     #
     # + url - The broker URL with format: [protocol:]host[:port]
     # + config - The producer connection configuration
     # + return - Error if initialization fails
     public isolated function init(string url, *ProducerConfiguration config) returns Error? {
+        PayloadFormat|Serializer|SchemaSerializer serializer = config.serializer;
+        self.serializer = serializer is Serializer ? serializer : ();
         return self.initProducer(url, config);
     }
 
@@ -55,14 +59,122 @@ public isolated client class MessageProducer {
 
     # Send a message to the specified destination.
     #
+    # With `autoCommit`, a send that completes a batch also commits it, and a failed commit is returned as a
+    # `CommitError`. The error of a failed interval commit is returned by the next send, which is then not performed.
+    #
+    # The payload is serialized by the producer's `serializer`; a payload that cannot be serialized is returned as a
+    # `PayloadSerializationError`.
+    #
     # + destination - The destination to send to (topic or queue)
     # + message - The message to send (payload and optional properties)
     # + return - Error if send fails
-    isolated remote function send(Destination destination, Message message) returns Error? = @java:Method {
+    isolated remote function send(Destination destination, AnydataMessage message) returns Error? {
+        Serializer? serializer = self.serializer;
+        if serializer is () {
+            return self.externSend(destination, message, ());
+        }
+        byte[]|error payload = serializer.serialize(message.payload);
+        if payload is error {
+            return error PayloadSerializationError("Failed to serialize the message payload", payload);
+        }
+        return self.externSend(destination, message, payload);
+    }
+
+    isolated function externSend(Destination destination, AnydataMessage message, byte[]? serializedPayload)
+            returns Error? = @java:Method {
         'class: "io.xlibb.solace.producer.ProducerActions",
         name: "send"
     } external;
 
+    # Send a message built from a template to the specified destination.
+    #
+    # The message takes its header fields and properties from the template, which converted them when it was
+    # created, so only the payload and `overrides` are converted per message. The payload is serialized by the
+    # producer's `serializer`, as by `send`.
+    #
+    # + destination - The destination to send to (topic or queue)
+    # + template - The template of the message's header fields and properties
+    # + payload - The payload of the message
+    # + overrides - The per-message fields. Properties are added to the template's properties
+    # + return - Error if send fails
+    isolated remote function sendFromTemplate(Destination destination, MessageTemplate template, anydata payload,
+            *MessageOverrides overrides) returns Error? {
+        Serializer? serializer = self.serializer;
+        if serializer is () {
+            return self.externSendFromTemplate(destination, template, payload, overrides, ());
+        }
+        byte[]|error serializedPayload = serializer.serialize(payload);
+        if serializedPayload is error {
+            return error PayloadSerializationError("Failed to serialize the message payload", serializedPayload);
+        }
+        return self.externSendFromTemplate(destination, template, payload, overrides, serializedPayload);
+    }
+
+    isolated function externSendFromTemplate(Destination destination, MessageTemplate template, anydata payload,
+            MessageOverrides overrides, byte[]? serializedPayload) returns Error? = @java:Method {
+        'class: "io.xlibb.solace.producer.ProducerActions",
+        name: "sendFromTemplate"
+    } external;
+
+    # Send a message to several destinations.
+    #
+    # The message is converted, and its payload serialized, only once. A direct message is published to all of the
+    # destinations with a single call into the messaging API; a guaranteed message is published as one copy per
+    # destination, all sharing the serialized payload.
+    #
+    # + destinations - The destinations to send to (topics or queues)
+    # + message - The message to send (payload and optional properties)
+    # + return - The result of each send, in the order of `destinations`, or an `Error` if the message could not be
+    # converted. The error of a failed send is reported for its destination and the destinations not yet sent to
+    isolated remote function sendToAll(Destination[] destinations, AnydataMessage message) returns SendResult[]|Error {
+        Serializer? serializer = self.serializer;
+        if serializer is () {
+            return self.externSendToAll(destinations, message, ());
+        }
+        byte[]|error payload = serializer.serialize(message.payload);
+        if payload is error {
+            return error PayloadSerializationError("Failed to serialize the message payload", payload);
+        }
+        return self.externSendToAll(destinations, message, payload);
+    }
+
+    isolated function externSendToAll(Destination[] destinations, AnydataMessage message, byte[]? serializedPayload)
+            returns SendResult[]|Error = @java:Method {
+        'class: "io.xlibb.solace.producer.ProducerActions",
+        name: "sendToAll"
+    } external;
+
+    # Send a request message to the specified destination and wait for its reply.
+    #
+    # The request's `correlationId` and `replyTo` are set by the producer: replies to all of the producer's requests
+    # are received on the session's inbox topic through one reply flow, and matched to their requests by correlation
+    # ID. A replier must send its reply to the request's `replyTo` destination with the request's `correlationId`.
+    # A reply arriving after its request timed out is dropped. Not supported on transacted producers.
+    #
+    # + destination - The destination to send the request to (topic or queue)
+    # + message - The request message (payload and optional properties)
+    # + timeout - The time to wait for the reply, in seconds
+    # + return - The reply message, a `RequestTimeoutError` if no reply arrived in time, or an `Error` if the request
+    # could not be sent
+    isolated remote function request(Destination destination, AnydataMessage message, decimal timeout = 10.0)
+            returns Message|Error {
+        Serializer? serializer = self.serializer;
+        if serializer is () {
+            return self.externRequest(destination, message, (), timeout);
+        }
+        byte[]|error payload = serializer.serialize(message.payload);
+        if payload is error {
+            return error PayloadSerializationError("Failed to serialize the message payload", payload);
+        }
+        return self.externRequest(destination, message, payload, timeout);
+    }
+
+    isolated function externRequest(Destination destination, AnydataMessage message, byte[]? serializedPayload,
+            decimal timeout) returns Message|Error = @java:Method {
+        'class: "io.xlibb.solace.producer.ProducerActions",
+        name: "request"
+    } external;
+
     # Commit the current transaction.
     #
     # Only applicable in transacted mode. Commits all message operations since the last commit/rollback.
@@ -73,6 +185,16 @@ public isolated client class MessageProducer {
         name: "commit"
     } external;
 
+    # Commit the sends not yet committed by the `autoCommit` policy.
+    #
+    # Only applicable in transacted mode. Without `autoCommit` this is the same as `commit()`.
+    #
+    # + return - A `CommitError` if the commit fails (or an earlier interval commit failed), other `Error` on failure
+    isolated remote function flush() returns Error? = @java:Method {
+        'class: "io.xlibb.solace.producer.ProducerActions",
+        name: "flush"
+    } external;
+
     # Rollback the current transaction.
     #
     # Only applicable in transacted mode. Rolls back all message operations since the last commit/rollback.
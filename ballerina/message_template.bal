@@ -0,0 +1,49 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Header fields and properties shared by many messages, for `MessageProducer.sendFromTemplate`.
+#
+# The template's fields and properties are converted once, when it is created, so a message sent from it only has
+# its payload and per-message overrides converted. A template is immutable and can be shared by producers and
+# strands.
+#
+# Example usage:
+# ```ballerina
+# final smf:MessageTemplate orderEvents = check new (
+#     deliveryMode = smf:PERSISTENT,
+#     applicationMessageType = "order-event",
+#     properties = {"source": "orders"}
+# );
+#
+# check producer->sendFromTemplate({topicName: "orders/created"}, orderEvents, order, applicationMessageId = order.id);
+# ```
+public isolated class MessageTemplate {
+
+    # Create a message template.
+    #
+    # + config - The header fields and properties of the template's messages
+    # + return - Error if a field is invalid
+    public isolated function init(*MessageTemplateConfig config) returns Error? {
+        return self.initTemplate(config);
+    }
+
+    isolated function initTemplate(MessageTemplateConfig config) returns Error? = @java:Method {
+        'class: "io.xlibb.solace.producer.MessageTemplate",
+        name: "init"
+    } external;
+}
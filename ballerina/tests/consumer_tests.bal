@@ -529,3 +529,276 @@ isolated function testConsumerReceiveMultipleMessages() returns error? {
 
     check consumer->close();
 }
+
+@test:Config {groups: ["consumer", "receive"]}
+isolated function testConsumerDirectTopicSubscriptionSet() returns error? {
+    MessageConsumer consumer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {
+            topicNames: [CONSUMER_DIRECT_MULTI_TOPIC_PREFIX + "/a", CONSUMER_DIRECT_MULTI_TOPIC_PREFIX + "/b/>"]
+        }
+    });
+
+    MessageProducer producer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        }
+    });
+
+    // Matches the wildcard subscription.
+    check producer->send({topicName: CONSUMER_DIRECT_MULTI_TOPIC_PREFIX + "/b/1/2"}, {payload: "Wildcard".toBytes()});
+    Message? wildcardMsg = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+    test:assertTrue(wildcardMsg is Message, "Should receive message matching the wildcard subscription");
+
+    // Subscribe at runtime, then unsubscribe an initial topic.
+    check consumer->subscribe([CONSUMER_DIRECT_MULTI_TOPIC_PREFIX + "/c"]);
+    check consumer->unsubscribe([CONSUMER_DIRECT_MULTI_TOPIC_PREFIX + "/a"]);
+    check producer->send({topicName: CONSUMER_DIRECT_MULTI_TOPIC_PREFIX + "/a"}, {payload: "Removed".toBytes()});
+    check producer->send({topicName: CONSUMER_DIRECT_MULTI_TOPIC_PREFIX + "/c"}, {payload: "Added".toBytes()});
+    check producer->close();
+
+    Message? msg = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+    test:assertTrue(msg is Message, "Should receive message on the runtime subscription");
+    if msg is Message {
+        test:assertEquals(msg.payload, "Added".toBytes(), "Unsubscribed topic must not be delivered");
+    }
+
+    check consumer->close();
+}
+
+@test:Config {groups: ["consumer", "replay"]}
+isolated function testConsumerReplayFromMessageId() returns error? {
+    MessageProducer producer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        }
+    });
+    check producer->send({queueName: CONSUMER_REPLAY_QUEUE}, {payload: "Replay 1".toBytes(), deliveryMode: PERSISTENT});
+    check producer->send({queueName: CONSUMER_REPLAY_QUEUE}, {payload: "Replay 2".toBytes(), deliveryMode: PERSISTENT});
+    check producer->close();
+
+    // Consume (and auto-acknowledge) both messages, remembering the first one's replication group message ID.
+    MessageConsumer consumer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {queueName: CONSUMER_REPLAY_QUEUE}
+    });
+    Message? first = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+    Message? second = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+    check consumer->close();
+    test:assertTrue(first is Message && second is Message, "Should receive both messages");
+    string? replicationGroupMessageId = first is Message ? first.replicationGroupMessageId : ();
+    test:assertTrue(replicationGroupMessageId is string, "Guaranteed messages should carry a replication group message ID");
+    if replicationGroupMessageId !is string {
+        return;
+    }
+
+    // Replay from the first message: only the messages after it are redelivered.
+    MessageConsumer replayConsumer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {
+            queueName: CONSUMER_REPLAY_QUEUE,
+            replayFrom: {replicationGroupMessageId}
+        }
+    });
+    Message? replayed = check replayConsumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+    check replayConsumer->close();
+    test:assertTrue(replayed is Message, "Should receive the replayed message");
+    if replayed is Message {
+        test:assertEquals(replayed.payload, "Replay 2".toBytes(), "Replay should resume after the given message");
+    }
+}
+
+@test:Config {groups: ["consumer", "replay"]}
+isolated function testConsumerResumeFromCheckpoint() returns error? {
+    MessageProducer producer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        }
+    });
+    foreach string payload in ["Checkpoint A", "Checkpoint B", "Checkpoint C"] {
+        check producer->send({queueName: CONSUMER_CHECKPOINT_QUEUE}, {payload: payload.toBytes(), deliveryMode: PERSISTENT});
+    }
+    check producer->close();
+
+    // Process (acknowledge) only the first message with checkpointing enabled; closing flushes the checkpoint.
+    MessageConsumer checkpointed = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {
+            queueName: CONSUMER_CHECKPOINT_QUEUE,
+            ackMode: CLIENT_ACK,
+            checkpoint: {directory: CHECKPOINT_DIRECTORY, fsync: FSYNC_ALWAYS, resume: false}
+        }
+    });
+    Message? first = check checkpointed->receive(DEFAULT_RECEIVE_TIMEOUT);
+    test:assertTrue(first is Message, "Should receive the first message");
+    if first is Message {
+        check checkpointed->ack(first);
+    }
+    check checkpointed->close();
+
+    // Drain the remaining messages without checkpointing, leaving the queue empty.
+    MessageConsumer drain = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {queueName: CONSUMER_CHECKPOINT_QUEUE, ackMode: CLIENT_ACK}
+    });
+    foreach int i in 0 ..< 2 {
+        Message? msg = check drain->receive(DEFAULT_RECEIVE_TIMEOUT);
+        if msg is Message {
+            check drain->ack(msg);
+        }
+    }
+    check drain->close();
+
+    // Resuming from the checkpoint replays everything after the first message.
+    MessageConsumer resumed = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {
+            queueName: CONSUMER_CHECKPOINT_QUEUE,
+            ackMode: CLIENT_ACK,
+            checkpoint: {directory: CHECKPOINT_DIRECTORY}
+        }
+    });
+    Message? replayed = check resumed->receive(DEFAULT_RECEIVE_TIMEOUT);
+    if replayed is Message {
+        check resumed->ack(replayed);
+    }
+    Message? next = check resumed->receive(DEFAULT_RECEIVE_TIMEOUT);
+    if next is Message {
+        check resumed->ack(next);
+    }
+    check resumed->close();
+
+    test:assertTrue(replayed is Message, "Should replay the messages after the checkpoint");
+    if replayed is Message {
+        test:assertEquals(replayed.payload, "Checkpoint B".toBytes(), "Replay should resume after the checkpoint");
+    }
+}
+
+@test:Config {groups: ["consumer"]}
+isolated function testConsumerDeduplication() returns error? {
+    MessageProducer producer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        }
+    });
+    check producer->send({queueName: CONSUMER_DEDUP_QUEUE},
+            {payload: "Dedup 1".toBytes(), applicationMessageId: "dedup-1", deliveryMode: PERSISTENT});
+    check producer->send({queueName: CONSUMER_DEDUP_QUEUE},
+            {payload: "Dedup 1 again".toBytes(), applicationMessageId: "dedup-1", deliveryMode: PERSISTENT});
+    check producer->send({queueName: CONSUMER_DEDUP_QUEUE},
+            {payload: "Dedup 2".toBytes(), applicationMessageId: "dedup-2", deliveryMode: PERSISTENT});
+    check producer->close();
+
+    MessageConsumer consumer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {
+            queueName: CONSUMER_DEDUP_QUEUE,
+            ackMode: CLIENT_ACK,
+            deduplication: {window: 30.0}
+        }
+    });
+    Message? first = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+    if first is Message {
+        check consumer->ack(first);
+    }
+    // The second message repeats the first key, so it is acknowledged and skipped.
+    Message? second = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+    if second is Message {
+        check consumer->ack(second);
+    }
+    Message? third = check consumer->receiveNoWait();
+    check consumer->close();
+
+    test:assertTrue(first is Message, "Should receive the first message");
+    if first is Message {
+        test:assertEquals(first.payload, "Dedup 1".toBytes(), "Should receive the first message");
+    }
+    test:assertTrue(second is Message, "Should receive the message with a new key");
+    if second is Message {
+        test:assertEquals(second.payload, "Dedup 2".toBytes(), "The duplicate should be dropped");
+    }
+    test:assertTrue(third is (), "No further messages should be delivered");
+}
+
+@test:Config {groups: ["consumer", "receive"]}
+isolated function testConsumerPauseResume() returns error? {
+    MessageConsumer consumer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {queueName: CONSUMER_PAUSE_QUEUE}
+    });
+    check consumer->pause();
+    check sendMessageToQueue(CONSUMER_PAUSE_QUEUE, "Paused Message");
+
+    // The broker holds the message while the consumer is paused.
+    Message? whilePaused = check consumer->receive(SHORT_RECEIVE_TIMEOUT);
+    check consumer->resume();
+    Message? afterResume = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+    check consumer->close();
+
+    test:assertTrue(whilePaused is (), "A paused consumer should not receive messages");
+    test:assertTrue(afterResume is Message, "The held message should be received after resuming");
+    if afterResume is Message {
+        test:assertEquals(afterResume.payload, "Paused Message".toBytes(), "Payload should match");
+    }
+}
+
+@test:Config {groups: ["consumer", "receive"]}
+isolated function testConsumerReceivePayload() returns error? {
+    check sendMessageToQueue(CONSUMER_BINDING_QUEUE, {name: "binding", count: 2}.toJsonString());
+    check sendMessageToQueue(CONSUMER_BINDING_QUEUE, "plain text");
+
+    MessageConsumer consumer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {queueName: CONSUMER_BINDING_QUEUE}
+    });
+    record {|string name; int count;|}? bound = check consumer->receivePayload(DEFAULT_RECEIVE_TIMEOUT);
+    string? text = check consumer->receivePayload(DEFAULT_RECEIVE_TIMEOUT);
+    check consumer->close();
+
+    test:assertEquals(bound, {name: "binding", count: 2}, "The JSON payload should be bound to the record");
+    test:assertEquals(text, "plain text", "The payload should be bound to a string");
+}
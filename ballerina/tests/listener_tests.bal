@@ -23,9 +23,28 @@ import ballerina/test;
 const string LISTENER_AUTOACK_QUEUE = "test/listener/autoack/queue";
 const string LISTENER_CLIENTACK_QUEUE = "test/listener/clientack/queue";
 const string LISTENER_DIRECT_TOPIC = "test/listener/direct/topic";
+const string LISTENER_DIRECT_ORDERS_TOPIC = "test/listener/direct/multi/orders";
+const string LISTENER_DIRECT_WILDCARD_TOPIC = "test/listener/direct/multi/*";
 const string LISTENER_NACK_QUEUE = "test/listener/nack/queue";
 const string LISTENER_TX_COMMIT_QUEUE = "test/listener/tx/commit/queue";
 const string LISTENER_TX_ROLLBACK_QUEUE = "test/listener/tx/rollback/queue";
+const string LISTENER_ADAPTIVE_QUEUE = "test/listener/adaptive/queue";
+const string LISTENER_BACKOFF_QUEUE = "test/listener/backoff/queue";
+const string LISTENER_POISON_QUEUE = "test/listener/poison/queue";
+const string LISTENER_PARKING_QUEUE = "test/listener/parking/queue";
+const string LISTENER_CIRCUIT_QUEUE = "test/listener/circuit/queue";
+const string LISTENER_RATE_LIMIT_QUEUE = "test/listener/ratelimit/queue";
+const string LISTENER_TX_BATCH_QUEUE = "test/listener/tx/batch/queue";
+const string LISTENER_PAUSE_QUEUE = "test/listener/pause/queue";
+const string LISTENER_STARTUP_QUEUE_A = "test/listener/startup/a/queue";
+const string LISTENER_STARTUP_QUEUE_B = "test/listener/startup/b/queue";
+const string LISTENER_STARTUP_QUEUE_C = "test/listener/startup/c/queue";
+const string LISTENER_MISSING_QUEUE = "test/listener/missing/queue";
+const string LISTENER_RELOAD_TOPIC = "test/listener/reload/initial";
+const string LISTENER_RELOAD_ADDED_TOPIC = "test/listener/reload/added";
+const string LISTENER_BINDING_QUEUE = "test/listener/binding/queue";
+const string LISTENER_BINDING_MESSAGE_QUEUE = "test/listener/binding/message/queue";
+const string LISTENER_REPLY_QUEUE = "test/listener/reply/queue";
 const string LISTENER_DURABLE_TOPIC = "test/listener/durable/topic";
 const string LISTENER_DURABLE_ENDPOINT = "test-listener-durable-endpoint";
 
@@ -68,6 +87,12 @@ isolated class Recorder {
         }
     }
 
+    isolated function errorCount() returns int {
+        lock {
+            return self.errors;
+        }
+    }
+
     isolated function count() returns int {
         lock {
             return self.messages.length();
@@ -309,8 +334,14 @@ function testListenerDurableTopic() returns error? {
     check publish({topicName: LISTENER_DURABLE_TOPIC}, payload, PERSISTENT);
     waitForMessages(durableTopicRecorder, 1);
     boolean received = durableTopicRecorder.contains(payload);
+    // The single subscription of a durable topic endpoint cannot be changed at runtime.
+    Error? changed = solaceListener.subscribe(durableTopicService, [LISTENER_DURABLE_TOPIC + "/other"]);
     check solaceListener.gracefulStop();
     test:assertTrue(received, "Durable topic endpoint service should have received the message");
+    test:assertTrue(changed is SubscriptionChangeError, "Changing a durable endpoint's subscription should fail");
+    if changed is SubscriptionChangeError {
+        test:assertEquals(changed.detail().endpointName, LISTENER_DURABLE_ENDPOINT);
+    }
 }
 
 // ========================================
@@ -439,3 +470,593 @@ function testListenerTransactedRollback() returns error? {
     test:assertTrue(redelivered, "Rollback should cause the message to be redelivered");
     test:assertTrue(queueEmpty, "After the committed redelivery the queue must be empty");
 }
+
+// ========================================
+// Multiple direct topic services on one listener
+// ========================================
+final Recorder directOrdersRecorder = new;
+final Recorder directWildcardRecorder = new;
+
+Service directOrdersService = @ServiceConfig {
+    topicName: LISTENER_DIRECT_ORDERS_TOPIC
+} service object {
+    remote function onMessage(Message message) returns error? {
+        directOrdersRecorder.add(check string:fromBytes(message.payload));
+    }
+};
+
+Service directWildcardService = @ServiceConfig {
+    topicName: LISTENER_DIRECT_WILDCARD_TOPIC
+} service object {
+    remote function onMessage(Message message) returns error? {
+        directWildcardRecorder.add(check string:fromBytes(message.payload));
+    }
+};
+
+@test:Config {groups: ["listener"]}
+function testListenerMultipleDirectTopicServices() returns error? {
+    Listener solaceListener = check new (BROKER_URL, connectionConfig());
+    check solaceListener.attach(directOrdersService);
+    check solaceListener.attach(directWildcardService);
+    check solaceListener.'start();
+    // Let the flow/subscription become fully active before publishing, so the first message is not
+    // missed under load (a topic subscription that is not yet active does not capture the message).
+    runtime:sleep(2);
+
+    // Matches both the literal and the wildcard subscription.
+    string ordersPayload = "listener-direct-orders-payload";
+    check publish({topicName: LISTENER_DIRECT_ORDERS_TOPIC}, ordersPayload, DIRECT);
+    // Matches only the wildcard subscription.
+    string invoicesPayload = "listener-direct-invoices-payload";
+    check publish({topicName: "test/listener/direct/multi/invoices"}, invoicesPayload, DIRECT);
+
+    waitForMessages(directWildcardRecorder, 2);
+    waitForMessages(directOrdersRecorder, 1);
+    boolean ordersReceived = directOrdersRecorder.contains(ordersPayload);
+    boolean ordersLeaked = directOrdersRecorder.contains(invoicesPayload);
+    boolean wildcardReceivedOrders = directWildcardRecorder.contains(ordersPayload);
+    boolean wildcardReceivedInvoices = directWildcardRecorder.contains(invoicesPayload);
+    check solaceListener.gracefulStop();
+
+    test:assertTrue(ordersReceived, "Literal subscription service should have received its message");
+    test:assertFalse(ordersLeaked, "Literal subscription service must not receive non-matching messages");
+    test:assertTrue(wildcardReceivedOrders && wildcardReceivedInvoices,
+            "Wildcard subscription service should have received both messages");
+}
+
+// ========================================
+// Adaptive flow control
+// ========================================
+final Recorder adaptiveRecorder = new;
+
+// Processing is slower than the target latency, so the controller shrinks (re-creates) the flow mid-stream.
+Service adaptiveService = @ServiceConfig {
+    queueName: LISTENER_ADAPTIVE_QUEUE,
+    ackMode: AUTO_ACK,
+    adaptiveFlow: {minWindowSize: 1, maxWindowSize: 16, sampleInterval: 0.5, targetLatency: 0.05}
+} service object {
+    remote function onMessage(Message message) returns error? {
+        runtime:sleep(0.2);
+        adaptiveRecorder.add(check string:fromBytes(message.payload));
+    }
+};
+
+@test:Config {groups: ["listener", "adaptive"]}
+function testListenerAdaptiveFlowControl() returns error? {
+    Listener solaceListener = check new (BROKER_URL, connectionConfig());
+    check solaceListener.attach(adaptiveService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    foreach int i in 0 ..< 10 {
+        check publish({queueName: LISTENER_ADAPTIVE_QUEUE}, string `adaptive-${i}`, PERSISTENT);
+    }
+    waitForMessages(adaptiveRecorder, 10);
+    int received = adaptiveRecorder.count();
+    runtime:sleep(1);
+    check solaceListener.gracefulStop();
+
+    boolean queueEmpty = check queueIsEmpty(LISTENER_ADAPTIVE_QUEUE);
+    test:assertTrue(received >= 10, "Every message should be delivered across flow re-tunes");
+    test:assertTrue(queueEmpty, "Every message should be acknowledged across flow re-tunes");
+}
+
+// ========================================
+// Delayed redelivery with backoff
+// ========================================
+final Recorder backoffRecorder = new;
+
+Service backoffService = @ServiceConfig {
+    queueName: LISTENER_BACKOFF_QUEUE,
+    ackMode: AUTO_ACK,
+    redeliveryBackoff: {initialDelay: 3.0, action: REDISPATCH}
+} service object {
+    remote function onMessage(Message message) returns error? {
+        int attempt = backoffRecorder.nextAttempt();
+        backoffRecorder.add(check string:fromBytes(message.payload));
+        if attempt == 1 {
+            return error("Simulated downstream failure");
+        }
+    }
+};
+
+@test:Config {groups: ["listener", "backoff"]}
+function testListenerRedeliveryBackoff() returns error? {
+    Listener solaceListener = check new (BROKER_URL, connectionConfig());
+    check solaceListener.attach(backoffService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    check publish({queueName: LISTENER_BACKOFF_QUEUE}, "listener-backoff-payload", PERSISTENT);
+    waitForAttempts(backoffRecorder, 1);
+    // The failed message is held for the backoff delay rather than redelivered straight away.
+    runtime:sleep(1);
+    int attemptsDuringBackoff = backoffRecorder.attemptCount();
+    waitForAttempts(backoffRecorder, 2);
+    boolean redelivered = backoffRecorder.attemptCount() >= 2;
+    runtime:sleep(1);
+    check solaceListener.gracefulStop();
+
+    boolean queueEmpty = check queueIsEmpty(LISTENER_BACKOFF_QUEUE);
+    test:assertEquals(attemptsDuringBackoff, 1, "The failed message should be held during the backoff delay");
+    test:assertTrue(redelivered, "The failed message should be redelivered after the backoff delay");
+    test:assertTrue(queueEmpty, "The redelivered message should be acknowledged");
+}
+
+// ========================================
+// Poison message parking
+// ========================================
+final Recorder poisonRecorder = new;
+
+Service poisonService = @ServiceConfig {
+    queueName: LISTENER_POISON_QUEUE,
+    ackMode: AUTO_ACK,
+    redeliveryBackoff: {initialDelay: 0.2, action: REDISPATCH},
+    maxDeliveryAttempts: 3,
+    parkingQueueName: LISTENER_PARKING_QUEUE
+} service object {
+    remote function onMessage(Message message) returns error? {
+        _ = poisonRecorder.nextAttempt();
+        return error("Simulated processing failure");
+    }
+};
+
+@test:Config {groups: ["listener", "poison"]}
+function testListenerPoisonMessageParking() returns error? {
+    Listener solaceListener = check new (BROKER_URL, connectionConfig());
+    check solaceListener.attach(poisonService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    check publish({queueName: LISTENER_POISON_QUEUE}, "listener-poison-payload", PERSISTENT);
+    waitForAttempts(poisonRecorder, 3);
+    // Give the message time to be diverted after the last failed attempt.
+    runtime:sleep(2);
+    int attempts = poisonRecorder.attemptCount();
+    check solaceListener.gracefulStop();
+
+    MessageConsumer parking = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {username: BROKER_USERNAME, password: BROKER_PASSWORD},
+        subscriptionConfig: {queueName: LISTENER_PARKING_QUEUE, ackMode: CLIENT_ACK}
+    });
+    Message? parked = check parking->receive(5);
+    if parked is Message {
+        check parking->ack(parked);
+    }
+    check parking->close();
+
+    boolean queueEmpty = check queueIsEmpty(LISTENER_POISON_QUEUE);
+    test:assertEquals(attempts, 3, "The service should not be invoked beyond maxDeliveryAttempts");
+    test:assertTrue(parked is Message, "The poison message should be republished to the parking queue");
+    if parked is Message {
+        test:assertEquals(parked.payload, "listener-poison-payload".toBytes(),
+                "The parked copy should keep the payload");
+    }
+    test:assertTrue(queueEmpty, "The original message should be acknowledged once parked");
+}
+
+// ========================================
+// Circuit breaker
+// ========================================
+final Recorder circuitRecorder = new;
+isolated boolean circuitDownstreamAvailable = false;
+
+Service circuitService = @ServiceConfig {
+    queueName: LISTENER_CIRCUIT_QUEUE,
+    ackMode: AUTO_ACK,
+    redeliveryBackoff: {initialDelay: 0.2},
+    circuitBreaker: {failureThreshold: 2, cooldown: 3.0, halfOpenProbes: 1}
+} service object {
+    remote function onMessage(Message message) returns error? {
+        _ = circuitRecorder.nextAttempt();
+        boolean available;
+        lock {
+            available = circuitDownstreamAvailable;
+        }
+        if !available {
+            return error("Simulated downstream outage");
+        }
+        circuitRecorder.add(check string:fromBytes(message.payload));
+    }
+};
+
+@test:Config {groups: ["listener", "circuit"]}
+function testListenerCircuitBreaker() returns error? {
+    Listener solaceListener = check new (BROKER_URL, connectionConfig());
+    check solaceListener.attach(circuitService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    foreach int i in 0 ..< 5 {
+        check publish({queueName: LISTENER_CIRCUIT_QUEUE}, string `listener-circuit-${i}`, PERSISTENT);
+    }
+    waitForAttempts(circuitRecorder, 2);
+    // The circuit is open: no further message reaches the service during the cooldown.
+    runtime:sleep(1);
+    int attemptsWhileOpen = circuitRecorder.attemptCount();
+    lock {
+        circuitDownstreamAvailable = true;
+    }
+    waitForMessages(circuitRecorder, 5);
+    int received = circuitRecorder.count();
+    runtime:sleep(1);
+    check solaceListener.gracefulStop();
+
+    boolean queueEmpty = check queueIsEmpty(LISTENER_CIRCUIT_QUEUE);
+    test:assertEquals(attemptsWhileOpen, 2, "The service should not be invoked while the circuit is open");
+    test:assertEquals(received, 5, "Every message should be processed once the circuit closes");
+    test:assertTrue(queueEmpty, "Every message should be acknowledged once the circuit closes");
+}
+
+// ========================================
+// Rate limiting
+// ========================================
+final Recorder rateLimitRecorder = new;
+
+Service rateLimitService = @ServiceConfig {
+    queueName: LISTENER_RATE_LIMIT_QUEUE,
+    ackMode: AUTO_ACK,
+    maxRate: {rate: 5, burst: 2}
+} service object {
+    remote function onMessage(Message message) returns error? {
+        rateLimitRecorder.add(check string:fromBytes(message.payload));
+    }
+};
+
+@test:Config {groups: ["listener", "ratelimit"]}
+function testListenerRateLimit() returns error? {
+    Listener solaceListener = check new (BROKER_URL, connectionConfig());
+    check solaceListener.attach(rateLimitService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    foreach int i in 0 ..< 20 {
+        check publish({queueName: LISTENER_RATE_LIMIT_QUEUE}, string `listener-rate-${i}`, PERSISTENT);
+    }
+    // 5 messages per second after a burst of 2: about 9 messages in the first 1.5 seconds.
+    runtime:sleep(1.5);
+    int receivedEarly = rateLimitRecorder.count();
+    waitForMessages(rateLimitRecorder, 20);
+    int received = rateLimitRecorder.count();
+    runtime:sleep(1);
+    check solaceListener.gracefulStop();
+
+    boolean queueEmpty = check queueIsEmpty(LISTENER_RATE_LIMIT_QUEUE);
+    test:assertTrue(receivedEarly < 15, "Delivery should be held to the configured rate");
+    test:assertEquals(received, 20, "Every message should be delivered despite the rate limit");
+    test:assertTrue(queueEmpty, "Every message should be acknowledged");
+}
+
+// ========================================
+// Transacted listener: batched auto-commit
+// ========================================
+final Recorder txBatchRecorder = new;
+
+Service txBatchService = @ServiceConfig {
+    queueName: LISTENER_TX_BATCH_QUEUE,
+    ackMode: CLIENT_ACK
+} service object {
+    remote function onMessage(Message message) returns error? {
+        string payload = check string:fromBytes(message.payload);
+        if payload == "listener-tx-batch-7" && !txBatchRecorder.contains(payload) {
+            txBatchRecorder.add(payload);
+            // Rolls back the whole batch, which is then redelivered.
+            return error("Simulated ledger write failure");
+        }
+        txBatchRecorder.add(payload);
+    }
+};
+
+@test:Config {groups: ["listener", "transacted"]}
+function testListenerTransactedAutoCommit() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        transacted: true,
+        auth: {username: BROKER_USERNAME, password: BROKER_PASSWORD},
+        autoCommit: {commitEvery: 5, commitInterval: 1.0}
+    });
+    check solaceListener.attach(txBatchService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    foreach int i in 0 ..< 10 {
+        check publish({queueName: LISTENER_TX_BATCH_QUEUE}, string `listener-tx-batch-${i}`, PERSISTENT);
+    }
+    // Ten messages plus the failed attempt and the redelivered remainder of its batch.
+    waitForMessages(txBatchRecorder, 12);
+    // Let the interval commit the final, partial batch.
+    runtime:sleep(2);
+    boolean allReceived = true;
+    foreach int i in 0 ..< 10 {
+        allReceived = allReceived && txBatchRecorder.contains(string `listener-tx-batch-${i}`);
+    }
+    check solaceListener.gracefulStop();
+
+    boolean queueEmpty = check queueIsEmpty(LISTENER_TX_BATCH_QUEUE);
+    test:assertTrue(allReceived, "Every message should be processed");
+    test:assertTrue(queueEmpty, "The listener should commit every batch without the service calling commit()");
+}
+
+@test:Config {groups: ["listener", "transacted"]}
+function testListenerAutoCommitRequiresTransacted() {
+    Listener|Error solaceListener = new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {username: BROKER_USERNAME, password: BROKER_PASSWORD},
+        autoCommit: {}
+    });
+    test:assertTrue(solaceListener is Error, "autoCommit should be rejected on a non-transacted listener");
+}
+
+// ========================================
+// Pause / resume
+// ========================================
+final Recorder pauseRecorder = new;
+
+Service pauseService = @ServiceConfig {
+    queueName: LISTENER_PAUSE_QUEUE,
+    ackMode: AUTO_ACK
+} service object {
+    remote function onMessage(Message message) returns error? {
+        pauseRecorder.add(check string:fromBytes(message.payload));
+    }
+};
+
+@test:Config {groups: ["listener", "pause"]}
+function testListenerPauseResume() returns error? {
+    Listener solaceListener = check new (BROKER_URL, connectionConfig());
+    check solaceListener.attach(pauseService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    check solaceListener.pause(pauseService);
+    foreach int i in 0 ..< 3 {
+        check publish({queueName: LISTENER_PAUSE_QUEUE}, string `listener-pause-${i}`, PERSISTENT);
+    }
+    runtime:sleep(2);
+    int receivedWhilePaused = pauseRecorder.count();
+
+    check solaceListener.resume(pauseService);
+    waitForMessages(pauseRecorder, 3);
+    int received = pauseRecorder.count();
+
+    // Listener-wide pause and resume; a service that is not attached cannot be paused on its own.
+    check solaceListener.pause();
+    Error? unknownService = solaceListener.pause(rateLimitService);
+    check solaceListener.resume();
+    runtime:sleep(1);
+    check solaceListener.gracefulStop();
+
+    test:assertEquals(receivedWhilePaused, 0, "A paused service should not receive messages");
+    test:assertEquals(received, 3, "Every held message should be delivered once the service resumes");
+    test:assertTrue(unknownService is Error, "Pausing a service that is not attached should fail");
+}
+
+// ========================================
+// Parallel startup
+// ========================================
+final Recorder startupRecorder = new;
+
+Service startupServiceA = @ServiceConfig {
+    queueName: LISTENER_STARTUP_QUEUE_A,
+    ackMode: AUTO_ACK
+} service object {
+    remote function onMessage(Message message) returns error? {
+        startupRecorder.add(check string:fromBytes(message.payload));
+    }
+};
+
+Service startupServiceB = @ServiceConfig {
+    queueName: LISTENER_STARTUP_QUEUE_B,
+    ackMode: AUTO_ACK
+} service object {
+    remote function onMessage(Message message) returns error? {
+        startupRecorder.add(check string:fromBytes(message.payload));
+    }
+};
+
+Service startupServiceC = @ServiceConfig {
+    queueName: LISTENER_STARTUP_QUEUE_C,
+    ackMode: AUTO_ACK
+} service object {
+    remote function onMessage(Message message) returns error? {
+        startupRecorder.add(check string:fromBytes(message.payload));
+    }
+};
+
+@test:Config {groups: ["listener", "startup"]}
+function testListenerParallelStartup() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig(), startupConcurrency: 2});
+    check solaceListener.attach(startupServiceA);
+    check solaceListener.attach(startupServiceB);
+    check solaceListener.attach(startupServiceC);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    string[] queues = [LISTENER_STARTUP_QUEUE_A, LISTENER_STARTUP_QUEUE_B, LISTENER_STARTUP_QUEUE_C];
+    foreach string queueName in queues {
+        check publish({queueName}, string `listener-startup-${queueName}`, PERSISTENT);
+    }
+    waitForMessages(startupRecorder, 3);
+    int received = startupRecorder.count();
+    check solaceListener.gracefulStop();
+
+    test:assertEquals(received, 3, "Every service opened in parallel should receive its message");
+}
+
+@test:Config {groups: ["listener", "startup"]}
+function testListenerStartFailsForMissingQueue() returns error? {
+    Listener solaceListener = check new (BROKER_URL, connectionConfig());
+    Service missingQueueService = @ServiceConfig {
+        queueName: LISTENER_MISSING_QUEUE
+    } service object {
+        remote function onMessage(Message message) {
+        }
+    };
+    // The flow is created when the listener starts, so a missing queue fails start() rather than attach().
+    check solaceListener.attach(missingQueueService);
+    Error? result = solaceListener.'start();
+    check solaceListener.immediateStop();
+
+    test:assertTrue(result is Error, "Starting a listener whose service queue does not exist should fail");
+}
+
+// ========================================
+// Runtime subscription changes
+// ========================================
+final Recorder reloadRecorder = new;
+
+Service reloadService = @ServiceConfig {
+    topicName: LISTENER_RELOAD_TOPIC,
+    endpointType: DEFAULT
+} service object {
+    remote function onMessage(Message message) returns error? {
+        reloadRecorder.add(check string:fromBytes(message.payload));
+    }
+};
+
+@test:Config {groups: ["listener", "subscription"]}
+function testListenerRuntimeSubscriptions() returns error? {
+    Listener solaceListener = check new (BROKER_URL, connectionConfig());
+    check solaceListener.attach(reloadService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    check solaceListener.subscribe(reloadService, [LISTENER_RELOAD_ADDED_TOPIC]);
+    check publish({topicName: LISTENER_RELOAD_ADDED_TOPIC}, "listener-reload-added", DIRECT);
+    waitForMessages(reloadRecorder, 1);
+
+    check solaceListener.unsubscribe(reloadService, [LISTENER_RELOAD_TOPIC]);
+    check publish({topicName: LISTENER_RELOAD_TOPIC}, "listener-reload-removed", DIRECT);
+    check publish({topicName: LISTENER_RELOAD_ADDED_TOPIC}, "listener-reload-kept", DIRECT);
+    waitForMessages(reloadRecorder, 2);
+    runtime:sleep(1);
+    check solaceListener.gracefulStop();
+
+    test:assertTrue(reloadRecorder.contains("listener-reload-added"), "An added subscription should be delivered");
+    test:assertTrue(reloadRecorder.contains("listener-reload-kept"), "A kept subscription should still be delivered");
+    test:assertFalse(reloadRecorder.contains("listener-reload-removed"),
+            "A removed subscription should no longer be delivered");
+}
+
+// ========================================
+// Payload binding
+// ========================================
+type Order record {|
+    string id;
+    int quantity;
+|};
+
+type OrderMessage record {|
+    *AnydataMessage;
+    Order payload;
+|};
+
+final Recorder bindingRecorder = new;
+
+Service payloadBindingService = @ServiceConfig {
+    queueName: LISTENER_BINDING_QUEUE,
+    ackMode: AUTO_ACK
+} service object {
+    remote function onMessage(Order 'order) {
+        bindingRecorder.add(string `${'order.id}:${'order.quantity}`);
+    }
+
+    remote function onError(Error err) {
+        bindingRecorder.addError();
+    }
+};
+
+final Recorder messageBindingRecorder = new;
+
+Service messageBindingService = @ServiceConfig {
+    queueName: LISTENER_BINDING_MESSAGE_QUEUE,
+    ackMode: CLIENT_ACK
+} service object {
+    remote function onMessage(OrderMessage message, Caller caller) returns error? {
+        messageBindingRecorder.add(string `${message.payload.id}:${message.applicationMessageId ?: ""}`);
+        check caller->ack(message);
+    }
+};
+
+@test:Config {groups: ["listener", "binding"]}
+function testListenerPayloadBinding() returns error? {
+    Listener solaceListener = check new (BROKER_URL, connectionConfig());
+    check solaceListener.attach(payloadBindingService);
+    check solaceListener.attach(messageBindingService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    check publish({queueName: LISTENER_BINDING_QUEUE}, {id: "order-1", quantity: 3}.toJsonString(), PERSISTENT);
+    check publish({queueName: LISTENER_BINDING_QUEUE}, "not json", PERSISTENT);
+    MessageProducer producer = check new (BROKER_URL, connectionConfig());
+    check producer->send({queueName: LISTENER_BINDING_MESSAGE_QUEUE}, {
+        payload: {id: "order-2", quantity: 1}.toJsonString().toBytes(),
+        applicationMessageId: "order-message-2",
+        deliveryMode: PERSISTENT
+    });
+    check producer->close();
+
+    waitForMessages(bindingRecorder, 1);
+    waitForMessages(messageBindingRecorder, 1);
+    runtime:sleep(1);
+    check solaceListener.gracefulStop();
+
+    test:assertTrue(bindingRecorder.contains("order-1:3"), "The payload should be bound to the Order record");
+    test:assertTrue(bindingRecorder.errorCount() > 0, "A payload that is not an Order should be reported to onError");
+    test:assertTrue(messageBindingRecorder.contains("order-2:order-message-2"),
+            "The message record should carry the bound payload and the message fields");
+    test:assertTrue(check queueIsEmpty(LISTENER_BINDING_MESSAGE_QUEUE), "The bound message should be acknowledged");
+}
+
+Service replyService = @ServiceConfig {
+    queueName: LISTENER_REPLY_QUEUE,
+    ackMode: CLIENT_ACK
+} service object {
+    remote function onMessage(record {|*AnydataMessage; string payload;|} message, Caller caller) returns error? {
+        check caller->reply(message, {payload: string `reply to ${message.payload}`});
+        check caller->ack(message);
+    }
+};
+
+@test:Config {groups: ["listener", "reply"]}
+function testListenerCallerReply() returns error? {
+    Listener solaceListener = check new (BROKER_URL, connectionConfig());
+    check solaceListener.attach(replyService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    MessageProducer producer = check new (BROKER_URL, connectionConfig());
+    Message|Error reply = producer->request({queueName: LISTENER_REPLY_QUEUE},
+            {payload: "order-1", deliveryMode: PERSISTENT}, 10.0);
+    check producer->close();
+    runtime:sleep(1);
+    check solaceListener.gracefulStop();
+
+    if reply is Error {
+        test:assertFail("The service should have replied: " + reply.message());
+    }
+    test:assertEquals(check string:fromBytes(reply.payload), "reply to order-1",
+            "The reply should be correlated with the request");
+    test:assertTrue(check queueIsEmpty(LISTENER_REPLY_QUEUE), "The request should be acknowledged");
+}
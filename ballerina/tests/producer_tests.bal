@@ -413,6 +413,96 @@ isolated function testProducerTransactedMultipleCommits() returns error? {
     check producer->close();
 }
 
+@test:Config {groups: ["producer", "transacted"], dependsOn: [testProducerTransactedInit]}
+isolated function testProducerTransactedAutoCommit() returns error? {
+    MessageProducer producer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        transacted: true,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        autoCommit: {commitEvery: 3, commitInterval: 60.0}
+    });
+    MessageConsumer consumer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {queueName: PRODUCER_TX_AUTO_COMMIT_QUEUE}
+    });
+
+    // The third send completes a batch and commits it without an explicit commit().
+    foreach int i in 1 ... 4 {
+        check producer->send({queueName: PRODUCER_TX_AUTO_COMMIT_QUEUE}, {
+            payload: string `Auto-commit message ${i}`.toBytes(),
+            deliveryMode: PERSISTENT
+        });
+    }
+    int committed = 0;
+    Message? received = check consumer->receive(SHORT_RECEIVE_TIMEOUT);
+    while received is Message {
+        committed += 1;
+        received = check consumer->receive(SHORT_RECEIVE_TIMEOUT);
+    }
+
+    // flush() commits the remaining, partial batch.
+    check producer->flush();
+    Message? flushed = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+
+    check consumer->close();
+    check producer->close();
+    test:assertEquals(committed, 3, "A full batch should be committed automatically");
+    test:assertTrue(flushed is Message, "flush() should commit the partial batch");
+}
+
+@test:Config {groups: ["producer", "transacted", "negative"], dependsOn: [testProducerTransactedInit]}
+isolated function testProducerAutoCommitFailure() returns error? {
+    MessageProducer producer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        transacted: true,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        autoCommit: {commitEvery: 2, commitInterval: 60.0}
+    });
+
+    // The second send completes the batch, whose commit fails since the queue does not exist.
+    check producer->send({queueName: PRODUCER_TX_MISSING_QUEUE}, {
+        payload: "Uncommitted message 1".toBytes(),
+        deliveryMode: PERSISTENT,
+        applicationMessageId: "uncommitted-1"
+    });
+    Error? result = producer->send({queueName: PRODUCER_TX_MISSING_QUEUE}, {
+        payload: "Uncommitted message 2".toBytes(),
+        deliveryMode: PERSISTENT,
+        applicationMessageId: "uncommitted-2"
+    });
+
+    check producer->close();
+    if result !is CommitError {
+        test:assertFail("The send completing a batch should return the CommitError of its commit");
+    }
+    test:assertEquals(result.detail().sendCount, 2);
+    string?[] messageIds = result.detail().sends.map(send => send.applicationMessageId);
+    test:assertEquals(messageIds, ["uncommitted-1", "uncommitted-2"]);
+}
+
+@test:Config {groups: ["producer", "transacted", "negative"]}
+isolated function testProducerAutoCommitRequiresTransaction() {
+    MessageProducer|Error producer = new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        autoCommit: {}
+    });
+    test:assertTrue(producer is Error, "autoCommit should be rejected on a non-transacted producer");
+}
+
 // ========================================
 // Producer Configuration Tests
 // ========================================
@@ -482,3 +572,412 @@ isolated function testProducerWithCalculateMessageExpiration() returns error? {
 
     check producer->close();
 }
+
+isolated class PrefixSerializer {
+    *Serializer;
+
+    public isolated function serialize(anydata payload) returns byte[]|error {
+        if payload !is string {
+            return error("PrefixSerializer only serializes strings");
+        }
+        return ("prefixed:" + payload).toBytes();
+    }
+}
+
+@test:Config {groups: ["producer", "send", "serializer"]}
+isolated function testProducerSendSerializedPayloads() returns error? {
+    MessageProducer producer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        }
+    });
+    json order = {id: "order-1", lines: [1, 2.5d], ok: true};
+    check producer->send({queueName: PRODUCER_SERIALIZER_QUEUE}, {payload: order});
+    check producer->send({queueName: PRODUCER_SERIALIZER_QUEUE}, {payload: "plain \"text\""});
+    check producer->send({queueName: PRODUCER_SERIALIZER_QUEUE}, {payload: xml `<order id="1"/>`});
+    check producer->close();
+
+    MessageProducer xmlProducer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        serializer: XML_FORMAT
+    });
+    Error? mismatch = xmlProducer->send({queueName: PRODUCER_SERIALIZER_QUEUE}, {payload: "not xml"});
+    check xmlProducer->close();
+
+    MessageProducer customProducer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        serializer: new PrefixSerializer()
+    });
+    check customProducer->send({queueName: PRODUCER_SERIALIZER_QUEUE}, {payload: "custom"});
+    Error? rejected = customProducer->send({queueName: PRODUCER_SERIALIZER_QUEUE}, {payload: 42});
+    check customProducer->close();
+
+    MessageConsumer consumer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {queueName: PRODUCER_SERIALIZER_QUEUE}
+    });
+    string[] received = [];
+    foreach int i in 0 ..< 4 {
+        Message? message = check consumer->receive(5.0);
+        if message is Message {
+            received.push(check string:fromBytes(message.payload));
+        }
+    }
+    check consumer->close();
+
+    test:assertEquals(received.length(), 4);
+    test:assertEquals(check received[0].fromJsonString(), order, "A record payload should be serialized as JSON");
+    test:assertEquals(received.slice(1), [
+        "plain \"text\"",
+        "<order id=\"1\"/>",
+        "prefixed:custom"
+    ]);
+    test:assertTrue(mismatch is PayloadSerializationError, "A string payload cannot be serialized as XML");
+    test:assertTrue(rejected is PayloadSerializationError, "A failing serializer should fail the send");
+}
+
+type SchemaOrder record {|
+    string id;
+    int quantity;
+    string? note?;
+|};
+
+@test:Config {groups: ["producer", "send", "serializer", "schema"]}
+isolated function testProducerSchemaSerialization() returns error? {
+    SchemaRegistryConfig registry = {url: SCHEMA_REGISTRY_URL, warmCacheDirectory: "target/schema-cache"};
+    MessageProducer avroProducer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        serializer: {registry, subject: "orders-avro"}
+    });
+    check avroProducer->send({queueName: PRODUCER_SCHEMA_QUEUE}, {payload: {id: "order-1", quantity: 2}});
+    Error? avroMismatch = avroProducer->send({queueName: PRODUCER_SCHEMA_QUEUE}, {payload: {id: "order-x"}});
+    check avroProducer->close();
+
+    MessageProducer jsonProducer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        serializer: {registry, subject: "orders-json"}
+    });
+    check jsonProducer->send({queueName: PRODUCER_SCHEMA_QUEUE}, {payload: {id: "order-2", quantity: 3, note: "gift"}});
+    Error? jsonMismatch = jsonProducer->send({queueName: PRODUCER_SCHEMA_QUEUE},
+            {payload: {id: "order-y", quantity: 0}});
+    check jsonProducer->close();
+
+    MessageConsumer consumer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {queueName: PRODUCER_SCHEMA_QUEUE},
+        schemaRegistry: registry
+    });
+    SchemaOrder? avroOrder = check consumer->receivePayload(5.0);
+    SchemaOrder? jsonOrder = check consumer->receivePayload(5.0);
+    check consumer->close();
+
+    test:assertEquals(avroOrder, {id: "order-1", quantity: 2, note: ()},
+            "The Avro payload should be read with its schema");
+    test:assertEquals(jsonOrder, {id: "order-2", quantity: 3, note: "gift"}, "The JSON payload should be read as JSON");
+    test:assertTrue(avroMismatch is PayloadSerializationError, "A payload missing a required Avro field should fail");
+    test:assertTrue(jsonMismatch is PayloadSerializationError, "A payload violating the JSON schema should fail");
+}
+
+type SdtOrder record {|
+    string id;
+    int quantity;
+    string[] tags;
+    map<float> dimensions;
+|};
+
+@test:Config {groups: ["producer", "send", "serializer", "sdt"]}
+isolated function testProducerSendSdtPayloads() returns error? {
+    MessageProducer producer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        serializer: SDT_FORMAT
+    });
+    SdtOrder order = {id: "order-1", quantity: 2, tags: ["fragile", "gift"], dimensions: {width: 1.5}};
+    check producer->send({queueName: PRODUCER_SDT_QUEUE}, {payload: order});
+    check producer->send({queueName: PRODUCER_SDT_QUEUE}, {payload: [1, 2, 3]});
+    check producer->send({queueName: PRODUCER_SDT_QUEUE}, {payload: "plain"});
+    Error? rejected = producer->send({queueName: PRODUCER_SDT_QUEUE}, {payload: [1, ()]});
+    check producer->close();
+
+    MessageConsumer consumer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {queueName: PRODUCER_SDT_QUEUE}
+    });
+    SdtOrder? received = check consumer->receivePayload(5.0);
+    Message? streamMessage = check consumer->receive(5.0);
+    string? text = check consumer->receivePayload(5.0);
+    check consumer->close();
+
+    test:assertEquals(received, order, "A map message should be bound to the record directly");
+    if streamMessage !is Message {
+        test:assertFail("The stream message should have been received");
+    }
+    test:assertEquals(check (check string:fromBytes(streamMessage.payload)).fromJsonString(), [1, 2, 3],
+            "A stream message should be received as JSON");
+    test:assertEquals(text, "plain", "A string payload should be sent as text");
+    test:assertTrue(rejected is PayloadSerializationError, "An SDT stream cannot hold nil elements");
+}
+
+@test:Config {groups: ["producer", "send", "compression"]}
+isolated function testProducerPayloadCompression() returns error? {
+    MessageProducer producer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        payloadCompression: {threshold: 512}
+    });
+    json[] lines = [];
+    foreach int i in 0 ..< 200 {
+        lines.push({sku: "SKU-0001", quantity: i, note: "compressible"});
+    }
+    json document = {id: "order-1", lines};
+    check producer->send({queueName: PRODUCER_COMPRESSION_QUEUE}, {payload: document});
+    check producer->send({queueName: PRODUCER_COMPRESSION_QUEUE}, {payload: "small", properties: {"trace": "t-1"}});
+    check producer->close();
+
+    MessageConsumer consumer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {queueName: PRODUCER_COMPRESSION_QUEUE}
+    });
+    Message? large = check consumer->receive(5.0);
+    string? small = check consumer->receivePayload(5.0);
+    check consumer->close();
+
+    if large !is Message {
+        test:assertFail("The compressed message should have been received");
+    }
+    test:assertEquals(check (check string:fromBytes(large.payload)).fromJsonString(), document,
+            "A compressed payload should be inflated on receive");
+    test:assertFalse((large.properties ?: {}).hasKey("solace_content_encoding"),
+            "The compression flag should not be exposed on the received message");
+    test:assertEquals(small, "small", "A payload below the threshold should be sent as is");
+}
+
+@test:Config {groups: ["producer", "send", "chunking"]}
+isolated function testProducerChunkedPayload() returns error? {
+    MessageProducer producer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        chunking: {chunkSize: 1024}
+    });
+    byte[] file = [];
+    foreach int i in 0 ..< 10000 {
+        file.push(<byte>(i % 251));
+    }
+    check producer->send({queueName: PRODUCER_CHUNKING_QUEUE}, {
+        payload: file,
+        deliveryMode: PERSISTENT,
+        applicationMessageId: "file-1",
+        properties: {"name": "file.bin"}
+    });
+    check producer->send({queueName: PRODUCER_CHUNKING_QUEUE}, {payload: "small", deliveryMode: PERSISTENT});
+    check producer->close();
+
+    MessageConsumer consumer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {queueName: PRODUCER_CHUNKING_QUEUE, ackMode: CLIENT_ACK}
+    });
+    Message? reassembled = check consumer->receive(5.0);
+    if reassembled !is Message {
+        test:assertFail("The chunked message should have been reassembled");
+    }
+    check consumer->ack(reassembled);
+    Message? small = check consumer->receive(5.0);
+    if small !is Message {
+        test:assertFail("The small message should have been received");
+    }
+    check consumer->ack(small);
+    check consumer->close();
+
+    test:assertEquals(reassembled.payload, file, "The chunks should be reassembled in order");
+    test:assertEquals(reassembled.applicationMessageId, "file-1");
+    test:assertEquals(reassembled.properties, {"name": "file.bin"},
+            "The chunk properties should not be exposed on the reassembled message");
+    test:assertEquals(small.payload, "small".toBytes(), "A payload below the chunk size should be sent as is");
+    test:assertTrue(check queueIsEmpty(PRODUCER_CHUNKING_QUEUE), "Acknowledging the message should settle its chunks");
+}
+
+@test:Config {groups: ["producer", "request"]}
+isolated function testProducerRequestReply() returns error? {
+    future<error?> replier = start replyToRequest(PRODUCER_REQUEST_QUEUE, "pong");
+    MessageProducer producer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        }
+    });
+    Message reply = check producer->request({queueName: PRODUCER_REQUEST_QUEUE},
+            {payload: "ping", deliveryMode: PERSISTENT}, 10.0);
+    check wait replier;
+    Message|Error unanswered = producer->request({topicName: "test/producer/request/unanswered"},
+            {payload: "ping"}, 0.5);
+    check producer->close();
+
+    test:assertEquals(reply.payload, "pong".toBytes(), "The reply should be matched to its request");
+    test:assertTrue(unanswered is RequestTimeoutError, "A request with no reply should time out");
+}
+
+isolated function replyToRequest(string queueName, string payload) returns error? {
+    MessageConsumer consumer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {queueName}
+    });
+    Message? request = check consumer->receive(10.0);
+    check consumer->close();
+    if request is () {
+        return error("No request received");
+    }
+    Destination? replyTo = request.replyTo;
+    string? correlationId = request.correlationId;
+    if replyTo is () || correlationId is () {
+        return error("The request should carry a reply-to destination and a correlation ID");
+    }
+    MessageProducer producer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        }
+    });
+    check producer->send(replyTo, {payload, correlationId});
+    check producer->close();
+}
+
+@test:Config {groups: ["producer", "send", "fanout"]}
+isolated function testProducerSendToAll() returns error? {
+    MessageProducer producer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        }
+    });
+    SendResult[] results = check producer->sendToAll([
+        {queueName: PRODUCER_FANOUT_QUEUE_A},
+        {queueName: PRODUCER_FANOUT_QUEUE_B}
+    ], {payload: "order-created:7", deliveryMode: PERSISTENT, properties: {"source": "orders"}});
+    check producer->close();
+
+    test:assertEquals(results.length(), 2, "There should be a result per destination");
+    foreach SendResult result in results {
+        test:assertTrue(result.'error is (), "The message should be sent to every destination");
+    }
+    foreach string queueName in [PRODUCER_FANOUT_QUEUE_A, PRODUCER_FANOUT_QUEUE_B] {
+        MessageConsumer consumer = check new (BROKER_URL, {
+            vpnName: MESSAGE_VPN,
+            auth: {
+                username: BROKER_USERNAME,
+                password: BROKER_PASSWORD
+            },
+            subscriptionConfig: {queueName}
+        });
+        Message? received = check consumer->receive(5.0);
+        check consumer->close();
+        if received !is Message {
+            test:assertFail("The message should have been sent to " + queueName);
+        }
+        test:assertEquals(check string:fromBytes(received.payload), "order-created:7");
+        test:assertEquals(received.properties, {"source": "orders"});
+    }
+}
+
+@test:Config {groups: ["producer", "send", "template"]}
+isolated function testProducerSendFromTemplate() returns error? {
+    MessageTemplate template = check new (
+        deliveryMode = PERSISTENT,
+        priority = 3,
+        applicationMessageType = "order-event",
+        senderId = "orders-service",
+        properties = {"source": "orders", "version": 1}
+    );
+    MessageProducer producer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        }
+    });
+    check producer->sendFromTemplate({queueName: PRODUCER_TEMPLATE_QUEUE}, template, "order-1",
+            applicationMessageId = "order-1");
+    check producer->sendFromTemplate({queueName: PRODUCER_TEMPLATE_QUEUE}, template, "order-2",
+            applicationMessageId = "order-2", priority = 7, properties = {"version": 2, "region": "eu"});
+    check producer->close();
+
+    MessageConsumer consumer = check new (BROKER_URL, {
+        vpnName: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {queueName: PRODUCER_TEMPLATE_QUEUE}
+    });
+    Message? first = check consumer->receive(5.0);
+    Message? second = check consumer->receive(5.0);
+    check consumer->close();
+    if first !is Message || second !is Message {
+        test:assertFail("Both templated messages should have been received");
+    }
+
+    test:assertEquals(first.payload, "order-1".toBytes());
+    test:assertEquals(first.applicationMessageId, "order-1");
+    test:assertEquals(first.applicationMessageType, "order-event");
+    test:assertEquals(first.senderId, "orders-service");
+    test:assertEquals(first.priority, 3);
+    test:assertEquals(first.properties, {"source": "orders", "version": 1});
+
+    test:assertEquals(second.applicationMessageId, "order-2");
+    test:assertEquals(second.priority, 7, "An override should replace the template's field");
+    test:assertEquals(second.properties, {"source": "orders", "version": 2, "region": "eu"},
+            "Override properties should be added to the template's properties");
+}
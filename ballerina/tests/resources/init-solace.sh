@@ -59,6 +59,19 @@ create_queue() {
         2>/dev/null
 }
 
+# Replay log, required for consumers that set replayFrom
+echo "Creating replay log..."
+curl -X POST "$SEMP_URL/msgVpns/$VPN/replayLogs" \
+    -u "$AUTH" \
+    -H "Content-Type: application/json" \
+    -d "{
+        \"replayLogName\": \"test-replay-log\",
+        \"maxSpoolUsage\": 10,
+        \"ingressEnabled\": true,
+        \"egressEnabled\": true
+    }" \
+    2>/dev/null
+
 # Producer test queues
 echo "Creating producer test queues..."
 create_queue "test/producer/init/queue"
@@ -70,12 +83,21 @@ create_queue "test/producer/ttl/queue"
 create_queue "test/producer/persistent/queue"
 create_queue "test/producer/userdata/queue"
 create_queue "test/producer/compression/queue"
+create_queue "test/producer/serializer/queue"
+create_queue "test/producer/schema/queue"
+create_queue "test/producer/sdt/queue"
+create_queue "test/producer/chunking/queue"
+create_queue "test/producer/request/queue"
+create_queue "test/producer/fanout/a/queue"
+create_queue "test/producer/fanout/b/queue"
+create_queue "test/producer/template/queue"
 
 # Producer transaction test queues
 echo "Creating producer transaction test queues..."
 create_queue "test/producer/tx/commit/queue"
 create_queue "test/producer/tx/rollback/queue"
 create_queue "test/producer/tx/multiple/queue"
+create_queue "test/producer/tx/autocommit/queue"
 
 # Consumer test queues
 echo "Creating consumer test queues..."
@@ -89,6 +111,11 @@ create_queue "test/consumer/nowait/queue"
 create_queue "test/consumer/selector/queue"
 create_queue "test/consumer/multiple/queue"
 create_queue "test/consumer/flow/queue"
+create_queue "test/consumer/replay/queue"
+create_queue "test/consumer/checkpoint/queue"
+create_queue "test/consumer/dedup/queue"
+create_queue "test/consumer/pause/queue"
+create_queue "test/consumer/binding/queue"
 
 # Consumer transaction test queues
 echo "Creating consumer transaction test queues..."
@@ -113,6 +140,20 @@ create_queue "test/listener/clientack/queue"
 create_queue "test/listener/nack/queue"
 create_queue "test/listener/tx/commit/queue"
 create_queue "test/listener/tx/rollback/queue"
+create_queue "test/listener/tx/batch/queue"
+create_queue "test/listener/adaptive/queue"
+create_queue "test/listener/backoff/queue"
+create_queue "test/listener/poison/queue"
+create_queue "test/listener/parking/queue"
+create_queue "test/listener/circuit/queue"
+create_queue "test/listener/ratelimit/queue"
+create_queue "test/listener/pause/queue"
+create_queue "test/listener/binding/queue"
+create_queue "test/listener/binding/message/queue"
+create_queue "test/listener/reply/queue"
+create_queue "test/listener/startup/a/queue"
+create_queue "test/listener/startup/b/queue"
+create_queue "test/listener/startup/c/queue"
 
 # Error test queues
 echo "Creating error test queues..."
@@ -35,11 +35,24 @@ const string PRODUCER_TTL_QUEUE = "test/producer/ttl/queue";
 const string PRODUCER_PERSISTENT_QUEUE = "test/producer/persistent/queue";
 const string PRODUCER_USERDATA_QUEUE = "test/producer/userdata/queue";
 const string PRODUCER_COMPRESSION_QUEUE = "test/producer/compression/queue";
+const string PRODUCER_SERIALIZER_QUEUE = "test/producer/serializer/queue";
+const string PRODUCER_SCHEMA_QUEUE = "test/producer/schema/queue";
+const string PRODUCER_SDT_QUEUE = "test/producer/sdt/queue";
+const string PRODUCER_CHUNKING_QUEUE = "test/producer/chunking/queue";
+const string PRODUCER_REQUEST_QUEUE = "test/producer/request/queue";
+const string PRODUCER_FANOUT_QUEUE_A = "test/producer/fanout/a/queue";
+const string PRODUCER_FANOUT_QUEUE_B = "test/producer/fanout/b/queue";
+const string PRODUCER_TEMPLATE_QUEUE = "test/producer/template/queue";
+// Local file-backed schema registry; subjects are subdirectories of schema files
+const string SCHEMA_REGISTRY_URL = "file:tests/resources/schemas";
 
 // Producer transaction test queues
 const string PRODUCER_TX_COMMIT_QUEUE = "test/producer/tx/commit/queue";
 const string PRODUCER_TX_ROLLBACK_QUEUE = "test/producer/tx/rollback/queue";
 const string PRODUCER_TX_MULTIPLE_QUEUE = "test/producer/tx/multiple/queue";
+const string PRODUCER_TX_AUTO_COMMIT_QUEUE = "test/producer/tx/autocommit/queue";
+// Not provisioned, so a transaction publishing to it fails to commit
+const string PRODUCER_TX_MISSING_QUEUE = "test/producer/tx/missing/queue";
 
 // Producer test topics
 const string PRODUCER_TOPIC = "test/producer/topic";
@@ -55,6 +68,12 @@ const string CONSUMER_NOWAIT_QUEUE = "test/consumer/nowait/queue";
 const string CONSUMER_SELECTOR_QUEUE = "test/consumer/selector/queue";
 const string CONSUMER_MULTIPLE_QUEUE = "test/consumer/multiple/queue";
 const string CONSUMER_FLOW_QUEUE = "test/consumer/flow/queue";
+const string CONSUMER_REPLAY_QUEUE = "test/consumer/replay/queue";
+const string CONSUMER_CHECKPOINT_QUEUE = "test/consumer/checkpoint/queue";
+const string CHECKPOINT_DIRECTORY = "build/test-checkpoints";
+const string CONSUMER_DEDUP_QUEUE = "test/consumer/dedup/queue";
+const string CONSUMER_PAUSE_QUEUE = "test/consumer/pause/queue";
+const string CONSUMER_BINDING_QUEUE = "test/consumer/binding/queue";
 
 // Consumer transaction test queues
 const string CONSUMER_TX_COMMIT_QUEUE = "test/consumer/tx/commit/queue";
@@ -65,6 +84,7 @@ const string CONSUMER_TX_COORDINATED_QUEUE = "test/consumer/tx/coordinated/queue
 
 // Consumer test topics
 const string CONSUMER_DIRECT_TOPIC = "test/consumer/direct/topic";
+const string CONSUMER_DIRECT_MULTI_TOPIC_PREFIX = "test/consumer/direct/multi";
 const string CONSUMER_DURABLE_TOPIC = "test/consumer/durable/topic";
 const string CONSUMER_DURABLE_ENDPOINT = "test-consumer-durable-endpoint";
 
@@ -41,6 +41,14 @@ public type Queue record {|
 
 public type Destination Topic|Queue;
 
+# The outcome of sending a message to one of the destinations of `MessageProducer.sendToAll`
+public type SendResult record {|
+    # The destination
+    Destination destination;
+    # The error if the message was not sent to the destination, or nil if it was sent
+    Error? 'error = ();
+|};
+
 # Acknowledgement modes for message consumption
 // Since we create this for session does it apply for producer? If so what does it do?
 // Ans: It does not apply to producer. It is only for consumers and session level configuration
@@ -211,12 +219,159 @@ public type CommonConnectionConfiguration record {|
     RetryConfig retryConfig?;
 |};
 
+# Automatic commit policy of a transacted session
+public type AutoCommit record {|
+    # Number of messages after which the transaction is committed. The chunks of a chunked message are counted, and
+    # committed, as one message
+    int commitEvery = 100;
+    # Maximum time in seconds a transaction stays open once it holds a message
+    decimal commitInterval = 1.0;
+|};
+
+# Listener-specific configuration
+public type ListenerConfiguration record {|
+    *CommonConnectionConfiguration;
+    # Commit the transacted session automatically after a batch of messages processed successfully by the attached
+    # services, instead of each service calling `Caller.commit()`. The batch is committed once no received message is
+    # still being processed, and the whole batch is rolled back and redelivered if any service fails a message.
+    # Requires `transacted`
+    AutoCommit autoCommit?;
+    # Maximum number of services whose endpoints are provisioned and flows created in parallel when the listener
+    # starts. Each of these steps waits for the broker, so a listener with many services becomes ready faster
+    # with more parallelism
+    int startupConcurrency = 16;
+    # Schema registry used to read payloads serialized against a registered schema. A message carrying a schema ID
+    # is bound with that schema, unless its payload is bound as `byte[]` or `string`
+    SchemaRegistryConfig schemaRegistry?;
+    # Reassembly of messages sent in chunks by a producer with `chunking`, applied to each attached service.
+    # Chunks are always reassembled, with the `ChunkReassembly` defaults if this is not set, except by a
+    # `transacted` listener, which delivers each chunk as a message and rejects this setting
+    ChunkReassembly chunkReassembly?;
+|};
+
 # Producer-specific configuration
 # Note: Destination is passed at send-time, not specified in configuration
 public type ProducerConfiguration record {|
     *CommonConnectionConfiguration;
+    # Commit the transacted session automatically every `commitEvery` sends or `commitInterval` after the first
+    # uncommitted send, whichever comes first. Use `flush()` to commit earlier. A failed commit is reported as a
+    # `CommitError` listing the sends it included. Requires `transacted`
+    AutoCommit autoCommit?;
+    # How message payloads are serialized: one of the built-in formats, a user-supplied `Serializer`, or against the
+    # latest schema of a schema registry subject
+    PayloadFormat|Serializer|SchemaSerializer serializer = AUTO_FORMAT;
+    # Compress each serialized payload of at least a threshold size, independently of the connection's
+    # `compressionLevel`. Consumers and listeners inflate compressed payloads transparently
+    PayloadCompression payloadCompression?;
+    # Split payloads larger than `chunkSize` into an ordered set of chunk messages, so payloads beyond the broker's
+    # maximum message size can be sent. Consumers and listeners reassemble the chunks before delivering the message
+    Chunking chunking?;
+|};
+
+# Large-message chunking of a `MessageProducer`.
+#
+# A serialized (and possibly compressed) payload larger than `chunkSize` is sent as a set of bytes messages, each
+# carrying the original message's headers and properties and the `solace_chunk_*` properties describing the set. The
+# set ID is also sent as the `JMSXGroupID` property, unless the message has one, so a partitioned queue delivers all
+# chunks of a set to the same consumer. SDT map and stream messages are not chunked
+public type Chunking record {|
+    # Maximum payload size in bytes of a single message
+    int chunkSize = 1048576;
+|};
+
+# Reassembly of chunked messages by a `MessageConsumer` or a listener service.
+#
+# The chunks of a message are copied into an off-heap buffer of the message's size, and the message is delivered once
+# its last chunk arrives, as that chunk carrying the whole payload. The earlier chunks are acknowledged, or
+# redelivered, with it. A set larger than `maxBufferedBytes` is rejected, moving its chunks to the dead message queue.
+# A set that does not fit while other sets are buffered, or receives no chunk for `timeout` seconds, is discarded and
+# its chunks redelivered by the broker. Reassembly needs all chunks of a set to reach the same consumer: use an
+# exclusive or partitioned queue. Reassembly is not available in a transacted session, whose commit would also
+# consume the chunks of sets that are not yet complete
+public type ChunkReassembly record {|
+    # Maximum number of bytes held for incomplete chunked messages
+    int maxBufferedBytes = 268435456;
+    # Time in seconds after which an incomplete chunked message that received no chunk is discarded
+    decimal timeout = 60;
+|};
+
+# Per-message payload compression of a `MessageProducer`.
+#
+# A payload of at least `threshold` bytes is compressed with Deflate (zlib) if that makes it smaller, and the message
+# is flagged with the `solace_content_encoding` user property set to `deflate`. Unlike the connection's
+# `compressionLevel`, small payloads cost no CPU, and compressed payloads also stay compressed in the broker's spool.
+# SDT map and stream messages are not compressed, nor are payloads larger than the broker's maximum message size
+# (30 MB). Consumers and listeners refuse to inflate a payload past that size: a consumer's `receive` returns an
+# error, and a listener reports the error to `onError` and rejects the message to the dead message queue
+public type PayloadCompression record {|
+    # Minimum serialized payload size in bytes that is compressed
+    int threshold = 1024;
+    # Deflate compression level, from 1 (fastest) to 9 (smallest)
+    int level = 6;
+|};
+
+# Schema registry configuration.
+#
+# Schemas are cached by ID, so the registry is only contacted the first time a schema is seen. Up to `cacheSize`
+# parsed schemas are kept in memory; with a `warmCacheDirectory`, fetched schemas are also kept on disk and read from
+# there after a restart. The latest schema ID of a subject is resolved once per producer.
+public type SchemaRegistryConfig record {|
+    # The registry URL: `http(s)://host:port` for a registry server speaking the Apicurio Registry v3 API (such as the
+    # Solace Schema Registry), or `file:<directory>` for a local registry whose subjects are subdirectories holding
+    # `<id>.avsc` (Avro) and `<id>.json` (JSON Schema) files
+    string url;
+    # Credentials for a registry server
+    BasicAuthConfig auth?;
+    # The group the registry's subjects belong to
+    string group = "default";
+    # Maximum number of parsed schemas held in memory
+    int cacheSize = 100;
+    # Directory fetched schemas are kept in across restarts
+    string warmCacheDirectory?;
+    # The user property carrying the ID of the schema a payload was serialized against
+    string schemaIdProperty = "solace_schema_id";
 |};
 
+# Serialization of payloads against the latest schema of a schema registry subject. Avro schemas are written in the
+# Avro binary encoding; payloads are validated against JSON Schemas and written as JSON. The schema ID is carried in
+# the registry's `schemaIdProperty` user property, for consumers to read the payload with
+public type SchemaSerializer record {|
+    # The schema registry
+    SchemaRegistryConfig registry;
+    # The subject (artifact ID) whose latest schema payloads are serialized against
+    string subject;
+|};
+
+# Built-in serializers of a `MessageProducer`'s message payloads. They write straight into a reused buffer, without
+# first converting the payload to a `string` or `byte[]`
+public enum PayloadFormat {
+    # `byte[]` payloads as is, `string` payloads as UTF-8 text, `xml` payloads as XML and any other payload as JSON
+    AUTO_FORMAT,
+    # Any payload as JSON
+    JSON_FORMAT,
+    # `string` payloads, or the string form of any other payload, as UTF-8 text
+    STRING_FORMAT,
+    # `xml` payloads as XML
+    XML_FORMAT,
+    # `byte[]` payloads as is
+    BYTES_FORMAT,
+    # `map<anydata>` and record payloads as SDT map messages and other array or table payloads as SDT stream
+    # messages, read natively by C and JMS applications as `MapMessage` and `StreamMessage`; any other payload as
+    # `AUTO_FORMAT` does. Nested maps and arrays become nested SDT maps and streams, `decimal` values are sent as
+    # floats and nil map fields are omitted
+    SDT_FORMAT
+}
+
+# A user-supplied serializer of a `MessageProducer`'s message payloads
+public type Serializer isolated object {
+
+    # Serializes the payload of a message being sent.
+    #
+    # + payload - The message payload
+    # + return - The bytes published as the message's data, or an error if the payload cannot be serialized
+    public isolated function serialize(anydata payload) returns byte[]|error;
+};
+
 # Common consumer subscription fields
 # Note: Flow control properties below only apply to FlowReceiver usage (queues and durable topic endpoints)
 # They are ignored for direct topic subscriptions which use XMLMessageConsumer
@@ -244,6 +399,170 @@ public type CommonConsumerConfig record {|
     int reconnectTries?;
     # Wait time between reconnection attempts in seconds (min 0.05 seconds, default 3.0 seconds) - FlowReceiver only
     decimal reconnectRetryInterval = 3.0;
+    # Replay the endpoint's messages from the broker's replay log, starting at this location - FlowReceiver only.
+    # Requires message replay to be enabled on the Message VPN
+    ReplayStartLocation replayFrom?;
+    # Persist the last processed message of the queue / durable topic endpoint to a local checkpoint file and
+    # resume replay after it on restart - FlowReceiver only (not supported for temporary queues)
+    CheckpointConfig checkpoint?;
+    # Drop messages whose key was already processed within a recent time window, e.g. redeliveries after a
+    # reconnect. Duplicate guaranteed messages are acknowledged without being delivered
+    DeduplicationConfig deduplication?;
+    # Maximum number of times a guaranteed message is delivered. A message delivered more often (by the broker's
+    # delivery count, which must be enabled on the broker, plus local redispatches) is diverted without being
+    # passed to the application: republished to `parkingQueueName` if set, otherwise rejected to the dead message
+    # queue. Not applied in transacted mode
+    int maxDeliveryAttempts?;
+    # Queue that messages exceeding `maxDeliveryAttempts` are republished to. The original message is acknowledged
+    # once the broker has stored the copy
+    string parkingQueueName?;
+|};
+
+# Replays all messages in the replay log
+public const REPLAY_FROM_BEGINNING = "beginning";
+
+# Replays messages received by the broker at or after the given time
+public type ReplayFromTime record {|
+    # Replay start time in UTC milliseconds from epoch
+    int timestamp;
+|};
+
+# Replays messages received by the broker after the message with the given replication group message ID
+public type ReplayFromMessageId record {|
+    # The replication group message ID (see `Message.replicationGroupMessageId`) of the last processed message
+    string replicationGroupMessageId;
+|};
+
+# Replay start location for a queue or durable topic endpoint flow
+public type ReplayStartLocation REPLAY_FROM_BEGINNING|ReplayFromTime|ReplayFromMessageId;
+
+# When checkpoint records are forced to the storage device
+public enum FsyncPolicy {
+    # Never force; the OS writes the memory-mapped checkpoint file back in its own time. Fastest, but the latest
+    # checkpoints can be lost on a host crash (not on a process crash)
+    FSYNC_NONE,
+    # Force after each periodic flush
+    FSYNC_INTERVAL,
+    # Write and force every checkpoint as it is recorded. Slowest, loses nothing
+    FSYNC_ALWAYS
+}
+
+# Local checkpoint store for resumable replay.
+#
+# The replication group message ID of the last processed message (acknowledged, auto-acknowledged, rejected or
+# committed) is appended to a memory-mapped checkpoint file named after the queue or durable topic endpoint. When
+# messages are settled out of order, the checkpoint only moves past a message once every message delivered before it
+# is processed too. On restart, when no `replayFrom` is configured, the consumer replays the endpoint from the message
+# after the checkpoint. Processing is at-least-once: messages processed after the last flush are replayed again.
+# Only one consumer at a time can use an endpoint's checkpoint file; a second one fails to start.
+public type CheckpointConfig record {|
+    # Directory holding the checkpoint files
+    string directory;
+    # How often the latest processed message is written to the checkpoint file, in seconds
+    decimal flushInterval = 1.0;
+    # When written checkpoints are forced to the storage device
+    FsyncPolicy fsync = FSYNC_INTERVAL;
+    # Whether to resume replay from the last checkpoint on start
+    boolean resume = true;
+|};
+
+# Consumer-side deduplication window.
+#
+# The keys of processed messages (acknowledged, auto-acknowledged, committed, or delivered for direct messages) are
+# remembered for `window` seconds, up to `maxEntries` keys with the oldest evicted first. A received message whose
+# key is remembered is dropped; messages without a key are never treated as duplicates.
+public type DeduplicationConfig record {|
+    # User property holding the deduplication key. Defaults to the message's `applicationMessageId`
+    string keyProperty?;
+    # How long a processed key is remembered, in seconds
+    decimal window = 60.0;
+    # Maximum number of remembered keys
+    int maxEntries = 100000;
+|};
+
+# Adaptive flow control for a queue or durable topic service.
+#
+# The service's delivery rate, mean processing latency and dispatch queue depth are sampled periodically. When the
+# service falls behind (latency above `targetLatency` or more than `maxQueueDepth` messages waiting) the transport
+# window is halved so the broker holds the backlog; when it keeps up comfortably the window grows by a quarter. A new
+# window is applied by re-creating the flow after the messages already received have been processed. The chosen
+# window and acknowledgement threshold are reported as the `solace_flow_window_size` and `solace_flow_ack_threshold`
+# gauges, next to `solace_delivery_rate`, `solace_service_latency_ms` and `solace_dispatch_queue_depth`.
+public type AdaptiveFlowControl record {|
+    # Smallest transport window the flow may be tuned to (1-255)
+    int minWindowSize = 1;
+    # Largest transport window the flow may be tuned to (1-255)
+    int maxWindowSize = 255;
+    # How often the service is sampled, in seconds
+    decimal sampleInterval = 5.0;
+    # Mean processing latency above which the window is shrunk, in seconds
+    decimal targetLatency = 0.1;
+    # Dispatch queue depth above which the window is shrunk
+    int maxQueueDepth = 100;
+|};
+
+# What happens to a message held for delayed redelivery once its delay expires
+public enum RedeliveryAction {
+    # Settle the message with the FAILED outcome, so the broker redelivers it and increments its delivery count
+    REQUEUE,
+    # Dispatch the still-unsettled message to the service again, without a broker round trip
+    REDISPATCH
+}
+
+# Exponential backoff for redelivering failed messages.
+#
+# The delay before redelivering a message is `initialDelay * multiplier^(attempt - 1)`, capped at `maxDelay`, where
+# the attempt is the broker's delivery count (if enabled) plus the number of local redispatches. Held messages stay
+# unacknowledged and count against the flow's unacknowledged-message limit; beyond `maxHeldMessages`, a failed
+# message is requeued immediately.
+public type RedeliveryBackoff record {|
+    # Delay before the first redelivery, in seconds
+    decimal initialDelay = 1.0;
+    # Upper bound of the delay, in seconds
+    decimal maxDelay = 60.0;
+    # Factor the delay grows by with each further attempt
+    decimal multiplier = 2.0;
+    # What happens to the message once the delay expires
+    RedeliveryAction action = REQUEUE;
+    # Maximum number of messages held for delayed redelivery at once
+    int maxHeldMessages = 100;
+|};
+
+# Circuit breaker that pauses a service's delivery while its `onMessage` keeps failing.
+#
+# The circuit opens after `failureThreshold` consecutive failures, or when at least `failureRateThreshold` of the
+# messages in a `samplingWindow` fail. While it is open the flow is stopped so the broker keeps the messages, and
+# guaranteed messages already received are held, unsettled and without counting as a delivery attempt, until delivery
+# resumes. A direct topic service cannot hold its messages: those already received while the circuit is open are
+# dropped, counted by the `solace_circuit_drops` counter and logged once the circuit half-opens. After `cooldown`
+# delivery resumes on probation: the first failure opens the circuit again, `halfOpenProbes` consecutive successes
+# close it. The state is reported as the `solace_circuit_state` gauge (0 closed, 1 open, 2 half-open) and trips as
+# `solace_circuit_trips`.
+public type CircuitBreaker record {|
+    # Number of consecutive failures that opens the circuit
+    int failureThreshold = 5;
+    # Fraction of failed messages (0-1) within a sampling window that opens the circuit
+    decimal failureRateThreshold?;
+    # Length of the window the failure rate is measured over, in seconds
+    decimal samplingWindow = 60.0;
+    # Number of messages a sampling window needs before its failure rate is evaluated
+    int minimumCalls = 10;
+    # How long the circuit stays open before delivery resumes on probation, in seconds
+    decimal cooldown = 30.0;
+    # Number of consecutive successful messages that close a half-open circuit
+    int halfOpenProbes = 3;
+|};
+
+# Maximum rate at which a service's `onMessage` is invoked, enforced with a token bucket.
+#
+# Once the bucket is empty each message waits for the next token. A queue or durable topic service's flow is paused
+# meanwhile, so the broker holds the backlog, and resumes once the messages already received have been dispatched;
+# each pause is counted by the `solace_rate_limit_pauses` counter. A direct topic service is only throttled.
+public type RateLimit record {|
+    # Sustained number of messages per second
+    decimal rate;
+    # Number of messages that may be dispatched back to back after an idle period
+    int burst = 1;
 |};
 
 # Queue consumer configuration for synchronous (pull-based) consumption
@@ -261,8 +580,11 @@ public type QueueSubscription record {|
 public type TopicSubscription record {|
     *CommonConsumerConfig;
     // If all CommonConsumerConfig fields are FlowReceiver only we can have two different TopicConfigs, one for the durable case and one for the direct case
-    # The topic name to subscribe to
-    string topicName;
+    # The topic name to subscribe to. Either `topicName` or `topicNames` (or both) must be set
+    string topicName?;
+    # Additional topic subscriptions, which may contain `*` and `>` wildcards - DEFAULT (direct) endpoints only.
+    # Subscriptions are added in bulk, waiting for broker confirmation only on the last one
+    string[] topicNames?;
     # Endpoint type: DEFAULT (ephemeral/direct) or DURABLE (persisted on broker)
     EndpointType endpointType = DEFAULT;
     # Endpoint name - REQUIRED when endpointType is DURABLE (optional for DEFAULT)
@@ -278,6 +600,12 @@ public type ConsumerConfiguration record {|
     *CommonConnectionConfiguration;
     # The subscription configuration (queue or topic)
     ConsumerSubscription subscriptionConfig;
+    # Schema registry used by `receivePayload` to read payloads serialized against a registered schema
+    SchemaRegistryConfig schemaRegistry?;
+    # Reassembly of messages sent in chunks by a producer with `chunking`. Chunks are always reassembled, with the
+    # `ChunkReassembly` defaults if this is not set, except by a `transacted` consumer, which returns each chunk as a
+    # message and rejects this setting
+    ChunkReassembly chunkReassembly?;
 |};
 
 # Delivery modes for messages
@@ -324,6 +652,34 @@ public type CommonServiceConfig record {|
     int reconnectTries?;
     # Wait time between reconnection attempts in seconds (min 0.05 seconds, default 3.0 seconds) - FlowReceiver only
     decimal reconnectRetryInterval = 3.0;
+    # Replay the endpoint's messages from the broker's replay log, starting at this location - FlowReceiver only.
+    # Requires message replay to be enabled on the Message VPN
+    ReplayStartLocation replayFrom?;
+    # Persist the last processed message of the queue / durable topic endpoint to a local checkpoint file and
+    # resume replay after it on restart - FlowReceiver only (not supported for temporary queues)
+    CheckpointConfig checkpoint?;
+    # Drop messages whose key was already processed within a recent time window, e.g. redeliveries after a
+    # reconnect. Duplicate guaranteed messages are acknowledged without being delivered
+    DeduplicationConfig deduplication?;
+    # Maximum number of times a guaranteed message is delivered. A message delivered more often (by the broker's
+    # delivery count, which must be enabled on the broker, plus local redispatches) is diverted without being
+    # passed to the application: republished to `parkingQueueName` if set, otherwise rejected to the dead message
+    # queue. Not applied in transacted mode
+    int maxDeliveryAttempts?;
+    # Queue that messages exceeding `maxDeliveryAttempts` are republished to. The original message is acknowledged
+    # once the broker has stored the copy
+    string parkingQueueName?;
+    # Tune the flow's transport window at runtime from the measured service latency and dispatch queue depth,
+    # within the given bounds. Starts at `transportWindowSize`. Not supported on a transacted listener
+    AdaptiveFlowControl adaptiveFlow?;
+    # Hold messages that fail in `onMessage` (or are negatively acknowledged without a delay) and redeliver them
+    # after an exponential backoff instead of leaving them unsettled. Not applied on a transacted listener
+    RedeliveryBackoff redeliveryBackoff?;
+    # Pause delivery to the service while `onMessage` keeps failing, e.g. because a downstream dependency is down,
+    # and probe with a few messages after a cooldown before resuming
+    CircuitBreaker circuitBreaker?;
+    # Limit the rate at which `onMessage` is invoked, e.g. to stay within a downstream API's request budget
+    RateLimit maxRate?;
 |};
 
 # Queue service configuration for asynchronous (push-based) consumption via Listener
@@ -336,8 +692,10 @@ public type QueueServiceConfig record {|
 # Topic service configuration for asynchronous (push-based) consumption via Listener
 public type TopicServiceConfig record {|
     *CommonServiceConfig;
-    # The topic name to subscribe to
-    string topicName;
+    # The topic name to subscribe to. Either `topicName` or `topicNames` (or both) must be set
+    string topicName?;
+    # Additional topic subscriptions, which may contain `*` and `>` wildcards - DEFAULT (direct) endpoints only
+    string[] topicNames?;
     # Endpoint type: DEFAULT (ephemeral/direct) or DURABLE (persisted on broker)
     EndpointType endpointType = DEFAULT;
     # Endpoint name - REQUIRED when endpointType is DURABLE (optional for DEFAULT)
@@ -351,7 +709,7 @@ public type ServiceConfiguration QueueServiceConfig|TopicServiceConfig;
 // For the fields that are set by the broker mention that in the comment
 # Message type for publishing/consuming
 public type Message record {|
-    # The binary payload of the message
+    # The binary payload of the message; the JSON encoding of the content of an SDT map or stream message
     byte[] payload;
     # Delivery mode for the message (DIRECT, PERSISTENT, or NON_PERSISTENT)
     // Double check if we can set this in the message level. If PERSISTENT and NON_PERSISTENT are same we can remove one
@@ -395,4 +753,93 @@ public type Message record {|
     map<anydata> properties?;
     # Application-specific user data attachment (max 36 bytes)
     byte[] userData?;
+    # Replication group message ID of a guaranteed message (set by broker). Can be used as a `ReplayFromMessageId`
+    # replay start location to resume consumption after this message
+    string replicationGroupMessageId?;
+|};
+
+# A received message with a payload of any type. Include it in a record that narrows `payload` to bind a received
+# message to a typed payload, e.g. `record {| *solace:AnydataMessage; Order payload; |}`, as the first parameter of a
+# service's `onMessage` method or the type passed to `MessageConsumer.receivePayload`. A `MessageProducer` sends an
+# `AnydataMessage` by serializing its payload with the producer's `serializer`. A `byte[]` payload is bound as
+# is, a `string` payload as UTF-8 text, an `xml` payload by parsing it as XML, and any other payload by parsing it as
+# JSON and converting it to the target type. The content of an SDT map or stream message is converted to any type
+# other than `byte[]`, `string` and `xml` directly, without a JSON encoding
+public type AnydataMessage record {|
+    # The payload of the message, decoded to the type of the record's `payload` field
+    anydata payload;
+    # Delivery mode for the message (DIRECT, PERSISTENT, or NON_PERSISTENT)
+    DeliveryMode deliveryMode = DIRECT;
+    # Message priority (0-255, where 0 is lowest and 255 is highest)
+    byte priority?;
+    # Time-to-live in milliseconds (0 = never expires, only for PERSISTENT/NON_PERSISTENT modes)
+    int timeToLive?;
+    # Application-defined message ID for correlation
+    string applicationMessageId?;
+    # Application-defined message type
+    string applicationMessageType?;
+    # Correlation ID for request-reply patterns
+    string correlationId?;
+    # Reply-to destination for request-reply patterns
+    Destination replyTo?;
+    # Sender ID (set by client or broker)
+    string senderId?;
+    # Sender timestamp in UTC milliseconds from epoch
+    int senderTimestamp?;
+    # Receive timestamp in UTC milliseconds from epoch (set by broker)
+    int receiveTimestamp?;
+    # Sequence number for message ordering (application-managed)
+    # Set by the application for message ordering and duplicate detection. Can be auto-generated if sequence number
+    # generation is enabled in the session. Once set, value is preserved across message resends and available on both
+    # direct and guaranteed message delivery. Note: distinct from broker-generated topicSequenceNumber.
+    int sequenceNumber?;
+    # Whether message was previously delivered
+    boolean redelivered?;
+    # Number of times this message has been delivered
+    int deliveryCount?;
+    # Properties map for custom key-value pairs
+    map<anydata> properties?;
+    # Application-specific user data attachment (max 36 bytes)
+    byte[] userData?;
+    # Replication group message ID of a guaranteed message (set by broker). Can be used as a `ReplayFromMessageId`
+    # replay start location to resume consumption after this message
+    string replicationGroupMessageId?;
+|};
+
+# Header fields and properties shared by the messages sent from a `MessageTemplate`
+public type MessageTemplateConfig record {|
+    # Delivery mode for the messages (DIRECT, PERSISTENT, or NON_PERSISTENT)
+    DeliveryMode deliveryMode = DIRECT;
+    # Message priority (0-255, where 0 is lowest and 255 is highest)
+    byte priority?;
+    # Time-to-live in milliseconds (0 = never expires, only for PERSISTENT/NON_PERSISTENT modes)
+    int timeToLive?;
+    # Application-defined message type
+    string applicationMessageType?;
+    # Sender ID
+    string senderId?;
+    # Reply-to destination for request-reply patterns
+    Destination replyTo?;
+    # Properties map for custom key-value pairs
+    map<anydata> properties?;
+    # Application-specific user data attachment (max 36 bytes)
+    byte[] userData?;
+|};
+
+# Per-message fields of a message sent from a `MessageTemplate`
+public type MessageOverrides record {|
+    # Application-defined message ID for correlation
+    string applicationMessageId?;
+    # Correlation ID for request-reply patterns
+    string correlationId?;
+    # Message priority, replacing the template's priority
+    byte priority?;
+    # Time-to-live in milliseconds, replacing the template's time-to-live
+    int timeToLive?;
+    # Sender timestamp in UTC milliseconds from epoch
+    int senderTimestamp?;
+    # Sequence number for message ordering (application-managed)
+    int sequenceNumber?;
+    # Properties added to the template's properties, replacing those with the same key
+    map<anydata> properties?;
 |};
@@ -20,16 +20,30 @@ package io.xlibb.solace.caller;
 
 import com.solacesystems.jcsmp.XMLMessage;
 import com.solacesystems.jcsmp.transaction.TransactedSession;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.xlibb.solace.common.CommonUtils;
+import io.xlibb.solace.consumer.CheckpointStore;
+import io.xlibb.solace.consumer.DeduplicationWindow;
 import io.xlibb.solace.consumer.MessageConverter;
+import io.xlibb.solace.consumer.MessageSettler;
+import io.xlibb.solace.consumer.ParkingProducer;
+import io.xlibb.solace.listener.RedeliveryScheduler;
+import io.xlibb.solace.producer.PayloadSerializers;
 
+import java.math.BigDecimal;
 import java.util.logging.Logger;
 
+import static io.xlibb.solace.common.Constants.NATIVE_CHECKPOINT_STORE;
+import static io.xlibb.solace.common.Constants.NATIVE_DEDUPLICATION_WINDOW;
+import static io.xlibb.solace.common.Constants.NATIVE_MESSAGE_SETTLER;
+import static io.xlibb.solace.common.Constants.NATIVE_REDELIVERY_SCHEDULER;
+import static io.xlibb.solace.common.Constants.NATIVE_REPLY_PRODUCER;
 import static io.xlibb.solace.common.Constants.NATIVE_TX_SESSION;
+import static io.xlibb.solace.common.MessageFieldConstants.PAYLOAD_KEY;
 
 /**
  * Caller actions - interop for the Ballerina Solace {@code Caller} supplied to a service's {@code onMessage} method.
@@ -47,6 +61,10 @@ public class CallerActions {
         return caller.getNativeData(NATIVE_TX_SESSION) != null;
     }
 
+    private static MessageSettler settler(BObject caller) {
+        return (MessageSettler) caller.getNativeData(NATIVE_MESSAGE_SETTLER);
+    }
+
     /**
      * Acknowledge a message (CLIENT_ACK mode).
      *
@@ -64,10 +82,20 @@ public class CallerActions {
             if (nativeMessage == null) {
                 return CommonUtils.createError("Cannot acknowledge: native message not found");
             }
-            Object result = CommonUtils.executeBlocking(nativeMessage::ackMessage);
+            Object result = CommonUtils.executeBlocking(() -> settler(caller).ack(nativeMessage));
             if (result instanceof BError bError) {
                 return bError;
             }
+            CheckpointStore checkpointStore = (CheckpointStore) caller.getNativeData(NATIVE_CHECKPOINT_STORE);
+            if (checkpointStore != null) {
+                checkpointStore.record(nativeMessage);
+            }
+            DeduplicationWindow deduplicationWindow =
+                    (DeduplicationWindow) caller.getNativeData(NATIVE_DEDUPLICATION_WINDOW);
+            if (deduplicationWindow != null) {
+                deduplicationWindow.markProcessed(deduplicationWindow.key(nativeMessage));
+            }
+            settled(caller, nativeMessage);
             return null;
         } catch (Exception e) {
             return CommonUtils.createError("Failed to acknowledge message", e);
@@ -75,14 +103,16 @@ public class CallerActions {
     }
 
     /**
-     * Negatively acknowledge a message (NACK).
+     * Negatively acknowledge a message (NACK). A requeued message is held and redelivered after {@code delay}, or
+     * after the service's redelivery backoff if it has one and no delay is given; otherwise it is settled at once.
      *
      * @param caller  the Ballerina caller object
      * @param message the Ballerina message to NACK
      * @param requeue if true, use FAILED outcome (requeue); if false, use REJECTED outcome (DMQ)
+     * @param delay   the redelivery delay in seconds (BDecimal), or null
      * @return null on success, BError on failure
      */
-    public static BError nack(BObject caller, BMap<BString, Object> message, boolean requeue) {
+    public static BError nack(BObject caller, BMap<BString, Object> message, boolean requeue, Object delay) {
         if (isTransacted(caller)) {
             LOGGER.warning(String.format(TRANSACTED_SETTLE_WARNING, "nack()"));
             return null;
@@ -92,20 +122,57 @@ public class CallerActions {
             if (nativeMessage == null) {
                 return CommonUtils.createError("Cannot NACK: native message not found");
             }
+            if (requeue && holdForRedelivery(caller, nativeMessage, message, delay)) {
+                return null;
+            }
             Object result = CommonUtils.executeBlocking(() -> {
                 XMLMessage.Outcome outcome = requeue ? XMLMessage.Outcome.FAILED : XMLMessage.Outcome.REJECTED;
-                nativeMessage.settle(outcome);
+                settler(caller).settle(nativeMessage, outcome);
                 return null;
             });
             if (result instanceof BError bError) {
                 return bError;
             }
+            CheckpointStore checkpointStore = (CheckpointStore) caller.getNativeData(NATIVE_CHECKPOINT_STORE);
+            if (checkpointStore != null && !requeue) {
+                // A rejected message is not redelivered, so it no longer holds the checkpoint back.
+                checkpointStore.record(nativeMessage);
+            }
+            settled(caller, nativeMessage);
             return null;
         } catch (Exception e) {
             return CommonUtils.createError("Failed to NACK message", e);
         }
     }
 
+    /**
+     * Reply to a received request message. The reply is sent to the request's reply-to destination with its
+     * correlation ID, through the producer of the listener's session; on a transacted listener it is sent as part of
+     * the current transaction.
+     *
+     * @param caller   the Ballerina caller object
+     * @param request  the Ballerina request message to reply to
+     * @param response the Ballerina reply message
+     * @return null on success, BError on failure
+     */
+    public static BError reply(BObject caller, BMap<BString, Object> request, BMap<BString, Object> response) {
+        try {
+            XMLMessage nativeRequest = MessageConverter.extractNativeMessage(request);
+            if (nativeRequest == null) {
+                return CommonUtils.createError("Cannot reply: native message not found");
+            }
+            if (nativeRequest.getReplyTo() == null) {
+                return CommonUtils.createError("Cannot reply: the message has no replyTo destination");
+            }
+            ParkingProducer replyProducer = (ParkingProducer) caller.getNativeData(NATIVE_REPLY_PRODUCER);
+            TransactedSession txSession = (TransactedSession) caller.getNativeData(NATIVE_TX_SESSION);
+            Object result = CommonUtils.executeBlocking(() -> replyProducer.reply(nativeRequest, response, txSession));
+            return result instanceof BError bError ? bError : null;
+        } catch (Exception e) {
+            return CommonUtils.createError("Failed to send reply", e);
+        }
+    }
+
     /**
      * Commit the current transaction. Only valid when the listener connection is transacted.
      *
@@ -123,6 +190,15 @@ public class CallerActions {
             if (result instanceof BError bError) {
                 return bError;
             }
+            CheckpointStore checkpointStore = (CheckpointStore) caller.getNativeData(NATIVE_CHECKPOINT_STORE);
+            if (checkpointStore != null) {
+                checkpointStore.commitReceived();
+            }
+            DeduplicationWindow deduplicationWindow =
+                    (DeduplicationWindow) caller.getNativeData(NATIVE_DEDUPLICATION_WINDOW);
+            if (deduplicationWindow != null) {
+                deduplicationWindow.commitReceived();
+            }
             return null;
         } catch (Exception e) {
             return CommonUtils.createError("Failed to commit transaction", e);
@@ -141,6 +217,15 @@ public class CallerActions {
             return CommonUtils.createError("rollback() can only be called when the listener connection is transacted. "
                     + "Set transacted = true on the listener configuration to enable transactions.");
         }
+        CheckpointStore checkpointStore = (CheckpointStore) caller.getNativeData(NATIVE_CHECKPOINT_STORE);
+        if (checkpointStore != null) {
+            checkpointStore.discardReceived();
+        }
+        DeduplicationWindow deduplicationWindow =
+                (DeduplicationWindow) caller.getNativeData(NATIVE_DEDUPLICATION_WINDOW);
+        if (deduplicationWindow != null) {
+            deduplicationWindow.discardReceived();
+        }
         try {
             Object result = CommonUtils.executeBlocking(txSession::rollback);
             if (result instanceof BError bError) {
@@ -151,4 +236,32 @@ public class CallerActions {
             return CommonUtils.createError("Failed to rollback transaction", e);
         }
     }
+
+    private static boolean holdForRedelivery(BObject caller, XMLMessage nativeMessage,
+                                             BMap<BString, Object> message, Object delay) throws Exception {
+        RedeliveryScheduler scheduler = (RedeliveryScheduler) caller.getNativeData(NATIVE_REDELIVERY_SCHEDULER);
+        if (scheduler == null) {
+            return false;
+        }
+        long delayMs;
+        if (delay instanceof BDecimal decimal) {
+            delayMs = decimal.decimalValue().multiply(BigDecimal.valueOf(1000)).longValue();
+        } else if (scheduler.backoffOnFailure()) {
+            delayMs = scheduler.backoffDelayMs(nativeMessage);
+        } else {
+            return false;
+        }
+        // A message bound to a typed payload is held as a Message, so it can be bound again or parked like any other.
+        BMap<BString, Object> held = PayloadSerializers.isByteArray(message.get(PAYLOAD_KEY))
+                ? message : MessageConverter.toBallerinaMessage(nativeMessage);
+        // Over the hold limit the message is settled immediately instead.
+        return delayMs > 0 && scheduler.hold(nativeMessage, held, delayMs);
+    }
+
+    private static void settled(BObject caller, XMLMessage nativeMessage) {
+        RedeliveryScheduler scheduler = (RedeliveryScheduler) caller.getNativeData(NATIVE_REDELIVERY_SCHEDULER);
+        if (scheduler != null) {
+            scheduler.settled(nativeMessage);
+        }
+    }
 }
@@ -59,6 +59,20 @@ public class CommonUtils {
                 StringUtils.fromString(message), null, null);
     }
 
+    /**
+     * Creates a Ballerina error of a distinct subtype of {@code Error} declared in errors.bal, with a detail record.
+     *
+     * @param errorType the name of the error type
+     * @param message   the error message
+     * @param cause     the Java exception, or null
+     * @param detail    the error detail record
+     */
+    public static BError createError(String errorType, String message, Throwable cause, BMap<BString, Object> detail) {
+        String errorMsg = cause != null ? message + ": " + cause.getMessage() : message;
+        return ErrorCreator.createError(ModuleUtils.getModule(), errorType, StringUtils.fromString(errorMsg), null,
+                detail);
+    }
+
     /**
      * Executes a blocking operation on a virtual thread and waits for completion.
      */
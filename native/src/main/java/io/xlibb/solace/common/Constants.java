@@ -34,10 +34,32 @@ public class Constants {
     public static final String NATIVE_MESSAGE = "native.message";
     public static final String NATIVE_URL = "native.url";
     public static final String NATIVE_DESTINATION = "native.destination";
+    public static final String NATIVE_TOPIC_SUBSCRIPTIONS = "native.topic.subscriptions";
+    public static final String NATIVE_ACK_MODE = "native.ack.mode";
+    public static final String NATIVE_CHECKPOINT_STORE = "native.checkpoint.store";
+    public static final String NATIVE_DEDUPLICATION_WINDOW = "native.deduplication.window";
+    public static final String NATIVE_REDELIVERY_SCHEDULER = "native.redelivery.scheduler";
+    public static final String NATIVE_PARKING_PRODUCER = "native.parking.producer";
+    public static final String NATIVE_REPLY_PRODUCER = "native.reply.producer";
+    public static final String NATIVE_POISON_MESSAGE_POLICY = "native.poison.message.policy";
+    public static final String NATIVE_TX_BATCHER = "native.tx.batcher";
+    public static final String NATIVE_AUTO_COMMITTER = "native.auto.committer";
+    public static final String NATIVE_SERIALIZER = "native.serializer";
+    public static final String NATIVE_PAYLOAD_COMPRESSION = "native.payload.compression";
+    public static final String NATIVE_SCHEMA_DESERIALIZER = "native.schema.deserializer";
+    public static final String NATIVE_CHUNKER = "native.chunker";
+    public static final String NATIVE_CHUNK_REASSEMBLY = "native.chunk.reassembly";
+    public static final String NATIVE_CHUNK_REASSEMBLER = "native.chunk.reassembler";
+    public static final String NATIVE_MESSAGE_SETTLER = "native.message.settler";
+    public static final String NATIVE_REQUESTER = "native.requester";
+    public static final String NATIVE_MESSAGE_TEMPLATE = "native.message.template";
 
     // Listener-specific native data keys
     public static final String NATIVE_RUNTIME = "native.runtime";
     public static final String NATIVE_SERVICES = "native.services";
     public static final String NATIVE_STARTED = "native.started";
+    public static final String NATIVE_PAUSED = "native.paused";
+    public static final String NATIVE_STARTUP_CONCURRENCY = "native.startup.concurrency";
+    public static final String NATIVE_DIRECT_DISPATCHER = "native.direct.dispatcher";
 
 }
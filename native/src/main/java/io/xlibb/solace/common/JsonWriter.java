@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.common;
+
+import com.solacesystems.jcsmp.Destination;
+import com.solacesystems.jcsmp.SDTException;
+import com.solacesystems.jcsmp.SDTMap;
+import com.solacesystems.jcsmp.SDTStream;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Streams an {@code anydata} value as JSON, so a payload is serialized straight into the output buffer without first
+ * being converted to a {@code json} value or a {@code string}. Tables are written as arrays of their rows and
+ * {@code xml} values as strings, as {@code toJson()} does.
+ * <p>
+ * The containers of a structured SDT message are written the same way, straight from the message: an
+ * {@link SDTMap} as an object, an {@link SDTStream} as an array, {@code byte[]} values as Base64 strings and
+ * destinations as their names.
+ */
+public final class JsonWriter {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private JsonWriter() {
+    }
+
+    /**
+     * Writes a value as JSON.
+     *
+     * @param value an {@code anydata} value, or an SDT map, stream or field value
+     * @param out   the writer to write to
+     * @throws IOException if the value cannot be written or cannot be represented as JSON
+     */
+    public static void write(Object value, Writer out) throws IOException {
+        if (value == null) {
+            out.write("null");
+        } else if (value instanceof BString string) {
+            writeString(string.getValue(), out);
+        } else if (value instanceof String || value instanceof Character) {
+            writeString(value.toString(), out);
+        } else if (value instanceof Boolean) {
+            out.write(value.toString());
+        } else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            if (Double.isNaN(number) || Double.isInfinite(number)) {
+                throw new IllegalArgumentException("'" + number + "' cannot be serialized as JSON");
+            }
+            out.write(value.toString());
+        } else if (value instanceof Number) {
+            out.write(value.toString());
+        } else if (value instanceof BDecimal decimal) {
+            out.write(decimal.decimalValue().toString());
+        } else if (value instanceof BArray array) {
+            out.write('[');
+            for (int i = 0; i < array.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                write(array.get(i), out);
+            }
+            out.write(']');
+        } else if (value instanceof BMap<?, ?> map) {
+            out.write('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) {
+                    out.write(',');
+                }
+                first = false;
+                writeString(entry.getKey().toString(), out);
+                out.write(':');
+                write(entry.getValue(), out);
+            }
+            out.write('}');
+        } else if (value instanceof BTable<?, ?> table) {
+            out.write('[');
+            boolean first = true;
+            for (Object row : table.values()) {
+                if (!first) {
+                    out.write(',');
+                }
+                first = false;
+                write(row, out);
+            }
+            out.write(']');
+        } else if (value instanceof BXml xml) {
+            writeString(xml.toString(), out);
+        } else if (value instanceof SDTMap map) {
+            writeMap(map, out);
+        } else if (value instanceof SDTStream stream) {
+            writeStream(stream, out);
+        } else if (value instanceof byte[] bytes) {
+            writeString(Base64.getEncoder().encodeToString(bytes), out);
+        } else if (value instanceof Destination destination) {
+            writeString(destination.getName(), out);
+        } else {
+            throw new IllegalArgumentException("a value of type '" + value.getClass().getSimpleName()
+                    + "' cannot be serialized as JSON");
+        }
+    }
+
+    private static void writeMap(SDTMap map, Writer out) throws IOException {
+        out.write('{');
+        boolean first = true;
+        try {
+            for (String key : map.keySet()) {
+                if (!first) {
+                    out.write(',');
+                }
+                first = false;
+                writeString(key, out);
+                out.write(':');
+                write(map.get(key), out);
+            }
+        } catch (SDTException e) {
+            throw new IOException(e);
+        }
+        out.write('}');
+    }
+
+    private static void writeStream(SDTStream stream, Writer out) throws IOException {
+        out.write('[');
+        // A stream is read through a cursor, so it is rewound before and after being written.
+        stream.rewind();
+        try {
+            boolean first = true;
+            while (stream.hasRemaining()) {
+                if (!first) {
+                    out.write(',');
+                }
+                first = false;
+                write(stream.read(), out);
+            }
+        } catch (SDTException e) {
+            throw new IOException(e);
+        } finally {
+            stream.rewind();
+        }
+        out.write(']');
+    }
+
+    private static void writeString(String value, Writer out) throws IOException {
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            out.write(value, start, i - start);
+            start = i + 1;
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                case '\b' -> out.write("\\b");
+                case '\f' -> out.write("\\f");
+                default -> {
+                    out.write("\\u00");
+                    out.write(HEX_DIGITS[c >> 4]);
+                    out.write(HEX_DIGITS[c & 0xF]);
+                }
+            }
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+}
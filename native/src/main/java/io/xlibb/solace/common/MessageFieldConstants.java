@@ -43,6 +43,7 @@ public class MessageFieldConstants {
     public static final BString DELIVERY_COUNT_KEY = StringUtils.fromString("deliveryCount");
     public static final BString PROPERTIES_KEY = StringUtils.fromString("properties");
     public static final BString USER_DATA_KEY = StringUtils.fromString("userData");
+    public static final BString REPLICATION_GROUP_MESSAGE_ID_KEY = StringUtils.fromString("replicationGroupMessageId");
 
     // Destination field keys
     public static final BString TOPIC_NAME_KEY = StringUtils.fromString("topicName");
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.xlibb.solace.common;
+
+import com.solacesystems.jcsmp.SDTException;
+import com.solacesystems.jcsmp.SDTMap;
+import com.solacesystems.jcsmp.XMLMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Per-message payload compression with the Deflate (zlib) format.
+ * <p>
+ * A producer compresses a payload above its size threshold and flags the message with the
+ * {@value #CONTENT_ENCODING_PROPERTY} user property, which consumers check to inflate the payload transparently.
+ * Unlike the session's {@code compressionLevel}, which compresses every byte on the connection, this only spends CPU
+ * on payloads worth compressing, and the payload also stays compressed in the broker's spool. Deflaters and inflaters
+ * hold native memory and are costly to create, so they are pooled, a few per compression level.
+ * <p>
+ * Only payloads up to {@link #MAX_INFLATED_SIZE} bytes are compressed, and a payload that inflates past it is
+ * rejected, so a crafted message cannot make a consumer inflate it without bound.
+ */
+public final class PayloadCompression {
+
+    public static final String CONTENT_ENCODING_PROPERTY = "solace_content_encoding";
+    public static final String DEFLATE = "deflate";
+
+    /**
+     * The largest payload that is compressed, and so the most a compressed payload may inflate to: the broker's
+     * maximum message size. A larger payload is sent uncompressed, in chunks if the producer is configured for it.
+     */
+    public static final int MAX_INFLATED_SIZE = 30_000_000;
+
+    private static final int MAX_POOLED = Runtime.getRuntime().availableProcessors();
+    private static final int INFLATE_CHUNK_SIZE = 8192;
+
+    private static final Map<Integer, BlockingQueue<Deflater>> DEFLATERS = new ConcurrentHashMap<>();
+    private static final BlockingQueue<Inflater> INFLATERS = new ArrayBlockingQueue<>(MAX_POOLED);
+
+    private PayloadCompression() {
+    }
+
+    /**
+     * Compresses the first {@code length} bytes of a payload.
+     *
+     * @param data   the payload
+     * @param length the payload length
+     * @param level  the Deflate compression level
+     * @return the compressed payload, or null if compression does not make it smaller or the payload is larger than
+     *         {@link #MAX_INFLATED_SIZE}
+     */
+    public static byte[] deflate(byte[] data, int length, int level) {
+        if (length > MAX_INFLATED_SIZE) {
+            return null;
+        }
+        BlockingQueue<Deflater> pool = DEFLATERS.computeIfAbsent(level, k -> new ArrayBlockingQueue<>(MAX_POOLED));
+        Deflater deflater = pool.poll();
+        if (deflater == null) {
+            deflater = new Deflater(level);
+        }
+        try {
+            deflater.setInput(data, 0, length);
+            deflater.finish();
+            // Only a smaller result is sent, so the output never needs to grow past the input length.
+            byte[] out = new byte[length];
+            int size = 0;
+            while (!deflater.finished() && size < out.length) {
+                size += deflater.deflate(out, size, out.length - size);
+            }
+            return deflater.finished() && size < length ? Arrays.copyOf(out, size) : null;
+        } finally {
+            deflater.reset();
+            if (!pool.offer(deflater)) {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * Decompresses a payload compressed by {@link #deflate(byte[], int, int)}.
+     *
+     * @param data the compressed payload
+     * @return the original payload
+     * @throws DataFormatException if the payload is not valid Deflate data, or inflates past
+     *                             {@link #MAX_INFLATED_SIZE} bytes
+     */
+    public static byte[] inflate(byte[] data) throws DataFormatException {
+        Inflater inflater = INFLATERS.poll();
+        if (inflater == null) {
+            inflater = new Inflater();
+        }
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(data.length * 4L, MAX_INFLATED_SIZE));
+            byte[] chunk = new byte[INFLATE_CHUNK_SIZE];
+            while (!inflater.finished()) {
+                int size = inflater.inflate(chunk);
+                if (size == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("the compressed payload is truncated");
+                }
+                if (size > MAX_INFLATED_SIZE - out.size()) {
+                    throw new DataFormatException("the compressed payload inflates past the maximum of "
+                            + MAX_INFLATED_SIZE + " bytes");
+                }
+                out.write(chunk, 0, size);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.reset();
+            if (!INFLATERS.offer(inflater)) {
+                inflater.end();
+            }
+        }
+    }
+
+    /**
+     * Flags a message as carrying a compressed payload.
+     *
+     * @param message the message
+     * @throws SDTException if the user property cannot be set
+     */
+    public static void markCompressed(XMLMessage message) throws SDTException {
+        SDTMap properties = PropertyConverter.copyOf(message.getProperties());
+        properties.putString(CONTENT_ENCODING_PROPERTY, DEFLATE);
+        message.setProperties(properties);
+    }
+
+    /**
+     * Returns whether a message carries a payload compressed by a producer.
+     *
+     * @param message the message
+     * @return true if the payload must be inflated
+     * @throws SDTException if the user properties cannot be read
+     */
+    public static boolean isCompressed(XMLMessage message) throws SDTException {
+        SDTMap properties = message.getProperties();
+        return properties != null && properties.containsKey(CONTENT_ENCODING_PROPERTY)
+                && DEFLATE.equals(properties.getString(CONTENT_ENCODING_PROPERTY));
+    }
+}
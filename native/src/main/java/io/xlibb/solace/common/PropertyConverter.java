@@ -18,54 +18,38 @@
 
 package io.xlibb.solace.common;
 
+import com.solacesystems.jcsmp.Destination;
 import com.solacesystems.jcsmp.JCSMPFactory;
 import com.solacesystems.jcsmp.SDTException;
 import com.solacesystems.jcsmp.SDTMap;
+import com.solacesystems.jcsmp.SDTStream;
+import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
-import org.json.JSONObject;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.api.values.BXml;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 
 /**
- * Utility for bidirectional conversion between JCSMP SDTMap and Ballerina map.
+ * Utility for bidirectional conversion between JCSMP SDT containers (SDTMap, SDTStream) and Ballerina values.
  */
 public class PropertyConverter {
 
-    /**
-     * Converts a JCSMP SDTMap to a JSON string.
-     *
-     * @param sdtMap the JCSMP SDTMap
-     * @return JSON string representation
-     * @throws SDTException if SDT conversion fails
-     */
-    public static String sdtMapToJson(SDTMap sdtMap) throws SDTException {
-        Map<String, Object> map = new HashMap<>();
-        for (String key : sdtMap.keySet()) {
-            Object value = sdtMap.get(key);
-            map.put(key, convertSDTValueToJsonCompatible(value));
-        }
-        return new JSONObject(map).toString();
-    }
-
-    private static Object convertSDTValueToJsonCompatible(Object value) throws SDTException {
-        if (value instanceof SDTMap nestedMap) {
-            Map<String, Object> nestedJsonMap = new HashMap<>();
-            for (String key : nestedMap.keySet()) {
-                nestedJsonMap.put(key, convertSDTValueToJsonCompatible(nestedMap.get(key)));
-            }
-            return nestedJsonMap;
-        } else if (value instanceof byte[] bytes) {
-            return java.util.Base64.getEncoder().encodeToString(bytes);
-        }
-        return value;
-    }
+    private static final MapType ANYDATA_MAP_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA);
+    private static final ArrayType ANYDATA_ARRAY_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA);
 
     /**
      * Converts a JCSMP SDTMap to a Ballerina map.
@@ -128,6 +112,148 @@ public class PropertyConverter {
         return sdtMap;
     }
 
+    /**
+     * Returns a modifiable copy of a message's user properties, which is empty if the message has none. The properties
+     * of an outbound message may be shared with other messages, e.g. those of a message template, so they are copied
+     * rather than modified in place.
+     *
+     * @param properties the properties, or null
+     * @return the copy
+     * @throws SDTException if a property cannot be copied
+     */
+    public static SDTMap copyOf(SDTMap properties) throws SDTException {
+        SDTMap copy = JCSMPFactory.onlyInstance().createMap();
+        if (properties != null) {
+            for (String key : properties.keySet()) {
+                copy.putObject(key, properties.get(key));
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Converts the payload of a structured SDT message to an {@code anydata} value: an SDTMap to a
+     * {@code map<anydata>} and an SDTStream to an {@code anydata[]}, nesting included. {@code byte[]} fields stay
+     * {@code byte[]}, characters become strings and destinations their names.
+     *
+     * @param value an SDTMap, SDTStream or SDT field value
+     * @return the Ballerina value
+     * @throws SDTException if the SDT content cannot be read
+     */
+    public static Object toBallerinaPayload(Object value) throws SDTException {
+        return switch (value) {
+            case null -> null;
+            case SDTMap sdtMap -> toBallerinaMap(sdtMap);
+            case SDTStream stream -> toBallerinaArray(stream);
+            case Character c -> StringUtils.fromString(c.toString());
+            case Destination destination -> StringUtils.fromString(destination.getName());
+            default -> convertSDTValueToBallerina(value);
+        };
+    }
+
+    private static BMap<BString, Object> toBallerinaMap(SDTMap sdtMap) throws SDTException {
+        BMap<BString, Object> map = ValueCreator.createMapValue(ANYDATA_MAP_TYPE);
+        for (String key : sdtMap.keySet()) {
+            map.put(StringUtils.fromString(key), toBallerinaPayload(sdtMap.get(key)));
+        }
+        return map;
+    }
+
+    private static BArray toBallerinaArray(SDTStream stream) throws SDTException {
+        List<Object> values = new ArrayList<>();
+        // A stream is read through a cursor, so it is rewound before and after being read.
+        stream.rewind();
+        try {
+            while (stream.hasRemaining()) {
+                values.add(toBallerinaPayload(stream.read()));
+            }
+        } finally {
+            stream.rewind();
+        }
+        return ValueCreator.createArrayValue(values.toArray(), ANYDATA_ARRAY_TYPE);
+    }
+
+    /**
+     * Converts a Ballerina map (or record) payload to an SDTMap, for sending as a MapMessage. Nested maps become
+     * SDTMaps, {@code byte[]} values bytes fields and other arrays SDTStreams; nil fields are omitted.
+     *
+     * @param map the Ballerina map
+     * @return the SDTMap
+     * @throws SDTException             if a value cannot be added to the map
+     * @throws IllegalArgumentException if a value has no SDT representation
+     */
+    public static SDTMap toSDTMap(BMap<?, ?> map) throws SDTException {
+        SDTMap sdtMap = JCSMPFactory.onlyInstance().createMap();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getValue() != null) {
+                sdtMap.putObject(entry.getKey().toString(), toSDTValue(entry.getValue()));
+            }
+        }
+        return sdtMap;
+    }
+
+    /**
+     * Converts a Ballerina array payload to an SDTStream, for sending as a StreamMessage. Elements are converted as
+     * by {@link #toSDTMap(BMap)}.
+     *
+     * @param array the Ballerina array
+     * @return the SDTStream
+     * @throws SDTException             if a value cannot be written to the stream
+     * @throws IllegalArgumentException if an element is nil or has no SDT representation
+     */
+    public static SDTStream toSDTStream(BArray array) throws SDTException {
+        List<Object> values = new ArrayList<>(array.size());
+        for (int i = 0; i < array.size(); i++) {
+            values.add(array.get(i));
+        }
+        return toSDTStream(values);
+    }
+
+    /**
+     * Converts a Ballerina table payload to an SDTStream of its rows, for sending as a StreamMessage.
+     *
+     * @param table the Ballerina table
+     * @return the SDTStream
+     * @throws SDTException             if a value cannot be written to the stream
+     * @throws IllegalArgumentException if a value has no SDT representation
+     */
+    public static SDTStream toSDTStream(BTable<?, ?> table) throws SDTException {
+        return toSDTStream(table.values());
+    }
+
+    private static SDTStream toSDTStream(Iterable<?> values) throws SDTException {
+        SDTStream stream = JCSMPFactory.onlyInstance().createStream();
+        for (Object value : values) {
+            if (value == null) {
+                throw new IllegalArgumentException("an SDT stream cannot hold nil elements");
+            }
+            stream.writeObject(toSDTValue(value));
+        }
+        return stream;
+    }
+
+    private static Object toSDTValue(Object value) throws SDTException {
+        return switch (value) {
+            case BString bString -> bString.getValue();
+            case Boolean b -> b;
+            case Long l -> l;
+            case Integer i -> i.longValue();
+            case Double d -> d;
+            case BDecimal decimal -> decimal.decimalValue().doubleValue();
+            case BXml xml -> xml.toString();
+            case BMap<?, ?> map -> toSDTMap(map);
+            case BArray array when isByteArray(array) -> array.getBytes();
+            case BArray array -> toSDTStream(array);
+            case BTable<?, ?> table -> toSDTStream(table.values());
+            default -> throw new IllegalArgumentException("a value of type '" + TypeUtils.getType(value)
+                    + "' cannot be sent in an SDT message");
+        };
+    }
+
+    private static boolean isByteArray(BArray array) {
+        return TypeUtils.getImpliedType(array.getElementType()).getTag() == TypeTags.BYTE_TAG;
+    }
+
     /**
      * Converts an SDT value to a Ballerina-compatible value.
      *
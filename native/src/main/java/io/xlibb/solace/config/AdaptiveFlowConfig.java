@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+
+/**
+ * Adaptive flow control configuration for a listener service. Maps to AdaptiveFlowControl in Ballerina types.bal.
+ *
+ * @param minWindowSize    the smallest transport window the flow may be tuned to (1-255)
+ * @param maxWindowSize    the largest transport window the flow may be tuned to (1-255)
+ * @param sampleIntervalMs how often delivery rate, service latency and dispatch queue depth are sampled, in ms
+ * @param targetLatencyMs  the mean service latency above which the window is shrunk, in ms
+ * @param maxQueueDepth    the dispatch queue depth above which the window is shrunk
+ */
+public record AdaptiveFlowConfig(int minWindowSize, int maxWindowSize, long sampleIntervalMs, long targetLatencyMs,
+                                 int maxQueueDepth) {
+
+    private static final BString MIN_WINDOW_SIZE_KEY = StringUtils.fromString("minWindowSize");
+    private static final BString MAX_WINDOW_SIZE_KEY = StringUtils.fromString("maxWindowSize");
+    private static final BString SAMPLE_INTERVAL_KEY = StringUtils.fromString("sampleInterval");
+    private static final BString TARGET_LATENCY_KEY = StringUtils.fromString("targetLatency");
+    private static final BString MAX_QUEUE_DEPTH_KEY = StringUtils.fromString("maxQueueDepth");
+
+    private static final int MAX_TRANSPORT_WINDOW_SIZE = 255;
+
+    public AdaptiveFlowConfig {
+        if (minWindowSize < 1 || maxWindowSize > MAX_TRANSPORT_WINDOW_SIZE || minWindowSize > maxWindowSize) {
+            throw new IllegalArgumentException("Adaptive flow control window bounds must satisfy "
+                    + "1 <= minWindowSize <= maxWindowSize <= 255");
+        }
+        if (sampleIntervalMs <= 0) {
+            throw new IllegalArgumentException("Adaptive flow control sampleInterval must be positive");
+        }
+    }
+
+    /**
+     * Creates an AdaptiveFlowConfig from a Ballerina map record.
+     *
+     * @param config the configuration map
+     */
+    public AdaptiveFlowConfig(BMap<BString, Object> config) {
+        this(
+                config.getIntValue(MIN_WINDOW_SIZE_KEY).intValue(),
+                config.getIntValue(MAX_WINDOW_SIZE_KEY).intValue(),
+                decimalToMillis(((BDecimal) config.get(SAMPLE_INTERVAL_KEY)).decimalValue()),
+                decimalToMillis(((BDecimal) config.get(TARGET_LATENCY_KEY)).decimalValue()),
+                config.getIntValue(MAX_QUEUE_DEPTH_KEY).intValue()
+        );
+    }
+
+    /**
+     * Clamps a transport window size to the configured bounds.
+     *
+     * @param windowSize the requested window size, or null for the largest allowed window
+     * @return the window size within [minWindowSize, maxWindowSize]
+     */
+    public int clamp(Integer windowSize) {
+        if (windowSize == null) {
+            return maxWindowSize;
+        }
+        return Math.max(minWindowSize, Math.min(maxWindowSize, windowSize));
+    }
+
+    /**
+     * Parses the optional {@code adaptiveFlow} field of a service config.
+     *
+     * @param value the field value, or null if absent
+     * @return the adaptive flow configuration, or null if the flow window is static
+     */
+    @SuppressWarnings("unchecked")
+    static AdaptiveFlowConfig fromValue(Object value) {
+        return value instanceof BMap<?, ?> map ? new AdaptiveFlowConfig((BMap<BString, Object>) map) : null;
+    }
+
+    private static long decimalToMillis(BigDecimal seconds) {
+        return seconds.multiply(BigDecimal.valueOf(1000)).longValue();
+    }
+}
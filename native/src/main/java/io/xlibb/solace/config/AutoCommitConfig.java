@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+
+/**
+ * Automatic commit policy of a transacted session. Maps to AutoCommit in Ballerina types.bal.
+ *
+ * @param commitEvery      the number of messages after which the transaction is committed
+ * @param commitIntervalMs the maximum time a transaction stays open once it holds a message, in milliseconds
+ */
+public record AutoCommitConfig(int commitEvery, long commitIntervalMs) {
+
+    private static final BString AUTO_COMMIT_KEY = StringUtils.fromString("autoCommit");
+    private static final BString COMMIT_EVERY_KEY = StringUtils.fromString("commitEvery");
+    private static final BString COMMIT_INTERVAL_KEY = StringUtils.fromString("commitInterval");
+
+    public AutoCommitConfig {
+        if (commitEvery < 1) {
+            throw new IllegalArgumentException("autoCommit commitEvery must be at least 1");
+        }
+        if (commitIntervalMs <= 0) {
+            throw new IllegalArgumentException("autoCommit commitInterval must be positive");
+        }
+    }
+
+    /**
+     * Creates an AutoCommitConfig from a Ballerina map record.
+     *
+     * @param config the configuration map
+     */
+    public AutoCommitConfig(BMap<BString, Object> config) {
+        this(config.getIntValue(COMMIT_EVERY_KEY).intValue(),
+                ((BDecimal) config.get(COMMIT_INTERVAL_KEY)).decimalValue().multiply(BigDecimal.valueOf(1000))
+                        .longValue());
+    }
+
+    /**
+     * Parses the optional {@code autoCommit} field of a listener or producer configuration.
+     *
+     * @param config the listener or producer configuration map
+     * @return the commit policy, or null if transactions are committed explicitly
+     */
+    @SuppressWarnings("unchecked")
+    public static AutoCommitConfig fromConfig(BMap<BString, Object> config) {
+        Object value = config.get(AUTO_COMMIT_KEY);
+        return value instanceof BMap<?, ?> map ? new AutoCommitConfig((BMap<BString, Object>) map) : null;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+
+/**
+ * Consumer checkpoint configuration. Maps to CheckpointConfig in Ballerina types.bal.
+ *
+ * @param directory       the directory holding the checkpoint files (one per queue / durable topic endpoint)
+ * @param flushIntervalMs how often the latest processed message is appended to the checkpoint file, in milliseconds
+ * @param fsyncPolicy     when appended checkpoints are forced to the storage device
+ * @param resume          whether to resume replay from the last checkpoint when no replayFrom is configured
+ */
+public record CheckpointConfig(String directory, long flushIntervalMs, FsyncPolicy fsyncPolicy, boolean resume) {
+
+    private static final BString DIRECTORY_KEY = StringUtils.fromString("directory");
+    private static final BString FLUSH_INTERVAL_KEY = StringUtils.fromString("flushInterval");
+    private static final BString FSYNC_KEY = StringUtils.fromString("fsync");
+    private static final BString RESUME_KEY = StringUtils.fromString("resume");
+
+    /**
+     * Checkpoint fsync policies.
+     */
+    public enum FsyncPolicy {
+        /** Never force; the OS writes the memory-mapped file back in its own time. */
+        FSYNC_NONE,
+        /** Force after each periodic flush. */
+        FSYNC_INTERVAL,
+        /** Write and force on every recorded checkpoint. */
+        FSYNC_ALWAYS
+    }
+
+    /**
+     * Creates a CheckpointConfig from a Ballerina map record.
+     *
+     * @param config the configuration map
+     */
+    public CheckpointConfig(BMap<BString, Object> config) {
+        this(
+                config.getStringValue(DIRECTORY_KEY).getValue(),
+                decimalToMillis(((BDecimal) config.get(FLUSH_INTERVAL_KEY)).decimalValue()),
+                FsyncPolicy.valueOf(config.getStringValue(FSYNC_KEY).getValue()),
+                config.getBooleanValue(RESUME_KEY)
+        );
+    }
+
+    /**
+     * Parses the optional {@code checkpoint} field of a subscription config.
+     *
+     * @param value the field value, or null if absent
+     * @return the checkpoint configuration, or null if checkpointing is disabled
+     */
+    @SuppressWarnings("unchecked")
+    static CheckpointConfig fromValue(Object value) {
+        return value instanceof BMap<?, ?> map ? new CheckpointConfig((BMap<BString, Object>) map) : null;
+    }
+
+    private static long decimalToMillis(BigDecimal seconds) {
+        return seconds.multiply(BigDecimal.valueOf(1000)).longValue();
+    }
+}
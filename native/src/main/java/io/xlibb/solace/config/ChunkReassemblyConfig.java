@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.xlibb.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+
+/**
+ * Reassembly of chunked messages by a consumer or listener service. Maps to ChunkReassembly in Ballerina types.bal.
+ *
+ * @param maxBufferedBytes the maximum number of bytes held off-heap for incomplete chunked messages
+ * @param timeoutMs        the time after which an incomplete chunked message that received no chunk is evicted,
+ *                         in milliseconds
+ */
+public record ChunkReassemblyConfig(long maxBufferedBytes, long timeoutMs) {
+
+    private static final BString CHUNK_REASSEMBLY_KEY = StringUtils.fromString("chunkReassembly");
+    private static final BString MAX_BUFFERED_BYTES_KEY = StringUtils.fromString("maxBufferedBytes");
+    private static final BString TIMEOUT_KEY = StringUtils.fromString("timeout");
+
+    /**
+     * The reassembly settings used when none are configured: 256 MiB of buffered chunks and a 60 second timeout.
+     */
+    public static final ChunkReassemblyConfig DEFAULT = new ChunkReassemblyConfig(256L << 20, 60_000);
+
+    public ChunkReassemblyConfig {
+        if (maxBufferedBytes < 0) {
+            throw new IllegalArgumentException("chunkReassembly maxBufferedBytes cannot be negative");
+        }
+        if (timeoutMs <= 0) {
+            throw new IllegalArgumentException("chunkReassembly timeout must be positive");
+        }
+    }
+
+    /**
+     * Creates a ChunkReassemblyConfig from a Ballerina map record.
+     *
+     * @param config the configuration map
+     */
+    public ChunkReassemblyConfig(BMap<BString, Object> config) {
+        this(config.getIntValue(MAX_BUFFERED_BYTES_KEY),
+                ((BDecimal) config.get(TIMEOUT_KEY)).decimalValue().multiply(BigDecimal.valueOf(1000)).longValue());
+    }
+
+    /**
+     * Parses the {@code chunkReassembly} field of a consumer or listener configuration.
+     *
+     * @param config the consumer or listener configuration map
+     * @return the reassembly settings, or null if none are configured
+     */
+    @SuppressWarnings("unchecked")
+    public static ChunkReassemblyConfig fromConfig(BMap<BString, Object> config) {
+        BMap<BString, Object> reassembly = (BMap<BString, Object>) config.getMapValue(CHUNK_REASSEMBLY_KEY);
+        return reassembly != null ? new ChunkReassemblyConfig(reassembly) : null;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.xlibb.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Large-message chunking policy of a producer. Maps to Chunking in Ballerina types.bal.
+ *
+ * @param chunkSize the maximum payload size in bytes of a message; larger payloads are split into chunks of this size
+ */
+public record ChunkingConfig(int chunkSize) {
+
+    private static final BString CHUNKING_KEY = StringUtils.fromString("chunking");
+    private static final BString CHUNK_SIZE_KEY = StringUtils.fromString("chunkSize");
+
+    public ChunkingConfig {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunking chunkSize must be at least 1");
+        }
+    }
+
+    /**
+     * Parses the optional {@code chunking} field of a producer configuration.
+     *
+     * @param config the producer configuration map
+     * @return the chunking policy, or null if payloads are never split
+     */
+    @SuppressWarnings("unchecked")
+    public static ChunkingConfig fromConfig(BMap<BString, Object> config) {
+        Object value = config.get(CHUNKING_KEY);
+        return value instanceof BMap<?, ?> map
+                ? new ChunkingConfig(((BMap<BString, Object>) map).getIntValue(CHUNK_SIZE_KEY).intValue()) : null;
+    }
+}
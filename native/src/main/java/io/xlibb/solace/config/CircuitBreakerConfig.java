@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+
+/**
+ * Circuit breaker configuration for a listener service. Maps to CircuitBreaker in Ballerina types.bal.
+ *
+ * @param failureThreshold     the number of consecutive service failures that opens the circuit
+ * @param failureRateThreshold the failure ratio (0-1) within a sampling window that opens the circuit, or 0 to trip
+ *                             on consecutive failures only
+ * @param samplingWindowMs     the length of the window the failure ratio is measured over, in milliseconds
+ * @param minimumCalls         the number of messages a sampling window needs before its failure ratio is evaluated
+ * @param cooldownMs           how long the circuit stays open before delivery resumes on probation, in milliseconds
+ * @param halfOpenProbes       the number of consecutive successful messages that close a half-open circuit
+ */
+public record CircuitBreakerConfig(int failureThreshold, double failureRateThreshold, long samplingWindowMs,
+                                   int minimumCalls, long cooldownMs, int halfOpenProbes) {
+
+    private static final BString FAILURE_THRESHOLD_KEY = StringUtils.fromString("failureThreshold");
+    private static final BString FAILURE_RATE_THRESHOLD_KEY = StringUtils.fromString("failureRateThreshold");
+    private static final BString SAMPLING_WINDOW_KEY = StringUtils.fromString("samplingWindow");
+    private static final BString MINIMUM_CALLS_KEY = StringUtils.fromString("minimumCalls");
+    private static final BString COOLDOWN_KEY = StringUtils.fromString("cooldown");
+    private static final BString HALF_OPEN_PROBES_KEY = StringUtils.fromString("halfOpenProbes");
+
+    public CircuitBreakerConfig {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("Circuit breaker failureThreshold must be at least 1");
+        }
+        if (failureRateThreshold < 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("Circuit breaker failureRateThreshold must be between 0 and 1");
+        }
+        if (failureRateThreshold > 0 && samplingWindowMs <= 0) {
+            throw new IllegalArgumentException("Circuit breaker samplingWindow must be positive");
+        }
+        if (cooldownMs <= 0) {
+            throw new IllegalArgumentException("Circuit breaker cooldown must be positive");
+        }
+        if (halfOpenProbes < 1) {
+            throw new IllegalArgumentException("Circuit breaker halfOpenProbes must be at least 1");
+        }
+    }
+
+    /**
+     * Creates a CircuitBreakerConfig from a Ballerina map record.
+     *
+     * @param config the configuration map
+     */
+    public CircuitBreakerConfig(BMap<BString, Object> config) {
+        this(
+                config.getIntValue(FAILURE_THRESHOLD_KEY).intValue(),
+                config.containsKey(FAILURE_RATE_THRESHOLD_KEY)
+                        ? ((BDecimal) config.get(FAILURE_RATE_THRESHOLD_KEY)).decimalValue().doubleValue() : 0,
+                decimalToMillis(((BDecimal) config.get(SAMPLING_WINDOW_KEY)).decimalValue()),
+                config.getIntValue(MINIMUM_CALLS_KEY).intValue(),
+                decimalToMillis(((BDecimal) config.get(COOLDOWN_KEY)).decimalValue()),
+                config.getIntValue(HALF_OPEN_PROBES_KEY).intValue()
+        );
+    }
+
+    /**
+     * Parses the optional {@code circuitBreaker} field of a service config.
+     *
+     * @param value the field value, or null if absent
+     * @return the circuit breaker configuration, or null if service failures never pause delivery
+     */
+    @SuppressWarnings("unchecked")
+    static CircuitBreakerConfig fromValue(Object value) {
+        return value instanceof BMap<?, ?> map ? new CircuitBreakerConfig((BMap<BString, Object>) map) : null;
+    }
+
+    private static long decimalToMillis(BigDecimal seconds) {
+        return seconds.multiply(BigDecimal.valueOf(1000)).longValue();
+    }
+}
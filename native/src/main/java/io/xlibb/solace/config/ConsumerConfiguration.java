@@ -28,10 +28,14 @@ import io.ballerina.runtime.api.values.BString;
  *
  * @param connectionConfig   the common connection configuration
  * @param subscriptionConfig the consumer subscription configuration (queue or topic)
+ * @param schemaRegistry     the registry payloads serialized against a schema are read with, or null
+ * @param chunkReassembly    the reassembly settings of chunked messages, or null if none are configured
  */
 public record ConsumerConfiguration(
         ConnectionConfiguration connectionConfig,
-        ConsumerSubscriptionConfig subscriptionConfig) {
+        ConsumerSubscriptionConfig subscriptionConfig,
+        SchemaRegistryConfig schemaRegistry,
+        ChunkReassemblyConfig chunkReassembly) {
 
     private static final BString SUBSCRIPTION_CONFIG_KEY = StringUtils.fromString("subscriptionConfig");
 
@@ -44,7 +48,9 @@ public record ConsumerConfiguration(
     public ConsumerConfiguration(BMap<BString, Object> config) {
         this(
                 new ConnectionConfiguration(config),
-                getSubscriptionConfig((BMap<BString, Object>) config.getMapValue(SUBSCRIPTION_CONFIG_KEY))
+                getSubscriptionConfig((BMap<BString, Object>) config.getMapValue(SUBSCRIPTION_CONFIG_KEY)),
+                SchemaRegistryConfig.fromConfig(config),
+                ChunkReassemblyConfig.fromConfig(config)
         );
     }
 
@@ -35,21 +35,22 @@ public sealed interface ConsumerSubscriptionConfig permits QueueConsumerConfig,
     /**
      * Factory method to create the appropriate ConsumerSubscriptionConfig type based on the configuration map.
      *
-     * @param config the configuration map containing either queueName or topicName
+     * @param config the configuration map containing either queueName or topicName / topicNames
      * @return a QueueConsumerConfig or TopicConsumerConfig instance
-     * @throws IllegalArgumentException if neither queueName nor topicName is present
+     * @throws IllegalArgumentException if neither queueName nor a topic field is present
      */
     static ConsumerSubscriptionConfig fromBMap(BMap<BString, Object> config) {
         BString queueNameKey = StringUtils.fromString("queueName");
         BString topicNameKey = StringUtils.fromString("topicName");
+        BString topicNamesKey = StringUtils.fromString("topicNames");
 
         if (config.containsKey(queueNameKey)) {
             return new QueueConsumerConfig(config);
-        } else if (config.containsKey(topicNameKey)) {
+        } else if (config.containsKey(topicNameKey) || config.containsKey(topicNamesKey)) {
             return new TopicConsumerConfig(config);
         } else {
             throw new IllegalArgumentException(
-                    "Consumer subscription config must have either 'queueName' or 'topicName' field"
+                    "Consumer subscription config must have either a 'queueName' or a 'topicName' / 'topicNames' field"
             );
         }
     }
@@ -73,4 +74,20 @@ public sealed interface ConsumerSubscriptionConfig permits QueueConsumerConfig,
     Integer reconnectTries();
 
     int reconnectRetryIntervalInMsecs();
+
+    ReplayStart replayStart();
+
+    CheckpointConfig checkpoint();
+
+    DeduplicationConfig deduplication();
+
+    AdaptiveFlowConfig adaptiveFlow();
+
+    RedeliveryBackoffConfig redeliveryBackoff();
+
+    PoisonMessageConfig poisonMessage();
+
+    CircuitBreakerConfig circuitBreaker();
+
+    RateLimitConfig maxRate();
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+
+/**
+ * Consumer-side deduplication configuration. Maps to DeduplicationConfig in Ballerina types.bal.
+ *
+ * @param keyProperty the user property holding the deduplication key, or null to use the application message ID
+ * @param windowMs    how long a processed key is remembered, in milliseconds
+ * @param maxEntries  the maximum number of remembered keys; the oldest are evicted first
+ */
+public record DeduplicationConfig(String keyProperty, long windowMs, int maxEntries) {
+
+    private static final BString KEY_PROPERTY_KEY = StringUtils.fromString("keyProperty");
+    private static final BString WINDOW_KEY = StringUtils.fromString("window");
+    private static final BString MAX_ENTRIES_KEY = StringUtils.fromString("maxEntries");
+
+    /**
+     * Creates a DeduplicationConfig from a Ballerina map record.
+     *
+     * @param config the configuration map
+     */
+    public DeduplicationConfig(BMap<BString, Object> config) {
+        this(
+                config.containsKey(KEY_PROPERTY_KEY) ? config.getStringValue(KEY_PROPERTY_KEY).getValue() : null,
+                decimalToMillis(((BDecimal) config.get(WINDOW_KEY)).decimalValue()),
+                config.getIntValue(MAX_ENTRIES_KEY).intValue()
+        );
+    }
+
+    /**
+     * Parses the optional {@code deduplication} field of a subscription config.
+     *
+     * @param value the field value, or null if absent
+     * @return the deduplication configuration, or null if deduplication is disabled
+     */
+    @SuppressWarnings("unchecked")
+    static DeduplicationConfig fromValue(Object value) {
+        return value instanceof BMap<?, ?> map ? new DeduplicationConfig((BMap<BString, Object>) map) : null;
+    }
+
+    private static long decimalToMillis(BigDecimal seconds) {
+        return seconds.multiply(BigDecimal.valueOf(1000)).longValue();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.xlibb.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.zip.Deflater;
+
+/**
+ * Per-message payload compression policy of a producer. Maps to PayloadCompression in Ballerina types.bal.
+ *
+ * @param threshold the minimum payload size in bytes that is compressed
+ * @param level     the Deflate compression level, from 1 (fastest) to 9 (smallest)
+ */
+public record PayloadCompressionConfig(int threshold, int level) {
+
+    private static final BString PAYLOAD_COMPRESSION_KEY = StringUtils.fromString("payloadCompression");
+    private static final BString THRESHOLD_KEY = StringUtils.fromString("threshold");
+    private static final BString LEVEL_KEY = StringUtils.fromString("level");
+
+    public PayloadCompressionConfig {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("payloadCompression threshold cannot be negative");
+        }
+        if (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("payloadCompression level must be between 1 and 9");
+        }
+    }
+
+    /**
+     * Creates a PayloadCompressionConfig from a Ballerina map record.
+     *
+     * @param config the configuration map
+     */
+    public PayloadCompressionConfig(BMap<BString, Object> config) {
+        this(config.getIntValue(THRESHOLD_KEY).intValue(), config.getIntValue(LEVEL_KEY).intValue());
+    }
+
+    /**
+     * Parses the optional {@code payloadCompression} field of a producer configuration.
+     *
+     * @param config the producer configuration map
+     * @return the compression policy, or null if payloads are not compressed
+     */
+    @SuppressWarnings("unchecked")
+    public static PayloadCompressionConfig fromConfig(BMap<BString, Object> config) {
+        Object value = config.get(PAYLOAD_COMPRESSION_KEY);
+        return value instanceof BMap<?, ?> map ? new PayloadCompressionConfig((BMap<BString, Object>) map) : null;
+    }
+}
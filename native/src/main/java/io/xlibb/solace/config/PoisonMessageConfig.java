@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Poison message handling of a consumer or listener service, from the {@code maxDeliveryAttempts} and
+ * {@code parkingQueueName} fields of the subscription config.
+ *
+ * @param maxDeliveryAttempts the number of delivery attempts after which a message is diverted
+ * @param parkingQueueName    the queue diverted messages are republished to, or null to reject them to the DMQ
+ */
+public record PoisonMessageConfig(int maxDeliveryAttempts, String parkingQueueName) {
+
+    private static final BString MAX_DELIVERY_ATTEMPTS_KEY = StringUtils.fromString("maxDeliveryAttempts");
+    private static final BString PARKING_QUEUE_NAME_KEY = StringUtils.fromString("parkingQueueName");
+
+    public PoisonMessageConfig {
+        if (maxDeliveryAttempts < 1) {
+            throw new IllegalArgumentException("maxDeliveryAttempts must be at least 1");
+        }
+    }
+
+    /**
+     * Parses the poison message fields of a subscription config.
+     *
+     * @param config the subscription configuration map
+     * @return the poison message configuration, or null if {@code maxDeliveryAttempts} is not set
+     */
+    static PoisonMessageConfig fromConfig(BMap<BString, Object> config) {
+        if (!config.containsKey(MAX_DELIVERY_ATTEMPTS_KEY)) {
+            return null;
+        }
+        return new PoisonMessageConfig(config.getIntValue(MAX_DELIVERY_ATTEMPTS_KEY).intValue(),
+                config.containsKey(PARKING_QUEUE_NAME_KEY)
+                        ? config.getStringValue(PARKING_QUEUE_NAME_KEY).getValue() : null);
+    }
+}
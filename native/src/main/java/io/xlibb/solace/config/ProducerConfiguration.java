@@ -18,6 +18,7 @@
 
 package io.xlibb.solace.config;
 
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 
@@ -26,15 +27,38 @@ import io.ballerina.runtime.api.values.BString;
  * types.bal.
  *
  * @param connectionConfig connection configuration for broker connection
+ * @param autoCommit       optional automatic commit policy of a transacted producer (null if committed explicitly)
+ * @param payloadFormat    the built-in payload serializer, or null if payloads are serialized by a Ballerina
+ *                         {@code Serializer} or against a registered schema
+ * @param schemaRegistry   the registry payloads are serialized against, or null
+ * @param schemaSubject    the registry subject whose latest schema payloads are serialized against, or null
+ * @param compression      optional per-message payload compression policy (null if payloads are not compressed)
+ * @param chunking         optional large-message chunking policy (null if payloads are never split)
  */
-public record ProducerConfiguration(ConnectionConfiguration connectionConfig) {
+public record ProducerConfiguration(ConnectionConfiguration connectionConfig, AutoCommitConfig autoCommit,
+                                    String payloadFormat, SchemaRegistryConfig schemaRegistry,
+                                    String schemaSubject, PayloadCompressionConfig compression,
+                                    ChunkingConfig chunking) {
+
+    private static final BString SERIALIZER_KEY = StringUtils.fromString("serializer");
+    private static final BString REGISTRY_KEY = StringUtils.fromString("registry");
+    private static final BString SUBJECT_KEY = StringUtils.fromString("subject");
 
     /**
-     * Creates a ProducerConfiguration from a Ballerina map record. The map contains connection configuration fields.
+     * Creates a ProducerConfiguration from a Ballerina map record. The map contains connection configuration fields,
+     * the optional auto-commit policy, the payload serializer and the optional payload compression and chunking
+     * policies.
      *
      * @param config the Ballerina configuration map
      */
+    @SuppressWarnings("unchecked")
     public ProducerConfiguration(BMap<BString, Object> config) {
-        this(new ConnectionConfiguration(config));
+        this(new ConnectionConfiguration(config), AutoCommitConfig.fromConfig(config),
+                config.get(SERIALIZER_KEY) instanceof BString format ? format.getValue() : null,
+                config.get(SERIALIZER_KEY) instanceof BMap<?, ?> schemaSerializer
+                        ? new SchemaRegistryConfig((BMap<BString, Object>) schemaSerializer.get(REGISTRY_KEY)) : null,
+                config.get(SERIALIZER_KEY) instanceof BMap<?, ?> schemaSerializer
+                        ? schemaSerializer.get(SUBJECT_KEY).toString() : null,
+                PayloadCompressionConfig.fromConfig(config), ChunkingConfig.fromConfig(config));
     }
 }
@@ -44,6 +44,17 @@ import java.math.BigDecimal;
  * @param activeFlowIndication          enable active/inactive flow indication (default false)
  * @param reconnectTries                number of reconnection attempts after flow goes down (-1 = infinite)
  * @param reconnectRetryIntervalInMsecs wait time between reconnection attempts in ms (min 50, default 3000)
+ * @param replayStart                   optional replay start location (null if no replay was requested)
+ * @param checkpoint                    optional checkpoint store configuration (null if checkpointing is disabled)
+ * @param deduplication                 optional deduplication configuration (null if deduplication is disabled)
+ * @param adaptiveFlow                  optional adaptive flow control configuration (listener services only; null for a
+ *                                      static flow window)
+ * @param redeliveryBackoff             optional redelivery backoff policy (listener services only; null if failed
+ *                                      messages are left unsettled)
+ * @param poisonMessage                 optional poison message handling (null if messages are redelivered indefinitely)
+ * @param circuitBreaker                optional circuit breaker (listener services only; null if service failures
+ *                                      never pause delivery)
+ * @param maxRate                       optional delivery rate limit (listener services only; null if unlimited)
  */
 public record QueueConsumerConfig(
         String queueName,
@@ -57,7 +68,15 @@ public record QueueConsumerConfig(
         Boolean noLocal,
         Boolean activeFlowIndication,
         Integer reconnectTries,
-        int reconnectRetryIntervalInMsecs
+        int reconnectRetryIntervalInMsecs,
+        ReplayStart replayStart,
+        CheckpointConfig checkpoint,
+        DeduplicationConfig deduplication,
+        AdaptiveFlowConfig adaptiveFlow,
+        RedeliveryBackoffConfig redeliveryBackoff,
+        PoisonMessageConfig poisonMessage,
+        CircuitBreakerConfig circuitBreaker,
+        RateLimitConfig maxRate
 ) implements ConsumerSubscriptionConfig {
 
     private static final BString QUEUE_NAME_KEY = StringUtils.fromString("queueName");
@@ -72,6 +91,13 @@ public record QueueConsumerConfig(
     private static final BString ACTIVE_FLOW_INDICATION_KEY = StringUtils.fromString("activeFlowIndication");
     private static final BString RECONNECT_TRIES_KEY = StringUtils.fromString("reconnectTries");
     private static final BString RECONNECT_RETRY_INTERVAL_KEY = StringUtils.fromString("reconnectRetryInterval");
+    private static final BString REPLAY_FROM_KEY = StringUtils.fromString("replayFrom");
+    private static final BString CHECKPOINT_KEY = StringUtils.fromString("checkpoint");
+    private static final BString DEDUPLICATION_KEY = StringUtils.fromString("deduplication");
+    private static final BString ADAPTIVE_FLOW_KEY = StringUtils.fromString("adaptiveFlow");
+    private static final BString REDELIVERY_BACKOFF_KEY = StringUtils.fromString("redeliveryBackoff");
+    private static final BString CIRCUIT_BREAKER_KEY = StringUtils.fromString("circuitBreaker");
+    private static final BString MAX_RATE_KEY = StringUtils.fromString("maxRate");
 
     private static final String DEFAULT_ACK_MODE = JCSMPProperties.SUPPORTED_MESSAGE_ACK_AUTO;
     private static final int DEFAULT_WINDOW_SIZE = 255;
@@ -95,7 +121,15 @@ public record QueueConsumerConfig(
                 config.containsKey(ACTIVE_FLOW_INDICATION_KEY) ? config.getBooleanValue(ACTIVE_FLOW_INDICATION_KEY) :
                         null,
                 extractOptionalInteger(config, RECONNECT_TRIES_KEY),
-                decimalToMillis(((BDecimal) config.get(RECONNECT_RETRY_INTERVAL_KEY)).decimalValue())
+                decimalToMillis(((BDecimal) config.get(RECONNECT_RETRY_INTERVAL_KEY)).decimalValue()),
+                ReplayStart.fromValue(config.get(REPLAY_FROM_KEY)),
+                CheckpointConfig.fromValue(config.get(CHECKPOINT_KEY)),
+                DeduplicationConfig.fromValue(config.get(DEDUPLICATION_KEY)),
+                AdaptiveFlowConfig.fromValue(config.get(ADAPTIVE_FLOW_KEY)),
+                RedeliveryBackoffConfig.fromValue(config.get(REDELIVERY_BACKOFF_KEY)),
+                PoisonMessageConfig.fromConfig(config),
+                CircuitBreakerConfig.fromValue(config.get(CIRCUIT_BREAKER_KEY)),
+                RateLimitConfig.fromValue(config.get(MAX_RATE_KEY))
         );
     }
 
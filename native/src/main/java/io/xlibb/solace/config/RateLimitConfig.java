@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Delivery rate limit of a listener service. Maps to RateLimit in Ballerina types.bal.
+ *
+ * @param ratePerSecond the sustained number of messages per second dispatched to the service
+ * @param burst         the number of messages that may be dispatched back to back after an idle period
+ */
+public record RateLimitConfig(double ratePerSecond, int burst) {
+
+    private static final BString RATE_KEY = StringUtils.fromString("rate");
+    private static final BString BURST_KEY = StringUtils.fromString("burst");
+
+    public RateLimitConfig {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("maxRate rate must be positive");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("maxRate burst must be at least 1");
+        }
+    }
+
+    /**
+     * Creates a RateLimitConfig from a Ballerina map record.
+     *
+     * @param config the configuration map
+     */
+    public RateLimitConfig(BMap<BString, Object> config) {
+        this(((BDecimal) config.get(RATE_KEY)).decimalValue().doubleValue(),
+                config.getIntValue(BURST_KEY).intValue());
+    }
+
+    /**
+     * Parses the optional {@code maxRate} field of a service config.
+     *
+     * @param value the field value, or null if absent
+     * @return the rate limit, or null if delivery is not rate limited
+     */
+    @SuppressWarnings("unchecked")
+    static RateLimitConfig fromValue(Object value) {
+        return value instanceof BMap<?, ?> map ? new RateLimitConfig((BMap<BString, Object>) map) : null;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+
+/**
+ * Redelivery backoff policy of a listener service. Maps to RedeliveryBackoff in Ballerina types.bal.
+ *
+ * @param initialDelayMs  the delay before the first redelivery, in milliseconds
+ * @param maxDelayMs      the upper bound of the delay, in milliseconds
+ * @param multiplier      the factor the delay grows by with each further delivery attempt
+ * @param action          what happens to a held message once its delay expires
+ * @param maxHeldMessages the maximum number of unsettled messages held for delayed redelivery at once
+ */
+public record RedeliveryBackoffConfig(long initialDelayMs, long maxDelayMs, double multiplier, Action action,
+                                      int maxHeldMessages) {
+
+    /**
+     * Policy used for an explicit {@code Caller.nack} delay when the service has no {@code redeliveryBackoff}.
+     */
+    public static final RedeliveryBackoffConfig DEFAULT = new RedeliveryBackoffConfig(1000, 60_000, 2.0,
+            Action.REQUEUE, 100);
+
+    private static final BString INITIAL_DELAY_KEY = StringUtils.fromString("initialDelay");
+    private static final BString MAX_DELAY_KEY = StringUtils.fromString("maxDelay");
+    private static final BString MULTIPLIER_KEY = StringUtils.fromString("multiplier");
+    private static final BString ACTION_KEY = StringUtils.fromString("action");
+    private static final BString MAX_HELD_MESSAGES_KEY = StringUtils.fromString("maxHeldMessages");
+
+    /**
+     * Creates a RedeliveryBackoffConfig from a Ballerina map record.
+     *
+     * @param config the configuration map
+     */
+    public RedeliveryBackoffConfig(BMap<BString, Object> config) {
+        this(
+                decimalToMillis(((BDecimal) config.get(INITIAL_DELAY_KEY)).decimalValue()),
+                decimalToMillis(((BDecimal) config.get(MAX_DELAY_KEY)).decimalValue()),
+                ((BDecimal) config.get(MULTIPLIER_KEY)).decimalValue().doubleValue(),
+                Action.valueOf(config.getStringValue(ACTION_KEY).getValue()),
+                config.getIntValue(MAX_HELD_MESSAGES_KEY).intValue()
+        );
+    }
+
+    /**
+     * Returns the delay before redelivering a message for the given delivery attempt:
+     * {@code initialDelay * multiplier^(attempt - 1)}, capped at {@code maxDelay}.
+     *
+     * @param attempt the delivery attempt that failed, starting at 1
+     * @return the delay in milliseconds
+     */
+    public long delayMs(int attempt) {
+        double delay = initialDelayMs * Math.pow(multiplier, Math.max(0, attempt - 1));
+        return (long) Math.min(delay, maxDelayMs);
+    }
+
+    /**
+     * Parses the optional {@code redeliveryBackoff} field of a service config.
+     *
+     * @param value the field value, or null if absent
+     * @return the backoff policy, or null if failed messages are not redelivered with a delay
+     */
+    @SuppressWarnings("unchecked")
+    static RedeliveryBackoffConfig fromValue(Object value) {
+        return value instanceof BMap<?, ?> map ? new RedeliveryBackoffConfig((BMap<BString, Object>) map) : null;
+    }
+
+    private static long decimalToMillis(BigDecimal seconds) {
+        return seconds.multiply(BigDecimal.valueOf(1000)).longValue();
+    }
+
+    /**
+     * What happens to a held message once its delay expires.
+     */
+    public enum Action {
+        /** Settle the message with the FAILED outcome, so the broker redelivers it and counts the attempt. */
+        REQUEUE,
+        /** Dispatch the still-unsettled message to the service again, without a broker round trip. */
+        REDISPATCH
+    }
+}
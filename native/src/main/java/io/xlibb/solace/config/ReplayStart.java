@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.config;
+
+import com.solacesystems.jcsmp.InvalidPropertiesException;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.ReplayStartLocation;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Date;
+
+/**
+ * Replay start location for a guaranteed consumer flow. Maps to ReplayStartLocation in Ballerina types.bal: the
+ * {@code "beginning"} literal, a {@code ReplayFromTime} record or a {@code ReplayFromMessageId} record.
+ *
+ * @param kind                       where the replay starts
+ * @param timestamp                  replay start time in milliseconds since the epoch - TIME only
+ * @param replicationGroupMessageId  the replication group message ID to replay after - MESSAGE_ID only
+ */
+public record ReplayStart(Kind kind, long timestamp, String replicationGroupMessageId) {
+
+    private static final String BEGINNING = "beginning";
+    private static final BString TIMESTAMP_KEY = StringUtils.fromString("timestamp");
+    private static final BString REPLICATION_GROUP_MESSAGE_ID_KEY =
+            StringUtils.fromString("replicationGroupMessageId");
+
+    /**
+     * Replay start kinds.
+     */
+    public enum Kind {
+        BEGINNING,
+        TIME,
+        MESSAGE_ID
+    }
+
+    /**
+     * Creates a replay start that resumes after the given replication group message ID.
+     *
+     * @param replicationGroupMessageId the replication group message ID of the last processed message
+     * @return the replay start
+     */
+    public static ReplayStart fromMessageId(String replicationGroupMessageId) {
+        return new ReplayStart(Kind.MESSAGE_ID, 0, replicationGroupMessageId);
+    }
+
+    /**
+     * Parses a Ballerina {@code ReplayStartLocation} value.
+     *
+     * @param value the {@code replayFrom} field value, or null if absent
+     * @return the replay start, or null if no replay was requested
+     * @throws IllegalArgumentException if the value is not a recognised replay start location
+     */
+    @SuppressWarnings("unchecked")
+    public static ReplayStart fromValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof BString str && BEGINNING.equals(str.getValue())) {
+            return new ReplayStart(Kind.BEGINNING, 0, null);
+        }
+        if (value instanceof BMap<?, ?> map) {
+            BMap<BString, Object> location = (BMap<BString, Object>) map;
+            if (location.containsKey(TIMESTAMP_KEY)) {
+                return new ReplayStart(Kind.TIME, location.getIntValue(TIMESTAMP_KEY), null);
+            }
+            if (location.containsKey(REPLICATION_GROUP_MESSAGE_ID_KEY)) {
+                return fromMessageId(location.getStringValue(REPLICATION_GROUP_MESSAGE_ID_KEY).getValue());
+            }
+        }
+        throw new IllegalArgumentException("Unsupported replayFrom value: " + value);
+    }
+
+    /**
+     * Converts this replay start to the JCSMP replay start location.
+     *
+     * @return the JCSMP replay start location
+     * @throws InvalidPropertiesException if the replication group message ID is malformed
+     */
+    public ReplayStartLocation toReplayStartLocation() throws InvalidPropertiesException {
+        return switch (kind) {
+            case BEGINNING -> JCSMPFactory.onlyInstance().createReplayStartLocationBeginning();
+            case TIME -> JCSMPFactory.onlyInstance().createReplayStartLocationDate(new Date(timestamp));
+            case MESSAGE_ID -> JCSMPFactory.onlyInstance().createReplicationGroupMessageId(replicationGroupMessageId);
+        };
+    }
+}
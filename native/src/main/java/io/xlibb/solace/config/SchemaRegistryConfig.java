@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Schema registry configuration. Maps to SchemaRegistryConfig in Ballerina types.bal.
+ *
+ * @param url                the registry URL: {@code http(s)://...} for a registry server, or {@code file:<directory>}
+ *                           for a local registry of schema files
+ * @param username           the username for an HTTP registry, or null
+ * @param password           the password for an HTTP registry, or null
+ * @param group              the group the registry's subjects belong to
+ * @param cacheSize          the maximum number of schemas held in memory
+ * @param warmCacheDirectory the directory fetched schemas are kept in across restarts, or null
+ * @param schemaIdProperty   the user property carrying the ID of the schema a payload was serialized with
+ */
+public record SchemaRegistryConfig(String url, String username, String password, String group, int cacheSize,
+                                   String warmCacheDirectory, String schemaIdProperty) {
+
+    private static final BString SCHEMA_REGISTRY_KEY = StringUtils.fromString("schemaRegistry");
+    private static final BString URL_KEY = StringUtils.fromString("url");
+    private static final BString AUTH_KEY = StringUtils.fromString("auth");
+    private static final BString USERNAME_KEY = StringUtils.fromString("username");
+    private static final BString PASSWORD_KEY = StringUtils.fromString("password");
+    private static final BString GROUP_KEY = StringUtils.fromString("group");
+    private static final BString CACHE_SIZE_KEY = StringUtils.fromString("cacheSize");
+    private static final BString WARM_CACHE_DIRECTORY_KEY = StringUtils.fromString("warmCacheDirectory");
+    private static final BString SCHEMA_ID_PROPERTY_KEY = StringUtils.fromString("schemaIdProperty");
+
+    public SchemaRegistryConfig {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("schemaRegistry cacheSize must be at least 1");
+        }
+    }
+
+    /**
+     * Creates a SchemaRegistryConfig from a Ballerina map record.
+     *
+     * @param config the configuration map
+     */
+    @SuppressWarnings("unchecked")
+    public SchemaRegistryConfig(BMap<BString, Object> config) {
+        this(config.getStringValue(URL_KEY).getValue(),
+                config.get(AUTH_KEY) instanceof BMap<?, ?> auth
+                        ? ((BMap<BString, Object>) auth).getStringValue(USERNAME_KEY).getValue() : null,
+                config.get(AUTH_KEY) instanceof BMap<?, ?> auth && auth.get(PASSWORD_KEY) instanceof BString password
+                        ? password.getValue() : null,
+                config.getStringValue(GROUP_KEY).getValue(),
+                config.getIntValue(CACHE_SIZE_KEY).intValue(),
+                config.containsKey(WARM_CACHE_DIRECTORY_KEY)
+                        ? config.getStringValue(WARM_CACHE_DIRECTORY_KEY).getValue() : null,
+                config.getStringValue(SCHEMA_ID_PROPERTY_KEY).getValue());
+    }
+
+    /**
+     * Parses the optional {@code schemaRegistry} field of a listener or consumer configuration.
+     *
+     * @param config the listener or consumer configuration map
+     * @return the registry configuration, or null if payloads are not deserialized against registered schemas
+     */
+    @SuppressWarnings("unchecked")
+    public static SchemaRegistryConfig fromConfig(BMap<BString, Object> config) {
+        Object value = config.get(SCHEMA_REGISTRY_KEY);
+        return value instanceof BMap<?, ?> map ? new SchemaRegistryConfig((BMap<BString, Object>) map) : null;
+    }
+}
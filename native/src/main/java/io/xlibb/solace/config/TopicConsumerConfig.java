@@ -19,18 +19,24 @@
 package io.xlibb.solace.config;
 
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.xlibb.solace.consumer.AcknowledgementMode;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Topic consumer configuration for synchronous (pull-based) consumption. Represents the subscription to a topic for
  * receiving messages. Maps to TopicSubscription in Ballerina types.bal.
  *
- * @param topicName                     the name of the topic to subscribe to
+ * @param topicName                     the name of the topic to subscribe to (null if only topicNames is given)
+ * @param topicNames                    additional topic subscriptions, which may contain wildcards - DEFAULT only
  * @param ackMode                       the JCSMP acknowledgement mode (SUPPORTED_MESSAGE_ACK_AUTO or
  *                                      SUPPORTED_MESSAGE_ACK_CLIENT)
  * @param selector                      optional SQL-92 message selector expression for filtering
@@ -47,9 +53,23 @@ import java.math.BigDecimal;
  *                                      only
  * @param reconnectRetryIntervalInMsecs wait time between reconnection attempts in ms (min 50, default 3000) - DURABLE
  *                                      only
+ * @param replayStart                   optional replay start location (null if no replay was requested) - DURABLE
+ *                                      only
+ * @param checkpoint                    optional checkpoint store configuration (null if checkpointing is disabled) -
+ *                                      DURABLE only
+ * @param deduplication                 optional deduplication configuration (null if deduplication is disabled)
+ * @param adaptiveFlow                  optional adaptive flow control configuration (listener services only; null for a
+ *                                      static flow window)
+ * @param redeliveryBackoff             optional redelivery backoff policy (listener services only; null if failed
+ *                                      messages are left unsettled)
+ * @param poisonMessage                 optional poison message handling (null if messages are redelivered indefinitely)
+ * @param circuitBreaker                optional circuit breaker (listener services only; null if service failures
+ *                                      never pause delivery)
+ * @param maxRate                       optional delivery rate limit (listener services only; null if unlimited)
  */
 public record TopicConsumerConfig(
         String topicName,
+        List<String> topicNames,
         AcknowledgementMode ackMode,
         String selector,
         String endpointType,
@@ -61,10 +81,19 @@ public record TopicConsumerConfig(
         Boolean noLocal,
         Boolean activeFlowIndication,
         Integer reconnectTries,
-        int reconnectRetryIntervalInMsecs
+        int reconnectRetryIntervalInMsecs,
+        ReplayStart replayStart,
+        CheckpointConfig checkpoint,
+        DeduplicationConfig deduplication,
+        AdaptiveFlowConfig adaptiveFlow,
+        RedeliveryBackoffConfig redeliveryBackoff,
+        PoisonMessageConfig poisonMessage,
+        CircuitBreakerConfig circuitBreaker,
+        RateLimitConfig maxRate
 ) implements ConsumerSubscriptionConfig {
 
     private static final BString TOPIC_NAME_KEY = StringUtils.fromString("topicName");
+    private static final BString TOPIC_NAMES_KEY = StringUtils.fromString("topicNames");
     private static final BString ACK_MODE_KEY = StringUtils.fromString("ackMode");
     private static final BString SELECTOR_KEY = StringUtils.fromString("selector");
     private static final BString ENDPOINT_TYPE_KEY = StringUtils.fromString("endpointType");
@@ -77,6 +106,13 @@ public record TopicConsumerConfig(
     private static final BString ACTIVE_FLOW_INDICATION_KEY = StringUtils.fromString("activeFlowIndication");
     private static final BString RECONNECT_TRIES_KEY = StringUtils.fromString("reconnectTries");
     private static final BString RECONNECT_RETRY_INTERVAL_KEY = StringUtils.fromString("reconnectRetryInterval");
+    private static final BString REPLAY_FROM_KEY = StringUtils.fromString("replayFrom");
+    private static final BString CHECKPOINT_KEY = StringUtils.fromString("checkpoint");
+    private static final BString DEDUPLICATION_KEY = StringUtils.fromString("deduplication");
+    private static final BString ADAPTIVE_FLOW_KEY = StringUtils.fromString("adaptiveFlow");
+    private static final BString REDELIVERY_BACKOFF_KEY = StringUtils.fromString("redeliveryBackoff");
+    private static final BString CIRCUIT_BREAKER_KEY = StringUtils.fromString("circuitBreaker");
+    private static final BString MAX_RATE_KEY = StringUtils.fromString("maxRate");
 
     private static final String DEFAULT_ENDPOINT_TYPE = "DEFAULT";
 
@@ -88,6 +124,7 @@ public record TopicConsumerConfig(
     public TopicConsumerConfig(BMap<BString, Object> config) {
         this(
                 extractTopicName(config),
+                extractTopicNames(config),
                 AcknowledgementMode.valueOf(config.getStringValue(ACK_MODE_KEY).getValue()),
                 extractSelector(config),
                 extractEndpointType(config),
@@ -100,16 +137,36 @@ public record TopicConsumerConfig(
                 config.containsKey(ACTIVE_FLOW_INDICATION_KEY) ? config.getBooleanValue(ACTIVE_FLOW_INDICATION_KEY) :
                         null,
                 extractOptionalInteger(config, RECONNECT_TRIES_KEY),
-                decimalToMillis(((BDecimal) config.get(RECONNECT_RETRY_INTERVAL_KEY)).decimalValue())
+                decimalToMillis(((BDecimal) config.get(RECONNECT_RETRY_INTERVAL_KEY)).decimalValue()),
+                ReplayStart.fromValue(config.get(REPLAY_FROM_KEY)),
+                CheckpointConfig.fromValue(config.get(CHECKPOINT_KEY)),
+                DeduplicationConfig.fromValue(config.get(DEDUPLICATION_KEY)),
+                AdaptiveFlowConfig.fromValue(config.get(ADAPTIVE_FLOW_KEY)),
+                RedeliveryBackoffConfig.fromValue(config.get(REDELIVERY_BACKOFF_KEY)),
+                PoisonMessageConfig.fromConfig(config),
+                CircuitBreakerConfig.fromValue(config.get(CIRCUIT_BREAKER_KEY)),
+                RateLimitConfig.fromValue(config.get(MAX_RATE_KEY))
         );
     }
 
     private static String extractTopicName(BMap<BString, Object> config) {
         Object value = config.get(TOPIC_NAME_KEY);
-        if (value == null) {
-            throw new IllegalArgumentException("topicName is required for TopicConsumerConfig");
+        if (value == null && !config.containsKey(TOPIC_NAMES_KEY)) {
+            throw new IllegalArgumentException("topicName or topicNames is required for TopicConsumerConfig");
         }
-        return value.toString();
+        return value != null ? value.toString() : null;
+    }
+
+    private static List<String> extractTopicNames(BMap<BString, Object> config) {
+        Object value = config.get(TOPIC_NAMES_KEY);
+        if (!(value instanceof BArray array)) {
+            return List.of();
+        }
+        List<String> topicNames = new ArrayList<>(array.size());
+        for (String topicName : array.getStringArray()) {
+            topicNames.add(topicName);
+        }
+        return List.copyOf(topicNames);
     }
 
     private static String extractSelector(BMap<BString, Object> config) {
@@ -148,16 +205,40 @@ public record TopicConsumerConfig(
     }
 
     /**
-     * Validates that endpointName is provided for DURABLE endpoints.
+     * Returns every topic subscription of this config: {@code topicName} (if set) followed by {@code topicNames},
+     * without duplicates.
      *
-     * @throws IllegalArgumentException if endpointName is missing for DURABLE endpoints
+     * @return the topic subscriptions, in declaration order
+     */
+    public List<String> subscriptions() {
+        Set<String> subscriptions = new LinkedHashSet<>();
+        if (topicName != null) {
+            subscriptions.add(topicName);
+        }
+        subscriptions.addAll(topicNames);
+        return List.copyOf(subscriptions);
+    }
+
+    /**
+     * Validates that at least one topic is given, that endpointName is provided for DURABLE endpoints, and that a
+     * DURABLE endpoint has exactly one topic subscription.
+     *
+     * @throws IllegalArgumentException if the configuration is invalid
      */
     public void validate() {
+        if (subscriptions().isEmpty()) {
+            throw new IllegalArgumentException("At least one topic subscription is required");
+        }
         if (isDurable() && (endpointName == null || endpointName.isEmpty())) {
             throw new IllegalArgumentException(
                     "endpointName is required for DURABLE topic endpoints"
             );
         }
+        if (isDurable() && (topicName == null || !topicNames.isEmpty())) {
+            throw new IllegalArgumentException(
+                    "DURABLE topic endpoints support a single subscription; use topicName instead of topicNames"
+            );
+        }
     }
 
     private static int decimalToMillis(BigDecimal seconds) {
@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.consumer;
+
+import com.solacesystems.jcsmp.ReplicationGroupMessageId;
+import com.solacesystems.jcsmp.XMLMessage;
+import io.xlibb.solace.config.CheckpointConfig;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import static io.xlibb.solace.config.CheckpointConfig.FsyncPolicy.FSYNC_ALWAYS;
+import static io.xlibb.solace.config.CheckpointConfig.FsyncPolicy.FSYNC_NONE;
+
+/**
+ * Persists the replication group message ID of the last processed message of a queue or durable topic endpoint, so
+ * that a restarted consumer can resume replay from it instead of from the beginning of the replay log.
+ * <p>
+ * Messages may be settled out of order, so the checkpoint is a low-water mark: the ID of the latest message such that
+ * it and every message delivered before it have been settled. A message settled with the FAILED outcome stays
+ * outstanding, since the broker redelivers it under the same ID.
+ * <p>
+ * The store holds an exclusive lock on a {@code .lock} file next to the checkpoint file for as long as it is open, so
+ * a second consumer of the same endpoint fails to open it instead of overwriting its checkpoints. The lock is not
+ * taken on the checkpoint file itself because compaction replaces that file.
+ * <p>
+ * Checkpoints are appended to a fixed-size memory-mapped file as {@code [length][UTF-8 id][CRC32]} records; the last
+ * record with a valid checksum is the current checkpoint, so a record torn by a crash is simply ignored on the next
+ * open. When the file is full it is compacted to the latest record through a temporary file and an atomic rename.
+ * Processed IDs are buffered in memory and appended by a shared background flusher every flush interval (or
+ * synchronously for {@code FSYNC_ALWAYS}); the fsync policy decides whether appended records are forced to disk.
+ */
+public final class CheckpointStore {
+
+    private static final Logger LOGGER = Logger.getLogger(CheckpointStore.class.getName());
+    private static final int FILE_SIZE = 64 * 1024;
+    private static final int RECORD_OVERHEAD = Integer.BYTES * 2;
+    private static final String FILE_SUFFIX = ".checkpoint";
+    private static final String LOCK_SUFFIX = ".lock";
+
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "solace-checkpoint-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path file;
+    private final CheckpointConfig.FsyncPolicy fsyncPolicy;
+    private final boolean resume;
+    private final AtomicReference<String> received = new AtomicReference<>();
+    // Delivered message IDs in delivery order, mapped to whether the message has been settled
+    private final Map<String, Boolean> outstanding = new LinkedHashMap<>();
+    private volatile String latest;
+    private FileChannel lockChannel;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private String persisted;
+    private ScheduledFuture<?> flushTask;
+    private boolean closed;
+
+    private CheckpointStore(Path file, CheckpointConfig config) {
+        this.file = file;
+        this.fsyncPolicy = config.fsyncPolicy();
+        this.resume = config.resume();
+    }
+
+    /**
+     * Opens (creating if needed) the checkpoint file for an endpoint and starts periodic flushing.
+     *
+     * @param config       the checkpoint configuration
+     * @param endpointName the queue or durable topic endpoint name, used to name the checkpoint file
+     * @return the opened checkpoint store
+     * @throws IOException if the checkpoint file cannot be opened or mapped, or is in use by another consumer
+     */
+    public static CheckpointStore open(CheckpointConfig config, String endpointName) throws IOException {
+        Path directory = Paths.get(config.directory());
+        Files.createDirectories(directory);
+        Path file = directory.resolve(endpointName.replaceAll("[^A-Za-z0-9._-]", "_") + FILE_SUFFIX);
+        CheckpointStore store = new CheckpointStore(file, config);
+        store.lock();
+        try {
+            store.map();
+        } catch (IOException e) {
+            store.unlock();
+            throw e;
+        }
+        store.persisted = store.scan();
+        if (config.fsyncPolicy() != FSYNC_ALWAYS) {
+            long interval = Math.max(config.flushIntervalMs(), 1);
+            store.flushTask = FLUSHER.scheduleWithFixedDelay(store::flushQuietly, interval, interval,
+                    TimeUnit.MILLISECONDS);
+        }
+        return store;
+    }
+
+    /**
+     * Returns the replication group message ID to resume replay after, or null if there is no checkpoint or resuming
+     * is disabled.
+     */
+    public synchronized String resumePoint() {
+        return resume ? persisted : null;
+    }
+
+    /**
+     * Tracks a message delivered to the application outside a transaction, so that the checkpoint does not move past
+     * it until it is recorded.
+     *
+     * @param message the delivered message
+     */
+    public void markDelivered(XMLMessage message) {
+        String id = replicationGroupMessageId(message);
+        if (id != null) {
+            synchronized (outstanding) {
+                // A redelivered message keeps its ID, and with it its place in the delivery order.
+                outstanding.putIfAbsent(id, Boolean.FALSE);
+            }
+        }
+    }
+
+    /**
+     * Records a message as processed: acknowledged, or settled so that the broker does not redeliver it. The
+     * checkpoint advances only as far as every message delivered before it has been recorded too.
+     *
+     * @param message the processed message
+     */
+    public void record(XMLMessage message) {
+        String id = replicationGroupMessageId(message);
+        if (id == null) {
+            return;
+        }
+        String mark = advance(id);
+        if (mark == null) {
+            return;
+        }
+        latest = mark;
+        if (fsyncPolicy == FSYNC_ALWAYS) {
+            flushQuietly();
+        }
+    }
+
+    /**
+     * Remembers a message received in a transaction; it is recorded only when the transaction commits.
+     *
+     * @param message the received message
+     */
+    public void markReceived(XMLMessage message) {
+        String id = replicationGroupMessageId(message);
+        if (id != null) {
+            received.set(id);
+        }
+    }
+
+    /**
+     * Records the last message received in the committed transaction.
+     */
+    public void commitReceived() {
+        String id = received.getAndSet(null);
+        if (id != null) {
+            latest = id;
+            if (fsyncPolicy == FSYNC_ALWAYS) {
+                flushQuietly();
+            }
+        }
+    }
+
+    /**
+     * Forgets the messages received in a rolled-back transaction.
+     */
+    public void discardReceived() {
+        received.set(null);
+    }
+
+    /**
+     * Flushes the latest checkpoint and releases the checkpoint file.
+     */
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        if (flushTask != null) {
+            flushTask.cancel(false);
+        }
+        flushQuietly();
+        if (fsyncPolicy == FSYNC_NONE) {
+            buffer.force();
+        }
+        closed = true;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to close checkpoint file " + file, e);
+        }
+        unlock();
+    }
+
+    private void lock() throws IOException {
+        Path lockFile = file.resolveSibling(file.getFileName() + LOCK_SUFFIX);
+        lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Already locked by another consumer in this JVM.
+            lock = null;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            throw new IOException("Checkpoint file " + file + " is in use by another consumer of the same endpoint");
+        }
+    }
+
+    private void unlock() {
+        try {
+            // Closing the channel releases the lock.
+            lockChannel.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to release checkpoint lock for " + file, e);
+        }
+    }
+
+    /**
+     * Marks a message as settled and returns the new low-water mark, or null if it has not moved.
+     */
+    private String advance(String id) {
+        synchronized (outstanding) {
+            if (!outstanding.containsKey(id)) {
+                // Recorded on receipt (AUTO_ACK or a direct message) rather than tracked from delivery.
+                return outstanding.isEmpty() ? id : null;
+            }
+            outstanding.put(id, Boolean.TRUE);
+            String mark = null;
+            Iterator<Map.Entry<String, Boolean>> entries = outstanding.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<String, Boolean> entry = entries.next();
+                if (!entry.getValue()) {
+                    break;
+                }
+                mark = entry.getKey();
+                entries.remove();
+            }
+            return mark;
+        }
+    }
+
+    private static String replicationGroupMessageId(XMLMessage message) {
+        ReplicationGroupMessageId id = message.getReplicationGroupMessageId();
+        return id != null ? id.toString() : null;
+    }
+
+    private synchronized void flushQuietly() {
+        if (closed) {
+            return;
+        }
+        String id = latest;
+        if (id == null || id.equals(persisted)) {
+            return;
+        }
+        try {
+            append(id);
+            persisted = id;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to write checkpoint file " + file, e);
+        }
+    }
+
+    private void append(String id) throws IOException {
+        byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length + RECORD_OVERHEAD > buffer.remaining()) {
+            compact(bytes);
+            return;
+        }
+        writeRecord(buffer, bytes);
+        if (fsyncPolicy != FSYNC_NONE) {
+            buffer.force();
+        }
+    }
+
+    /**
+     * Rewrites the file with only the given record: written and forced to a temporary file, then atomically renamed
+     * over the checkpoint file, so a crash leaves either the old or the new file intact.
+     */
+    private void compact(byte[] bytes) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        ByteBuffer record = ByteBuffer.allocate(bytes.length + RECORD_OVERHEAD);
+        writeRecord(record, bytes);
+        record.flip();
+        try (FileChannel tmpChannel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (record.hasRemaining()) {
+                tmpChannel.write(record);
+            }
+            tmpChannel.force(true);
+        }
+        channel.close();
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        map();
+        buffer.position(bytes.length + RECORD_OVERHEAD);
+    }
+
+    private void map() throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE);
+    }
+
+    /**
+     * Scans the mapped file for the last valid record, leaving the buffer positioned after it.
+     */
+    private String scan() {
+        String last = null;
+        buffer.position(0);
+        while (buffer.remaining() > RECORD_OVERHEAD) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            if (length <= 0 || length + Integer.BYTES > buffer.remaining()) {
+                buffer.position(start);
+                break;
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            if (buffer.getInt() != checksum(bytes)) {
+                buffer.position(start);
+                break;
+            }
+            last = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return last;
+    }
+
+    private static void writeRecord(ByteBuffer target, byte[] bytes) {
+        target.putInt(bytes.length);
+        target.put(bytes);
+        target.putInt(checksum(bytes));
+    }
+
+    private static int checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.xlibb.solace.consumer;
+
+import com.solacesystems.jcsmp.BytesMessage;
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.SDTException;
+import com.solacesystems.jcsmp.SDTMap;
+import com.solacesystems.jcsmp.XMLMessage;
+import io.xlibb.solace.config.ChunkReassemblyConfig;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static io.xlibb.solace.producer.MessageChunker.CHUNK_COUNT_PROPERTY;
+import static io.xlibb.solace.producer.MessageChunker.CHUNK_ID_PROPERTY;
+import static io.xlibb.solace.producer.MessageChunker.CHUNK_INDEX_PROPERTY;
+import static io.xlibb.solace.producer.MessageChunker.CHUNK_OFFSET_PROPERTY;
+import static io.xlibb.solace.producer.MessageChunker.TOTAL_SIZE_PROPERTY;
+
+/**
+ * Reassembles chunked messages received by a consumer or a listener service before they are dispatched.
+ * <p>
+ * The chunks of a set are copied into one direct (off-heap) buffer of the payload's total size, so a large payload
+ * does not occupy the heap while its chunks arrive. The buffers of all incomplete sets are bounded by
+ * {@code maxBufferedBytes}: the first chunk of a set that does not fit while other sets are buffered is redelivered
+ * later, and the chunks of a set larger than the whole buffer are rejected, moving them to the dead message queue. A
+ * set that receives no chunk for the timeout is evicted by a periodic sweep, and its chunks redelivered.
+ * <p>
+ * The completed message is delivered as the chunk that completed it, carrying the whole payload. The earlier chunks
+ * stay unsettled until that message is settled through the client's {@link MessageSettler}, unless the chunks are
+ * never settled (direct messages). Reassembly is not used in a transacted session, whose commit would also consume the
+ * chunks of incomplete sets.
+ */
+public final class ChunkReassembler {
+
+    private static final Logger LOGGER = Logger.getLogger(ChunkReassembler.class.getName());
+
+    private static final ScheduledExecutorService EVICTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "solace-chunk-eviction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final long maxBufferedBytes;
+    private final long timeoutMs;
+    private final MessageSettler settler;
+    private final Map<String, ChunkSet> sets = new LinkedHashMap<>();
+    private final ScheduledFuture<?> evictionTask;
+    private long bufferedBytes;
+
+    /**
+     * Creates a reassembler and starts the periodic eviction of incomplete sets.
+     *
+     * @param config  the reassembly settings
+     * @param settler the settler that holds the chunks of reassembled messages until they are settled, or null if
+     *                chunks are not settled individually, i.e. direct messages
+     */
+    public ChunkReassembler(ChunkReassemblyConfig config, MessageSettler settler) {
+        this.maxBufferedBytes = config.maxBufferedBytes();
+        this.timeoutMs = config.timeoutMs();
+        this.settler = settler;
+        long interval = Math.max(timeoutMs / 2, 1);
+        this.evictionTask = EVICTOR.scheduleWithFixedDelay(this::evictExpired, interval, interval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Accepts a received message.
+     *
+     * @param message the received message
+     * @return the message itself if it is not a chunk, null if it is a chunk of a set that is not yet complete, or the
+     * chunk completing its set, now carrying the reassembled payload
+     * @throws SDTException             if the chunk properties cannot be read
+     * @throws IllegalArgumentException if the chunk does not fit its set
+     */
+    public synchronized BytesXMLMessage accept(BytesXMLMessage message) throws SDTException {
+        SDTMap properties = message.getProperties();
+        if (!(message instanceof BytesMessage bytesMessage) || properties == null
+                || !properties.containsKey(CHUNK_ID_PROPERTY)) {
+            return message;
+        }
+        String chunkId = null;
+        try {
+            chunkId = properties.getString(CHUNK_ID_PROPERTY);
+            return add(chunkId, bytesMessage, properties);
+        } catch (SDTException | RuntimeException e) {
+            // A malformed chunk fails on every redelivery and its set can never complete, so both are rejected.
+            ChunkSet set = chunkId != null ? sets.remove(chunkId) : null;
+            List<XMLMessage> rejected = new ArrayList<>();
+            if (set != null) {
+                bufferedBytes -= set.buffer.capacity();
+                rejected.addAll(set.chunks);
+            }
+            rejected.add(message);
+            settle(rejected, XMLMessage.Outcome.REJECTED);
+            throw e;
+        }
+    }
+
+    private BytesXMLMessage add(String chunkId, BytesMessage message, SDTMap properties) throws SDTException {
+        ChunkSet set = sets.get(chunkId);
+        if (set == null) {
+            long totalSize = properties.getLong(TOTAL_SIZE_PROPERTY);
+            if (totalSize > Integer.MAX_VALUE || totalSize > maxBufferedBytes) {
+                // Such a set never fits, so redelivering its chunks would only loop.
+                LOGGER.warning(String.format("Chunked message %s of %d bytes exceeds the reassembly buffer of %d "
+                        + "bytes; its chunks are rejected", chunkId, totalSize, maxBufferedBytes));
+                settle(List.of(message), XMLMessage.Outcome.REJECTED);
+                return null;
+            }
+            if (totalSize > maxBufferedBytes - bufferedBytes) {
+                LOGGER.warning(String.format("Chunked message %s of %d bytes does not fit in the reassembly buffer; "
+                        + "it is redelivered later", chunkId, totalSize));
+                settle(List.of(message), XMLMessage.Outcome.FAILED);
+                return null;
+            }
+            int count = properties.getInteger(CHUNK_COUNT_PROPERTY);
+            if (count <= 0 || totalSize < 0) {
+                throw new IllegalArgumentException(String.format("Chunked message %s has %d chunks of %d bytes",
+                        chunkId, count, totalSize));
+            }
+            set = new ChunkSet(count, (int) totalSize);
+            sets.put(chunkId, set);
+            bufferedBytes += totalSize;
+        }
+        set.add(message, properties.getInteger(CHUNK_INDEX_PROPERTY),
+                properties.getLong(CHUNK_OFFSET_PROPERTY).intValue(), System.currentTimeMillis());
+        if (!set.complete()) {
+            return null;
+        }
+        sets.remove(chunkId);
+        bufferedBytes -= set.buffer.capacity();
+        message.setData(set.assemble());
+        if (settler != null) {
+            set.chunks.remove(message);
+            settler.attachChunks(message, set.chunks);
+        }
+        return message;
+    }
+
+    /**
+     * Stops eviction and discards all incomplete sets. Their chunks are redelivered by the broker once the flow is
+     * closed.
+     */
+    public synchronized void close() {
+        evictionTask.cancel(false);
+        sets.clear();
+        bufferedBytes = 0;
+    }
+
+    private synchronized void evictExpired() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<String, ChunkSet>> iterator = sets.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, ChunkSet> entry = iterator.next();
+            ChunkSet set = entry.getValue();
+            if (now - set.lastArrival < timeoutMs) {
+                continue;
+            }
+            iterator.remove();
+            bufferedBytes -= set.buffer.capacity();
+            LOGGER.warning(String.format("Evicted incomplete chunked message %s after receiving %d of %d chunks",
+                    entry.getKey(), set.received.cardinality(), set.count));
+            settle(set.chunks, XMLMessage.Outcome.FAILED);
+        }
+    }
+
+    private void settle(List<XMLMessage> chunks, XMLMessage.Outcome outcome) {
+        if (settler == null) {
+            return;
+        }
+        for (XMLMessage chunk : chunks) {
+            try {
+                chunk.settle(outcome);
+            } catch (Exception e) {
+                LOGGER.warning("Failed to settle a chunk with outcome " + outcome + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static final class ChunkSet {
+
+        private final int count;
+        private final ByteBuffer buffer;
+        private final BitSet received = new BitSet();
+        private final List<XMLMessage> chunks = new ArrayList<>();
+        private long lastArrival;
+
+        ChunkSet(int count, int totalSize) {
+            this.count = count;
+            this.buffer = ByteBuffer.allocateDirect(totalSize);
+        }
+
+        void add(BytesMessage chunk, int index, int offset, long now) {
+            byte[] data = chunk.getData();
+            if (index < 0 || index >= count || data == null || offset < 0 || offset > buffer.capacity() - data.length) {
+                throw new IllegalArgumentException(String.format("Chunk %d at offset %d does not fit a set of %d "
+                        + "chunks and %d bytes", index, offset, count, buffer.capacity()));
+            }
+            // A redelivered chunk is held for settlement with the rest, but its data is already buffered.
+            chunks.add(chunk);
+            lastArrival = now;
+            if (!received.get(index)) {
+                buffer.put(offset, data);
+                received.set(index);
+            }
+        }
+
+        boolean complete() {
+            return received.cardinality() == count;
+        }
+
+        byte[] assemble() {
+            byte[] payload = new byte[buffer.capacity()];
+            buffer.get(0, payload);
+            return payload;
+        }
+    }
+}
@@ -23,16 +23,20 @@ import com.solacesystems.jcsmp.FlowReceiver;
 import com.solacesystems.jcsmp.JCSMPFactory;
 import com.solacesystems.jcsmp.JCSMPProperties;
 import com.solacesystems.jcsmp.JCSMPSession;
+import com.solacesystems.jcsmp.Topic;
 import com.solacesystems.jcsmp.XMLMessage;
 import com.solacesystems.jcsmp.XMLMessageConsumer;
 import com.solacesystems.jcsmp.transaction.TransactedSession;
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
 import io.xlibb.solace.common.CommonUtils;
+import io.xlibb.solace.config.ChunkReassemblyConfig;
 import io.xlibb.solace.config.ConfigurationUtils;
 import io.xlibb.solace.config.ConsumerConfiguration;
 import io.xlibb.solace.config.ConsumerSubscriptionConfig;
@@ -40,15 +44,29 @@ import io.xlibb.solace.config.QueueConsumerConfig;
 import io.xlibb.solace.config.TopicConsumerConfig;
 import io.xlibb.solace.observability.SolaceMetricsUtil;
 import io.xlibb.solace.observability.SolaceTracingUtil;
+import io.xlibb.solace.serdes.SchemaDeserializer;
 
 import java.math.BigDecimal;
-
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static io.xlibb.solace.common.Constants.NATIVE_ACK_MODE;
+import static io.xlibb.solace.common.Constants.NATIVE_CHECKPOINT_STORE;
+import static io.xlibb.solace.common.Constants.NATIVE_CHUNK_REASSEMBLER;
 import static io.xlibb.solace.common.Constants.NATIVE_CLOSED;
 import static io.xlibb.solace.common.Constants.NATIVE_CONSUMER;
+import static io.xlibb.solace.common.Constants.NATIVE_DEDUPLICATION_WINDOW;
 import static io.xlibb.solace.common.Constants.NATIVE_DESTINATION;
 import static io.xlibb.solace.common.Constants.NATIVE_FLOW;
+import static io.xlibb.solace.common.Constants.NATIVE_MESSAGE_SETTLER;
+import static io.xlibb.solace.common.Constants.NATIVE_PARKING_PRODUCER;
+import static io.xlibb.solace.common.Constants.NATIVE_POISON_MESSAGE_POLICY;
+import static io.xlibb.solace.common.Constants.NATIVE_SCHEMA_DESERIALIZER;
 import static io.xlibb.solace.common.Constants.NATIVE_SESSION;
 import static io.xlibb.solace.common.Constants.NATIVE_SUBSCRIPTION_TYPE;
+import static io.xlibb.solace.common.Constants.NATIVE_TOPIC_SUBSCRIPTIONS;
 import static io.xlibb.solace.common.Constants.NATIVE_TRANSACTED;
 import static io.xlibb.solace.common.Constants.NATIVE_TX_SESSION;
 import static io.xlibb.solace.common.Constants.NATIVE_URL;
@@ -65,6 +83,8 @@ import static io.xlibb.solace.observability.SolaceObservabilityConstants.ERROR_T
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_NACK;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_RECEIVE;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_ROLLBACK;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_SUBSCRIBE;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_UNSUBSCRIBE;
 
 /**
  * Consumer actions - main entry point for Ballerina MessageConsumer interop.
@@ -102,6 +122,12 @@ public class ConsumerActions {
                         "Use DURABLE endpoint type for guaranteed delivery with transactions.");
             }
 
+            if (isTransacted && consumerConfig.chunkReassembly() != null) {
+                session.closeSession();
+                return CommonUtils.createError("chunkReassembly is not supported on a transacted consumer, since a "
+                        + "commit would also consume the chunks of incomplete messages");
+            }
+
             // Create TransactedSession if in transacted mode
             final TransactedSession txSession = isTransacted ? session.createTransactedSession() : null;
 
@@ -111,10 +137,33 @@ public class ConsumerActions {
             consumer.addNativeData(NATIVE_TRANSACTED, isTransacted);
             consumer.addNativeData(NATIVE_CLOSED, false);
             consumer.addNativeData(NATIVE_URL, url.getValue());
+            consumer.addNativeData(NATIVE_ACK_MODE, subscriptionConfig.ackMode());
+            consumer.addNativeData(NATIVE_SCHEMA_DESERIALIZER, consumerConfig.schemaRegistry() != null
+                    ? new SchemaDeserializer(consumerConfig.schemaRegistry()) : null);
+            boolean directTopic = subscriptionConfig instanceof TopicConsumerConfig topicConfig
+                    && !topicConfig.isDurable();
+            MessageSettler settler = new MessageSettler();
+            consumer.addNativeData(NATIVE_MESSAGE_SETTLER, settler);
+            // A transacted consumer returns chunks as they are; other consumers always reassemble them.
+            ChunkReassemblyConfig chunkReassembly = consumerConfig.chunkReassembly();
+            consumer.addNativeData(NATIVE_CHUNK_REASSEMBLER, isTransacted ? null : new ChunkReassembler(
+                    chunkReassembly != null ? chunkReassembly : ChunkReassemblyConfig.DEFAULT,
+                    directTopic ? null : settler));
+            if (subscriptionConfig.deduplication() != null) {
+                consumer.addNativeData(NATIVE_DEDUPLICATION_WINDOW,
+                        new DeduplicationWindow(subscriptionConfig.deduplication()));
+            }
 
             // Store destination name for observability
             String destinationName = ConsumerUtils.extractDestinationName(subscriptionConfig);
             consumer.addNativeData(NATIVE_DESTINATION, destinationName);
+            if (subscriptionConfig.poisonMessage() != null && !isTransacted) {
+                ParkingProducer parkingProducer = new ParkingProducer(session, settler);
+                consumer.addNativeData(NATIVE_PARKING_PRODUCER, parkingProducer);
+                consumer.addNativeData(NATIVE_POISON_MESSAGE_POLICY, new PoisonMessagePolicy(
+                        subscriptionConfig.poisonMessage(), parkingProducer, settler, url.getValue(),
+                        destinationName));
+            }
 
             // Create appropriate consumer based on subscription type
             if (subscriptionConfig instanceof QueueConsumerConfig queueConfig) {
@@ -163,24 +212,42 @@ public class ConsumerActions {
 
         try {
             Object result = CommonUtils.executeBlocking(() -> {
+                long deadline = System.currentTimeMillis() + timeoutMs;
+                long remainingMs = timeoutMs;
                 BytesXMLMessage message = null;
-                if (SUBSCRIPTION_TYPE_QUEUE.equals(subscriptionType) ||
-                        SUBSCRIPTION_TYPE_DURABLE_TOPIC.equals(subscriptionType)) {
-                    FlowReceiver flowReceiver = (FlowReceiver) consumer.getNativeData(NATIVE_FLOW);
-                    if (flowReceiver == null) {
-                        return CommonUtils.createError("Consumer flow not initialized");
+                // Chunks of an incomplete set are buffered, and duplicate and poison messages settled, and skipped, so
+                // keep receiving until a new message or the timeout.
+                do {
+                    if (SUBSCRIPTION_TYPE_QUEUE.equals(subscriptionType) ||
+                            SUBSCRIPTION_TYPE_DURABLE_TOPIC.equals(subscriptionType)) {
+                        FlowReceiver flowReceiver = (FlowReceiver) consumer.getNativeData(NATIVE_FLOW);
+                        if (flowReceiver == null) {
+                            return CommonUtils.createError("Consumer flow not initialized");
+                        }
+                        message = flowReceiver.receive((int) remainingMs);
+                    } else if (SUBSCRIPTION_TYPE_DIRECT_TOPIC.equals(subscriptionType)) {
+                        XMLMessageConsumer xmlConsumer =
+                                (XMLMessageConsumer) consumer.getNativeData(NATIVE_CONSUMER);
+                        if (xmlConsumer == null) {
+                            return CommonUtils.createError("Consumer not initialized");
+                        }
+                        message = xmlConsumer.receive((int) remainingMs);
                     }
-                    message = flowReceiver.receive((int) timeoutMs);
-                } else if (SUBSCRIPTION_TYPE_DIRECT_TOPIC.equals(subscriptionType)) {
-                    XMLMessageConsumer xmlConsumer = (XMLMessageConsumer) consumer.getNativeData(NATIVE_CONSUMER);
-                    if (xmlConsumer == null) {
-                        return CommonUtils.createError("Consumer not initialized");
+                    if (message == null) {
+                        return null; // Timeout - no message available
                     }
-                    message = xmlConsumer.receive((int) timeoutMs);
-                }
-                if (message == null) {
-                    return null; // Timeout - no message available
-                }
+                    if (!bufferIfChunk(consumer, message) && !dropIfDuplicate(consumer, message)
+                            && !divertIfPoison(consumer, message)) {
+                        break;
+                    }
+                    if (timeoutMs > 0) {
+                        remainingMs = deadline - System.currentTimeMillis();
+                        if (remainingMs <= 0) {
+                            return null;
+                        }
+                    }
+                } while (true);
+                trackReceived(consumer, message);
                 try {
                     return MessageConverter.toBallerinaMessage(message);
                 } catch (Exception e) {
@@ -204,6 +271,33 @@ public class ConsumerActions {
         }
     }
 
+    /**
+     * Receive a message with timeout and bind it to the given type: a message record with a typed payload, or the
+     * payload alone. The payload is decoded directly from the native message.
+     *
+     * @param env        the Ballerina environment (injected for tracing)
+     * @param consumer   the Ballerina consumer object
+     * @param timeout    the timeout in seconds
+     * @param targetType the type to bind the message to
+     * @return the bound value, null if timeout, or BError on failure
+     */
+    @SuppressWarnings("unchecked")
+    public static Object receivePayload(Environment env, BObject consumer, BDecimal timeout, BTypedesc targetType) {
+        Object result = receive(env, consumer, timeout);
+        if (!(result instanceof BMap<?, ?> message)) {
+            return result;
+        }
+        try {
+            SchemaDeserializer schemaDeserializer =
+                    (SchemaDeserializer) consumer.getNativeData(NATIVE_SCHEMA_DESERIALIZER);
+            return PayloadBinder.forType(targetType.getDescribingType())
+                    .bind((BMap<BString, Object>) message, schemaDeserializer);
+        } catch (BError bError) {
+            SolaceMetricsUtil.reportConsumerError(consumer, ERROR_TYPE_RECEIVE);
+            return bError;
+        }
+    }
+
     /**
      * Receive a message without waiting.
      *
@@ -221,23 +315,30 @@ public class ConsumerActions {
         try {
             Object result = CommonUtils.executeBlocking(() -> {
                 BytesXMLMessage message = null;
-                if (SUBSCRIPTION_TYPE_QUEUE.equals(subscriptionType) ||
-                        SUBSCRIPTION_TYPE_DURABLE_TOPIC.equals(subscriptionType)) {
-                    FlowReceiver flowReceiver = (FlowReceiver) consumer.getNativeData(NATIVE_FLOW);
-                    if (flowReceiver == null) {
-                        return CommonUtils.createError("Consumer flow not initialized");
+                // Chunks of an incomplete set are buffered, and duplicate and poison messages settled, and skipped, so
+                // keep receiving until a new message or none is available.
+                do {
+                    if (SUBSCRIPTION_TYPE_QUEUE.equals(subscriptionType) ||
+                            SUBSCRIPTION_TYPE_DURABLE_TOPIC.equals(subscriptionType)) {
+                        FlowReceiver flowReceiver = (FlowReceiver) consumer.getNativeData(NATIVE_FLOW);
+                        if (flowReceiver == null) {
+                            return CommonUtils.createError("Consumer flow not initialized");
+                        }
+                        message = flowReceiver.receiveNoWait();
+                    } else if (SUBSCRIPTION_TYPE_DIRECT_TOPIC.equals(subscriptionType)) {
+                        XMLMessageConsumer xmlConsumer =
+                                (XMLMessageConsumer) consumer.getNativeData(NATIVE_CONSUMER);
+                        if (xmlConsumer == null) {
+                            return CommonUtils.createError("Consumer not initialized");
+                        }
+                        message = xmlConsumer.receiveNoWait();
                     }
-                    message = flowReceiver.receiveNoWait();
-                } else if (SUBSCRIPTION_TYPE_DIRECT_TOPIC.equals(subscriptionType)) {
-                    XMLMessageConsumer xmlConsumer = (XMLMessageConsumer) consumer.getNativeData(NATIVE_CONSUMER);
-                    if (xmlConsumer == null) {
-                        return CommonUtils.createError("Consumer not initialized");
+                    if (message == null) {
+                        return null;
                     }
-                    message = xmlConsumer.receiveNoWait();
-                }
-                if (message == null) {
-                    return null;
-                }
+                } while (bufferIfChunk(consumer, message) || dropIfDuplicate(consumer, message)
+                        || divertIfPoison(consumer, message));
+                trackReceived(consumer, message);
                 try {
                     return MessageConverter.toBallerinaMessage(message);
                 } catch (Exception e) {
@@ -280,10 +381,19 @@ public class ConsumerActions {
                 return CommonUtils.createError("Cannot acknowledge: native message not found");
             }
 
-            Object result = CommonUtils.executeBlocking(nativeMessage::ackMessage);
+            Object result = CommonUtils.executeBlocking(() -> settler(consumer).ack(nativeMessage));
             if (result instanceof BError) {
                 return (BError) result;
             }
+            CheckpointStore checkpointStore = (CheckpointStore) consumer.getNativeData(NATIVE_CHECKPOINT_STORE);
+            if (checkpointStore != null) {
+                checkpointStore.record(nativeMessage);
+            }
+            DeduplicationWindow deduplicationWindow =
+                    (DeduplicationWindow) consumer.getNativeData(NATIVE_DEDUPLICATION_WINDOW);
+            if (deduplicationWindow != null) {
+                deduplicationWindow.markProcessed(deduplicationWindow.key(nativeMessage));
+            }
             return null;
         } catch (Exception e) {
             SolaceMetricsUtil.reportConsumerError(consumer, ERROR_TYPE_ACKNOWLEDGE);
@@ -314,12 +424,17 @@ public class ConsumerActions {
             // Use settle() with appropriate outcome
             Object result = CommonUtils.executeBlocking(() -> {
                 XMLMessage.Outcome outcome = requeue ? XMLMessage.Outcome.FAILED : XMLMessage.Outcome.REJECTED;
-                nativeMessage.settle(outcome);
+                settler(consumer).settle(nativeMessage, outcome);
                 return null;
             });
             if (result instanceof BError) {
                 return (BError) result;
             }
+            CheckpointStore checkpointStore = (CheckpointStore) consumer.getNativeData(NATIVE_CHECKPOINT_STORE);
+            if (checkpointStore != null && !requeue) {
+                // A rejected message is not redelivered, so it no longer holds the checkpoint back.
+                checkpointStore.record(nativeMessage);
+            }
             return null;
         } catch (Exception e) {
             SolaceMetricsUtil.reportConsumerError(consumer, ERROR_TYPE_NACK);
@@ -327,6 +442,137 @@ public class ConsumerActions {
         }
     }
 
+    /**
+     * Add topic subscriptions to a direct topic consumer at runtime. Topics the consumer is already subscribed to are
+     * skipped, duplicates are ignored, and the remaining ones are added in bulk, waiting for the broker's confirmation
+     * only on the last. If the broker rejects a topic, the ones added before it stay subscribed.
+     *
+     * @param consumer the Ballerina consumer object
+     * @param topics   the topic subscriptions to add (may contain wildcards)
+     * @return null on success, BError on failure
+     */
+    public static BError subscribe(BObject consumer, BArray topics) {
+        return updateSubscriptions(consumer, topics, true);
+    }
+
+    /**
+     * Remove topic subscriptions from a direct topic consumer at runtime. Topics the consumer is not subscribed to are
+     * ignored.
+     *
+     * @param consumer the Ballerina consumer object
+     * @param topics   the topic subscriptions to remove
+     * @return null on success, BError on failure
+     */
+    public static BError unsubscribe(BObject consumer, BArray topics) {
+        return updateSubscriptions(consumer, topics, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BError updateSubscriptions(BObject consumer, BArray topics, boolean subscribe) {
+        String errorType = subscribe ? ERROR_TYPE_SUBSCRIBE : ERROR_TYPE_UNSUBSCRIBE;
+        try {
+            Boolean closed = (Boolean) consumer.getNativeData(NATIVE_CLOSED);
+            if (closed != null && closed) {
+                return CommonUtils.createError("Consumer is closed");
+            }
+            if (!SUBSCRIPTION_TYPE_DIRECT_TOPIC.equals(consumer.getNativeData(NATIVE_SUBSCRIPTION_TYPE))) {
+                return CommonUtils.createError("Runtime subscription changes are only supported for direct topic "
+                        + "consumers (topic subscription with endpointType DEFAULT)");
+            }
+
+            JCSMPSession session = (JCSMPSession) consumer.getNativeData(NATIVE_SESSION);
+            Set<String> current = (Set<String>) consumer.getNativeData(NATIVE_TOPIC_SUBSCRIPTIONS);
+            Object result = CommonUtils.executeBlocking(() -> {
+                synchronized (current) {
+                    List<String> changed = new ArrayList<>();
+                    for (String topic : new LinkedHashSet<>(List.of(topics.getStringArray()))) {
+                        if (subscribe ? !current.contains(topic) : current.contains(topic)) {
+                            changed.add(topic);
+                        }
+                    }
+                    // Track each topic as the broker accepts it, so that a failure part way through leaves the
+                    // recorded subscriptions matching the session's actual ones
+                    for (int i = 0; i < changed.size(); i++) {
+                        String topic = changed.get(i);
+                        Topic jcsmpTopic = JCSMPFactory.onlyInstance().createTopic(topic);
+                        boolean waitForConfirm = i == changed.size() - 1;
+                        if (subscribe) {
+                            session.addSubscription(jcsmpTopic, waitForConfirm);
+                            current.add(topic);
+                        } else {
+                            session.removeSubscription(jcsmpTopic, waitForConfirm);
+                            current.remove(topic);
+                        }
+                    }
+                }
+            });
+            if (result instanceof BError bError) {
+                SolaceMetricsUtil.reportConsumerError(consumer, errorType);
+                return bError;
+            }
+            return null;
+        } catch (Exception e) {
+            SolaceMetricsUtil.reportConsumerError(consumer, errorType);
+            return CommonUtils.createError("Failed to " + errorType + " topics", e);
+        }
+    }
+
+    /**
+     * Pause the consumer: stop its flow (queue / durable topic endpoint) or session consumer (direct topic) without
+     * releasing it. The broker holds a flow's further messages until {@link #resume(BObject)} is called; direct
+     * messages are not held by the broker, so those published while the consumer is paused are buffered by the client
+     * only up to its receive buffer and the rest are lost. Messages the consumer has already received can still be
+     * read with {@code receive}.
+     *
+     * @param consumer the Ballerina consumer object
+     * @return null on success, BError on failure
+     */
+    public static BError pause(BObject consumer) {
+        return setPaused(consumer, true);
+    }
+
+    /**
+     * Resume a consumer paused by {@link #pause(BObject)}.
+     *
+     * @param consumer the Ballerina consumer object
+     * @return null on success, BError on failure
+     */
+    public static BError resume(BObject consumer) {
+        return setPaused(consumer, false);
+    }
+
+    private static BError setPaused(BObject consumer, boolean pause) {
+        try {
+            Boolean closed = (Boolean) consumer.getNativeData(NATIVE_CLOSED);
+            if (closed != null && closed) {
+                return CommonUtils.createError("Consumer is closed");
+            }
+            FlowReceiver flowReceiver = (FlowReceiver) consumer.getNativeData(NATIVE_FLOW);
+            XMLMessageConsumer xmlConsumer = (XMLMessageConsumer) consumer.getNativeData(NATIVE_CONSUMER);
+            Object result = CommonUtils.executeBlocking(() -> {
+                if (flowReceiver != null) {
+                    if (pause) {
+                        flowReceiver.stop();
+                    } else {
+                        flowReceiver.start();
+                    }
+                } else if (xmlConsumer != null) {
+                    if (pause) {
+                        xmlConsumer.stop();
+                    } else {
+                        xmlConsumer.start();
+                    }
+                }
+            });
+            if (result instanceof BError bError) {
+                return bError;
+            }
+            return null;
+        } catch (Exception e) {
+            return CommonUtils.createError("Failed to " + (pause ? "pause" : "resume") + " consumer", e);
+        }
+    }
+
     /**
      * Commit the current transaction. Only valid for transacted consumers (when connectionConfig.transacted = true).
      *
@@ -358,6 +604,15 @@ public class ConsumerActions {
                 SolaceMetricsUtil.reportConsumerError(consumer, ERROR_TYPE_COMMIT);
                 return (BError) result;
             }
+            CheckpointStore checkpointStore = (CheckpointStore) consumer.getNativeData(NATIVE_CHECKPOINT_STORE);
+            if (checkpointStore != null) {
+                checkpointStore.commitReceived();
+            }
+            DeduplicationWindow deduplicationWindow =
+                    (DeduplicationWindow) consumer.getNativeData(NATIVE_DEDUPLICATION_WINDOW);
+            if (deduplicationWindow != null) {
+                deduplicationWindow.commitReceived();
+            }
 
             return null;
         } catch (Exception e) {
@@ -390,6 +645,17 @@ public class ConsumerActions {
                 return CommonUtils.createError("TransactedSession not initialized");
             }
 
+            // Rolled-back messages are redelivered, so they must not become the checkpoint or count as processed.
+            CheckpointStore checkpointStore = (CheckpointStore) consumer.getNativeData(NATIVE_CHECKPOINT_STORE);
+            if (checkpointStore != null) {
+                checkpointStore.discardReceived();
+            }
+            DeduplicationWindow deduplicationWindow =
+                    (DeduplicationWindow) consumer.getNativeData(NATIVE_DEDUPLICATION_WINDOW);
+            if (deduplicationWindow != null) {
+                deduplicationWindow.discardReceived();
+            }
+
             // Rollback transaction on TransactedSession (blocking operation)
             Object result = CommonUtils.executeBlocking(txSession::rollback);
 
@@ -434,6 +700,25 @@ public class ConsumerActions {
                 }
             }
 
+            // Release the chunks held for reassembly and settlement
+            ChunkReassembler chunkReassembler = (ChunkReassembler) consumer.getNativeData(NATIVE_CHUNK_REASSEMBLER);
+            if (chunkReassembler != null) {
+                chunkReassembler.close();
+            }
+            settler(consumer).close();
+
+            // Close the poison message parking producer
+            ParkingProducer parkingProducer = (ParkingProducer) consumer.getNativeData(NATIVE_PARKING_PRODUCER);
+            if (parkingProducer != null) {
+                parkingProducer.close();
+            }
+
+            // Flush and release the checkpoint file
+            CheckpointStore checkpointStore = (CheckpointStore) consumer.getNativeData(NATIVE_CHECKPOINT_STORE);
+            if (checkpointStore != null) {
+                checkpointStore.close();
+            }
+
             // Close transacted session if present
             TransactedSession txSession = (TransactedSession) consumer.getNativeData(NATIVE_TX_SESSION);
             if (txSession != null) {
@@ -450,6 +735,10 @@ public class ConsumerActions {
             consumer.addNativeData(NATIVE_CLOSED, true);
             consumer.addNativeData(NATIVE_FLOW, null);
             consumer.addNativeData(NATIVE_CONSUMER, null);
+            consumer.addNativeData(NATIVE_TOPIC_SUBSCRIPTIONS, null);
+            consumer.addNativeData(NATIVE_CHECKPOINT_STORE, null);
+            consumer.addNativeData(NATIVE_PARKING_PRODUCER, null);
+            consumer.addNativeData(NATIVE_POISON_MESSAGE_POLICY, null);
             consumer.addNativeData(NATIVE_TX_SESSION, null);
             consumer.addNativeData(NATIVE_TRANSACTED, null);
             consumer.addNativeData(NATIVE_SESSION, null);
@@ -461,4 +750,97 @@ public class ConsumerActions {
             return CommonUtils.createError("Failed to close consumer", e);
         }
     }
+
+    /**
+     * Tracks a received message in the consumer's checkpoint store and deduplication window: in a transaction it is
+     * recorded on commit, in AUTO_ACK mode (and for direct messages, which are never acknowledged) it is recorded on
+     * receipt, and in CLIENT_ACK mode it is recorded when acknowledged or rejected.
+     */
+    private static void trackReceived(BObject consumer, XMLMessage message) {
+        CheckpointStore checkpointStore = (CheckpointStore) consumer.getNativeData(NATIVE_CHECKPOINT_STORE);
+        DeduplicationWindow deduplicationWindow =
+                (DeduplicationWindow) consumer.getNativeData(NATIVE_DEDUPLICATION_WINDOW);
+        if (checkpointStore == null && deduplicationWindow == null) {
+            return;
+        }
+        String key = deduplicationWindow != null ? deduplicationWindow.key(message) : null;
+        if (Boolean.TRUE.equals(consumer.getNativeData(NATIVE_TRANSACTED))) {
+            if (checkpointStore != null) {
+                checkpointStore.markReceived(message);
+            }
+            if (deduplicationWindow != null) {
+                deduplicationWindow.markReceived(key);
+            }
+        } else if (consumer.getNativeData(NATIVE_ACK_MODE) == AcknowledgementMode.AUTO_ACK
+                || SUBSCRIPTION_TYPE_DIRECT_TOPIC.equals(consumer.getNativeData(NATIVE_SUBSCRIPTION_TYPE))) {
+            if (checkpointStore != null) {
+                checkpointStore.record(message);
+            }
+            if (deduplicationWindow != null) {
+                deduplicationWindow.markProcessed(key);
+            }
+        } else if (checkpointStore != null) {
+            checkpointStore.markDelivered(message);
+        }
+    }
+
+    /**
+     * Buffers a received chunk of a chunked message until its set is complete. The chunk completing the set is
+     * returned to the application, carrying the whole payload.
+     *
+     * @return true if the message was buffered and must not be returned to the application yet
+     */
+    private static boolean bufferIfChunk(BObject consumer, BytesXMLMessage message) throws Exception {
+        ChunkReassembler chunkReassembler = (ChunkReassembler) consumer.getNativeData(NATIVE_CHUNK_REASSEMBLER);
+        return chunkReassembler != null && chunkReassembler.accept(message) == null;
+    }
+
+    private static MessageSettler settler(BObject consumer) {
+        return (MessageSettler) consumer.getNativeData(NATIVE_MESSAGE_SETTLER);
+    }
+
+    /**
+     * Drops a received message if it was already processed within the deduplication window. A duplicate guaranteed
+     * message is acknowledged so the broker stops redelivering it, except in a transaction, where the next commit
+     * consumes it.
+     *
+     * @return true if the message was a duplicate and has been dropped
+     */
+    private static boolean dropIfDuplicate(BObject consumer, BytesXMLMessage message) {
+        DeduplicationWindow deduplicationWindow =
+                (DeduplicationWindow) consumer.getNativeData(NATIVE_DEDUPLICATION_WINDOW);
+        if (deduplicationWindow == null) {
+            return false;
+        }
+        boolean duplicate = deduplicationWindow.isDuplicate(deduplicationWindow.key(message));
+        SolaceMetricsUtil.reportDeduplication(consumer, duplicate, deduplicationWindow.size(),
+                deduplicationWindow.memoryBytes());
+        if (duplicate && !Boolean.TRUE.equals(consumer.getNativeData(NATIVE_TRANSACTED))
+                && !SUBSCRIPTION_TYPE_DIRECT_TOPIC.equals(consumer.getNativeData(NATIVE_SUBSCRIPTION_TYPE))) {
+            settler(consumer).ack(message);
+        }
+        return duplicate;
+    }
+
+    /**
+     * Diverts a received guaranteed message that exceeded the maximum delivery attempts to the parking queue or the
+     * dead message queue.
+     *
+     * @return true if the message was diverted and must not be returned to the application
+     */
+    private static boolean divertIfPoison(BObject consumer, BytesXMLMessage message) throws Exception {
+        PoisonMessagePolicy poisonMessagePolicy =
+                (PoisonMessagePolicy) consumer.getNativeData(NATIVE_POISON_MESSAGE_POLICY);
+        if (poisonMessagePolicy == null
+                || SUBSCRIPTION_TYPE_DIRECT_TOPIC.equals(consumer.getNativeData(NATIVE_SUBSCRIPTION_TYPE))
+                || !poisonMessagePolicy.exceeded(message, 0)) {
+            return false;
+        }
+        poisonMessagePolicy.divert(message, MessageConverter.toBallerinaMessage(message));
+        CheckpointStore checkpointStore = (CheckpointStore) consumer.getNativeData(NATIVE_CHECKPOINT_STORE);
+        if (checkpointStore != null) {
+            checkpointStore.record(message);
+        }
+        return true;
+    }
 }
@@ -20,6 +20,7 @@ package io.xlibb.solace.consumer;
 
 import com.solacesystems.jcsmp.ConsumerFlowProperties;
 import com.solacesystems.jcsmp.DurableTopicEndpoint;
+import com.solacesystems.jcsmp.Endpoint;
 import com.solacesystems.jcsmp.EndpointProperties;
 import com.solacesystems.jcsmp.FlowReceiver;
 import com.solacesystems.jcsmp.JCSMPException;
@@ -32,12 +33,19 @@ import com.solacesystems.jcsmp.XMLMessageConsumer;
 import io.ballerina.runtime.api.values.BObject;
 import io.xlibb.solace.config.ConsumerSubscriptionConfig;
 import io.xlibb.solace.config.QueueConsumerConfig;
+import io.xlibb.solace.config.ReplayStart;
 import io.xlibb.solace.config.TopicConsumerConfig;
 
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static io.xlibb.solace.common.Constants.NATIVE_CHECKPOINT_STORE;
 import static io.xlibb.solace.common.Constants.NATIVE_CONSUMER;
 import static io.xlibb.solace.common.Constants.NATIVE_FLOW;
 import static io.xlibb.solace.common.Constants.NATIVE_SESSION;
 import static io.xlibb.solace.common.Constants.NATIVE_SUBSCRIPTION_TYPE;
+import static io.xlibb.solace.common.Constants.NATIVE_TOPIC_SUBSCRIPTIONS;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.UNKNOWN;
 
 /**
@@ -60,8 +68,9 @@ public class ConsumerUtils {
             String name = queueConfig.queueName();
             return name != null ? name : UNKNOWN;
         } else if (subscriptionConfig instanceof TopicConsumerConfig topicConfig) {
-            String name = topicConfig.topicName();
-            return name != null ? name : UNKNOWN;
+            // A consumer may hold many subscriptions; tag with the first to keep metric cardinality bounded.
+            List<String> subscriptions = topicConfig.subscriptions();
+            return subscriptions.isEmpty() ? UNKNOWN : subscriptions.get(0);
         }
         return UNKNOWN;
     }
@@ -72,9 +81,10 @@ public class ConsumerUtils {
      *
      * @param flowProps the flow properties to configure
      * @param config    the consumer subscription configuration containing common fields
+     * @throws JCSMPException if the replay start location is invalid
      */
     public static void configureFlowProperties(ConsumerFlowProperties flowProps,
-                                               ConsumerSubscriptionConfig config) {
+                                               ConsumerSubscriptionConfig config) throws JCSMPException {
         flowProps.setAckMode(config.ackMode().getJcsmpMode());
 
         if (config.selector() != null) {
@@ -101,6 +111,110 @@ public class ConsumerUtils {
             flowProps.setReconnectTries(config.reconnectTries());
         }
         flowProps.setReconnectRetryIntervalInMsecs(config.reconnectRetryIntervalInMsecs());
+        if (config.replayStart() != null) {
+            flowProps.setReplayStartLocation(config.replayStart().toReplayStartLocation());
+        }
+    }
+
+    /**
+     * Opens the checkpoint store of a queue or durable topic endpoint subscription, if checkpointing is configured.
+     *
+     * @param config the consumer subscription configuration
+     * @return the checkpoint store, or null if checkpointing is disabled or unsupported for the subscription
+     * @throws IOException if the checkpoint file cannot be opened
+     */
+    public static CheckpointStore openCheckpointStore(ConsumerSubscriptionConfig config) throws IOException {
+        if (config.checkpoint() == null) {
+            return null;
+        }
+        String endpointName = null;
+        if (config instanceof QueueConsumerConfig queueConfig && !queueConfig.temporary()) {
+            endpointName = queueConfig.queueName();
+        } else if (config instanceof TopicConsumerConfig topicConfig && topicConfig.isDurable()) {
+            endpointName = topicConfig.endpointName();
+        }
+        return endpointName != null ? CheckpointStore.open(config.checkpoint(), endpointName) : null;
+    }
+
+    /**
+     * Resumes replay after the last checkpointed message, unless an explicit replay start location is configured.
+     *
+     * @param flowProps       the flow properties to configure
+     * @param config          the consumer subscription configuration
+     * @param checkpointStore the subscription's checkpoint store, or null
+     * @throws JCSMPException if the checkpointed replication group message ID is invalid
+     */
+    public static void resumeFromCheckpoint(ConsumerFlowProperties flowProps, ConsumerSubscriptionConfig config,
+                                            CheckpointStore checkpointStore) throws JCSMPException {
+        if (checkpointStore == null || config.replayStart() != null) {
+            return;
+        }
+        String resumePoint = checkpointStore.resumePoint();
+        if (resumePoint != null) {
+            flowProps.setReplayStartLocation(ReplayStart.fromMessageId(resumePoint).toReplayStartLocation());
+        }
+    }
+
+    /**
+     * Adds topic subscriptions to a session. Only the last subscription waits for the broker's confirmation; the
+     * preceding ones are pipelined behind it, since the broker processes subscription requests in order.
+     *
+     * @param session the JCSMP session
+     * @param topics  the topic subscriptions to add
+     * @throws JCSMPException if a subscription cannot be added
+     */
+    public static void addTopicSubscriptions(JCSMPSession session, List<String> topics) throws JCSMPException {
+        for (int i = 0; i < topics.size(); i++) {
+            Topic topic = JCSMPFactory.onlyInstance().createTopic(topics.get(i));
+            session.addSubscription(topic, i == topics.size() - 1);
+        }
+    }
+
+    /**
+     * Removes topic subscriptions from a session, waiting for the broker's confirmation on the last one only.
+     *
+     * @param session the JCSMP session
+     * @param topics  the topic subscriptions to remove
+     * @throws JCSMPException if a subscription cannot be removed
+     */
+    public static void removeTopicSubscriptions(JCSMPSession session, List<String> topics) throws JCSMPException {
+        for (int i = 0; i < topics.size(); i++) {
+            Topic topic = JCSMPFactory.onlyInstance().createTopic(topics.get(i));
+            session.removeSubscription(topic, i == topics.size() - 1);
+        }
+    }
+
+    /**
+     * Adds topic subscriptions to a queue, so that messages published to those topics are attracted to it. Only the
+     * last subscription waits for the broker's confirmation.
+     *
+     * @param session the JCSMP session
+     * @param queue   the queue
+     * @param topics  the topic subscriptions to add
+     * @throws JCSMPException if a subscription cannot be added
+     */
+    public static void addQueueSubscriptions(JCSMPSession session, Endpoint queue, List<String> topics)
+            throws JCSMPException {
+        for (int i = 0; i < topics.size(); i++) {
+            Topic topic = JCSMPFactory.onlyInstance().createTopic(topics.get(i));
+            session.addSubscription(queue, topic, i == topics.size() - 1 ? JCSMPSession.WAIT_FOR_CONFIRM : 0);
+        }
+    }
+
+    /**
+     * Removes topic subscriptions from a queue, waiting for the broker's confirmation on the last one only.
+     *
+     * @param session the JCSMP session
+     * @param queue   the queue
+     * @param topics  the topic subscriptions to remove
+     * @throws JCSMPException if a subscription cannot be removed
+     */
+    public static void removeQueueSubscriptions(JCSMPSession session, Endpoint queue, List<String> topics)
+            throws JCSMPException {
+        for (int i = 0; i < topics.size(); i++) {
+            Topic topic = JCSMPFactory.onlyInstance().createTopic(topics.get(i));
+            session.removeSubscription(queue, topic, i == topics.size() - 1 ? JCSMPSession.WAIT_FOR_CONFIRM : 0);
+        }
     }
 
     /**
@@ -137,6 +251,8 @@ public class ConsumerUtils {
         ConsumerFlowProperties flowProps = new ConsumerFlowProperties();
         flowProps.setEndpoint(queue);
         configureFlowProperties(flowProps, config);
+        CheckpointStore checkpointStore = openCheckpointStore(config);
+        resumeFromCheckpoint(flowProps, config, checkpointStore);
 
         // Add settlement outcomes only for non-transacted flows
         if (!isTransacted) {
@@ -144,10 +260,19 @@ public class ConsumerUtils {
         }
 
         // Create flow using the factory function
-        FlowReceiver flowReceiver = flowFactory.createFlow(flowProps);
-        flowReceiver.start();
+        FlowReceiver flowReceiver;
+        try {
+            flowReceiver = flowFactory.createFlow(flowProps);
+            flowReceiver.start();
+        } catch (Exception e) {
+            if (checkpointStore != null) {
+                checkpointStore.close();
+            }
+            throw e;
+        }
 
         consumer.addNativeData(NATIVE_FLOW, flowReceiver);
+        consumer.addNativeData(NATIVE_CHECKPOINT_STORE, checkpointStore);
         consumer.addNativeData(NATIVE_SUBSCRIPTION_TYPE, SUBSCRIPTION_TYPE_QUEUE);
     }
 
@@ -179,6 +304,8 @@ public class ConsumerUtils {
         flowProps.setEndpoint(endpoint);
         flowProps.setNewSubscription(topic);
         configureFlowProperties(flowProps, config);
+        CheckpointStore checkpointStore = openCheckpointStore(config);
+        resumeFromCheckpoint(flowProps, config, checkpointStore);
 
         // Add settlement outcomes only for non-transacted flows
         if (!isTransacted) {
@@ -186,30 +313,39 @@ public class ConsumerUtils {
         }
 
         // Create flow using the factory function
-        FlowReceiver flowReceiver = flowFactory.createFlow(flowProps);
-        flowReceiver.start();
+        FlowReceiver flowReceiver;
+        try {
+            flowReceiver = flowFactory.createFlow(flowProps);
+            flowReceiver.start();
+        } catch (Exception e) {
+            if (checkpointStore != null) {
+                checkpointStore.close();
+            }
+            throw e;
+        }
 
         consumer.addNativeData(NATIVE_FLOW, flowReceiver);
+        consumer.addNativeData(NATIVE_CHECKPOINT_STORE, checkpointStore);
         consumer.addNativeData(NATIVE_SUBSCRIPTION_TYPE, SUBSCRIPTION_TYPE_DURABLE_TOPIC);
     }
 
     /**
-     * Creates an XMLMessageConsumer for direct topic subscription.
+     * Creates an XMLMessageConsumer for direct topic subscription, subscribing to every topic of the config.
      */
     public static void createDirectTopicConsumer(BObject consumer, JCSMPSession session, TopicConsumerConfig config)
             throws Exception {
-        Topic topic = JCSMPFactory.onlyInstance().createTopic(config.topicName());
-
         // Create consumer without listener (for sync receive)
         XMLMessageConsumer xmlConsumer = session.getMessageConsumer((com.solacesystems.jcsmp.XMLMessageListener) null);
 
-        // Add subscription
-        session.addSubscription(topic);
+        // Add subscriptions
+        List<String> subscriptions = config.subscriptions();
+        addTopicSubscriptions(session, subscriptions);
 
         // Start consumer
         xmlConsumer.start();
 
         consumer.addNativeData(NATIVE_CONSUMER, xmlConsumer);
         consumer.addNativeData(NATIVE_SUBSCRIPTION_TYPE, SUBSCRIPTION_TYPE_DIRECT_TOPIC);
+        consumer.addNativeData(NATIVE_TOPIC_SUBSCRIPTIONS, new LinkedHashSet<>(subscriptions));
     }
 }
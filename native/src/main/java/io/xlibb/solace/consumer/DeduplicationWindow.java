@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.consumer;
+
+import com.solacesystems.jcsmp.SDTMap;
+import com.solacesystems.jcsmp.XMLMessage;
+import io.xlibb.solace.config.DeduplicationConfig;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Time-windowed set of the deduplication keys of recently processed messages, used to drop redeliveries of messages
+ * that were already processed (for example after a reconnect, when the acknowledgement was lost in flight).
+ * <p>
+ * A key is remembered only once its message has been processed (acknowledged, auto-acknowledged or committed), so a
+ * message whose processing failed is not mistaken for a duplicate when it is redelivered. Keys are kept in insertion
+ * order with their processing time; expired keys are evicted from the head on every access, and the oldest keys are
+ * evicted when the configured maximum is exceeded, which bounds memory use. Messages without a key are never treated
+ * as duplicates.
+ */
+public final class DeduplicationWindow {
+
+    // Approximate retained size of a LinkedHashMap entry, its boxed timestamp and the String object header.
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final String keyProperty;
+    private final long windowNanos;
+    private final int maxEntries;
+    private final LinkedHashMap<String, Long> processed = new LinkedHashMap<>();
+    private final List<String> received = new ArrayList<>();
+    private long memoryBytes;
+
+    public DeduplicationWindow(DeduplicationConfig config) {
+        this.keyProperty = config.keyProperty();
+        this.windowNanos = config.windowMs() * 1_000_000L;
+        this.maxEntries = Math.max(config.maxEntries(), 1);
+    }
+
+    /**
+     * Returns the deduplication key of a message: the configured user property, or the application message ID.
+     *
+     * @param message the received message
+     * @return the key, or null if the message has none
+     */
+    public String key(XMLMessage message) {
+        if (keyProperty == null) {
+            return message.getApplicationMessageId();
+        }
+        SDTMap properties = message.getProperties();
+        if (properties == null || !properties.containsKey(keyProperty)) {
+            return null;
+        }
+        Object value = properties.get(keyProperty);
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * Returns whether a message with the given key was already processed within the window.
+     *
+     * @param key the message's deduplication key, or null
+     * @return true if the message is a duplicate
+     */
+    public synchronized boolean isDuplicate(String key) {
+        if (key == null) {
+            return false;
+        }
+        evictExpired(System.nanoTime());
+        return processed.containsKey(key);
+    }
+
+    /**
+     * Remembers a processed message.
+     *
+     * @param key the message's deduplication key, or null
+     */
+    public synchronized void markProcessed(String key) {
+        if (key == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        evictExpired(now);
+        // Re-insert so the entry moves to the tail with its new timestamp.
+        if (processed.remove(key) == null) {
+            memoryBytes += entrySize(key);
+        }
+        processed.put(key, now);
+        Iterator<Map.Entry<String, Long>> iterator = processed.entrySet().iterator();
+        while (processed.size() > maxEntries && iterator.hasNext()) {
+            memoryBytes -= entrySize(iterator.next().getKey());
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Remembers a message received in a transaction; it is marked processed only when the transaction commits.
+     *
+     * @param key the message's deduplication key, or null
+     */
+    public synchronized void markReceived(String key) {
+        if (key != null) {
+            received.add(key);
+        }
+    }
+
+    /**
+     * Marks the messages received in the committed transaction as processed.
+     */
+    public synchronized void commitReceived() {
+        for (String key : received) {
+            markProcessed(key);
+        }
+        received.clear();
+    }
+
+    /**
+     * Forgets the messages received in a rolled-back transaction.
+     */
+    public synchronized void discardReceived() {
+        received.clear();
+    }
+
+    /**
+     * Returns the number of remembered keys.
+     */
+    public synchronized int size() {
+        return processed.size();
+    }
+
+    /**
+     * Returns the approximate heap footprint of the remembered keys, in bytes.
+     */
+    public synchronized long memoryBytes() {
+        return memoryBytes;
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Map.Entry<String, Long>> iterator = processed.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+            if (now - entry.getValue() < windowNanos) {
+                return;
+            }
+            memoryBytes -= entrySize(entry.getKey());
+            iterator.remove();
+        }
+    }
+
+    private static long entrySize(String key) {
+        return ENTRY_OVERHEAD_BYTES + 2L * key.length();
+    }
+}
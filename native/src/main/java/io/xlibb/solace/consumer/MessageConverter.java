@@ -21,7 +21,9 @@ package io.xlibb.solace.consumer;
 import com.solacesystems.jcsmp.BytesMessage;
 import com.solacesystems.jcsmp.Destination;
 import com.solacesystems.jcsmp.MapMessage;
+import com.solacesystems.jcsmp.ReplicationGroupMessageId;
 import com.solacesystems.jcsmp.SDTMap;
+import com.solacesystems.jcsmp.StreamMessage;
 import com.solacesystems.jcsmp.TextMessage;
 import com.solacesystems.jcsmp.XMLMessage;
 import io.ballerina.runtime.api.creators.TypeCreator;
@@ -35,10 +37,18 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.xlibb.solace.ModuleUtils;
 import io.xlibb.solace.common.DestinationConverter;
+import io.xlibb.solace.common.JsonWriter;
+import io.xlibb.solace.common.PayloadCompression;
 import io.xlibb.solace.common.PropertyConverter;
+import io.xlibb.solace.producer.MessageChunker;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static io.xlibb.solace.common.Constants.NATIVE_MESSAGE;
 import static io.xlibb.solace.common.MessageFieldConstants.APPLICATION_MESSAGE_ID_KEY;
@@ -51,6 +61,7 @@ import static io.xlibb.solace.common.MessageFieldConstants.PRIORITY_KEY;
 import static io.xlibb.solace.common.MessageFieldConstants.PROPERTIES_KEY;
 import static io.xlibb.solace.common.MessageFieldConstants.RECEIVE_TIMESTAMP_KEY;
 import static io.xlibb.solace.common.MessageFieldConstants.REDELIVERED_KEY;
+import static io.xlibb.solace.common.MessageFieldConstants.REPLICATION_GROUP_MESSAGE_ID_KEY;
 import static io.xlibb.solace.common.MessageFieldConstants.REPLY_TO_KEY;
 import static io.xlibb.solace.common.MessageFieldConstants.SENDER_ID_KEY;
 import static io.xlibb.solace.common.MessageFieldConstants.SENDER_TIMESTAMP_KEY;
@@ -72,6 +83,15 @@ public class MessageConverter {
     private static final MapType BALLERINA_MSG_PROPERTY_TYPE = TypeCreator.createMapType(
             "Property", MSG_PROPERTY_TYPE, ModuleUtils.getModule());
 
+    private static final BString CONTENT_ENCODING_KEY =
+            StringUtils.fromString(PayloadCompression.CONTENT_ENCODING_PROPERTY);
+    private static final BString CHUNK_ID_KEY = StringUtils.fromString(MessageChunker.CHUNK_ID_PROPERTY);
+    private static final BString GROUP_ID_KEY = StringUtils.fromString(MessageChunker.GROUP_ID_PROPERTY);
+    private static final BString TOTAL_SIZE_KEY = StringUtils.fromString(MessageChunker.TOTAL_SIZE_PROPERTY);
+    private static final List<BString> CHUNK_KEYS = Stream.of(MessageChunker.CHUNK_INDEX_PROPERTY,
+            MessageChunker.CHUNK_COUNT_PROPERTY, MessageChunker.CHUNK_OFFSET_PROPERTY,
+            MessageChunker.TOTAL_SIZE_PROPERTY).map(StringUtils::fromString).toList();
+
     /**
      * Converts a JCSMP XMLMessage to a Ballerina Message record.
      *
@@ -165,11 +185,23 @@ public class MessageConverter {
         } catch (UnsupportedOperationException ignored) {
         }
 
+        // Set replication group message ID if present (guaranteed messages only), usable as a replay start location
+        ReplicationGroupMessageId replicationGroupMessageId = xmlMessage.getReplicationGroupMessageId();
+        if (replicationGroupMessageId != null) {
+            message.put(REPLICATION_GROUP_MESSAGE_ID_KEY, StringUtils.fromString(replicationGroupMessageId.toString()));
+        }
+
         // Set properties if present
         SDTMap sdtProperties = xmlMessage.getProperties();
         if (sdtProperties != null) {
             BMap<BString, Object> properties = PropertyConverter.sdtMapToBallerina(sdtProperties,
                     BALLERINA_MSG_PROPERTY_TYPE);
+            removeChunkProperties(properties, xmlMessage);
+            Object contentEncoding = properties.get(CONTENT_ENCODING_KEY);
+            if (contentEncoding != null && PayloadCompression.DEFLATE.equals(contentEncoding.toString())) {
+                // The payload is inflated, so the compression flag is not passed on, e.g. to a parked copy.
+                properties.remove(CONTENT_ENCODING_KEY);
+            }
             if (!properties.isEmpty()) {
                 message.put(PROPERTIES_KEY, properties);
             }
@@ -189,6 +221,28 @@ public class MessageConverter {
         return message;
     }
 
+    /**
+     * Removes the chunk properties of a message reassembled from chunks, which describe its chunks rather than the
+     * message, including a group ID that is the chunk set ID. A chunk that was not reassembled, e.g. one received in a
+     * transacted session, keeps them so that the application can tell it is a fragment.
+     */
+    private static void removeChunkProperties(BMap<BString, Object> properties, XMLMessage xmlMessage) {
+        Object chunkId = properties.get(CHUNK_ID_KEY);
+        Object totalSize = properties.get(TOTAL_SIZE_KEY);
+        if (chunkId == null || totalSize == null
+                || ((Number) totalSize).longValue() != xmlMessage.getAttachmentContentLength()) {
+            return;
+        }
+        properties.remove(CHUNK_ID_KEY);
+        for (BString key : CHUNK_KEYS) {
+            properties.remove(key);
+        }
+        Object groupId = properties.get(GROUP_ID_KEY);
+        if (groupId != null && groupId.toString().equals(chunkId.toString())) {
+            properties.remove(GROUP_ID_KEY);
+        }
+    }
+
     /**
      * Extracts the native XMLMessage from a Ballerina Message record.
      *
@@ -203,33 +257,55 @@ public class MessageConverter {
         return null;
     }
 
-    private static byte[] extractPayload(XMLMessage xmlMessage) throws Exception {
+    /**
+     * Returns the payload of a message as bytes: the UTF-8 encoding of a text message, the data of a bytes message,
+     * the JSON encoding of a map or stream message, or the binary attachment of any other message. A payload
+     * compressed by the producer is inflated.
+     */
+    static byte[] extractPayload(XMLMessage xmlMessage) throws Exception {
         if (xmlMessage instanceof TextMessage textMessage) {
             String text = textMessage.getText();
             if (text != null) {
                 return text.getBytes(StandardCharsets.UTF_8);
             }
         } else if (xmlMessage instanceof BytesMessage bytesMessage) {
-            return bytesMessage.getData();
-        } else if (xmlMessage instanceof MapMessage mapMessage) {
-            SDTMap map = mapMessage.getMap();
-            if (map != null && !map.isEmpty()) {
-                String jsonString = PropertyConverter.sdtMapToJson(map);
-                return jsonString.getBytes(StandardCharsets.UTF_8);
+            byte[] data = bytesMessage.getData();
+            return data != null && PayloadCompression.isCompressed(xmlMessage)
+                    ? PayloadCompression.inflate(data) : data;
+        } else if (xmlMessage instanceof MapMessage || xmlMessage instanceof StreamMessage) {
+            Object structuredPayload = structuredPayload(xmlMessage);
+            if (structuredPayload != null) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                JsonWriter.write(structuredPayload, writer);
+                writer.flush();
+                return out.toByteArray();
             }
         } else {
             ByteBuffer buf = xmlMessage.getAttachmentByteBuffer();
             byte[] content = new byte[buf.remaining()];
             buf.get(content);
-            return content;
+            return PayloadCompression.isCompressed(xmlMessage) ? PayloadCompression.inflate(content) : content;
         }
         return new byte[0];
     }
 
+    /**
+     * Returns the SDT content of a structured message: the SDTMap of a non-empty map message or the SDTStream of a
+     * stream message, or null for any other message.
+     */
+    static Object structuredPayload(XMLMessage xmlMessage) {
+        if (xmlMessage instanceof MapMessage mapMessage) {
+            SDTMap map = mapMessage.getMap();
+            return map != null && !map.isEmpty() ? map : null;
+        }
+        return xmlMessage instanceof StreamMessage streamMessage ? streamMessage.getStream() : null;
+    }
+
     /**
      * Gets the Message record type from the Ballerina module.
      */
-    private static RecordType getMessageRecordType() {
+    static RecordType getMessageRecordType() {
         return (RecordType) ValueCreator.createRecordValue(
                 ModuleUtils.getModule(),
                 "Message"
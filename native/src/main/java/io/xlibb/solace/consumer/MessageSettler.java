@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.xlibb.solace.consumer;
+
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.XMLMessage;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settles received messages. A message reassembled from chunks is delivered as its last chunk, and the chunks before
+ * it are held unsettled until that message is settled, so that they are acknowledged, or redelivered, together.
+ * <p>
+ * Each listener and consumer has its own settler, which releases the chunks it holds when it is closed.
+ */
+public final class MessageSettler {
+
+    private final Map<XMLMessage, List<XMLMessage>> chunks = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * Records the earlier chunks of a reassembled message, to be settled with it.
+     *
+     * @param message the last chunk, carrying the reassembled payload
+     * @param chunks  the earlier chunks
+     */
+    void attachChunks(XMLMessage message, List<XMLMessage> chunks) {
+        this.chunks.put(message, chunks);
+    }
+
+    /**
+     * Acknowledges a message, and the chunks it was reassembled from.
+     *
+     * @param message the message
+     */
+    public void ack(XMLMessage message) {
+        message.ackMessage();
+        List<XMLMessage> held = chunks.remove(message);
+        if (held != null) {
+            held.forEach(XMLMessage::ackMessage);
+        }
+    }
+
+    /**
+     * Settles a message, and the chunks it was reassembled from, with the given outcome.
+     *
+     * @param message the message
+     * @param outcome the settlement outcome
+     * @throws JCSMPException if the message cannot be settled
+     */
+    public void settle(XMLMessage message, XMLMessage.Outcome outcome) throws JCSMPException {
+        message.settle(outcome);
+        List<XMLMessage> held = chunks.remove(message);
+        if (held != null) {
+            for (XMLMessage chunk : held) {
+                chunk.settle(outcome);
+            }
+        }
+    }
+
+    /**
+     * Releases the chunks held for unsettled messages. They are redelivered by the broker once the flows that
+     * received them are closed.
+     */
+    public void close() {
+        chunks.clear();
+    }
+}
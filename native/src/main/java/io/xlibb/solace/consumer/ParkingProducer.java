@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.consumer;
+
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.JCSMPSession;
+import com.solacesystems.jcsmp.JCSMPStreamingPublishCorrelatingEventHandler;
+import com.solacesystems.jcsmp.ProducerFlowProperties;
+import com.solacesystems.jcsmp.XMLMessage;
+import com.solacesystems.jcsmp.XMLMessageProducer;
+import com.solacesystems.jcsmp.transaction.TransactedSession;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Republishes diverted messages to a parking queue, and sends the replies of services, through a producer shared by
+ * every consumer flow of a session.
+ * <p>
+ * The producer is created on first use, since a session has a single message producer and most sessions never park
+ * a message. The original message is acknowledged only once the broker confirms the parked copy, so a message is never
+ * lost between the two queues; if the publish fails the original is settled FAILED and redelivered. Replies on a
+ * transacted session are sent through a producer of the transacted session, so they are published when the
+ * transaction commits.
+ */
+public final class ParkingProducer implements JCSMPStreamingPublishCorrelatingEventHandler {
+
+    private static final Logger LOGGER = Logger.getLogger(ParkingProducer.class.getName());
+
+    private final JCSMPSession session;
+    private final MessageSettler settler;
+    private XMLMessageProducer producer;
+    private XMLMessageProducer transactedProducer;
+
+    /**
+     * @param session the session to publish through
+     * @param settler the settler of the consumer or listener, which settles the originals of parked copies
+     */
+    public ParkingProducer(JCSMPSession session, MessageSettler settler) {
+        this.session = session;
+        this.settler = settler;
+    }
+
+    /**
+     * Publishes a copy of a message to a parking queue and acknowledges the original once the copy is stored.
+     *
+     * @param original         the received message
+     * @param ballerinaMessage the received message converted to a Ballerina Message record
+     * @param queueName        the parking queue
+     * @throws Exception if the copy cannot be created or sent
+     */
+    void park(XMLMessage original, BMap<BString, Object> ballerinaMessage, String queueName) throws Exception {
+        XMLMessageProducer messageProducer = producer();
+        XMLMessage copy = io.xlibb.solace.producer.MessageConverter.toJCSMPMessage(messageProducer, ballerinaMessage);
+        copy.setCorrelationKey(original);
+        messageProducer.send(copy, JCSMPFactory.onlyInstance().createQueue(queueName));
+    }
+
+    /**
+     * Sends a reply to a received request, to the request's reply-to destination and with its correlation ID.
+     *
+     * @param request   the received request
+     * @param response  the Ballerina reply message
+     * @param txSession the listener's transacted session, or null if the listener is not transacted
+     * @throws Exception if the reply cannot be created or sent
+     */
+    public void reply(XMLMessage request, BMap<BString, Object> response, TransactedSession txSession)
+            throws Exception {
+        XMLMessageProducer messageProducer = txSession != null ? transactedProducer(txSession) : producer();
+        XMLMessage reply = io.xlibb.solace.producer.MessageConverter.toJCSMPMessage(messageProducer, response);
+        if (request.getCorrelationId() != null) {
+            reply.setCorrelationId(request.getCorrelationId());
+        }
+        reply.setAsReplyMessage(true);
+        messageProducer.send(reply, request.getReplyTo());
+    }
+
+    private synchronized XMLMessageProducer producer() throws JCSMPException {
+        if (producer == null) {
+            producer = session.getMessageProducer(this);
+        }
+        return producer;
+    }
+
+    private synchronized XMLMessageProducer transactedProducer(TransactedSession txSession) throws JCSMPException {
+        if (transactedProducer == null) {
+            // The session's producer must exist before a producer can be created in its transacted session.
+            producer();
+            transactedProducer = txSession.createProducer(new ProducerFlowProperties(), this);
+        }
+        return transactedProducer;
+    }
+
+    @Override
+    public void responseReceivedEx(Object key) {
+        if (key instanceof XMLMessage original) {
+            try {
+                settler.ack(original);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Failed to acknowledge a parked message", e);
+            }
+        }
+    }
+
+    @Override
+    public void handleErrorEx(Object key, JCSMPException cause, long timestamp) {
+        LOGGER.log(Level.WARNING, "Failed to park a message", cause);
+        if (key instanceof XMLMessage original) {
+            try {
+                settler.settle(original, XMLMessage.Outcome.FAILED);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Failed to settle a message that could not be parked", e);
+            }
+        }
+    }
+
+    /**
+     * Closes the producer, if it was created. The session itself is closed by its owner.
+     */
+    public synchronized void close() {
+        if (transactedProducer != null) {
+            transactedProducer.close();
+            transactedProducer = null;
+        }
+        if (producer != null) {
+            producer.close();
+            producer = null;
+        }
+    }
+}
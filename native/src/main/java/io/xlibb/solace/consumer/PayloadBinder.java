@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.consumer;
+
+import com.solacesystems.jcsmp.TextMessage;
+import com.solacesystems.jcsmp.XMLMessage;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.xlibb.solace.common.CommonUtils;
+import io.xlibb.solace.common.PropertyConverter;
+import io.xlibb.solace.serdes.Schema;
+import io.xlibb.solace.serdes.SchemaDeserializer;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.xlibb.solace.common.Constants.NATIVE_MESSAGE;
+import static io.xlibb.solace.common.MessageFieldConstants.PAYLOAD_KEY;
+
+/**
+ * Binds a received message to the type a service's {@code onMessage} parameter or a {@code receivePayload} call asks
+ * for, decoding the payload straight from the native message instead of from the Ballerina {@code byte[]} payload.
+ * <p>
+ * The target is one of:
+ * <ul>
+ *     <li>{@code Message}: the message is passed through unchanged.</li>
+ *     <li>A message record, i.e. a record whose fields are all {@code Message} fields (typically
+ *     {@code record {| *AnydataMessage; Order payload; |}}): the fields are copied and the payload is decoded to the
+ *     record's {@code payload} type.</li>
+ *     <li>Any other {@code anydata} type: only the payload is decoded.</li>
+ * </ul>
+ * A payload is decoded to {@code byte[]} as is, to {@code string} as UTF-8 text, to {@code xml} by the XML parser,
+ * and to any other type by the JSON parser followed by a conversion to that type. A payload serialized against a
+ * registered schema (its message carries a schema ID) is instead read with that schema when the consumer or listener
+ * has a schema registry, unless it is bound as {@code byte[]} or {@code string}. The SDTMap of a map message and the
+ * SDTStream of a stream message are converted to the target type directly, without a JSON encoding, unless it is
+ * {@code byte[]}, {@code string} or {@code xml}. Binders are cached per target type.
+ */
+public final class PayloadBinder {
+
+    private static final String PAYLOAD_BINDING_ERROR = "PayloadBindingError";
+
+    private static final Map<Type, PayloadBinder> BINDERS = new ConcurrentHashMap<>();
+
+    private final Type targetType;
+    private final RecordType messageRecordType;
+    private final Type payloadType;
+    private final PayloadKind payloadKind;
+
+    private PayloadBinder(Type targetType) {
+        this.targetType = targetType;
+        Type impliedType = TypeUtils.getImpliedType(targetType);
+        RecordType messageType = MessageConverter.getMessageRecordType();
+        if (TypeUtils.isSameType(impliedType, messageType)) {
+            this.messageRecordType = null;
+            this.payloadType = null;
+            this.payloadKind = PayloadKind.MESSAGE;
+        } else if (impliedType instanceof RecordType recordType && isMessageRecord(recordType, messageType)) {
+            this.messageRecordType = recordType;
+            this.payloadType = recordType.getFields().get(PAYLOAD_KEY.getValue()).getFieldType();
+            this.payloadKind = PayloadKind.of(payloadType);
+        } else {
+            this.messageRecordType = null;
+            this.payloadType = targetType;
+            this.payloadKind = PayloadKind.of(targetType);
+        }
+    }
+
+    /**
+     * Returns the binder for the given target type, creating it on first use.
+     *
+     * @param targetType the type to bind received messages to
+     * @return the binder
+     */
+    public static PayloadBinder forType(Type targetType) {
+        return BINDERS.computeIfAbsent(targetType, PayloadBinder::new);
+    }
+
+    /**
+     * Returns whether messages are passed through as the {@code Message} record, without binding.
+     */
+    public boolean passThrough() {
+        return payloadKind == PayloadKind.MESSAGE;
+    }
+
+    /**
+     * Binds a received message to the target type.
+     *
+     * @param message a received message record carrying its native message; either a {@code Message} or a message
+     *                record previously bound by a binder
+     * @return the bound value
+     * @throws BError a {@code PayloadBindingError} if the payload cannot be decoded to the target type
+     */
+    public Object bind(BMap<BString, Object> message) {
+        return bind(message, null);
+    }
+
+    /**
+     * Binds a received message to the target type, reading a payload serialized against a registered schema with
+     * that schema.
+     *
+     * @param message            a received message record carrying its native message
+     * @param schemaDeserializer the schema registry of the consumer or listener, or null if it has none
+     * @return the bound value
+     * @throws BError a {@code PayloadBindingError} if the payload cannot be decoded to the target type
+     */
+    public Object bind(BMap<BString, Object> message, SchemaDeserializer schemaDeserializer) {
+        if (passThrough()) {
+            return message;
+        }
+        XMLMessage xmlMessage = MessageConverter.extractNativeMessage(message);
+        if (xmlMessage == null) {
+            throw CommonUtils.createError(PAYLOAD_BINDING_ERROR, "Cannot bind payload: native message not found",
+                    null, null);
+        }
+        Object payload = decode(xmlMessage, schemaDeserializer);
+        if (messageRecordType == null) {
+            return payload;
+        }
+        BMap<BString, Object> bound = ValueCreator.createRecordValue(messageRecordType);
+        for (String fieldName : messageRecordType.getFields().keySet()) {
+            BString key = StringUtils.fromString(fieldName);
+            if (!PAYLOAD_KEY.equals(key) && message.containsKey(key)) {
+                bound.put(key, message.get(key));
+            }
+        }
+        bound.put(PAYLOAD_KEY, payload);
+        bound.addNativeData(NATIVE_MESSAGE, xmlMessage);
+        return bound;
+    }
+
+    private Object decode(XMLMessage xmlMessage, SchemaDeserializer schemaDeserializer) {
+        try {
+            if (schemaDeserializer != null && payloadKind != PayloadKind.BYTES && payloadKind != PayloadKind.STRING) {
+                Schema schema = schemaDeserializer.schemaOf(xmlMessage);
+                if (schema != null) {
+                    return ValueUtils.convert(schema.read(MessageConverter.extractPayload(xmlMessage)), payloadType);
+                }
+            }
+            Object structuredPayload = MessageConverter.structuredPayload(xmlMessage);
+            if (structuredPayload != null && payloadKind.structured()) {
+                Object value = PropertyConverter.toBallerinaPayload(structuredPayload);
+                return ValueUtils.convert(value, payloadKind == PayloadKind.JSON ? PredefinedTypes.TYPE_JSON
+                        : payloadType);
+            }
+            String text = xmlMessage instanceof TextMessage textMessage ? textMessage.getText() : null;
+            switch (payloadKind) {
+                case BYTES:
+                    return ValueCreator.createArrayValue(text != null
+                            ? text.getBytes(StandardCharsets.UTF_8) : MessageConverter.extractPayload(xmlMessage));
+                case STRING:
+                    return StringUtils.fromString(text != null
+                            ? text : new String(MessageConverter.extractPayload(xmlMessage), StandardCharsets.UTF_8));
+                case XML:
+                    Object xml = text != null ? XmlUtils.parse(text)
+                            : XmlUtils.parse(new ByteArrayInputStream(MessageConverter.extractPayload(xmlMessage)));
+                    return TypeTags.isXMLTypeTag(TypeUtils.getImpliedType(payloadType).getTag())
+                            ? xml : ValueUtils.convert(xml, payloadType);
+                default:
+                    Object json = text != null ? JsonUtils.parse(text)
+                            : JsonUtils.parse(new ByteArrayInputStream(MessageConverter.extractPayload(xmlMessage)));
+                    return payloadKind == PayloadKind.JSON ? json : ValueUtils.convert(json, payloadType);
+            }
+        } catch (BError e) {
+            throw bindingError(e.getErrorMessage().getValue());
+        } catch (Exception e) {
+            throw bindingError(e.getMessage());
+        }
+    }
+
+    private BError bindingError(String reason) {
+        return CommonUtils.createError(PAYLOAD_BINDING_ERROR, "Failed to bind the message payload to '" + targetType
+                + "': " + reason, null, null);
+    }
+
+    /**
+     * Returns whether a record type is a message record: every field is a {@code Message} field, including the
+     * payload.
+     */
+    private static boolean isMessageRecord(RecordType recordType, RecordType messageType) {
+        Map<String, Field> fields = recordType.getFields();
+        return fields.containsKey(PAYLOAD_KEY.getValue())
+                && messageType.getFields().keySet().containsAll(fields.keySet());
+    }
+
+    /**
+     * How a payload is decoded.
+     */
+    private enum PayloadKind {
+        MESSAGE, BYTES, STRING, XML, JSON, CONVERTED;
+
+        /**
+         * Returns whether the SDT content of a map or stream message is converted to this kind directly.
+         */
+        boolean structured() {
+            return this == JSON || this == CONVERTED;
+        }
+
+        static PayloadKind of(Type type) {
+            Type impliedType = withoutNil(TypeUtils.getImpliedType(type));
+            int tag = impliedType.getTag();
+            if (tag == TypeTags.ARRAY_TAG && TypeUtils.getImpliedType(((ArrayType) impliedType).getElementType())
+                    .getTag() == TypeTags.BYTE_TAG) {
+                return BYTES;
+            }
+            if (tag == TypeTags.STRING_TAG) {
+                return STRING;
+            }
+            if (TypeTags.isXMLTypeTag(tag)) {
+                return XML;
+            }
+            return tag == TypeTags.JSON_TAG ? JSON : CONVERTED;
+        }
+
+        /**
+         * Returns the non-nil member of an optional type such as {@code string?}, or the type itself otherwise.
+         */
+        private static Type withoutNil(Type type) {
+            if (!(type instanceof UnionType unionType)) {
+                return type;
+            }
+            List<Type> members = unionType.getMemberTypes().stream()
+                    .filter(member -> TypeUtils.getImpliedType(member).getTag() != TypeTags.NULL_TAG)
+                    .toList();
+            return members.size() == 1 ? TypeUtils.getImpliedType(members.get(0)) : type;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.consumer;
+
+import com.solacesystems.jcsmp.XMLMessage;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.xlibb.solace.config.PoisonMessageConfig;
+import io.xlibb.solace.observability.SolaceMetricsUtil;
+
+/**
+ * Diverts guaranteed messages that keep failing, so they are not redelivered forever.
+ * <p>
+ * A message whose delivery attempts exceed {@code maxDeliveryAttempts} is not passed to the application: it is
+ * republished to the parking queue, if one is configured, or settled with the REJECTED outcome so the broker moves it
+ * to the endpoint's dead message queue. Delivery attempts are the broker's delivery count plus any local redispatches;
+ * without broker support for the delivery count only local redispatches are counted.
+ */
+public final class PoisonMessagePolicy {
+
+    private final PoisonMessageConfig config;
+    private final ParkingProducer parkingProducer;
+    private final MessageSettler settler;
+    private final String url;
+    private final String destination;
+
+    /**
+     * @param config          the poison message configuration
+     * @param parkingProducer the session's shared parking producer; required if a parking queue is configured
+     * @param settler         the settler of the consumer or listener, which rejects diverted messages
+     * @param url             the broker URL, for metrics
+     * @param destination     the consumed endpoint, for metrics
+     */
+    public PoisonMessagePolicy(PoisonMessageConfig config, ParkingProducer parkingProducer, MessageSettler settler,
+                               String url, String destination) {
+        this.config = config;
+        this.parkingProducer = parkingProducer;
+        this.settler = settler;
+        this.url = url;
+        this.destination = destination;
+    }
+
+    /**
+     * Returns whether a message has exceeded the maximum delivery attempts.
+     *
+     * @param message           the received message
+     * @param localRedispatches the number of times the message was redispatched without a broker redelivery
+     * @return true if the message must be diverted
+     */
+    public boolean exceeded(XMLMessage message, int localRedispatches) {
+        int deliveryCount = 1;
+        try {
+            deliveryCount = Math.max(1, message.getDeliveryCount());
+        } catch (UnsupportedOperationException ignored) {
+            // Delivery count is not enabled on the broker; rely on local redispatches only.
+        }
+        return deliveryCount + localRedispatches > config.maxDeliveryAttempts();
+    }
+
+    /**
+     * Diverts a message to the parking queue, or rejects it to the dead message queue.
+     *
+     * @param message          the received message
+     * @param ballerinaMessage the message converted to a Ballerina Message record (used for the parked copy)
+     * @throws Exception if the message cannot be parked or settled
+     */
+    public void divert(XMLMessage message, BMap<BString, Object> ballerinaMessage) throws Exception {
+        if (config.parkingQueueName() != null) {
+            parkingProducer.park(message, ballerinaMessage, config.parkingQueueName());
+        } else {
+            settler.settle(message, XMLMessage.Outcome.REJECTED);
+        }
+        SolaceMetricsUtil.reportPoisonMessage(url, destination, config.parkingQueueName() != null);
+    }
+}
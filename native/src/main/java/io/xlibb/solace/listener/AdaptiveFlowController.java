@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.listener;
+
+import io.xlibb.solace.config.AdaptiveFlowConfig;
+import io.xlibb.solace.observability.SolaceMetricsUtil;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Tunes the transport window of a listener service's flow at runtime.
+ * <p>
+ * Every sample interval the controller reads the service's delivery rate, mean service latency and dispatch queue
+ * depth from its {@link SolaceMessageListener}. When the service falls behind (latency above the target or a deep
+ * dispatch queue) the window is halved, so the broker holds messages instead of the client; when the service keeps
+ * up comfortably the window grows by a quarter. A JCSMP flow's window is fixed at creation, so a new window is
+ * applied by re-creating the flow ({@link AttachedService#retune(int)}). The sample following a re-tune is skipped
+ * because it includes the drain of the old flow. The chosen values are reported as gauges on every sample.
+ */
+final class AdaptiveFlowController {
+
+    private static final Logger LOGGER = Logger.getLogger(AdaptiveFlowController.class.getName());
+
+    private static final ScheduledExecutorService SAMPLER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "solace-adaptive-flow");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AdaptiveFlowConfig config;
+    private final AttachedService service;
+    private final SolaceMessageListener messageListener;
+    private final int ackThreshold;
+    private final String url;
+    private final String destination;
+    // Only touched by the sampler thread.
+    private int windowSize;
+    private boolean skipNextSample;
+    private volatile ScheduledFuture<?> task;
+
+    AdaptiveFlowController(AdaptiveFlowConfig config, AttachedService service, SolaceMessageListener messageListener,
+                           int initialWindowSize, int ackThreshold, String url, String destination) {
+        this.config = config;
+        this.service = service;
+        this.messageListener = messageListener;
+        this.windowSize = initialWindowSize;
+        this.ackThreshold = ackThreshold;
+        this.url = url;
+        this.destination = destination;
+    }
+
+    /**
+     * Starts sampling. Called when the service starts.
+     */
+    synchronized void start() {
+        if (task != null) {
+            return;
+        }
+        messageListener.drainDispatchStats();
+        task = SAMPLER.scheduleWithFixedDelay(this::sample, config.sampleIntervalMs(), config.sampleIntervalMs(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops sampling. Called when the service stops or is closed.
+     */
+    synchronized void stop() {
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+    }
+
+    // Not synchronized: re-tuning takes the service's lock, which is held while the service stops this controller.
+    private void sample() {
+        if (task == null) {
+            return;
+        }
+        long[] stats = messageListener.drainDispatchStats();
+        int queueDepth = messageListener.dispatchQueueDepth();
+        long dispatched = stats[0];
+        double latencyMs = dispatched > 0 ? stats[1] / (dispatched * 1_000_000.0) : 0.0;
+        double rate = dispatched * 1000.0 / config.sampleIntervalMs();
+
+        if (skipNextSample) {
+            skipNextSample = false;
+        } else {
+            int next = nextWindowSize(windowSize, dispatched, latencyMs, queueDepth);
+            if (next != windowSize) {
+                try {
+                    service.retune(next);
+                    windowSize = next;
+                    skipNextSample = true;
+                } catch (Exception e) {
+                    LOGGER.log(Level.WARNING, "Failed to re-tune the flow window of " + destination, e);
+                }
+            }
+        }
+        SolaceMetricsUtil.reportFlowControl(url, destination, windowSize, ackThreshold, rate, latencyMs, queueDepth);
+    }
+
+    private int nextWindowSize(int current, long dispatched, double latencyMs, int queueDepth) {
+        if (dispatched == 0 && queueDepth == 0) {
+            // Idle: there is no evidence either way.
+            return current;
+        }
+        if (latencyMs > config.targetLatencyMs() || queueDepth > config.maxQueueDepth()) {
+            return Math.max(config.minWindowSize(), current / 2);
+        }
+        if (latencyMs <= config.targetLatencyMs() / 2.0 && queueDepth <= config.maxQueueDepth() / 2) {
+            return Math.min(config.maxWindowSize(), current + Math.max(1, current / 4));
+        }
+        return current;
+    }
+}
@@ -18,48 +18,134 @@
 
 package io.xlibb.solace.listener;
 
+import com.solacesystems.jcsmp.Endpoint;
 import com.solacesystems.jcsmp.FlowReceiver;
 import com.solacesystems.jcsmp.JCSMPException;
 import com.solacesystems.jcsmp.JCSMPSession;
-import com.solacesystems.jcsmp.Topic;
-import com.solacesystems.jcsmp.XMLMessageConsumer;
+import io.xlibb.solace.consumer.ConsumerUtils;
+import io.xlibb.solace.observability.SolaceMetricsUtil;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import static io.xlibb.solace.consumer.ConsumerUtils.SUBSCRIPTION_TYPE_DIRECT_TOPIC;
+import static io.xlibb.solace.consumer.ConsumerUtils.SUBSCRIPTION_TYPE_QUEUE;
 
 /**
  * Holds the native JCSMP receiver and lifecycle state for a single service attached to a {@link ListenerActions}
- * listener. A service is backed either by a {@link FlowReceiver} (queue / durable topic endpoint) or an
- * {@link XMLMessageConsumer} (direct topic).
+ * listener. A service is backed either by a {@link FlowReceiver} (queue / durable topic endpoint) or by a set of
+ * topic subscriptions routed through the listener's shared {@link DirectTopicDispatcher} (direct topic).
+ * <p>
+ * A flow-backed service is created closed: its endpoint is provisioned and its flow created by {@link #open(long)},
+ * which the listener runs for many services in parallel at startup, or on first delivery otherwise.
+ * <p>
+ * Delivery runs while the service is started by the listener and not paused for any {@link PauseReason}. Each reason
+ * is raised and cleared independently, so e.g. a circuit breaker closing does not resume a service that is still
+ * paused for another reason.
  */
 final class AttachedService {
 
+    private static final Logger LOGGER = Logger.getLogger(AttachedService.class.getName());
+
+    private static final long RETUNE_DRAIN_TIMEOUT_MS = 30_000;
+
+    /**
+     * Applies pauses requested from a service's dispatch thread, which must not wait on this service's lock while a
+     * flow re-tune waits for that thread to go idle. A single thread keeps the requests in order.
+     */
+    private static final ExecutorService PAUSE_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "solace-flow-pause");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final String subscriptionType;
-    private final FlowReceiver flow;
-    private final XMLMessageConsumer consumer;
-    private final Topic directTopic;
-    private final JCSMPSession session;
+    private final FlowFactory flowFactory;
+    private final Provisioner provisioner;
+    private final int initialWindowSize;
+    private final DirectTopicDispatcher dispatcher;
+    private final Endpoint endpoint;
+    private List<String> directTopics;
     private final SolaceMessageListener messageListener;
+    private final Set<PauseReason> pauseReasons = EnumSet.noneOf(PauseReason.class);
+    private FlowReceiver flow;
+    private AdaptiveFlowController adaptiveFlowController;
     private boolean started;
+    private boolean delivering;
+    private boolean closed;
 
-    private AttachedService(String subscriptionType, FlowReceiver flow, XMLMessageConsumer consumer,
-                            Topic directTopic, JCSMPSession session, SolaceMessageListener messageListener) {
+    private AttachedService(String subscriptionType, Endpoint endpoint, FlowFactory flowFactory,
+                            Provisioner provisioner, int initialWindowSize, DirectTopicDispatcher dispatcher,
+                            List<String> directTopics, SolaceMessageListener messageListener) {
         this.subscriptionType = subscriptionType;
-        this.flow = flow;
-        this.consumer = consumer;
-        this.directTopic = directTopic;
-        this.session = session;
+        this.endpoint = endpoint;
+        this.flowFactory = flowFactory;
+        this.provisioner = provisioner;
+        this.initialWindowSize = initialWindowSize;
+        this.dispatcher = dispatcher;
+        this.directTopics = directTopics;
         this.messageListener = messageListener;
     }
 
-    static AttachedService forFlow(String subscriptionType, FlowReceiver flow,
-                                   SolaceMessageListener messageListener) {
-        return new AttachedService(subscriptionType, flow, null, null, null, messageListener);
+    /**
+     * Creates a flow-backed service whose flow is created with the given transport window size when it is opened.
+     *
+     * @param endpoint    the queue or durable topic endpoint the flow binds to
+     * @param provisioner provisions the service's endpoint before its flow is created, or null if none is needed
+     */
+    static AttachedService forFlow(String subscriptionType, Endpoint endpoint, Provisioner provisioner,
+                                   FlowFactory flowFactory, int windowSize, SolaceMessageListener messageListener) {
+        return new AttachedService(subscriptionType, endpoint, flowFactory, provisioner, windowSize, null, null,
+                messageListener);
     }
 
-    static AttachedService forDirectTopic(XMLMessageConsumer consumer, Topic directTopic, JCSMPSession session,
-                                          SolaceMessageListener messageListener) {
-        return new AttachedService(SUBSCRIPTION_TYPE_DIRECT_TOPIC, null, consumer, directTopic, session,
-                messageListener);
+    static AttachedService forDirectTopics(DirectTopicDispatcher dispatcher, List<String> directTopics,
+                                           SolaceMessageListener messageListener) {
+        return new AttachedService(SUBSCRIPTION_TYPE_DIRECT_TOPIC, null, null, null, 0, dispatcher,
+                List.copyOf(directTopics), messageListener);
+    }
+
+    /**
+     * Provisions the service's endpoint and creates its flow, if not done yet, and reports how long each step took.
+     * Does nothing for a direct topic service, whose subscriptions are added when delivery starts.
+     *
+     * @param requestedAtNanos when the open was requested ({@link System#nanoTime()}), to report time spent queued
+     * @throws JCSMPException if the endpoint cannot be provisioned or the flow cannot be created
+     */
+    synchronized void open(long requestedAtNanos) throws JCSMPException {
+        if (closed || flowFactory == null || flow != null) {
+            return;
+        }
+        long provisionStart = System.nanoTime();
+        if (provisioner != null) {
+            provisioner.provision();
+        }
+        long flowStart = System.nanoTime();
+        flow = flowFactory.create(initialWindowSize);
+        long opened = System.nanoTime();
+        SolaceMetricsUtil.reportServiceStartup(messageListener.url(), messageListener.destination(),
+                TimeUnit.NANOSECONDS.toMillis(provisionStart - requestedAtNanos),
+                TimeUnit.NANOSECONDS.toMillis(flowStart - provisionStart),
+                TimeUnit.NANOSECONDS.toMillis(opened - flowStart));
+    }
+
+    /**
+     * Closes the flow created by {@link #open(long)} of a service that has not started, so that it can be opened
+     * again. Called when another service of the listener fails to open.
+     */
+    synchronized void closeFlow() {
+        if (started || flow == null) {
+            return;
+        }
+        flow.close();
+        flow = null;
     }
 
     String subscriptionType() {
@@ -67,40 +153,210 @@ final class AttachedService {
     }
 
     /**
-     * Begins message delivery for this service.
+     * Returns the name of the queue or durable topic endpoint the service's flow binds to, or null for a direct topic
+     * service.
+     */
+    String endpointName() {
+        return endpoint != null ? endpoint.getName() : null;
+    }
+
+    /**
+     * Returns the name of the queue, topic endpoint or topics the service consumes from, for error messages.
+     */
+    String destination() {
+        return messageListener != null ? messageListener.destination() : subscriptionType;
+    }
+
+    /**
+     * Enables adaptive tuning of this service's flow window. Sampling runs while messages are being delivered.
+     */
+    synchronized void adaptiveFlowController(AdaptiveFlowController controller) {
+        this.adaptiveFlowController = controller;
+    }
+
+    /**
+     * Begins message delivery for this service, unless it is paused.
      */
     synchronized void start() throws JCSMPException {
-        if (started) {
+        started = true;
+        updateDelivery();
+    }
+
+    /**
+     * Pauses message delivery without releasing resources. After {@code stop()} the receiver can be started again.
+     * For a direct topic service this removes the service's subscriptions from the session unless another service
+     * still uses them.
+     */
+    synchronized void stop() throws JCSMPException {
+        started = false;
+        updateDelivery();
+    }
+
+    /**
+     * Pauses delivery for the given reason until {@link #resume(PauseReason)} clears it.
+     */
+    synchronized void pause(PauseReason reason) throws JCSMPException {
+        if (pauseReasons.add(reason)) {
+            updateDelivery();
+        }
+    }
+
+    /**
+     * Clears a pause reason, resuming delivery if the service is started and no other reason remains.
+     */
+    synchronized void resume(PauseReason reason) throws JCSMPException {
+        if (pauseReasons.remove(reason)) {
+            updateDelivery();
+        }
+    }
+
+    /**
+     * Requests {@link #pause(PauseReason)} without waiting for it. Requests are applied in the order they are made.
+     */
+    void pauseAsync(PauseReason reason) {
+        PAUSE_EXECUTOR.execute(() -> apply(reason, true));
+    }
+
+    /**
+     * Requests {@link #resume(PauseReason)} without waiting for it. Requests are applied in the order they are made.
+     */
+    void resumeAsync(PauseReason reason) {
+        PAUSE_EXECUTOR.execute(() -> apply(reason, false));
+    }
+
+    private void apply(PauseReason reason, boolean pause) {
+        try {
+            if (pause) {
+                pause(reason);
+            } else {
+                resume(reason);
+            }
+        } catch (JCSMPException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to " + (pause ? "pause" : "resume") + " delivery (" + reason + ")", e);
+        }
+    }
+
+    private void updateDelivery() throws JCSMPException {
+        boolean deliver = started && !closed && pauseReasons.isEmpty();
+        if (deliver == delivering) {
             return;
         }
-        if (flow != null) {
-            flow.start();
-        } else if (consumer != null) {
-            consumer.start();
+        if (deliver) {
+            open(System.nanoTime());
+            if (flow != null) {
+                flow.start();
+            } else if (dispatcher != null) {
+                dispatcher.activate(messageListener, directTopics);
+            }
+            if (adaptiveFlowController != null) {
+                adaptiveFlowController.start();
+            }
+        } else {
+            if (adaptiveFlowController != null) {
+                adaptiveFlowController.stop();
+            }
+            if (flow != null) {
+                flow.stop();
+            } else if (dispatcher != null) {
+                dispatcher.deactivate(messageListener);
+            }
         }
-        started = true;
+        delivering = deliver;
     }
 
     /**
-     * Pauses message delivery without releasing resources. After {@code stop()} the receiver can be started again.
+     * Adds topic subscriptions to the service without interrupting delivery. A direct topic service's subscriptions
+     * are routed to it as soon as they are added; a queue service's subscriptions are added to the queue itself, where
+     * they persist on the broker. A durable topic endpoint has a single, fixed subscription, so the caller rejects
+     * changing it with a {@code SubscriptionChangeError} and this leaves it as it is.
+     *
+     * @param session the listener's session
+     * @param topics  the topic subscriptions to add; ones the service already has are skipped
+     * @throws JCSMPException if a subscription cannot be added
+     */
+    synchronized void subscribe(JCSMPSession session, List<String> topics) throws JCSMPException {
+        if (dispatcher != null) {
+            List<String> updated = new ArrayList<>(directTopics);
+            for (String topic : topics) {
+                if (!updated.contains(topic)) {
+                    updated.add(topic);
+                }
+            }
+            updateDirectTopics(updated);
+        } else if (SUBSCRIPTION_TYPE_QUEUE.equals(subscriptionType)) {
+            ConsumerUtils.addQueueSubscriptions(session, endpoint, topics);
+        }
+    }
+
+    /**
+     * Removes topic subscriptions from the service without interrupting delivery of its other subscriptions.
+     *
+     * @param session the listener's session
+     * @param topics  the topic subscriptions to remove; ones the service does not have are ignored
+     * @throws JCSMPException if a subscription cannot be removed
      */
-    synchronized void stop() {
-        if (!started) {
+    synchronized void unsubscribe(JCSMPSession session, List<String> topics) throws JCSMPException {
+        if (dispatcher != null) {
+            List<String> updated = new ArrayList<>(directTopics);
+            updated.removeAll(topics);
+            updateDirectTopics(updated);
+        } else if (SUBSCRIPTION_TYPE_QUEUE.equals(subscriptionType)) {
+            ConsumerUtils.removeQueueSubscriptions(session, endpoint, topics);
+        }
+    }
+
+    private void updateDirectTopics(List<String> topics) throws JCSMPException {
+        if (closed) {
             return;
         }
-        if (flow != null) {
+        // While delivery is stopped the subscriptions are not on the session; they are added when it resumes.
+        if (delivering) {
+            dispatcher.update(messageListener, topics);
+        }
+        directTopics = List.copyOf(topics);
+    }
+
+    /**
+     * Re-creates the flow with a new transport window size, which JCSMP fixes when a flow is created. The old flow
+     * is stopped and the messages already handed to the service are processed and settled before it is closed; any
+     * message the broker had sent but the service had not yet received is redelivered on the new flow.
+     *
+     * @param windowSize the new transport window size
+     * @throws JCSMPException if the new flow cannot be created or started
+     */
+    synchronized void retune(int windowSize) throws JCSMPException {
+        if (closed || flowFactory == null || flow == null) {
+            return;
+        }
+        if (delivering) {
             flow.stop();
-        } else if (consumer != null) {
-            consumer.stop();
         }
-        started = false;
+        // Messages held for delayed redelivery belong to the old flow; the broker redelivers them once it closes.
+        messageListener.redeliveryScheduler().cancelAll();
+        messageListener.awaitIdle(RETUNE_DRAIN_TIMEOUT_MS);
+        flow.close();
+        flow = flowFactory.create(windowSize);
+        if (delivering) {
+            flow.start();
+        }
     }
 
     /**
-     * Stops delivery and releases the receiver and any direct-topic subscription. Does not close the shared session.
+     * Waits until the messages already handed to the service have been processed and settled.
+     *
+     * @param timeoutMs the maximum time to wait, in milliseconds
+     */
+    void awaitIdle(long timeoutMs) {
+        messageListener.awaitIdle(timeoutMs);
+    }
+
+    /**
+     * Stops delivery and releases the receiver and any direct-topic subscriptions. Does not close the shared session
+     * or the listener's direct topic consumer.
      */
     synchronized void close() throws JCSMPException {
         stop();
+        closed = true;
         // Drain any in-flight service invocation / settlement before releasing the receiver and session, since those
         // tasks may still call ack / commit / rollback on this flow.
         if (messageListener != null) {
@@ -109,11 +365,35 @@ final class AttachedService {
         if (flow != null) {
             flow.close();
         }
-        if (consumer != null) {
-            if (directTopic != null && session != null) {
-                session.removeSubscription(directTopic);
-            }
-            consumer.close();
-        }
+    }
+
+    /**
+     * Why delivery to a started service is paused.
+     */
+    enum PauseReason {
+        /** The service's circuit breaker is open. */
+        CIRCUIT_OPEN,
+        /** The service's delivery rate limit is exhausted and the messages already received are being drained. */
+        RATE_LIMITED,
+        /** The application paused the service, or the whole listener, through {@code Listener.pause()}. */
+        USER
+    }
+
+    /**
+     * Provisions the endpoint of a flow-backed service, e.g. a durable topic endpoint, before its flow is created.
+     */
+    @FunctionalInterface
+    interface Provisioner {
+
+        void provision() throws JCSMPException;
+    }
+
+    /**
+     * Creates the flow of a flow-backed service with a given transport window size.
+     */
+    @FunctionalInterface
+    interface FlowFactory {
+
+        FlowReceiver create(int windowSize) throws JCSMPException;
     }
 }
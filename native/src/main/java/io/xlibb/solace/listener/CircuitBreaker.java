@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.listener;
+
+import io.xlibb.solace.config.CircuitBreakerConfig;
+import io.xlibb.solace.observability.SolaceMetricsUtil;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Pauses delivery to a listener service while its {@code onMessage} keeps failing, e.g. because a downstream
+ * dependency is down.
+ * <p>
+ * The circuit starts closed. It opens after {@code failureThreshold} consecutive failures, or when the failure ratio
+ * within a sampling window reaches {@code failureRateThreshold}; the service's flow is then paused for
+ * {@link AttachedService.PauseReason#CIRCUIT_OPEN CIRCUIT_OPEN} so the broker keeps the remaining messages. After the
+ * cooldown the circuit turns half-open and delivery resumes on probation: the first failure opens it again for another
+ * cooldown, while {@code halfOpenProbes} consecutive successes close it.
+ * <p>
+ * Outcomes are recorded on the service's dispatch thread and the cooldown expires on the shared {@link TimingWheel};
+ * neither waits on the flow, as pausing and resuming it are only requested.
+ */
+final class CircuitBreaker {
+
+    private static final Logger LOGGER = Logger.getLogger(CircuitBreaker.class.getName());
+
+    private final CircuitBreakerConfig config;
+    private final AttachedService service;
+    private final String url;
+    private final String destination;
+    private final long samplingWindowNanos;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int probeSuccesses;
+    private long windowStartNanos;
+    private int windowCalls;
+    private int windowFailures;
+    private long openedNanos;
+    private int dropped;
+    private TimingWheel.Timeout cooldown;
+    private boolean closed;
+
+    CircuitBreaker(CircuitBreakerConfig config, AttachedService service, String url, String destination) {
+        this.config = config;
+        this.service = service;
+        this.url = url;
+        this.destination = destination;
+        this.samplingWindowNanos = TimeUnit.MILLISECONDS.toNanos(config.samplingWindowMs());
+        this.windowStartNanos = System.nanoTime();
+        SolaceMetricsUtil.reportCircuitState(url, destination, State.CLOSED.ordinal(), false);
+    }
+
+    /**
+     * Returns whether the circuit is open, in which case messages still queued for the service are not dispatched.
+     */
+    synchronized boolean isOpen() {
+        return state == State.OPEN;
+    }
+
+    /**
+     * Returns the time left until the open circuit turns half-open, at least one millisecond.
+     */
+    synchronized long remainingCooldownMs() {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - openedNanos);
+        return Math.max(1, config.cooldownMs() - elapsedMs);
+    }
+
+    /**
+     * Records a direct message dropped because the circuit is open. The drops of an open period are logged once it
+     * ends.
+     */
+    synchronized void recordDrop() {
+        dropped++;
+        SolaceMetricsUtil.reportCircuitDrop(url, destination);
+    }
+
+    /**
+     * Records a message the service processed successfully.
+     */
+    synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        sample(false);
+        if (state == State.HALF_OPEN && ++probeSuccesses >= config.halfOpenProbes()) {
+            state = State.CLOSED;
+            SolaceMetricsUtil.reportCircuitState(url, destination, state.ordinal(), false);
+        }
+    }
+
+    /**
+     * Records a message the service failed to process, opening the circuit if a threshold is reached.
+     */
+    synchronized void recordFailure() {
+        consecutiveFailures++;
+        boolean rateExceeded = sample(true);
+        if (state == State.HALF_OPEN
+                || (state == State.CLOSED && (consecutiveFailures >= config.failureThreshold() || rateExceeded))) {
+            open();
+        }
+    }
+
+    /**
+     * Counts an outcome in the current sampling window, starting a new window once it has elapsed.
+     *
+     * @return true if the window's failure ratio has reached the threshold
+     */
+    private boolean sample(boolean failure) {
+        if (config.failureRateThreshold() <= 0) {
+            return false;
+        }
+        long now = System.nanoTime();
+        if (now - windowStartNanos >= samplingWindowNanos) {
+            windowStartNanos = now;
+            windowCalls = 0;
+            windowFailures = 0;
+        }
+        windowCalls++;
+        if (failure) {
+            windowFailures++;
+        }
+        return windowCalls >= config.minimumCalls()
+                && (double) windowFailures / windowCalls >= config.failureRateThreshold();
+    }
+
+    private void open() {
+        if (closed) {
+            return;
+        }
+        state = State.OPEN;
+        openedNanos = System.nanoTime();
+        consecutiveFailures = 0;
+        windowCalls = 0;
+        windowFailures = 0;
+        SolaceMetricsUtil.reportCircuitState(url, destination, state.ordinal(), true);
+        LOGGER.warning(String.format("Circuit opened for service on '%s'; delivery paused for %d ms", destination,
+                config.cooldownMs()));
+        service.pauseAsync(AttachedService.PauseReason.CIRCUIT_OPEN);
+        cooldown = TimingWheel.SHARED.schedule(this::halfOpen, config.cooldownMs());
+    }
+
+    private synchronized void halfOpen() {
+        if (closed || state != State.OPEN) {
+            return;
+        }
+        state = State.HALF_OPEN;
+        probeSuccesses = 0;
+        cooldown = null;
+        logDrops();
+        SolaceMetricsUtil.reportCircuitState(url, destination, state.ordinal(), false);
+        service.resumeAsync(AttachedService.PauseReason.CIRCUIT_OPEN);
+    }
+
+    /**
+     * Cancels a pending cooldown. Called when the service is detached or the listener is stopped.
+     */
+    synchronized void close() {
+        closed = true;
+        if (cooldown != null) {
+            cooldown.cancel();
+            cooldown = null;
+        }
+        logDrops();
+    }
+
+    private void logDrops() {
+        if (dropped > 0) {
+            LOGGER.warning(String.format("Dropped %d direct message(s) for service on '%s' while its circuit was open",
+                    dropped, destination));
+            dropped = 0;
+        }
+    }
+
+    private enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.listener;
+
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.Destination;
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.JCSMPSession;
+import com.solacesystems.jcsmp.XMLMessageConsumer;
+import com.solacesystems.jcsmp.XMLMessageListener;
+import io.xlibb.solace.consumer.ConsumerUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes direct topic messages to the services attached to a listener.
+ * <p>
+ * A JCSMP session has a single {@link XMLMessageConsumer}, so the listener owns one consumer for all of its direct
+ * topic services and this dispatcher fans each inbound message out to the services whose subscriptions match the
+ * message's topic, using a compiled {@link TopicTrie}. Session subscriptions are reference counted so that services
+ * sharing a subscription register it with the broker only once.
+ */
+final class DirectTopicDispatcher implements XMLMessageListener {
+
+    private final JCSMPSession session;
+    private final XMLMessageConsumer consumer;
+    private final Map<SolaceMessageListener, List<String>> activeServices = new LinkedHashMap<>();
+    private final Map<String, Integer> subscriptionCounts = new HashMap<>();
+    private volatile TopicTrie<SolaceMessageListener> trie = TopicTrie.empty();
+    private boolean consumerStarted;
+
+    DirectTopicDispatcher(JCSMPSession session) throws JCSMPException {
+        this.session = session;
+        this.consumer = session.getMessageConsumer(this);
+    }
+
+    /**
+     * Begins routing messages matching the given subscriptions to a service, adding any subscription not yet
+     * registered on the session.
+     *
+     * @param messageListener the service's message listener
+     * @param topics          the service's topic subscriptions
+     * @throws JCSMPException if a subscription cannot be added or the consumer cannot be started
+     */
+    synchronized void activate(SolaceMessageListener messageListener, List<String> topics) throws JCSMPException {
+        if (activeServices.containsKey(messageListener)) {
+            return;
+        }
+        List<String> added = new ArrayList<>();
+        for (String topic : topics) {
+            if (subscriptionCounts.merge(topic, 1, Integer::sum) == 1) {
+                added.add(topic);
+            }
+        }
+        try {
+            ConsumerUtils.addTopicSubscriptions(session, added);
+        } catch (JCSMPException e) {
+            for (String topic : topics) {
+                if (subscriptionCounts.merge(topic, -1, Integer::sum) <= 0) {
+                    subscriptionCounts.remove(topic);
+                }
+            }
+            throw e;
+        }
+        activeServices.put(messageListener, List.copyOf(topics));
+        trie = TopicTrie.compile(activeServices);
+        if (!consumerStarted) {
+            consumer.start();
+            consumerStarted = true;
+        }
+    }
+
+    /**
+     * Stops routing messages to a service, removing any subscription no longer used by another active service.
+     *
+     * @param messageListener the service's message listener
+     * @throws JCSMPException if a subscription cannot be removed
+     */
+    synchronized void deactivate(SolaceMessageListener messageListener) throws JCSMPException {
+        List<String> topics = activeServices.remove(messageListener);
+        if (topics == null) {
+            return;
+        }
+        trie = TopicTrie.compile(activeServices);
+        List<String> removed = new ArrayList<>();
+        for (String topic : topics) {
+            if (subscriptionCounts.merge(topic, -1, Integer::sum) <= 0) {
+                subscriptionCounts.remove(topic);
+                removed.add(topic);
+            }
+        }
+        ConsumerUtils.removeTopicSubscriptions(session, removed);
+    }
+
+    /**
+     * Replaces the subscriptions of an active service. New subscriptions are added to the session before the routing
+     * trie is swapped and stale ones removed after it, so messages matching a subscription kept across the change are
+     * delivered without a gap.
+     *
+     * @param messageListener the service's message listener
+     * @param topics          the service's new topic subscriptions
+     * @throws JCSMPException if a subscription cannot be added or removed
+     */
+    synchronized void update(SolaceMessageListener messageListener, List<String> topics) throws JCSMPException {
+        List<String> current = activeServices.get(messageListener);
+        if (current == null) {
+            return;
+        }
+        List<String> counted = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        for (String topic : topics) {
+            if (!current.contains(topic)) {
+                counted.add(topic);
+                if (subscriptionCounts.merge(topic, 1, Integer::sum) == 1) {
+                    added.add(topic);
+                }
+            }
+        }
+        try {
+            ConsumerUtils.addTopicSubscriptions(session, added);
+        } catch (JCSMPException e) {
+            for (String topic : counted) {
+                if (subscriptionCounts.merge(topic, -1, Integer::sum) <= 0) {
+                    subscriptionCounts.remove(topic);
+                }
+            }
+            throw e;
+        }
+        activeServices.put(messageListener, List.copyOf(topics));
+        trie = TopicTrie.compile(activeServices);
+        List<String> removed = new ArrayList<>();
+        for (String topic : current) {
+            if (!topics.contains(topic) && subscriptionCounts.merge(topic, -1, Integer::sum) <= 0) {
+                subscriptionCounts.remove(topic);
+                removed.add(topic);
+            }
+        }
+        ConsumerUtils.removeTopicSubscriptions(session, removed);
+    }
+
+    @Override
+    public void onReceive(BytesXMLMessage message) {
+        Destination destination = message.getDestination();
+        List<SolaceMessageListener> targets = trie.match(destination != null ? destination.getName() : null);
+        for (SolaceMessageListener target : targets) {
+            target.onReceive(message);
+        }
+    }
+
+    @Override
+    public void onException(JCSMPException exception) {
+        List<SolaceMessageListener> targets;
+        synchronized (this) {
+            targets = new ArrayList<>(activeServices.keySet());
+        }
+        for (SolaceMessageListener target : targets) {
+            target.onException(exception);
+        }
+    }
+
+    /**
+     * Closes the shared consumer. Called when the listener stops; the session itself is closed by the listener.
+     */
+    synchronized void close() {
+        activeServices.clear();
+        subscriptionCounts.clear();
+        trie = TopicTrie.empty();
+        consumer.close();
+    }
+}
@@ -20,8 +20,10 @@ package io.xlibb.solace.listener;
 
 import com.solacesystems.jcsmp.ConsumerFlowProperties;
 import com.solacesystems.jcsmp.DurableTopicEndpoint;
+import com.solacesystems.jcsmp.Endpoint;
 import com.solacesystems.jcsmp.EndpointProperties;
 import com.solacesystems.jcsmp.FlowReceiver;
+import com.solacesystems.jcsmp.JCSMPException;
 import com.solacesystems.jcsmp.JCSMPFactory;
 import com.solacesystems.jcsmp.JCSMPProperties;
 import com.solacesystems.jcsmp.JCSMPSession;
@@ -37,47 +39,90 @@ import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.AnnotatableType;
 import io.ballerina.runtime.api.types.MethodType;
 import io.ballerina.runtime.api.types.NetworkObjectType;
+import io.ballerina.runtime.api.types.Parameter;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.xlibb.solace.ModuleUtils;
 import io.xlibb.solace.common.CommonUtils;
+import io.xlibb.solace.config.AdaptiveFlowConfig;
+import io.xlibb.solace.config.AutoCommitConfig;
+import io.xlibb.solace.config.ChunkReassemblyConfig;
 import io.xlibb.solace.config.ConfigurationUtils;
 import io.xlibb.solace.config.ConnectionConfiguration;
 import io.xlibb.solace.config.ConsumerSubscriptionConfig;
 import io.xlibb.solace.config.QueueConsumerConfig;
+import io.xlibb.solace.config.SchemaRegistryConfig;
 import io.xlibb.solace.config.TopicConsumerConfig;
 import io.xlibb.solace.consumer.AcknowledgementMode;
+import io.xlibb.solace.consumer.CheckpointStore;
+import io.xlibb.solace.consumer.ChunkReassembler;
 import io.xlibb.solace.consumer.ConsumerUtils;
-
+import io.xlibb.solace.consumer.DeduplicationWindow;
+import io.xlibb.solace.consumer.MessageSettler;
+import io.xlibb.solace.consumer.ParkingProducer;
+import io.xlibb.solace.consumer.PayloadBinder;
+import io.xlibb.solace.consumer.PoisonMessagePolicy;
+import io.xlibb.solace.serdes.SchemaDeserializer;
+
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-
+import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.xlibb.solace.common.Constants.NATIVE_CHECKPOINT_STORE;
+import static io.xlibb.solace.common.Constants.NATIVE_CHUNK_REASSEMBLY;
 import static io.xlibb.solace.common.Constants.NATIVE_CLOSED;
+import static io.xlibb.solace.common.Constants.NATIVE_DEDUPLICATION_WINDOW;
+import static io.xlibb.solace.common.Constants.NATIVE_DIRECT_DISPATCHER;
+import static io.xlibb.solace.common.Constants.NATIVE_MESSAGE_SETTLER;
+import static io.xlibb.solace.common.Constants.NATIVE_PARKING_PRODUCER;
+import static io.xlibb.solace.common.Constants.NATIVE_REPLY_PRODUCER;
+import static io.xlibb.solace.common.Constants.NATIVE_PAUSED;
+import static io.xlibb.solace.common.Constants.NATIVE_REDELIVERY_SCHEDULER;
 import static io.xlibb.solace.common.Constants.NATIVE_RUNTIME;
+import static io.xlibb.solace.common.Constants.NATIVE_SCHEMA_DESERIALIZER;
 import static io.xlibb.solace.common.Constants.NATIVE_SERVICES;
 import static io.xlibb.solace.common.Constants.NATIVE_SESSION;
 import static io.xlibb.solace.common.Constants.NATIVE_STARTED;
+import static io.xlibb.solace.common.Constants.NATIVE_STARTUP_CONCURRENCY;
 import static io.xlibb.solace.common.Constants.NATIVE_TRANSACTED;
+import static io.xlibb.solace.common.Constants.NATIVE_TX_BATCHER;
 import static io.xlibb.solace.common.Constants.NATIVE_TX_SESSION;
 import static io.xlibb.solace.common.Constants.NATIVE_URL;
-import static io.xlibb.solace.consumer.ConsumerUtils.SUBSCRIPTION_TYPE_DIRECT_TOPIC;
 import static io.xlibb.solace.consumer.ConsumerUtils.SUBSCRIPTION_TYPE_DURABLE_TOPIC;
 import static io.xlibb.solace.consumer.ConsumerUtils.SUBSCRIPTION_TYPE_QUEUE;
 
 /**
  * Listener actions - entry point for the Ballerina Solace {@code Listener} interop. Manages a JCSMP session and a set
- * of attached services, each backed by an asynchronous {@link FlowReceiver} (queue / durable topic endpoint) or an
- * {@link XMLMessageConsumer} (direct topic) that pushes messages into the service via {@link SolaceMessageListener}.
+ * of attached services, each backed by an asynchronous {@link FlowReceiver} (queue / durable topic endpoint) or by
+ * topic subscriptions on the session's single {@link XMLMessageConsumer} (direct topic). Any number of direct topic
+ * services may be attached; the {@link DirectTopicDispatcher} routes each message to every service whose
+ * subscription matches its topic. Messages are pushed into each service via {@link SolaceMessageListener}.
  */
 public class ListenerActions {
 
     private static final String ON_MESSAGE = "onMessage";
     private static final String ON_ERROR = "onError";
     private static final String SERVICE_CONFIG_ANNOTATION = "ServiceConfig";
+    private static final long GRACEFUL_DRAIN_TIMEOUT_MS = 30_000;
+    private static final BString STARTUP_CONCURRENCY_KEY = StringUtils.fromString("startupConcurrency");
+    private static final String SUBSCRIPTION_CHANGE_ERROR = "SubscriptionChangeError";
+    private static final String SUBSCRIPTION_CHANGE_ERROR_DETAIL = "SubscriptionChangeErrorDetail";
+    private static final BString SERVICE_NAME_KEY = StringUtils.fromString("serviceName");
+    private static final BString ENDPOINT_NAME_KEY = StringUtils.fromString("endpointName");
 
     /**
      * Initialize the listener: create and connect the JCSMP session (and a transacted session if requested).
@@ -91,19 +136,47 @@ public class ListenerActions {
     public static Object init(Environment env, BObject listener, BString url, BMap<BString, Object> config) {
         try {
             ConnectionConfiguration connectionConfig = new ConnectionConfiguration(config);
+            SchemaRegistryConfig schemaRegistry = SchemaRegistryConfig.fromConfig(config);
+            ChunkReassemblyConfig chunkReassembly = ChunkReassemblyConfig.fromConfig(config);
             JCSMPProperties props = ConfigurationUtils.buildJCSMPProperties(url.getValue(), connectionConfig);
 
             JCSMPSession session = JCSMPFactory.onlyInstance().createSession(props);
             session.connect();
 
             boolean isTransacted = connectionConfig.transacted();
+            AutoCommitConfig autoCommit = AutoCommitConfig.fromConfig(config);
+            if (autoCommit != null && !isTransacted) {
+                session.closeSession();
+                return CommonUtils.createError("autoCommit requires a transacted listener. "
+                        + "Set transacted = true on the listener configuration.");
+            }
+            if (chunkReassembly != null && isTransacted) {
+                session.closeSession();
+                return CommonUtils.createError("chunkReassembly is not supported on a transacted listener, since a "
+                        + "commit would also consume the chunks of incomplete messages");
+            }
+            int startupConcurrency = config.getIntValue(STARTUP_CONCURRENCY_KEY).intValue();
+            if (startupConcurrency < 1) {
+                session.closeSession();
+                return CommonUtils.createError("startupConcurrency must be at least 1");
+            }
             TransactedSession txSession = isTransacted ? session.createTransactedSession() : null;
 
             listener.addNativeData(NATIVE_SESSION, session);
             listener.addNativeData(NATIVE_TX_SESSION, txSession);
+            listener.addNativeData(NATIVE_TX_BATCHER, autoCommit != null
+                    ? new TransactionBatcher(autoCommit, txSession, url.getValue()) : null);
             listener.addNativeData(NATIVE_TRANSACTED, isTransacted);
             listener.addNativeData(NATIVE_CLOSED, false);
             listener.addNativeData(NATIVE_STARTED, false);
+            listener.addNativeData(NATIVE_PAUSED, false);
+            listener.addNativeData(NATIVE_STARTUP_CONCURRENCY, startupConcurrency);
+            listener.addNativeData(NATIVE_SCHEMA_DESERIALIZER,
+                    schemaRegistry != null ? new SchemaDeserializer(schemaRegistry) : null);
+            // A transacted listener delivers chunks as they are; other listeners always reassemble them.
+            listener.addNativeData(NATIVE_CHUNK_REASSEMBLY, isTransacted ? null
+                    : chunkReassembly != null ? chunkReassembly : ChunkReassemblyConfig.DEFAULT);
+            listener.addNativeData(NATIVE_MESSAGE_SETTLER, new MessageSettler());
             listener.addNativeData(NATIVE_URL, url.getValue());
             listener.addNativeData(NATIVE_RUNTIME, env.getRuntime());
             listener.addNativeData(NATIVE_SERVICES, new LinkedHashMap<BObject, AttachedService>());
@@ -115,7 +188,8 @@ public class ListenerActions {
 
     /**
      * Attach a service to the listener. Reads the {@code @solace:ServiceConfig} annotation, validates the service's
-     * {@code onMessage} method, and creates the backing receiver. If the listener is already started, delivery to the
+     * {@code onMessage} method, and creates the backing receiver. The receiver's endpoint is provisioned and its flow
+     * created when the listener starts; if the listener is already started, this happens at once and delivery to the
      * newly attached service begins immediately.
      *
      * @param listener the Ballerina listener object
@@ -135,12 +209,18 @@ public class ListenerActions {
                         "The @solace:ServiceConfig annotation with a queue or topic subscription is required");
             }
 
-            int onMessageParams = onMessageParameterCount(service);
-            if (onMessageParams < 0) {
+            MethodType onMessage = onMessageMethod(service);
+            if (onMessage == null) {
                 return CommonUtils.createError("The service must declare a remote 'onMessage' method");
             }
+            Parameter[] onMessageParams = onMessage.getParameters();
+            if (onMessageParams.length == 0) {
+                return CommonUtils.createError("The 'onMessage' method must accept the message as its first parameter");
+            }
             boolean hasOnError = hasRemoteMethod(service, ON_ERROR);
-            boolean hasCaller = onMessageParams >= 2;
+            boolean hasCaller = onMessageParams.length >= 2;
+            // The first parameter is the Message, a message record with a typed payload, or the payload alone.
+            PayloadBinder payloadBinder = PayloadBinder.forType(onMessageParams[0].type);
 
             ConsumerSubscriptionConfig subscriptionConfig = ConsumerSubscriptionConfig.fromBMap(serviceConfig);
             boolean isTransacted = (Boolean) listener.getNativeData(NATIVE_TRANSACTED);
@@ -151,10 +231,6 @@ public class ListenerActions {
                     return CommonUtils.createError("Transacted mode is not supported for direct topic subscriptions. "
                             + "Use DURABLE endpoint type for guaranteed delivery with transactions.");
                 }
-                if (!topicConfig.isDurable() && hasDirectTopicService(listener)) {
-                    return CommonUtils.createError("Only one direct topic service can be attached per listener. "
-                            + "Use a separate listener or a durable topic endpoint.");
-                }
             }
 
             // Direct topic messages are not guaranteed and carry no acknowledgement, so auto-settle only
@@ -166,25 +242,80 @@ public class ListenerActions {
             Runtime runtime = (Runtime) listener.getNativeData(NATIVE_RUNTIME);
             JCSMPSession session = (JCSMPSession) listener.getNativeData(NATIVE_SESSION);
             TransactedSession txSession = (TransactedSession) listener.getNativeData(NATIVE_TX_SESSION);
+            MessageSettler settler = (MessageSettler) listener.getNativeData(NATIVE_MESSAGE_SETTLER);
+
+            CheckpointStore checkpointStore = ConsumerUtils.openCheckpointStore(subscriptionConfig);
+            DeduplicationWindow deduplicationWindow = subscriptionConfig.deduplication() != null
+                    ? new DeduplicationWindow(subscriptionConfig.deduplication()) : null;
 
             // Create the Caller supplied to onMessage for explicit ack/nack and transaction control.
             BObject caller = ValueCreator.createObjectValue(ModuleUtils.getModule(), "Caller");
             caller.addNativeData(NATIVE_TX_SESSION, txSession);
+            caller.addNativeData(NATIVE_CHECKPOINT_STORE, checkpointStore);
+            caller.addNativeData(NATIVE_DEDUPLICATION_WINDOW, deduplicationWindow);
+            caller.addNativeData(NATIVE_MESSAGE_SETTLER, settler);
+            caller.addNativeData(NATIVE_REPLY_PRODUCER, parkingProducer(listener, session));
             caller.addNativeData(NATIVE_CLOSED, false);
 
             String url = (String) listener.getNativeData(NATIVE_URL);
             String destinationName = ConsumerUtils.extractDestinationName(subscriptionConfig);
+            PoisonMessagePolicy poisonMessagePolicy = subscriptionConfig.poisonMessage() != null
+                    ? new PoisonMessagePolicy(subscriptionConfig.poisonMessage(), parkingProducer(listener, session),
+                            settler, url, destinationName)
+                    : null;
+            ChunkReassemblyConfig chunkReassembly =
+                    (ChunkReassemblyConfig) listener.getNativeData(NATIVE_CHUNK_REASSEMBLY);
+            ChunkReassembler chunkReassembler = chunkReassembly != null
+                    ? new ChunkReassembler(chunkReassembly, directTopic ? null : settler) : null;
             SolaceMessageListener messageListener =
                     new SolaceMessageListener(runtime, service, caller, hasCaller, hasOnError, autoAck, url,
-                            destinationName);
-
-            AttachedService attached = createReceiver(session, txSession, isTransacted, subscriptionConfig,
-                    messageListener);
+                            destinationName, checkpointStore, deduplicationWindow,
+                            subscriptionConfig.redeliveryBackoff(), poisonMessagePolicy, payloadBinder,
+                            (SchemaDeserializer) listener.getNativeData(NATIVE_SCHEMA_DESERIALIZER),
+                            chunkReassembler, settler);
+            caller.addNativeData(NATIVE_REDELIVERY_SCHEDULER, messageListener.redeliveryScheduler());
+
+            AttachedService attached;
+            try {
+                attached = createReceiver(listener, session, txSession, isTransacted, subscriptionConfig,
+                        messageListener, checkpointStore);
+            } catch (Exception e) {
+                messageListener.shutdown();
+                throw e;
+            }
+            if (subscriptionConfig.circuitBreaker() != null) {
+                messageListener.circuitBreaker(new CircuitBreaker(subscriptionConfig.circuitBreaker(), attached, url,
+                        destinationName));
+            }
+            if (subscriptionConfig.maxRate() != null) {
+                messageListener.rateLimiter(new RateLimiter(subscriptionConfig.maxRate(), attached, messageListener,
+                        url, destinationName));
+            }
+            TransactionBatcher transactionBatcher = (TransactionBatcher) listener.getNativeData(NATIVE_TX_BATCHER);
+            if (transactionBatcher != null) {
+                messageListener.transactionBatcher(transactionBatcher);
+                transactionBatcher.register(messageListener);
+            }
 
+            // Before the listener starts, services are opened together by start(); afterwards, open this one now so
+            // that a missing endpoint fails the attach.
+            boolean started = (Boolean) listener.getNativeData(NATIVE_STARTED);
+            if (started) {
+                try {
+                    attached.open(System.nanoTime());
+                } catch (Exception e) {
+                    attached.close();
+                    throw e;
+                }
+            }
             servicesMap(listener).put(service, attached);
 
+            // A service attached while the whole listener is paused starts out paused too.
+            if ((Boolean) listener.getNativeData(NATIVE_PAUSED)) {
+                attached.pause(AttachedService.PauseReason.USER);
+            }
+
             // If the listener is already running, begin delivering to the newly attached service immediately.
-            boolean started = (Boolean) listener.getNativeData(NATIVE_STARTED);
             if (started) {
                 attached.start();
             }
@@ -214,7 +345,8 @@ public class ListenerActions {
     }
 
     /**
-     * Start the listener: begin delivery for all attached services.
+     * Start the listener: open all attached services, provisioning their endpoints and creating their flows in
+     * parallel, then begin delivery for them.
      *
      * @param listener the Ballerina listener object
      * @return null on success, BError on failure
@@ -224,7 +356,9 @@ public class ListenerActions {
             if (isClosed(listener)) {
                 return CommonUtils.createError("Listener is closed");
             }
-            for (AttachedService attached : servicesMap(listener).values()) {
+            Collection<AttachedService> services = servicesMap(listener).values();
+            openServices(services, (Integer) listener.getNativeData(NATIVE_STARTUP_CONCURRENCY));
+            for (AttachedService attached : services) {
                 attached.start();
             }
             listener.addNativeData(NATIVE_STARTED, true);
@@ -234,6 +368,111 @@ public class ListenerActions {
         }
     }
 
+    /**
+     * Add topic subscriptions to an attached direct topic or queue service without detaching it. A direct topic
+     * service's new subscriptions are routed to it as soon as they are added; a queue service's are added to the
+     * queue on the broker.
+     *
+     * @param listener the Ballerina listener object
+     * @param service  the Ballerina service object
+     * @param topics   the topic subscriptions to add (may contain wildcards)
+     * @return null on success, BError on failure
+     */
+    public static Object subscribe(BObject listener, BObject service, BArray topics) {
+        return updateSubscriptions(listener, service, topics, true);
+    }
+
+    /**
+     * Remove topic subscriptions from an attached direct topic or queue service without detaching it.
+     *
+     * @param listener the Ballerina listener object
+     * @param service  the Ballerina service object
+     * @param topics   the topic subscriptions to remove
+     * @return null on success, BError on failure
+     */
+    public static Object unsubscribe(BObject listener, BObject service, BArray topics) {
+        return updateSubscriptions(listener, service, topics, false);
+    }
+
+    private static Object updateSubscriptions(BObject listener, BObject service, BArray topics, boolean subscribe) {
+        try {
+            if (isClosed(listener)) {
+                return CommonUtils.createError("Listener is closed");
+            }
+            AttachedService attached = servicesMap(listener).get(service);
+            if (attached == null) {
+                return CommonUtils.createError("Service is not attached to this listener");
+            }
+            if (SUBSCRIPTION_TYPE_DURABLE_TOPIC.equals(attached.subscriptionType())) {
+                return subscriptionChangeError(service, attached.endpointName());
+            }
+            JCSMPSession session = (JCSMPSession) listener.getNativeData(NATIVE_SESSION);
+            List<String> topicList = List.of(topics.getStringArray());
+            if (subscribe) {
+                attached.subscribe(session, topicList);
+            } else {
+                attached.unsubscribe(session, topicList);
+            }
+            return null;
+        } catch (Exception e) {
+            return CommonUtils.createError("Failed to " + (subscribe ? "subscribe" : "unsubscribe") + " topics", e);
+        }
+    }
+
+    /**
+     * Pause delivery to an attached service, or to every attached service (including any attached later) when no
+     * service is given. The services' flows are stopped but not released, so the broker holds further messages until
+     * {@link #resume(BObject, Object)} is called; messages already received are still processed.
+     *
+     * @param listener the Ballerina listener object
+     * @param service  the Ballerina service object, or null for all services
+     * @return null on success, BError on failure
+     */
+    public static Object pause(BObject listener, Object service) {
+        return setPaused(listener, service, true);
+    }
+
+    /**
+     * Resume delivery to a service paused by {@link #pause(BObject, Object)}, or to every attached service when no
+     * service is given. A service also paused by its circuit breaker or rate limit stays paused until those clear.
+     *
+     * @param listener the Ballerina listener object
+     * @param service  the Ballerina service object, or null for all services
+     * @return null on success, BError on failure
+     */
+    public static Object resume(BObject listener, Object service) {
+        return setPaused(listener, service, false);
+    }
+
+    private static Object setPaused(BObject listener, Object service, boolean pause) {
+        try {
+            if (isClosed(listener)) {
+                return CommonUtils.createError("Listener is closed");
+            }
+            Collection<AttachedService> targets;
+            if (service instanceof BObject serviceObject) {
+                AttachedService attached = servicesMap(listener).get(serviceObject);
+                if (attached == null) {
+                    return CommonUtils.createError("Service is not attached to this listener");
+                }
+                targets = List.of(attached);
+            } else {
+                listener.addNativeData(NATIVE_PAUSED, pause);
+                targets = servicesMap(listener).values();
+            }
+            for (AttachedService attached : targets) {
+                if (pause) {
+                    attached.pause(AttachedService.PauseReason.USER);
+                } else {
+                    attached.resume(AttachedService.PauseReason.USER);
+                }
+            }
+            return null;
+        } catch (Exception e) {
+            return CommonUtils.createError("Failed to " + (pause ? "pause" : "resume") + " delivery", e);
+        }
+    }
+
     /**
      * Gracefully stop the listener: pause delivery (letting in-flight processing finish) and release all resources.
      *
@@ -257,14 +496,39 @@ public class ListenerActions {
     private static Object stop(BObject listener, boolean graceful) {
         try {
             Map<BObject, AttachedService> services = servicesMap(listener);
-            for (AttachedService attached : services.values()) {
-                if (graceful) {
+            TransactionBatcher transactionBatcher = (TransactionBatcher) listener.getNativeData(NATIVE_TX_BATCHER);
+            if (graceful) {
+                for (AttachedService attached : services.values()) {
                     attached.stop();
                 }
+                if (transactionBatcher != null) {
+                    // Commit the messages already processed once the services have drained their dispatch queues.
+                    for (AttachedService attached : services.values()) {
+                        attached.awaitIdle(GRACEFUL_DRAIN_TIMEOUT_MS);
+                    }
+                }
+            }
+            if (transactionBatcher != null) {
+                transactionBatcher.close(graceful);
+                listener.addNativeData(NATIVE_TX_BATCHER, null);
+            }
+            for (AttachedService attached : services.values()) {
                 attached.close();
             }
             services.clear();
 
+            DirectTopicDispatcher dispatcher = (DirectTopicDispatcher) listener.getNativeData(NATIVE_DIRECT_DISPATCHER);
+            if (dispatcher != null) {
+                dispatcher.close();
+                listener.addNativeData(NATIVE_DIRECT_DISPATCHER, null);
+            }
+            ParkingProducer parkingProducer = (ParkingProducer) listener.getNativeData(NATIVE_PARKING_PRODUCER);
+            if (parkingProducer != null) {
+                parkingProducer.close();
+                listener.addNativeData(NATIVE_PARKING_PRODUCER, null);
+            }
+            ((MessageSettler) listener.getNativeData(NATIVE_MESSAGE_SETTLER)).close();
+
             TransactedSession txSession = (TransactedSession) listener.getNativeData(NATIVE_TX_SESSION);
             if (txSession != null) {
                 txSession.close();
@@ -282,22 +546,92 @@ public class ListenerActions {
         }
     }
 
-    private static AttachedService createReceiver(JCSMPSession session, TransactedSession txSession,
-                                                  boolean isTransacted, ConsumerSubscriptionConfig subscriptionConfig,
-                                                  SolaceMessageListener messageListener)
+    private static BError subscriptionChangeError(BObject service, String endpointName) {
+        String serviceName = TypeUtils.getType(service).getName();
+        BMap<BString, Object> detail = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                SUBSCRIPTION_CHANGE_ERROR_DETAIL);
+        detail.put(SERVICE_NAME_KEY, StringUtils.fromString(serviceName));
+        detail.put(ENDPOINT_NAME_KEY, StringUtils.fromString(endpointName));
+        return CommonUtils.createError(SUBSCRIPTION_CHANGE_ERROR, String.format("Cannot change the subscriptions of "
+                + "service %s: durable topic endpoint %s has a single, fixed subscription; use a queue with topic "
+                + "subscriptions instead", serviceName, endpointName), null, detail);
+    }
+
+    /**
+     * Opens the given services on up to {@code concurrency} threads, since provisioning an endpoint and creating a
+     * flow each wait for the broker. Every service is attempted; if any fails, the flows of the others are closed
+     * again and a single exception naming every failed service is thrown.
+     */
+    private static void openServices(Collection<AttachedService> services, int concurrency) throws Exception {
+        long requestedAt = System.nanoTime();
+        List<AttachedService> pending = new ArrayList<>(services);
+        Map<AttachedService, Exception> failures = new LinkedHashMap<>();
+        int threads = Math.min(concurrency, pending.size());
+        if (threads <= 1) {
+            for (AttachedService attached : pending) {
+                try {
+                    attached.open(requestedAt);
+                } catch (Exception e) {
+                    failures.put(attached, e);
+                }
+            }
+        } else {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (AttachedService attached : pending) {
+                tasks.add(() -> {
+                    attached.open(requestedAt);
+                    return null;
+                });
+            }
+            ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "solace-service-startup");
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                List<Future<Void>> results = executor.invokeAll(tasks);
+                for (int i = 0; i < results.size(); i++) {
+                    try {
+                        results.get(i).get();
+                    } catch (ExecutionException e) {
+                        failures.put(pending.get(i), e.getCause() instanceof Exception cause ? cause : e);
+                    }
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+        if (failures.isEmpty()) {
+            return;
+        }
+        // Do not leave the services that did open bound to their endpoints while the listener is not running.
+        for (AttachedService attached : pending) {
+            if (!failures.containsKey(attached)) {
+                attached.closeFlow();
+            }
+        }
+        StringJoiner details = new StringJoiner("; ");
+        failures.forEach((attached, e) -> details.add(attached.destination() + ": " + e.getMessage()));
+        Exception error = new Exception(String.format("%d of %d services could not be opened (%s)",
+                failures.size(), pending.size(), details));
+        failures.values().forEach(error::addSuppressed);
+        throw error;
+    }
+
+    private static AttachedService createReceiver(BObject listener, JCSMPSession session,
+                                                  TransactedSession txSession, boolean isTransacted,
+                                                  ConsumerSubscriptionConfig subscriptionConfig,
+                                                  SolaceMessageListener messageListener,
+                                                  CheckpointStore checkpointStore)
             throws Exception {
         if (subscriptionConfig instanceof QueueConsumerConfig queueConfig) {
             Queue queue = JCSMPFactory.onlyInstance().createQueue(queueConfig.queueName());
             ConsumerFlowProperties flowProps = new ConsumerFlowProperties();
             flowProps.setEndpoint(queue);
             ConsumerUtils.configureFlowProperties(flowProps, queueConfig);
-            if (!isTransacted) {
-                flowProps.addRequiredSettlementOutcomes(XMLMessage.Outcome.FAILED, XMLMessage.Outcome.REJECTED);
-            }
-            FlowReceiver flow = isTransacted
-                    ? txSession.createFlow(messageListener, flowProps, null)
-                    : session.createFlow(messageListener, flowProps, null);
-            return AttachedService.forFlow(SUBSCRIPTION_TYPE_QUEUE, flow, messageListener);
+            ConsumerUtils.resumeFromCheckpoint(flowProps, queueConfig, checkpointStore);
+            return createFlowService(listener, SUBSCRIPTION_TYPE_QUEUE, queue, null, flowProps, session, txSession,
+                    isTransacted, queueConfig, messageListener);
         }
 
         TopicConsumerConfig topicConfig = (TopicConsumerConfig) subscriptionConfig;
@@ -305,35 +639,88 @@ public class ListenerActions {
             DurableTopicEndpoint endpoint =
                     JCSMPFactory.onlyInstance().createDurableTopicEndpoint(topicConfig.endpointName());
             Topic topic = JCSMPFactory.onlyInstance().createTopic(topicConfig.topicName());
-            session.provision(endpoint, new EndpointProperties(), JCSMPSession.FLAG_IGNORE_ALREADY_EXISTS);
+            AttachedService.Provisioner provisioner = () ->
+                    session.provision(endpoint, new EndpointProperties(), JCSMPSession.FLAG_IGNORE_ALREADY_EXISTS);
 
             ConsumerFlowProperties flowProps = new ConsumerFlowProperties();
             flowProps.setEndpoint(endpoint);
             flowProps.setNewSubscription(topic);
             ConsumerUtils.configureFlowProperties(flowProps, topicConfig);
-            if (!isTransacted) {
-                flowProps.addRequiredSettlementOutcomes(XMLMessage.Outcome.FAILED, XMLMessage.Outcome.REJECTED);
-            }
+            ConsumerUtils.resumeFromCheckpoint(flowProps, topicConfig, checkpointStore);
+            return createFlowService(listener, SUBSCRIPTION_TYPE_DURABLE_TOPIC, endpoint, provisioner, flowProps,
+                    session, txSession, isTransacted, topicConfig, messageListener);
+        }
+
+        // Direct topic: subscriptions are added to the session when the service starts and routed to it by the
+        // listener's shared dispatcher.
+        return AttachedService.forDirectTopics(directTopicDispatcher(listener, session),
+                topicConfig.subscriptions(), messageListener);
+    }
+
+    /**
+     * Creates a queue or durable topic service and, if configured, its adaptive flow controller. The service's flow
+     * is created when the service is opened.
+     */
+    private static AttachedService createFlowService(BObject listener, String subscriptionType, Endpoint endpoint,
+                                                     AttachedService.Provisioner provisioner,
+                                                     ConsumerFlowProperties flowProps, JCSMPSession session,
+                                                     TransactedSession txSession, boolean isTransacted,
+                                                     ConsumerSubscriptionConfig subscriptionConfig,
+                                                     SolaceMessageListener messageListener) {
+        AdaptiveFlowConfig adaptiveFlow = subscriptionConfig.adaptiveFlow();
+        if (adaptiveFlow != null && isTransacted) {
+            throw new IllegalArgumentException("adaptiveFlow is not supported on a transacted listener");
+        }
+        if (!isTransacted) {
+            flowProps.addRequiredSettlementOutcomes(XMLMessage.Outcome.FAILED, XMLMessage.Outcome.REJECTED);
+        }
+        AttachedService.FlowFactory flowFactory = windowSize -> {
+            flowProps.setTransportWindowSize(windowSize);
             FlowReceiver flow = isTransacted
                     ? txSession.createFlow(messageListener, flowProps, null)
                     : session.createFlow(messageListener, flowProps, null);
-            return AttachedService.forFlow(SUBSCRIPTION_TYPE_DURABLE_TOPIC, flow, messageListener);
+            // A re-created flow continues from the endpoint's current position instead of replaying again.
+            flowProps.setReplayStartLocation(null);
+            return flow;
+        };
+        if (adaptiveFlow == null) {
+            return AttachedService.forFlow(subscriptionType, endpoint, provisioner, flowFactory,
+                    flowProps.getTransportWindowSize(), messageListener);
         }
+        int windowSize = adaptiveFlow.clamp(subscriptionConfig.transportWindowSize());
+        AttachedService attached = AttachedService.forFlow(subscriptionType, endpoint, provisioner, flowFactory,
+                windowSize, messageListener);
+        attached.adaptiveFlowController(new AdaptiveFlowController(adaptiveFlow, attached, messageListener,
+                windowSize, flowProps.getAckThreshold(), (String) listener.getNativeData(NATIVE_URL),
+                ConsumerUtils.extractDestinationName(subscriptionConfig)));
+        return attached;
+    }
 
-        // Direct topic: asynchronous XMLMessageConsumer bound to the session.
-        Topic topic = JCSMPFactory.onlyInstance().createTopic(topicConfig.topicName());
-        XMLMessageConsumer consumer = session.getMessageConsumer(messageListener);
-        session.addSubscription(topic);
-        return AttachedService.forDirectTopic(consumer, topic, session, messageListener);
+    /**
+     * Returns the listener's direct topic dispatcher, creating it (and the session's message consumer) on first use.
+     */
+    private static DirectTopicDispatcher directTopicDispatcher(BObject listener, JCSMPSession session)
+            throws JCSMPException {
+        DirectTopicDispatcher dispatcher = (DirectTopicDispatcher) listener.getNativeData(NATIVE_DIRECT_DISPATCHER);
+        if (dispatcher == null) {
+            dispatcher = new DirectTopicDispatcher(session);
+            listener.addNativeData(NATIVE_DIRECT_DISPATCHER, dispatcher);
+        }
+        return dispatcher;
     }
 
-    private static boolean hasDirectTopicService(BObject listener) {
-        for (AttachedService attached : servicesMap(listener).values()) {
-            if (SUBSCRIPTION_TYPE_DIRECT_TOPIC.equals(attached.subscriptionType())) {
-                return true;
-            }
+    /**
+     * Returns the producer shared by the listener's services to park poison messages and send replies, creating it on
+     * first use.
+     */
+    private static ParkingProducer parkingProducer(BObject listener, JCSMPSession session) {
+        ParkingProducer parkingProducer = (ParkingProducer) listener.getNativeData(NATIVE_PARKING_PRODUCER);
+        if (parkingProducer == null) {
+            parkingProducer = new ParkingProducer(session,
+                    (MessageSettler) listener.getNativeData(NATIVE_MESSAGE_SETTLER));
+            listener.addNativeData(NATIVE_PARKING_PRODUCER, parkingProducer);
         }
-        return false;
+        return parkingProducer;
     }
 
     /**
@@ -356,15 +743,15 @@ public class ListenerActions {
     }
 
     /**
-     * Returns the parameter count of the remote {@code onMessage} method, or -1 if the service has no such method.
+     * Returns the remote {@code onMessage} method, or null if the service has no such method.
      */
-    private static int onMessageParameterCount(BObject service) {
+    private static MethodType onMessageMethod(BObject service) {
         for (MethodType method : remoteMethods(service)) {
             if (ON_MESSAGE.equals(method.getName())) {
-                return method.getParameters().length;
+                return method;
             }
         }
-        return -1;
+        return null;
     }
 
     private static boolean hasRemoteMethod(BObject service, String methodName) {
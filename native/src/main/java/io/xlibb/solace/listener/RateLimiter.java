@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.listener;
+
+import io.xlibb.solace.config.RateLimitConfig;
+import io.xlibb.solace.observability.SolaceMetricsUtil;
+
+import java.util.concurrent.locks.LockSupport;
+
+import static io.xlibb.solace.consumer.ConsumerUtils.SUBSCRIPTION_TYPE_DIRECT_TOPIC;
+
+/**
+ * Limits the rate at which a listener service's {@code onMessage} is invoked, using a {@link TokenBucket}.
+ * <p>
+ * The dispatch thread takes a token before each invocation and waits for the next one if the bucket is empty. Messages
+ * keep arriving while it waits, so a flow-backed service is also paused for
+ * {@link AttachedService.PauseReason#RATE_LIMITED RATE_LIMITED}: the broker holds the backlog instead of the dispatch
+ * queue growing without bound. Delivery resumes once the dispatch queue has drained. A direct topic service is only
+ * throttled, since pausing it would remove its subscriptions and lose the messages published meanwhile.
+ */
+final class RateLimiter {
+
+    private final TokenBucket bucket;
+    private final AttachedService service;
+    private final SolaceMessageListener messageListener;
+    private final boolean pausable;
+    private final String url;
+    private final String destination;
+    // Only touched by the dispatch thread.
+    private boolean paused;
+
+    RateLimiter(RateLimitConfig config, AttachedService service, SolaceMessageListener messageListener, String url,
+                String destination) {
+        this.bucket = new TokenBucket(config.ratePerSecond(), config.burst());
+        this.service = service;
+        this.messageListener = messageListener;
+        this.pausable = !SUBSCRIPTION_TYPE_DIRECT_TOPIC.equals(service.subscriptionType());
+        this.url = url;
+        this.destination = destination;
+    }
+
+    /**
+     * Takes a token for the next invocation, waiting until one is available. Called on the dispatch thread.
+     */
+    void acquire() {
+        long waitNanos = bucket.reserve();
+        if (waitNanos > 0) {
+            if (pausable && !paused) {
+                paused = true;
+                service.pauseAsync(AttachedService.PauseReason.RATE_LIMITED);
+                SolaceMetricsUtil.reportRateLimitPause(url, destination);
+            }
+            long deadline = System.nanoTime() + waitNanos;
+            for (long remaining = waitNanos; remaining > 0 && !Thread.currentThread().isInterrupted();
+                 remaining = deadline - System.nanoTime()) {
+                LockSupport.parkNanos(remaining);
+            }
+        }
+        if (paused && messageListener.dispatchQueueDepth() == 0) {
+            paused = false;
+            service.resumeAsync(AttachedService.PauseReason.RATE_LIMITED);
+        }
+    }
+}
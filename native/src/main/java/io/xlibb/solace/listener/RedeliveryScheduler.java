@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.listener;
+
+import com.solacesystems.jcsmp.XMLMessage;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.xlibb.solace.config.RedeliveryBackoffConfig;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Delayed redelivery of a listener service's failed or negatively acknowledged messages.
+ * <p>
+ * A message to be redelivered later is held unsettled on the shared {@link TimingWheel} rather than settled with the
+ * FAILED outcome straight away, so a failing downstream is not hammered by an immediate redelivery loop. When the
+ * delay expires the message is either settled FAILED (the broker redelivers it and counts the attempt) or handed to
+ * the service again, depending on the policy's {@link RedeliveryBackoffConfig.Action}. Held messages stay
+ * unacknowledged and count against the flow's unacknowledged-message limit, so at most {@code maxHeldMessages} are
+ * held at once; a message over that limit is settled FAILED immediately. Timers never run on, or block, the dispatch
+ * thread.
+ * <p>
+ * A message's local redispatch count is kept until the message is settled, or until the held messages are released
+ * when the flow closes; once the scheduler is closed it holds no more messages.
+ */
+public final class RedeliveryScheduler {
+
+    private final SolaceMessageListener messageListener;
+    private final RedeliveryBackoffConfig policy;
+    private final boolean backoffOnFailure;
+    private final Map<XMLMessage, TimingWheel.Timeout> held = new ConcurrentHashMap<>();
+    private final Map<XMLMessage, Integer> redispatches = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    RedeliveryScheduler(SolaceMessageListener messageListener, RedeliveryBackoffConfig policy) {
+        this.messageListener = messageListener;
+        this.backoffOnFailure = policy != null;
+        this.policy = policy != null ? policy : RedeliveryBackoffConfig.DEFAULT;
+    }
+
+    /**
+     * Returns whether failed messages are redelivered with a backoff, i.e. the service has a redelivery policy.
+     */
+    public boolean backoffOnFailure() {
+        return backoffOnFailure;
+    }
+
+    /**
+     * Returns the policy's delay before the next delivery of a message, based on its broker delivery count plus the
+     * number of times it was already redispatched locally.
+     *
+     * @param message the failed message
+     * @return the delay in milliseconds
+     */
+    public long backoffDelayMs(XMLMessage message) {
+        int deliveryCount = 1;
+        try {
+            deliveryCount = Math.max(1, message.getDeliveryCount());
+        } catch (UnsupportedOperationException ignored) {
+            // Delivery count is not enabled on the broker; rely on local redispatches only.
+        }
+        return policy.delayMs(deliveryCount + redispatches(message));
+    }
+
+    /**
+     * Holds an unsettled message for redelivery after a delay.
+     *
+     * @param message          the native message
+     * @param ballerinaMessage the converted message, dispatched again for {@code REDISPATCH}
+     * @param delayMs          the delay in milliseconds
+     * @return true if the message is held; false if the hold limit is reached or the scheduler is closed, and the
+     *         caller must settle it now
+     */
+    public synchronized boolean hold(XMLMessage message, BMap<BString, Object> ballerinaMessage, long delayMs) {
+        if (held.containsKey(message)) {
+            return true;
+        }
+        if (closed || held.size() >= policy.maxHeldMessages()) {
+            return false;
+        }
+        TimingWheel.Timeout timeout = TimingWheel.SHARED.schedule(() -> expire(message, ballerinaMessage), delayMs);
+        held.put(message, timeout);
+        return true;
+    }
+
+    /**
+     * Holds a message received while the service's circuit is open, and dispatches it again once the delay expires.
+     * Such a message never reached the service, so it is not counted as a redispatch, nor against the poison message
+     * limit, and it is not bounded by {@code maxHeldMessages}: the flow is paused while the circuit is open, so only
+     * the messages already received are held.
+     *
+     * @param message          the native message
+     * @param ballerinaMessage the converted message, dispatched again once the delay expires
+     * @param delayMs          the delay in milliseconds, normally until the circuit half-opens
+     * @return true if the message is held; false if the scheduler is closed
+     */
+    public synchronized boolean holdWhileOpen(XMLMessage message, BMap<BString, Object> ballerinaMessage,
+                                              long delayMs) {
+        if (held.containsKey(message)) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+        held.put(message, TimingWheel.SHARED.schedule(() -> release(message, ballerinaMessage), delayMs));
+        return true;
+    }
+
+    /**
+     * Returns whether a message is currently held for delayed redelivery.
+     */
+    public boolean isHeld(XMLMessage message) {
+        return held.containsKey(message);
+    }
+
+    /**
+     * Returns the number of times a message was dispatched again locally after failing.
+     */
+    public int redispatches(XMLMessage message) {
+        return redispatches.getOrDefault(message, 0);
+    }
+
+    /**
+     * Forgets a message's local redispatch count once it has been settled.
+     */
+    public void settled(XMLMessage message) {
+        redispatches.remove(message);
+    }
+
+    private void expire(XMLMessage message, BMap<BString, Object> ballerinaMessage) {
+        synchronized (this) {
+            if (held.remove(message) == null) {
+                return; // Released by cancelAll()
+            }
+            if (policy.action() == RedeliveryBackoffConfig.Action.REDISPATCH) {
+                redispatches.merge(message, 1, Integer::sum);
+            } else {
+                redispatches.remove(message);
+            }
+        }
+        if (policy.action() == RedeliveryBackoffConfig.Action.REDISPATCH) {
+            messageListener.redispatch(message, ballerinaMessage);
+        } else {
+            messageListener.settleFailed(message);
+        }
+    }
+
+    private void release(XMLMessage message, BMap<BString, Object> ballerinaMessage) {
+        synchronized (this) {
+            if (held.remove(message) == null) {
+                return; // Released by cancelAll()
+            }
+        }
+        messageListener.redispatch(message, ballerinaMessage);
+    }
+
+    /**
+     * Releases every held message without settling it. Called before the flow is closed, which makes the broker
+     * redeliver the released messages.
+     */
+    synchronized void cancelAll() {
+        for (XMLMessage message : held.keySet()) {
+            TimingWheel.Timeout timeout = held.remove(message);
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+        redispatches.clear();
+    }
+
+    /**
+     * Releases every held message and stops holding new ones. Called when the service shuts down.
+     */
+    synchronized void close() {
+        closed = true;
+        cancelAll();
+    }
+}
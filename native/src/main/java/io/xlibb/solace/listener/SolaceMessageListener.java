@@ -19,7 +19,9 @@
 package io.xlibb.solace.listener;
 
 import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.DeliveryMode;
 import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.XMLMessage;
 import com.solacesystems.jcsmp.XMLMessageListener;
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
@@ -30,18 +32,34 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.observability.ObservabilityConstants;
 import io.ballerina.runtime.observability.ObserveUtils;
 import io.xlibb.solace.common.CommonUtils;
+import io.xlibb.solace.config.RedeliveryBackoffConfig;
+import io.xlibb.solace.consumer.CheckpointStore;
+import io.xlibb.solace.consumer.ChunkReassembler;
+import io.xlibb.solace.consumer.DeduplicationWindow;
 import io.xlibb.solace.consumer.MessageConverter;
+import io.xlibb.solace.consumer.MessageSettler;
+import io.xlibb.solace.consumer.PayloadBinder;
+import io.xlibb.solace.consumer.PoisonMessagePolicy;
 import io.xlibb.solace.observability.SolaceMetricsUtil;
 import io.xlibb.solace.observability.SolaceObserverContext;
 import io.xlibb.solace.observability.SolaceTracingUtil;
+import io.xlibb.solace.serdes.SchemaDeserializer;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import static io.xlibb.solace.common.Constants.NATIVE_TX_SESSION;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.CONTEXT_CONSUMER;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_RECEIVE;
 
@@ -57,6 +75,7 @@ import static io.xlibb.solace.observability.SolaceObservabilityConstants.ERROR_T
  */
 final class SolaceMessageListener implements XMLMessageListener {
 
+    private static final Logger LOGGER = Logger.getLogger(SolaceMessageListener.class.getName());
     private static final String ON_MESSAGE = "onMessage";
     private static final String ON_ERROR = "onError";
 
@@ -68,10 +87,29 @@ final class SolaceMessageListener implements XMLMessageListener {
     private final boolean autoAck;
     private final String url;
     private final String destination;
-    private final ExecutorService dispatcher;
+    private final CheckpointStore checkpointStore;
+    private final DeduplicationWindow deduplicationWindow;
+    private final RedeliveryScheduler redeliveryScheduler;
+    private final PoisonMessagePolicy poisonMessagePolicy;
+    private final PayloadBinder payloadBinder;
+    private final SchemaDeserializer schemaDeserializer;
+    private final ChunkReassembler chunkReassembler;
+    private final MessageSettler settler;
+    private final ThreadPoolExecutor dispatcher;
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder serviceNanos = new LongAdder();
+    // Messages received from the broker but not yet processed; a batched commit waits for these.
+    private final AtomicInteger unprocessed = new AtomicInteger();
+    private volatile CircuitBreaker circuitBreaker;
+    private volatile RateLimiter rateLimiter;
+    private volatile TransactionBatcher transactionBatcher;
 
     SolaceMessageListener(Runtime runtime, BObject service, BObject caller, boolean hasCaller, boolean hasOnError,
-                          boolean autoAck, String url, String destination) {
+                          boolean autoAck, String url, String destination, CheckpointStore checkpointStore,
+                          DeduplicationWindow deduplicationWindow, RedeliveryBackoffConfig redeliveryBackoff,
+                          PoisonMessagePolicy poisonMessagePolicy, PayloadBinder payloadBinder,
+                          SchemaDeserializer schemaDeserializer, ChunkReassembler chunkReassembler,
+                          MessageSettler settler) {
         this.runtime = runtime;
         this.service = service;
         this.caller = caller;
@@ -80,62 +118,329 @@ final class SolaceMessageListener implements XMLMessageListener {
         this.autoAck = autoAck;
         this.url = url;
         this.destination = destination;
-        this.dispatcher = Executors.newSingleThreadExecutor(runnable -> {
-            Thread thread = new Thread(runnable, "solace-listener-dispatch");
-            thread.setDaemon(true);
-            return thread;
-        });
+        this.checkpointStore = checkpointStore;
+        this.deduplicationWindow = deduplicationWindow;
+        this.redeliveryScheduler = new RedeliveryScheduler(this, redeliveryBackoff);
+        this.poisonMessagePolicy = poisonMessagePolicy;
+        this.payloadBinder = payloadBinder;
+        this.schemaDeserializer = schemaDeserializer;
+        this.chunkReassembler = chunkReassembler;
+        this.settler = settler;
+        this.dispatcher = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "solace-listener-dispatch");
+                    thread.setDaemon(true);
+                    return thread;
+                });
     }
 
     @Override
     public void onReceive(BytesXMLMessage message) {
+        // A chunk is buffered until its set is complete; the chunk completing it is dispatched with the whole payload.
+        try {
+            if (chunkReassembler != null && chunkReassembler.accept(message) == null) {
+                return;
+            }
+        } catch (Throwable t) {
+            // The reassembler has rejected the malformed chunk and its set; only the fragment must not be dispatched.
+            LOGGER.log(Level.WARNING, "Rejected a malformed chunk received by service on " + destination, t);
+            unprocessed.incrementAndGet();
+            receive(() -> {
+                dispatchError(CommonUtils.createError("Failed to reassemble a chunked message",
+                        t instanceof Exception e ? e : new Exception(t)));
+                return false;
+            });
+            return;
+        }
         // Convert on the JCSMP delivery thread (copies the payload, safe for direct messages), then hand off so the
         // delivery thread is never blocked by the service call or a blocking settlement.
+        unprocessed.incrementAndGet();
         BMap<BString, Object> ballerinaMessage;
         try {
             ballerinaMessage = MessageConverter.toBallerinaMessage(message);
         } catch (Throwable t) {
-            submit(() -> dispatchError(CommonUtils.createError("Failed to convert message",
-                    t instanceof Exception e ? e : new Exception(t))));
+            receive(() -> {
+                dispatchError(CommonUtils.createError("Failed to convert message",
+                        t instanceof Exception e ? e : new Exception(t)));
+                // A message that cannot be converted, e.g. one that inflates past the maximum payload size, would
+                // fail on every redelivery too, so it is rejected to the dead message queue.
+                if (message.getDeliveryMode() != DeliveryMode.DIRECT && !transacted()) {
+                    settle(message, XMLMessage.Outcome.REJECTED);
+                }
+                return false;
+            });
             return;
         }
         SolaceMetricsUtil.reportConsume(url, destination, CommonUtils.getPayloadSize(ballerinaMessage));
         Map<String, String> traceContext = SolaceTracingUtil.extractTraceContextHeaders(ballerinaMessage);
-        submit(() -> deliver(message, ballerinaMessage, traceContext));
+        receive(() -> deliver(message, ballerinaMessage, traceContext));
+    }
+
+    /**
+     * Hands a received message to the dispatch thread, counting it as unprocessed until the task has run and then
+     * reporting the outcome to the transaction batcher, if any.
+     */
+    private void receive(BooleanSupplier task) {
+        boolean accepted = submit(() -> {
+            boolean succeeded = false;
+            try {
+                succeeded = task.getAsBoolean();
+            } finally {
+                unprocessed.decrementAndGet();
+            }
+            TransactionBatcher batcher = transactionBatcher;
+            if (batcher != null) {
+                if (succeeded) {
+                    batcher.succeeded();
+                } else {
+                    batcher.failed();
+                }
+            }
+        });
+        if (!accepted) {
+            unprocessed.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the broker URL of the listener, used to tag this service's metrics.
+     */
+    String url() {
+        return url;
+    }
+
+    /**
+     * Returns the name of the queue or topic this service consumes from, used to tag its metrics.
+     */
+    String destination() {
+        return destination;
+    }
+
+    /**
+     * Returns the scheduler holding this service's messages for delayed redelivery.
+     */
+    RedeliveryScheduler redeliveryScheduler() {
+        return redeliveryScheduler;
+    }
+
+    /**
+     * Sets the circuit breaker that records this service's outcomes. Called once the service's receiver exists.
+     */
+    void circuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Sets the rate limiter consulted before each invocation. Called once the service's receiver exists.
+     */
+    void rateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
     }
 
-    private void deliver(BytesXMLMessage message, BMap<BString, Object> ballerinaMessage,
-                         Map<String, String> traceContext) {
+    /**
+     * Sets the batcher that commits this service's transaction. Called once the service's receiver exists.
+     */
+    void transactionBatcher(TransactionBatcher transactionBatcher) {
+        this.transactionBatcher = transactionBatcher;
+    }
+
+    /**
+     * Dispatches a message to the service and settles it as configured.
+     *
+     * @return false if the service failed to process the message, true otherwise (including if it was dropped)
+     */
+    private boolean deliver(XMLMessage message, BMap<BString, Object> ballerinaMessage,
+                            Map<String, String> traceContext) {
+        boolean direct = message.getDeliveryMode() == DeliveryMode.DIRECT;
+        String deduplicationKey = null;
+        if (deduplicationWindow != null) {
+            deduplicationKey = deduplicationWindow.key(message);
+            if (dropIfDuplicate(message, deduplicationKey, direct)) {
+                return true;
+            }
+            if (transacted()) {
+                // Counted as processed when the service commits.
+                deduplicationWindow.markReceived(deduplicationKey);
+            }
+        }
+        if (poisonMessagePolicy != null && !direct && !transacted()
+                && poisonMessagePolicy.exceeded(message, redeliveryScheduler.redispatches(message))) {
+            divert(message, ballerinaMessage);
+            return true;
+        }
+        // In a transaction a message cannot be settled on its own, so it is still dispatched and the service's
+        // rollback returns it.
+        CircuitBreaker breaker = circuitBreaker;
+        if (breaker != null && breaker.isOpen() && !transacted()) {
+            holdWhileOpen(breaker, message, ballerinaMessage, direct);
+            return true;
+        }
+        RateLimiter limiter = rateLimiter;
+        if (limiter != null) {
+            limiter.acquire();
+        }
+        if (checkpointStore != null) {
+            // Recorded on commit if the service runs in a transaction, and when settled otherwise.
+            if (transacted()) {
+                checkpointStore.markReceived(message);
+            } else {
+                checkpointStore.markDelivered(message);
+            }
+        }
+        long startNanos = System.nanoTime();
         try {
             Object result = invokeOnMessage(ballerinaMessage, traceContext);
             if (result instanceof BError bError) {
-                // Processing failed: leave the message unsettled so guaranteed flows redeliver it.
-                dispatchError(bError, traceContext);
-                return;
+                onFailure(message, ballerinaMessage, direct, bError, traceContext);
+                return false;
             }
-            // In AUTO_ACK mode the flow is created with client acknowledgement, so settle on success here.
-            if (autoAck) {
-                message.ackMessage();
+            // In AUTO_ACK mode the flow is created with client acknowledgement, so settle on success here - unless
+            // the service negatively acknowledged the message with a delay.
+            if (autoAck && !redeliveryScheduler.isHeld(message)) {
+                settler.ack(message);
+                redeliveryScheduler.settled(message);
+                if (checkpointStore != null) {
+                    checkpointStore.record(message);
+                }
             }
+            // Direct messages are never acknowledged, so they count as processed once the service succeeds.
+            if (deduplicationWindow != null && (autoAck || direct)) {
+                deduplicationWindow.markProcessed(deduplicationKey);
+            }
+            if (breaker != null) {
+                breaker.recordSuccess();
+            }
+            return true;
         } catch (BError bError) {
-            dispatchError(bError, traceContext);
+            onFailure(message, ballerinaMessage, direct, bError, traceContext);
+            return false;
+        } catch (Throwable t) {
+            BError error = CommonUtils.createError("Failed to dispatch message to service",
+                    t instanceof Exception e ? e : new Exception(t));
+            onFailure(message, ballerinaMessage, direct, error, traceContext);
+            return false;
+        } finally {
+            dispatched.increment();
+            serviceNanos.add(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Handles a message the service failed to process. Without a redelivery policy the message is left unsettled.
+     * With one, a guaranteed message outside a transaction is held for redelivery after the policy's backoff delay,
+     * or settled FAILED at once if too many messages are already held.
+     */
+    private void onFailure(XMLMessage message, BMap<BString, Object> ballerinaMessage, boolean direct, BError error,
+                           Map<String, String> traceContext) {
+        dispatchError(error, traceContext);
+        CircuitBreaker breaker = circuitBreaker;
+        if (breaker != null) {
+            breaker.recordFailure();
+        }
+        if (!redeliveryScheduler.backoffOnFailure() || direct || transacted()) {
+            return;
+        }
+        long delayMs = redeliveryScheduler.backoffDelayMs(message);
+        if (!redeliveryScheduler.hold(message, ballerinaMessage, delayMs)) {
+            settle(message, XMLMessage.Outcome.FAILED);
+        }
+    }
+
+    /**
+     * Sets aside a message that was already queued for the service when its circuit opened, without invoking the
+     * service. A guaranteed message is held unsettled until the circuit half-opens and then dispatched again, so the
+     * broker's delivery count, and with it the poison message limit, is not affected. A direct message cannot be
+     * redelivered, so it is dropped and counted.
+     */
+    private void holdWhileOpen(CircuitBreaker breaker, XMLMessage message, BMap<BString, Object> ballerinaMessage,
+                               boolean direct) {
+        if (direct) {
+            breaker.recordDrop();
+            return;
+        }
+        // Not held once the service is shutting down; closing the flow returns the message to the broker.
+        redeliveryScheduler.holdWhileOpen(message, ballerinaMessage, breaker.remainingCooldownMs());
+    }
+
+    /**
+     * Diverts a message that exceeded the maximum delivery attempts without invoking the service.
+     */
+    private void divert(XMLMessage message, BMap<BString, Object> ballerinaMessage) {
+        redeliveryScheduler.settled(message);
+        try {
+            poisonMessagePolicy.divert(message, ballerinaMessage);
+            if (checkpointStore != null) {
+                checkpointStore.record(message);
+            }
         } catch (Throwable t) {
-            dispatchError(CommonUtils.createError("Failed to dispatch message to service",
-                    t instanceof Exception e ? e : new Exception(t)), traceContext);
+            dispatchError(CommonUtils.createError("Failed to divert a message that exceeded the maximum delivery "
+                    + "attempts", t instanceof Exception e ? e : new Exception(t)));
         }
     }
 
+    /**
+     * Dispatches a held message to the service again. Called by the {@link RedeliveryScheduler} when its delay
+     * expires.
+     */
+    void redispatch(XMLMessage message, BMap<BString, Object> ballerinaMessage) {
+        submit(() -> deliver(message, ballerinaMessage,
+                SolaceTracingUtil.extractTraceContextHeaders(ballerinaMessage)));
+    }
+
+    /**
+     * Settles a held message with the FAILED outcome so the broker redelivers it. Called by the
+     * {@link RedeliveryScheduler} when its delay expires; the settlement runs on the dispatch thread.
+     */
+    void settleFailed(XMLMessage message) {
+        submit(() -> settle(message, XMLMessage.Outcome.FAILED));
+    }
+
+    private void settle(XMLMessage message, XMLMessage.Outcome outcome) {
+        redeliveryScheduler.settled(message);
+        try {
+            settler.settle(message, outcome);
+        } catch (Throwable t) {
+            dispatchError(CommonUtils.createError("Failed to settle message",
+                    t instanceof Exception e ? e : new Exception(t)));
+        }
+    }
+
+    /**
+     * Drops a message already processed within the deduplication window. A duplicate guaranteed message is
+     * acknowledged so the broker stops redelivering it, except in a transaction, where the next commit consumes it.
+     */
+    private boolean dropIfDuplicate(XMLMessage message, String deduplicationKey, boolean direct) {
+        boolean duplicate = deduplicationWindow.isDuplicate(deduplicationKey);
+        SolaceMetricsUtil.reportDeduplication(url, destination, duplicate, deduplicationWindow.size(),
+                deduplicationWindow.memoryBytes());
+        if (duplicate && !direct && !transacted()) {
+            try {
+                settler.ack(message);
+            } catch (Throwable t) {
+                dispatchError(CommonUtils.createError("Failed to acknowledge duplicate message",
+                        t instanceof Exception e ? e : new Exception(t)));
+            }
+        }
+        return duplicate;
+    }
+
+    private boolean transacted() {
+        return caller.getNativeData(NATIVE_TX_SESSION) != null;
+    }
+
     @Override
     public void onException(JCSMPException exception) {
         submit(() -> dispatchError(CommonUtils.createError("Solace consumer flow error", exception)));
     }
 
     private Object invokeOnMessage(BMap<BString, Object> ballerinaMessage, Map<String, String> traceContext) {
+        // A payload that cannot be bound fails like the service would, so it is redelivered or diverted as configured.
+        Object argument = payloadBinder.bind(ballerinaMessage, schemaDeserializer);
         StrandMetadata metadata = new StrandMetadata(false, tracingProperties(traceContext));
         if (hasCaller) {
-            return runtime.callMethod(service, ON_MESSAGE, metadata, ballerinaMessage, caller);
+            return runtime.callMethod(service, ON_MESSAGE, metadata, argument, caller);
         }
-        return runtime.callMethod(service, ON_MESSAGE, metadata, ballerinaMessage);
+        return runtime.callMethod(service, ON_MESSAGE, metadata, argument);
     }
 
     private void dispatchError(BError error) {
@@ -168,18 +473,107 @@ final class SolaceMessageListener implements XMLMessageListener {
         return properties;
     }
 
-    private void submit(Runnable task) {
+    private boolean submit(Runnable task) {
         try {
             dispatcher.execute(task);
+            return true;
         } catch (RejectedExecutionException ignored) {
             // The listener is stopping; drop late deliveries (unsettled guaranteed messages are redelivered).
+            return false;
+        }
+    }
+
+    /**
+     * Returns the number of messages received from the broker that the service has not finished processing.
+     */
+    int unprocessedCount() {
+        return unprocessed.get();
+    }
+
+    /**
+     * Records the messages received in a transaction the listener committed on the service's behalf.
+     */
+    void transactionCommitted() {
+        if (checkpointStore != null) {
+            checkpointStore.commitReceived();
         }
+        if (deduplicationWindow != null) {
+            deduplicationWindow.commitReceived();
+        }
+    }
+
+    /**
+     * Forgets the messages received in a transaction the listener rolled back, reporting the cause to the service's
+     * {@code onError} if the rollback was not requested by a failed message.
+     *
+     * @param cause the commit or rollback failure, or null
+     */
+    void transactionRolledBack(BError cause) {
+        if (checkpointStore != null) {
+            checkpointStore.discardReceived();
+        }
+        if (deduplicationWindow != null) {
+            deduplicationWindow.discardReceived();
+        }
+        if (cause != null) {
+            submit(() -> dispatchError(cause));
+        }
+    }
+
+    /**
+     * Returns the number of received messages waiting for the dispatch thread.
+     */
+    int dispatchQueueDepth() {
+        return dispatcher.getQueue().size();
     }
 
     /**
-     * Stops the dispatch executor. Called when the service is detached or the listener is stopped.
+     * Returns and resets the number of messages dispatched to the service and the total time the service spent on
+     * them since the previous call.
+     *
+     * @return {dispatched message count, total service time in nanoseconds}
+     */
+    long[] drainDispatchStats() {
+        return new long[]{dispatched.sumThenReset(), serviceNanos.sumThenReset()};
+    }
+
+    /**
+     * Waits until every message handed to the dispatch thread so far has been processed and settled. The executor is
+     * single-threaded and FIFO, so a no-op task completing means all earlier tasks have completed.
+     *
+     * @param timeoutMs the maximum time to wait, in milliseconds
+     * @return true if the dispatch thread is idle, false if the wait timed out or was interrupted
+     */
+    boolean awaitIdle(long timeoutMs) {
+        try {
+            dispatcher.submit(() -> { }).get(timeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException | ExecutionException | TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Cancels any circuit breaker cooldown, releases any messages held for delayed redelivery, stops the dispatch
+     * executor and then flushes and releases the checkpoint store. Called when the service is detached or the listener
+     * is stopped.
      */
     void shutdown() {
+        CircuitBreaker breaker = circuitBreaker;
+        if (breaker != null) {
+            breaker.close();
+        }
+        TransactionBatcher batcher = transactionBatcher;
+        if (batcher != null) {
+            batcher.unregister(this);
+        }
+        redeliveryScheduler.close();
+        if (chunkReassembler != null) {
+            chunkReassembler.close();
+        }
         dispatcher.shutdown();
         try {
             if (!dispatcher.awaitTermination(5, TimeUnit.SECONDS)) {
@@ -189,5 +583,8 @@ final class SolaceMessageListener implements XMLMessageListener {
             dispatcher.shutdownNow();
             Thread.currentThread().interrupt();
         }
+        if (checkpointStore != null) {
+            checkpointStore.close();
+        }
     }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.listener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable trie of Solace topic subscriptions, used to route an inbound direct message to every subscriber whose
+ * subscription matches the message's topic.
+ * <p>
+ * Subscriptions follow the Solace wildcard rules: a level consisting of {@code *} matches exactly one level, a level
+ * ending in {@code *} (e.g. {@code ord*}) matches one level starting with that prefix, and a trailing {@code >} level
+ * matches one or more remaining levels. Any other character sequence is matched literally. A trie is compiled once
+ * from the full subscription set and replaced wholesale when the set changes, so lookups need no locking.
+ *
+ * @param <T> the subscriber type
+ */
+final class TopicTrie<T> {
+
+    private static final char LEVEL_SEPARATOR = '/';
+    private static final String SINGLE_LEVEL_WILDCARD = "*";
+    private static final String MULTI_LEVEL_WILDCARD = ">";
+
+    private final Node<T> root;
+
+    private TopicTrie(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns a trie that matches nothing.
+     */
+    static <T> TopicTrie<T> empty() {
+        return new TopicTrie<>(new Node<>());
+    }
+
+    /**
+     * Compiles a trie from the given subscriber to subscriptions mapping.
+     *
+     * @param subscriptions the topic subscriptions of each subscriber
+     * @return the compiled trie
+     */
+    static <T> TopicTrie<T> compile(Map<T, ? extends Collection<String>> subscriptions) {
+        Node<T> root = new Node<>();
+        for (Map.Entry<T, ? extends Collection<String>> entry : subscriptions.entrySet()) {
+            for (String subscription : entry.getValue()) {
+                insert(root, subscription, entry.getKey());
+            }
+        }
+        return new TopicTrie<>(root);
+    }
+
+    /**
+     * Returns the distinct subscribers whose subscriptions match the given topic, in subscription order.
+     *
+     * @param topic the topic name of an inbound message
+     * @return the matching subscribers (empty if none match)
+     */
+    List<T> match(String topic) {
+        if (topic == null) {
+            return List.of();
+        }
+        Set<T> matches = new LinkedHashSet<>();
+        match(root, splitLevels(topic), 0, matches);
+        return matches.isEmpty() ? List.of() : new ArrayList<>(matches);
+    }
+
+    private static <T> void insert(Node<T> root, String subscription, T subscriber) {
+        String[] levels = splitLevels(subscription);
+        Node<T> node = root;
+        for (int i = 0; i < levels.length; i++) {
+            String level = levels[i];
+            if (MULTI_LEVEL_WILDCARD.equals(level) && i == levels.length - 1) {
+                node.multiLevel.add(subscriber);
+                return;
+            }
+            if (SINGLE_LEVEL_WILDCARD.equals(level)) {
+                if (node.singleLevel == null) {
+                    node.singleLevel = new Node<>();
+                }
+                node = node.singleLevel;
+            } else if (level.endsWith(SINGLE_LEVEL_WILDCARD)) {
+                String prefix = level.substring(0, level.length() - 1);
+                node = node.prefixes.computeIfAbsent(prefix, k -> new Node<>());
+            } else {
+                node = node.literals.computeIfAbsent(level, k -> new Node<>());
+            }
+        }
+        node.terminal.add(subscriber);
+    }
+
+    private static <T> void match(Node<T> node, String[] levels, int index, Set<T> matches) {
+        if (index == levels.length) {
+            matches.addAll(node.terminal);
+            return;
+        }
+        // '>' matches the remaining (one or more) levels.
+        matches.addAll(node.multiLevel);
+
+        String level = levels[index];
+        Node<T> literal = node.literals.get(level);
+        if (literal != null) {
+            match(literal, levels, index + 1, matches);
+        }
+        if (node.singleLevel != null) {
+            match(node.singleLevel, levels, index + 1, matches);
+        }
+        if (!node.prefixes.isEmpty()) {
+            for (Map.Entry<String, Node<T>> prefix : node.prefixes.entrySet()) {
+                if (level.startsWith(prefix.getKey())) {
+                    match(prefix.getValue(), levels, index + 1, matches);
+                }
+            }
+        }
+    }
+
+    private static String[] splitLevels(String topic) {
+        List<String> levels = new ArrayList<>();
+        int start = 0;
+        int separator;
+        while ((separator = topic.indexOf(LEVEL_SEPARATOR, start)) >= 0) {
+            levels.add(topic.substring(start, separator));
+            start = separator + 1;
+        }
+        levels.add(topic.substring(start));
+        return levels.toArray(new String[0]);
+    }
+
+    private static final class Node<T> {
+
+        private final Map<String, Node<T>> literals = new HashMap<>();
+        private final Map<String, Node<T>> prefixes = new HashMap<>();
+        private final Set<T> terminal = new LinkedHashSet<>();
+        private final Set<T> multiLevel = new LinkedHashSet<>();
+        private Node<T> singleLevel;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.listener;
+
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.transaction.TransactedSession;
+import io.ballerina.runtime.api.values.BError;
+import io.xlibb.solace.common.CommonUtils;
+import io.xlibb.solace.config.AutoCommitConfig;
+import io.xlibb.solace.observability.SolaceMetricsUtil;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_COMMIT;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_ROLLBACK;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.UNKNOWN;
+
+/**
+ * Commits a transacted listener's session after a batch of successfully processed messages, so services need not
+ * call {@code Caller.commit()} - one broker round trip per message - themselves.
+ * <p>
+ * The transaction is committed once {@code commitEvery} messages have been processed or {@code commitInterval} has
+ * passed since the first of them, whichever comes first. A commit includes every message the session has received,
+ * so it waits until no received message is still queued for or being processed by a service; the broker's limit on
+ * the messages in one transaction bounds that wait. If any service fails a message, the whole batch is rolled back
+ * and redelivered. The transacted session is shared by all services of the listener, so a batch spans all of them.
+ */
+final class TransactionBatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(TransactionBatcher.class.getName());
+
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "solace-tx-batch");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final long MIN_CHECK_INTERVAL_MS = 10;
+
+    private final AutoCommitConfig config;
+    private final TransactedSession txSession;
+    private final String url;
+    private final Set<SolaceMessageListener> participants = ConcurrentHashMap.newKeySet();
+    private final ScheduledFuture<?> timer;
+    private int pending;
+    private long batchStartNanos;
+    private boolean closed;
+
+    TransactionBatcher(AutoCommitConfig config, TransactedSession txSession, String url) {
+        this.config = config;
+        this.txSession = txSession;
+        this.url = url;
+        long checkIntervalMs = Math.max(MIN_CHECK_INTERVAL_MS, config.commitIntervalMs() / 4);
+        this.timer = TIMER.scheduleWithFixedDelay(this::commitIfDue, checkIntervalMs, checkIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds a service whose messages are committed by this batcher.
+     */
+    void register(SolaceMessageListener messageListener) {
+        participants.add(messageListener);
+    }
+
+    /**
+     * Removes a detached service.
+     */
+    void unregister(SolaceMessageListener messageListener) {
+        participants.remove(messageListener);
+    }
+
+    /**
+     * Records a message a service processed successfully, committing the batch if it is full.
+     */
+    synchronized void succeeded() {
+        if (closed) {
+            return;
+        }
+        if (pending++ == 0) {
+            batchStartNanos = System.nanoTime();
+        }
+        if (pending >= config.commitEvery()) {
+            commitIfIdle();
+        }
+    }
+
+    /**
+     * Records a message a service failed to process, rolling back the batch so all of its messages are redelivered.
+     */
+    synchronized void failed() {
+        if (closed) {
+            return;
+        }
+        pending = 0;
+        try {
+            txSession.rollback();
+            participants.forEach(participant -> participant.transactionRolledBack(null));
+        } catch (JCSMPException | RuntimeException e) {
+            SolaceMetricsUtil.reportConsumerError(url, UNKNOWN, ERROR_TYPE_ROLLBACK);
+            LOGGER.log(Level.WARNING, "Failed to roll back the listener's transaction batch", e);
+            BError error = CommonUtils.createError("Failed to roll back the listener's transaction batch", e);
+            participants.forEach(participant -> participant.transactionRolledBack(error));
+        }
+    }
+
+    private synchronized void commitIfDue() {
+        if (closed || pending == 0) {
+            return;
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batchStartNanos);
+        if (pending >= config.commitEvery() || elapsedMs >= config.commitIntervalMs()) {
+            commitIfIdle();
+        }
+    }
+
+    private void commitIfIdle() {
+        for (SolaceMessageListener participant : participants) {
+            if (participant.unprocessedCount() > 0) {
+                // Committed once the last received message has been processed.
+                return;
+            }
+        }
+        commit();
+    }
+
+    private void commit() {
+        pending = 0;
+        try {
+            txSession.commit();
+            participants.forEach(SolaceMessageListener::transactionCommitted);
+        } catch (JCSMPException | RuntimeException e) {
+            // A failed commit leaves the transaction rolled back; the broker redelivers the batch.
+            SolaceMetricsUtil.reportConsumerError(url, UNKNOWN, ERROR_TYPE_COMMIT);
+            BError error = CommonUtils.createError("Failed to commit the listener's transaction batch; its messages "
+                    + "will be redelivered", e);
+            participants.forEach(participant -> participant.transactionRolledBack(error));
+        }
+    }
+
+    /**
+     * Stops the commit timer. On a graceful stop a pending batch is committed first; otherwise it is left for the
+     * broker to roll back when the session closes. Called after the listener's services have been closed.
+     *
+     * @param commitPending whether to commit the pending batch
+     */
+    synchronized void close(boolean commitPending) {
+        if (closed) {
+            return;
+        }
+        timer.cancel(false);
+        if (commitPending && pending > 0) {
+            commit();
+        }
+        closed = true;
+        participants.clear();
+    }
+}
@@ -26,17 +26,37 @@ import io.ballerina.runtime.observability.metrics.MetricRegistry;
 
 import static io.xlibb.solace.common.Constants.NATIVE_DESTINATION;
 import static io.xlibb.solace.common.Constants.NATIVE_URL;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.ACTION_PARKED;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.ACTION_REJECTED;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.CONNECTOR_NAME;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.CONTEXT_CONSUMER;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.CONTEXT_PRODUCER;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_CONNECTION;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_CIRCUIT_DROPS;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_CIRCUIT_STATE;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_CIRCUIT_TRIPS;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_CONSUMERS;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_CONSUMED;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_CONSUMED_SIZE;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_DEDUP_CHECKED;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_DEDUP_DUPLICATES;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_DEDUP_ENTRIES;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_DEDUP_MEMORY;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_DELIVERY_RATE;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_DISPATCH_QUEUE_DEPTH;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_ERRORS;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_FLOW_ACK_THRESHOLD;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_FLOW_WINDOW_SIZE;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_POISON_MESSAGES;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_PUBLISHED;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_PUBLISHED_SIZE;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_PUBLISHERS;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_RATE_LIMIT_PAUSES;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_SERVICE_LATENCY;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_STARTUP_FLOW_CREATE;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_STARTUP_PROVISION;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.METRIC_STARTUP_QUEUED;
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.TAG_KEY_ACTION;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.TAG_KEY_ERROR_TYPE;
 import static io.xlibb.solace.observability.SolaceObservabilityConstants.UNKNOWN;
 
@@ -147,6 +167,115 @@ public class SolaceMetricsUtil {
         incrementCounter(ctx, METRIC_ERRORS[0], METRIC_ERRORS[1], 1);
     }
 
+    public static void reportDeduplication(BObject consumer, boolean duplicate, int entries, long memoryBytes) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        reportDeduplication(getUrl(consumer), getDestination(consumer), duplicate, entries, memoryBytes);
+    }
+
+    /**
+     * Reports a deduplication check: the checked / duplicate counters give the hit rate, and the gauges track the
+     * size and approximate memory footprint of the deduplication window.
+     */
+    public static void reportDeduplication(String url, String destination, boolean duplicate, int entries,
+                                           long memoryBytes) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        SolaceObserverContext ctx = new SolaceObserverContext(CONTEXT_CONSUMER, url, destination);
+        incrementCounter(ctx, METRIC_DEDUP_CHECKED[0], METRIC_DEDUP_CHECKED[1], 1);
+        if (duplicate) {
+            incrementCounter(ctx, METRIC_DEDUP_DUPLICATES[0], METRIC_DEDUP_DUPLICATES[1], 1);
+        }
+        setGauge(ctx, METRIC_DEDUP_ENTRIES[0], METRIC_DEDUP_ENTRIES[1], entries);
+        setGauge(ctx, METRIC_DEDUP_MEMORY[0], METRIC_DEDUP_MEMORY[1], memoryBytes);
+    }
+
+    /**
+     * Reports an adaptive flow control sample of a listener service: the measured delivery rate, service latency and
+     * dispatch queue depth, and the flow window and acknowledgement threshold chosen from them.
+     */
+    public static void reportFlowControl(String url, String destination, int windowSize, int ackThreshold,
+                                         double deliveryRate, double serviceLatencyMs, int dispatchQueueDepth) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        SolaceObserverContext ctx = new SolaceObserverContext(CONTEXT_CONSUMER, url, destination);
+        setGauge(ctx, METRIC_FLOW_WINDOW_SIZE[0], METRIC_FLOW_WINDOW_SIZE[1], windowSize);
+        setGauge(ctx, METRIC_FLOW_ACK_THRESHOLD[0], METRIC_FLOW_ACK_THRESHOLD[1], ackThreshold);
+        setGauge(ctx, METRIC_DELIVERY_RATE[0], METRIC_DELIVERY_RATE[1], deliveryRate);
+        setGauge(ctx, METRIC_SERVICE_LATENCY[0], METRIC_SERVICE_LATENCY[1], serviceLatencyMs);
+        setGauge(ctx, METRIC_DISPATCH_QUEUE_DEPTH[0], METRIC_DISPATCH_QUEUE_DEPTH[1], dispatchQueueDepth);
+    }
+
+    /**
+     * Reports a message diverted after exceeding the maximum delivery attempts, tagged with whether it was parked or
+     * rejected.
+     */
+    public static void reportPoisonMessage(String url, String destination, boolean parked) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        SolaceObserverContext ctx = new SolaceObserverContext(CONTEXT_CONSUMER, url, destination);
+        ctx.addTag(TAG_KEY_ACTION, parked ? ACTION_PARKED : ACTION_REJECTED);
+        incrementCounter(ctx, METRIC_POISON_MESSAGES[0], METRIC_POISON_MESSAGES[1], 1);
+    }
+
+    /**
+     * Reports a circuit breaker state change of a listener service, counting a trip when the circuit opens.
+     *
+     * @param state  0 when closed, 1 when open, 2 when half-open
+     * @param opened whether this change opened the circuit
+     */
+    public static void reportCircuitState(String url, String destination, int state, boolean opened) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        SolaceObserverContext ctx = new SolaceObserverContext(CONTEXT_CONSUMER, url, destination);
+        setGauge(ctx, METRIC_CIRCUIT_STATE[0], METRIC_CIRCUIT_STATE[1], state);
+        if (opened) {
+            incrementCounter(ctx, METRIC_CIRCUIT_TRIPS[0], METRIC_CIRCUIT_TRIPS[1], 1);
+        }
+    }
+
+    /**
+     * Reports a direct message dropped without being dispatched because the listener service's circuit was open.
+     */
+    public static void reportCircuitDrop(String url, String destination) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        SolaceObserverContext ctx = new SolaceObserverContext(CONTEXT_CONSUMER, url, destination);
+        incrementCounter(ctx, METRIC_CIRCUIT_DROPS[0], METRIC_CIRCUIT_DROPS[1], 1);
+    }
+
+    /**
+     * Reports that delivery to a listener service was paused because its rate limit was exhausted.
+     */
+    public static void reportRateLimitPause(String url, String destination) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        SolaceObserverContext ctx = new SolaceObserverContext(CONTEXT_CONSUMER, url, destination);
+        incrementCounter(ctx, METRIC_RATE_LIMIT_PAUSES[0], METRIC_RATE_LIMIT_PAUSES[1], 1);
+    }
+
+    /**
+     * Reports how long a listener service took to become ready: the time it waited for a startup thread, and the time
+     * taken to provision its endpoint and to create its flow.
+     */
+    public static void reportServiceStartup(String url, String destination, long queuedMs, long provisionMs,
+                                            long flowCreateMs) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        SolaceObserverContext ctx = new SolaceObserverContext(CONTEXT_CONSUMER, url, destination);
+        setGauge(ctx, METRIC_STARTUP_QUEUED[0], METRIC_STARTUP_QUEUED[1], queuedMs);
+        setGauge(ctx, METRIC_STARTUP_PROVISION[0], METRIC_STARTUP_PROVISION[1], provisionMs);
+        setGauge(ctx, METRIC_STARTUP_FLOW_CREATE[0], METRIC_STARTUP_FLOW_CREATE[1], flowCreateMs);
+    }
+
     public static void reportConnectionError(String context) {
         if (!ObserveUtils.isMetricsEnabled()) {
             return;
@@ -188,6 +317,13 @@ public class SolaceMetricsUtil {
         metricRegistry.gauge(new MetricId(CONNECTOR_NAME + "_" + name, desc, ctx.getAllTags())).decrement();
     }
 
+    private static void setGauge(SolaceObserverContext ctx, String name, String desc, double value) {
+        if (metricRegistry == null) {
+            return;
+        }
+        metricRegistry.gauge(new MetricId(CONNECTOR_NAME + "_" + name, desc, ctx.getAllTags())).setValue(value);
+    }
+
     private SolaceMetricsUtil() {
     }
 }
@@ -32,12 +32,44 @@ public class SolaceObservabilityConstants {
     static final String[] METRIC_CONSUMED = {"consumed", "Number of messages consumed"};
     static final String[] METRIC_CONSUMED_SIZE = {"consumed_size", "Total size in bytes of messages consumed"};
     static final String[] METRIC_ERRORS = {"errors", "Number of errors"};
+    static final String[] METRIC_DEDUP_CHECKED = {"dedup_checked", "Number of messages checked for duplicates"};
+    static final String[] METRIC_DEDUP_DUPLICATES = {"dedup_duplicates", "Number of duplicate messages dropped"};
+    static final String[] METRIC_DEDUP_ENTRIES = {"dedup_entries", "Number of keys held in the deduplication window"};
+    static final String[] METRIC_DEDUP_MEMORY = {"dedup_memory_bytes",
+            "Approximate memory in bytes held by the deduplication window"};
+    static final String[] METRIC_FLOW_WINDOW_SIZE = {"flow_window_size", "Transport window size chosen for the flow"};
+    static final String[] METRIC_FLOW_ACK_THRESHOLD = {"flow_ack_threshold",
+            "Acknowledgement threshold chosen for the flow, as a percentage of the window"};
+    static final String[] METRIC_DELIVERY_RATE = {"delivery_rate", "Messages delivered to the service per second"};
+    static final String[] METRIC_SERVICE_LATENCY = {"service_latency_ms",
+            "Mean time in milliseconds the service took to process a message"};
+    static final String[] METRIC_DISPATCH_QUEUE_DEPTH = {"dispatch_queue_depth",
+            "Number of received messages waiting to be dispatched to the service"};
+    static final String[] METRIC_POISON_MESSAGES = {"poison_messages",
+            "Number of messages diverted after exceeding the maximum delivery attempts"};
+    static final String[] METRIC_CIRCUIT_STATE = {"circuit_state",
+            "State of the service's circuit breaker: 0 closed, 1 open, 2 half-open"};
+    static final String[] METRIC_CIRCUIT_TRIPS = {"circuit_trips", "Number of times the service's circuit opened"};
+    static final String[] METRIC_CIRCUIT_DROPS = {"circuit_drops",
+            "Number of direct messages dropped without being dispatched while the service's circuit was open"};
+    static final String[] METRIC_RATE_LIMIT_PAUSES = {"rate_limit_pauses",
+            "Number of times delivery was paused because the service's rate limit was exhausted"};
+    static final String[] METRIC_STARTUP_QUEUED = {"startup_queued_ms",
+            "Time in milliseconds the service waited for a listener startup thread"};
+    static final String[] METRIC_STARTUP_PROVISION = {"startup_provision_ms",
+            "Time in milliseconds taken to provision the service's endpoint at startup"};
+    static final String[] METRIC_STARTUP_FLOW_CREATE = {"startup_flow_create_ms",
+            "Time in milliseconds taken to create the service's flow at startup"};
 
     static final String TAG_KEY_URL = "url";
     static final String TAG_KEY_DESTINATION = "destination";
     static final String TAG_KEY_ERROR_TYPE = "error_type";
     static final String TAG_KEY_CONTEXT = "context";
     static final String TAG_KEY_LISTENER_NAME = "listener.name";
+    static final String TAG_KEY_ACTION = "action";
+
+    static final String ACTION_PARKED = "parked";
+    static final String ACTION_REJECTED = "rejected";
 
     public static final String ERROR_TYPE_CONNECTION = "connection";
     public static final String ERROR_TYPE_PUBLISH = "publish";
@@ -47,6 +79,8 @@ public class SolaceObservabilityConstants {
     public static final String ERROR_TYPE_NACK = "nack";
     public static final String ERROR_TYPE_COMMIT = "commit";
     public static final String ERROR_TYPE_ROLLBACK = "rollback";
+    public static final String ERROR_TYPE_SUBSCRIBE = "subscribe";
+    public static final String ERROR_TYPE_UNSUBSCRIBE = "unsubscribe";
 
     public static final String CONTEXT_PRODUCER = "producer";
     public static final String CONTEXT_CONSUMER = "consumer";
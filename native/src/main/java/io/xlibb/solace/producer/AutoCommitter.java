@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.producer;
+
+import com.solacesystems.jcsmp.Destination;
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.XMLMessage;
+import com.solacesystems.jcsmp.XMLMessageProducer;
+import com.solacesystems.jcsmp.transaction.RollbackException;
+import com.solacesystems.jcsmp.transaction.TransactedSession;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.xlibb.solace.ModuleUtils;
+import io.xlibb.solace.common.CommonUtils;
+import io.xlibb.solace.config.AutoCommitConfig;
+import io.xlibb.solace.observability.SolaceMetricsUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.xlibb.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_COMMIT;
+
+/**
+ * Commits a transacted producer's session automatically, every {@code commitEvery} sends or {@code commitInterval}
+ * after the first uncommitted send, whichever comes first.
+ * <p>
+ * A send is one message as the application sent it: the chunks of a chunked message are sent, counted and committed
+ * together, so a commit never splits a chunk set. A chunk set that fails part way is rolled back with the rest of the
+ * transaction, since committing its sent chunks would leave a set that can never be reassembled.
+ * <p>
+ * Each send is recorded until its transaction commits, so a failed commit is reported as a {@code CommitError} listing
+ * the destination and application message ID of every send it rolled back. A commit triggered by a send or by
+ * {@code flush()} returns that error directly; a commit triggered by the interval timer has no caller, so its error is
+ * returned by the producer's next send or flush instead, which is then not performed. Sends and commits are serialized
+ * so that a commit never includes a send that has not been recorded yet.
+ */
+final class AutoCommitter {
+
+    private static final String COMMIT_ERROR = "CommitError";
+    private static final String COMMIT_ERROR_DETAIL = "CommitErrorDetail";
+    private static final String UNCOMMITTED_SEND = "UncommittedSend";
+    private static final BString SEND_COUNT_KEY = StringUtils.fromString("sendCount");
+    private static final BString SENDS_KEY = StringUtils.fromString("sends");
+    private static final BString ROLLED_BACK_KEY = StringUtils.fromString("rolledBack");
+    private static final String DESTINATION_FIELD = "destination";
+    private static final String APPLICATION_MESSAGE_ID_FIELD = "applicationMessageId";
+
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "solace-producer-auto-commit");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final long MIN_CHECK_INTERVAL_MS = 10;
+
+    private final AutoCommitConfig config;
+    private final TransactedSession txSession;
+    private final XMLMessageProducer xmlProducer;
+    private final BObject producer;
+    private final List<Map<String, Object>> sends = new ArrayList<>();
+    private final ScheduledFuture<?> timer;
+    private long batchStartNanos;
+    private BError timerFailure;
+
+    AutoCommitter(AutoCommitConfig config, TransactedSession txSession, XMLMessageProducer xmlProducer,
+                  BObject producer) {
+        this.config = config;
+        this.txSession = txSession;
+        this.xmlProducer = xmlProducer;
+        this.producer = producer;
+        long checkIntervalMs = Math.max(MIN_CHECK_INTERVAL_MS, config.commitIntervalMs() / 4);
+        this.timer = TIMER.scheduleWithFixedDelay(this::commitIfDue, checkIntervalMs, checkIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sends a message, as one or more chunks, in the current transaction, committing it if this send completes a
+     * batch. Nothing is sent if an earlier interval commit failed.
+     *
+     * @param messages        the message, or the chunks it was split into
+     * @param destination     the destination
+     * @param destinationName the destination name, recorded for a CommitError
+     * @return null on success, the CommitError of this or an earlier interval commit otherwise
+     * @throws JCSMPException if the message cannot be sent
+     */
+    synchronized BError send(List<XMLMessage> messages, Destination destination, String destinationName)
+            throws JCSMPException {
+        BError failure = takeTimerFailure();
+        if (failure != null) {
+            return failure;
+        }
+        for (int i = 0; i < messages.size(); i++) {
+            try {
+                xmlProducer.send(messages.get(i), destination);
+            } catch (JCSMPException | RuntimeException e) {
+                if (i == 0) {
+                    throw e;
+                }
+                record(messages.get(0), destinationName);
+                return rollBackPartialSend(e);
+            }
+        }
+        record(messages.get(0), destinationName);
+        return sends.size() >= config.commitEvery() ? commit() : null;
+    }
+
+    /**
+     * Commits the sends not yet committed.
+     *
+     * @return null on success, the CommitError of this or an earlier interval commit otherwise
+     */
+    synchronized BError flush() {
+        BError failure = takeTimerFailure();
+        if (failure != null) {
+            return failure;
+        }
+        return sends.isEmpty() ? null : commit();
+    }
+
+    /**
+     * Rolls back the sends not yet committed.
+     *
+     * @throws JCSMPException if the rollback fails
+     */
+    synchronized void rollback() throws JCSMPException {
+        sends.clear();
+        timerFailure = null;
+        txSession.rollback();
+    }
+
+    /**
+     * Stops the commit timer and commits the sends not yet committed. Called when the producer is closed.
+     *
+     * @return null on success, a CommitError otherwise
+     */
+    synchronized BError close() {
+        timer.cancel(false);
+        return flush();
+    }
+
+    private synchronized void commitIfDue() {
+        if (sends.isEmpty()) {
+            return;
+        }
+        if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batchStartNanos) >= config.commitIntervalMs()) {
+            BError failure = commit();
+            if (failure != null) {
+                timerFailure = failure;
+            }
+        }
+    }
+
+    private void record(XMLMessage message, String destinationName) {
+        if (sends.isEmpty()) {
+            batchStartNanos = System.nanoTime();
+        }
+        Map<String, Object> send = new HashMap<>();
+        send.put(DESTINATION_FIELD, StringUtils.fromString(destinationName));
+        if (message.getApplicationMessageId() != null) {
+            send.put(APPLICATION_MESSAGE_ID_FIELD, StringUtils.fromString(message.getApplicationMessageId()));
+        }
+        sends.add(send);
+    }
+
+    private BError commit() {
+        try {
+            txSession.commit();
+            return null;
+        } catch (JCSMPException | RuntimeException e) {
+            SolaceMetricsUtil.reportProducerError(producer, ERROR_TYPE_COMMIT);
+            return commitError(e, e instanceof RollbackException);
+        } finally {
+            sends.clear();
+        }
+    }
+
+    /**
+     * Rolls back the transaction after a chunk set was only partly sent, reported as a CommitError of its sends.
+     */
+    private BError rollBackPartialSend(Exception cause) {
+        boolean rolledBack = false;
+        try {
+            txSession.rollback();
+            rolledBack = true;
+        } catch (JCSMPException | RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+        SolaceMetricsUtil.reportProducerError(producer, ERROR_TYPE_COMMIT);
+        try {
+            return commitError(cause, rolledBack);
+        } finally {
+            sends.clear();
+        }
+    }
+
+    private BError commitError(Exception cause, boolean rolledBack) {
+        Type sendType = ValueCreator.createRecordValue(ModuleUtils.getModule(), UNCOMMITTED_SEND).getType();
+        BArray sendArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(sendType));
+        for (Map<String, Object> send : sends) {
+            sendArray.append(ValueCreator.createRecordValue(ModuleUtils.getModule(), UNCOMMITTED_SEND, send));
+        }
+        BMap<BString, Object> detail = ValueCreator.createRecordValue(ModuleUtils.getModule(), COMMIT_ERROR_DETAIL);
+        detail.put(SEND_COUNT_KEY, (long) sends.size());
+        detail.put(SENDS_KEY, sendArray);
+        detail.put(ROLLED_BACK_KEY, rolledBack);
+        String message = rolledBack
+                ? String.format("Failed to commit transaction; its %d send(s) were rolled back", sends.size())
+                : String.format("Failed to commit transaction of %d send(s); its outcome is unknown", sends.size());
+        return CommonUtils.createError(COMMIT_ERROR, message, cause, detail);
+    }
+
+    private BError takeTimerFailure() {
+        BError failure = timerFailure;
+        timerFailure = null;
+        return failure;
+    }
+}
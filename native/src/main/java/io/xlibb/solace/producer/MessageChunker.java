@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.xlibb.solace.producer;
+
+import com.solacesystems.jcsmp.BytesMessage;
+import com.solacesystems.jcsmp.SDTException;
+import com.solacesystems.jcsmp.SDTMap;
+import com.solacesystems.jcsmp.XMLMessage;
+import com.solacesystems.jcsmp.XMLMessageProducer;
+import io.xlibb.solace.common.PropertyConverter;
+import io.xlibb.solace.config.ChunkingConfig;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Splits a message whose payload exceeds the chunk size into an ordered set of chunk messages, so that payloads larger
+ * than the broker's maximum message size can be sent.
+ * <p>
+ * Every chunk carries the headers and user properties of the original message, plus the chunk set ID, its index and
+ * the chunk count, its offset in the payload and the payload's total size. Consumers and listeners reassemble the set
+ * before dispatching it. Unless the message already has a {@value #GROUP_ID_PROPERTY}, the set ID is also used as
+ * that property, the partition key of partitioned queues, so all chunks of a set go to the same consumer.
+ */
+public final class MessageChunker {
+
+    public static final String CHUNK_ID_PROPERTY = "solace_chunk_id";
+    public static final String CHUNK_INDEX_PROPERTY = "solace_chunk_index";
+    public static final String CHUNK_COUNT_PROPERTY = "solace_chunk_count";
+    public static final String CHUNK_OFFSET_PROPERTY = "solace_chunk_offset";
+    public static final String TOTAL_SIZE_PROPERTY = "solace_chunk_total_size";
+    public static final String GROUP_ID_PROPERTY = "JMSXGroupID";
+
+    private final int chunkSize;
+
+    MessageChunker(ChunkingConfig config) {
+        this.chunkSize = config.chunkSize();
+    }
+
+    /**
+     * Returns whether a message must be split into chunks. Only bytes messages are split.
+     *
+     * @param message a message converted for sending
+     * @return true if its payload exceeds the chunk size
+     */
+    boolean exceeds(XMLMessage message) {
+        return message instanceof BytesMessage && message.getAttachmentContentLength() > chunkSize;
+    }
+
+    /**
+     * Splits a bytes message into chunk messages.
+     *
+     * @param producer the JCSMP message producer (used for message creation)
+     * @param message  the message to split
+     * @return the chunks, in order
+     * @throws SDTException if the chunk properties cannot be set
+     */
+    List<XMLMessage> split(XMLMessageProducer producer, XMLMessage message) throws SDTException {
+        byte[] data = ((BytesMessage) message).getData();
+        int count = (data.length + chunkSize - 1) / chunkSize;
+        String chunkId = UUID.randomUUID().toString();
+        List<XMLMessage> chunks = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            int offset = index * chunkSize;
+            BytesMessage chunk = producer.createBytesMessage();
+            chunk.setData(Arrays.copyOfRange(data, offset, Math.min(offset + chunkSize, data.length)));
+            MessageConverter.copyHeaders(message, chunk);
+            SDTMap properties = PropertyConverter.copyOf(message.getProperties());
+            properties.putString(CHUNK_ID_PROPERTY, chunkId);
+            properties.putInteger(CHUNK_INDEX_PROPERTY, index);
+            properties.putInteger(CHUNK_COUNT_PROPERTY, count);
+            properties.putLong(CHUNK_OFFSET_PROPERTY, (long) offset);
+            properties.putLong(TOTAL_SIZE_PROPERTY, (long) data.length);
+            if (!properties.containsKey(GROUP_ID_PROPERTY)) {
+                properties.putString(GROUP_ID_PROPERTY, chunkId);
+            }
+            chunk.setProperties(properties);
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+}
@@ -21,15 +21,22 @@ package io.xlibb.solace.producer;
 import com.solacesystems.jcsmp.BytesMessage;
 import com.solacesystems.jcsmp.DeliveryMode;
 import com.solacesystems.jcsmp.Destination;
+import com.solacesystems.jcsmp.MapMessage;
 import com.solacesystems.jcsmp.SDTException;
 import com.solacesystems.jcsmp.SDTMap;
+import com.solacesystems.jcsmp.StreamMessage;
 import com.solacesystems.jcsmp.XMLMessage;
 import com.solacesystems.jcsmp.XMLMessageProducer;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.xlibb.solace.common.CommonUtils;
 import io.xlibb.solace.common.DestinationConverter;
+import io.xlibb.solace.common.PayloadCompression;
 import io.xlibb.solace.common.PropertyConverter;
+import io.xlibb.solace.config.PayloadCompressionConfig;
 
 import static io.xlibb.solace.common.MessageFieldConstants.APPLICATION_MESSAGE_ID_KEY;
 import static io.xlibb.solace.common.MessageFieldConstants.APPLICATION_MESSAGE_TYPE_KEY;
@@ -50,8 +57,10 @@ import static io.xlibb.solace.common.MessageFieldConstants.USER_DATA_KEY;
  */
 public class MessageConverter {
 
+    private static final String PAYLOAD_SERIALIZATION_ERROR = "PayloadSerializationError";
+
     /**
-     * Converts a Ballerina Message to a JCSMP XMLMessage.
+     * Converts a Ballerina Message to a JCSMP XMLMessage, serializing its payload with the default serializer.
      *
      * @param producer the JCSMP message producer (used for message creation)
      * @param message  the Ballerina Message record
@@ -60,22 +69,102 @@ public class MessageConverter {
      */
     public static XMLMessage toJCSMPMessage(XMLMessageProducer producer, BMap<BString, Object> message)
             throws Exception {
-        Object payload = message.get(PAYLOAD_KEY);
+        return toJCSMPMessage(producer, message, PayloadSerializers.AUTO, null, null);
+    }
+
+    /**
+     * Converts a Ballerina message to a JCSMP XMLMessage. The payload is serialized into the calling thread's reused
+     * buffer, except for a {@code byte[]} payload under the default or bytes serializer, which is used as is, and a
+     * map or array payload under the SDT serializer, which is converted to the SDT content of a map or stream message.
+     * A serialized payload of at least the compression threshold is compressed, if that makes it smaller, and the
+     * message flagged as compressed.
+     *
+     * @param producer          the JCSMP message producer (used for message creation)
+     * @param message           the Ballerina message record, with a payload of any type
+     * @param serializer        the serializer of the payload
+     * @param serializedPayload the payload already serialized by a Ballerina serializer, or null
+     * @param compression       the payload compression policy, or null if payloads are not compressed
+     * @return the JCSMP XMLMessage with all fields set
+     * @throws BError    a {@code PayloadSerializationError} if the payload cannot be serialized
+     * @throws Exception if conversion fails
+     */
+    public static XMLMessage toJCSMPMessage(XMLMessageProducer producer, BMap<BString, Object> message,
+                                            PayloadSerializer serializer, BArray serializedPayload,
+                                            PayloadCompressionConfig compression) throws Exception {
+        return toJCSMPMessage(producer, null, message.get(PAYLOAD_KEY), message, serializer, serializedPayload,
+                compression);
+    }
+
+    /**
+     * Converts a payload to a JCSMP XMLMessage as {@link #toJCSMPMessage(XMLMessageProducer, BMap, PayloadSerializer,
+     * BArray, PayloadCompressionConfig)} does, taking the message's fields from a template, if given, and the
+     * per-message fields of the template's overrides, or from a Ballerina message record otherwise.
+     *
+     * @param producer          the JCSMP message producer (used for message creation)
+     * @param template          the message template, or null
+     * @param messagePayload    the payload
+     * @param fields            the template's per-message overrides, or the Ballerina message record
+     * @param serializer        the serializer of the payload
+     * @param serializedPayload the payload already serialized by a Ballerina serializer, or null
+     * @param compression       the payload compression policy, or null if payloads are not compressed
+     * @return the JCSMP XMLMessage with all fields set
+     * @throws BError    a {@code PayloadSerializationError} if the payload cannot be serialized
+     * @throws Exception if conversion fails
+     */
+    static XMLMessage toJCSMPMessage(XMLMessageProducer producer, MessageTemplate template, Object messagePayload,
+                                     BMap<BString, Object> fields, PayloadSerializer serializer,
+                                     BArray serializedPayload, PayloadCompressionConfig compression)
+            throws Exception {
+        Object payload = serializedPayload != null ? serializedPayload : messagePayload;
 
         XMLMessage jcsmpMessage;
-        if (payload instanceof BArray) {
-            jcsmpMessage = toByteMessage(producer, ((BArray) payload).getBytes());
+        boolean compressed = false;
+        if (serializedPayload != null || PayloadSerializers.isByteArray(payload)
+                && (serializer == PayloadSerializers.AUTO || serializer == PayloadSerializers.BYTES)) {
+            byte[] data = ((BArray) payload).getBytes();
+            byte[] deflated = compress(data, data.length, compression);
+            compressed = deflated != null;
+            jcsmpMessage = toByteMessage(producer, compressed ? deflated : data);
+        } else if (serializer == PayloadSerializers.SDT && PayloadSerializers.isStructured(payload)) {
+            jcsmpMessage = toStructuredMessage(producer, payload);
         } else {
-            throw new Exception(
-                    "Unsupported payload type: " + (payload != null ? payload.getClass().getName() : "null"));
+            PayloadBuffer buffer = PayloadBuffer.acquire();
+            try {
+                serializer.serialize(payload, buffer);
+            } catch (Exception e) {
+                throw CommonUtils.createError(PAYLOAD_SERIALIZATION_ERROR, "Failed to serialize the message payload",
+                        e, null);
+            }
+            byte[] deflated = compress(buffer.array(), buffer.size(), compression);
+            compressed = deflated != null;
+            // The message keeps its data until the broker acknowledges it, so it gets its own exact-size copy.
+            jcsmpMessage = toByteMessage(producer, compressed ? deflated : buffer.toByteArray());
         }
 
-        // Set all message fields from Ballerina Message record
-        setMessageFields(jcsmpMessage, message);
+        // Set all message fields from the template or the Ballerina Message record
+        if (template != null) {
+            template.apply(jcsmpMessage, fields);
+        } else {
+            setMessageFields(jcsmpMessage, fields);
+        }
+        if (serializedPayload == null) {
+            serializer.describe(jcsmpMessage);
+        }
+        if (compressed) {
+            PayloadCompression.markCompressed(jcsmpMessage);
+        }
 
         return jcsmpMessage;
     }
 
+    /**
+     * Compresses a serialized payload of at least the compression threshold, returning null if it is not compressed.
+     */
+    private static byte[] compress(byte[] data, int length, PayloadCompressionConfig compression) {
+        return compression != null && length >= compression.threshold()
+                ? PayloadCompression.deflate(data, length, compression.level()) : null;
+    }
+
     /**
      * Sets all message fields on a JCSMP XMLMessage from a Ballerina Message record.
      *
@@ -174,6 +263,83 @@ public class MessageConverter {
         }
     }
 
+    /**
+     * Creates a MapMessage from a map payload, or a StreamMessage from an array or table payload.
+     */
+    private static XMLMessage toStructuredMessage(XMLMessageProducer producer, Object payload) {
+        try {
+            if (payload instanceof BMap<?, ?> map) {
+                MapMessage mapMessage = producer.createMapMessage();
+                mapMessage.setMap(PropertyConverter.toSDTMap(map));
+                return mapMessage;
+            }
+            StreamMessage streamMessage = producer.createStreamMessage();
+            streamMessage.setStream(payload instanceof BTable<?, ?> table
+                    ? PropertyConverter.toSDTStream(table) : PropertyConverter.toSDTStream((BArray) payload));
+            return streamMessage;
+        } catch (Exception e) {
+            throw CommonUtils.createError(PAYLOAD_SERIALIZATION_ERROR, "Failed to convert the message payload to SDT",
+                    e, null);
+        }
+    }
+
+    /**
+     * Creates a copy of a converted message, sharing its payload and user properties, so that one conversion can be
+     * published as several guaranteed messages.
+     *
+     * @param producer the JCSMP message producer (used for message creation)
+     * @param message  a message created by this converter
+     * @return the copy
+     */
+    static XMLMessage copy(XMLMessageProducer producer, XMLMessage message) {
+        XMLMessage copy;
+        if (message instanceof MapMessage mapMessage) {
+            MapMessage mapCopy = producer.createMapMessage();
+            mapCopy.setMap(mapMessage.getMap());
+            copy = mapCopy;
+        } else if (message instanceof StreamMessage streamMessage) {
+            StreamMessage streamCopy = producer.createStreamMessage();
+            streamCopy.setStream(streamMessage.getStream());
+            copy = streamCopy;
+        } else {
+            BytesMessage bytesCopy = producer.createBytesMessage();
+            bytesCopy.setData(((BytesMessage) message).getData());
+            copy = bytesCopy;
+        }
+        copyHeaders(message, copy);
+        if (message.getProperties() != null) {
+            copy.setProperties(message.getProperties());
+        }
+        return copy;
+    }
+
+    /**
+     * Copies the headers set by the converter from one message to another.
+     */
+    static void copyHeaders(XMLMessage from, XMLMessage to) {
+        to.setDeliveryMode(from.getDeliveryMode());
+        if (from.getPriority() >= 0) {
+            to.setPriority(from.getPriority());
+        }
+        to.setTimeToLive(from.getTimeToLive());
+        to.setApplicationMessageId(from.getApplicationMessageId());
+        to.setApplicationMessageType(from.getApplicationMessageType());
+        to.setCorrelationId(from.getCorrelationId());
+        if (from.getReplyTo() != null) {
+            to.setReplyTo(from.getReplyTo());
+        }
+        to.setSenderId(from.getSenderId());
+        if (from.getSenderTimestamp() != null) {
+            to.setSenderTimestamp(from.getSenderTimestamp());
+        }
+        if (from.getSequenceNumber() != null) {
+            to.setSequenceNumber(from.getSequenceNumber());
+        }
+        if (from.hasUserData()) {
+            to.setUserData(from.getUserData());
+        }
+    }
+
     /**
      * Creates a BytesMessage from byte array payload. Uses attachment part instead of content part for the payload.
      */
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.xlibb.solace.producer;
+
+import com.solacesystems.jcsmp.DeliveryMode;
+import com.solacesystems.jcsmp.Destination;
+import com.solacesystems.jcsmp.SDTException;
+import com.solacesystems.jcsmp.SDTMap;
+import com.solacesystems.jcsmp.XMLMessage;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.xlibb.solace.common.CommonUtils;
+import io.xlibb.solace.common.DestinationConverter;
+import io.xlibb.solace.common.PropertyConverter;
+
+import static io.xlibb.solace.common.Constants.NATIVE_MESSAGE_TEMPLATE;
+import static io.xlibb.solace.common.MessageFieldConstants.APPLICATION_MESSAGE_ID_KEY;
+import static io.xlibb.solace.common.MessageFieldConstants.APPLICATION_MESSAGE_TYPE_KEY;
+import static io.xlibb.solace.common.MessageFieldConstants.CORRELATION_ID_KEY;
+import static io.xlibb.solace.common.MessageFieldConstants.DELIVERY_MODE_KEY;
+import static io.xlibb.solace.common.MessageFieldConstants.PRIORITY_KEY;
+import static io.xlibb.solace.common.MessageFieldConstants.PROPERTIES_KEY;
+import static io.xlibb.solace.common.MessageFieldConstants.REPLY_TO_KEY;
+import static io.xlibb.solace.common.MessageFieldConstants.SENDER_ID_KEY;
+import static io.xlibb.solace.common.MessageFieldConstants.SENDER_TIMESTAMP_KEY;
+import static io.xlibb.solace.common.MessageFieldConstants.SEQUENCE_NUMBER_KEY;
+import static io.xlibb.solace.common.MessageFieldConstants.TIME_TO_LIVE_KEY;
+import static io.xlibb.solace.common.MessageFieldConstants.USER_DATA_KEY;
+
+/**
+ * Header fields and user properties shared by many outbound messages, converted once when the Ballerina
+ * {@code MessageTemplate} is created.
+ * <p>
+ * A message sent from a template gets the template's fields without reading them from a Ballerina record, and shares
+ * the template's prebuilt properties map unless it adds properties of its own. Code that adds a property to an
+ * outbound message therefore sets a copy of its properties rather than modifying them in place.
+ */
+public final class MessageTemplate {
+
+    private static final int MAX_USER_DATA_LENGTH = 36;
+
+    private final DeliveryMode deliveryMode;
+    private final Integer priority;
+    private final Long timeToLive;
+    private final String applicationMessageType;
+    private final String senderId;
+    private final Destination replyTo;
+    private final byte[] userData;
+    private final SDTMap properties;
+
+    @SuppressWarnings("unchecked")
+    private MessageTemplate(BMap<BString, Object> config) throws SDTException {
+        this.deliveryMode = DeliveryMode.valueOf(config.getStringValue(DELIVERY_MODE_KEY).getValue());
+        Long priorityValue = config.getIntValue(PRIORITY_KEY);
+        this.priority = priorityValue != null ? priorityValue.intValue() : null;
+        this.timeToLive = config.getIntValue(TIME_TO_LIVE_KEY);
+        BString messageType = config.getStringValue(APPLICATION_MESSAGE_TYPE_KEY);
+        this.applicationMessageType = messageType != null ? messageType.getValue() : null;
+        BString sender = config.getStringValue(SENDER_ID_KEY);
+        this.senderId = sender != null ? sender.getValue() : null;
+        Object replyToValue = config.get(REPLY_TO_KEY);
+        this.replyTo = replyToValue instanceof BMap
+                ? DestinationConverter.toJCSMPDestination((BMap<BString, Object>) replyToValue) : null;
+        BArray userDataValue = config.getArrayValue(USER_DATA_KEY);
+        this.userData = userDataValue != null ? userDataValue.getBytes() : null;
+        if (userData != null && userData.length > MAX_USER_DATA_LENGTH) {
+            throw new IllegalArgumentException("userData cannot exceed 36 bytes, got " + userData.length);
+        }
+        Object propertiesValue = config.get(PROPERTIES_KEY);
+        this.properties = propertiesValue instanceof BMap
+                ? PropertyConverter.ballerinaToSDTMap((BMap<BString, Object>) propertiesValue) : null;
+    }
+
+    /**
+     * Initialize a Ballerina {@code MessageTemplate}, converting its fields.
+     *
+     * @param template the Ballerina template object
+     * @param config   the template configuration
+     * @return null on success, BError if a field is invalid
+     */
+    public static BError init(BObject template, BMap<BString, Object> config) {
+        try {
+            template.addNativeData(NATIVE_MESSAGE_TEMPLATE, new MessageTemplate(config));
+            return null;
+        } catch (Exception e) {
+            return CommonUtils.createError("Failed to create message template", e);
+        }
+    }
+
+    /**
+     * Returns the converted template of a Ballerina {@code MessageTemplate}.
+     *
+     * @param template the Ballerina template object
+     * @return the converted template
+     */
+    static MessageTemplate of(BObject template) {
+        return (MessageTemplate) template.getNativeData(NATIVE_MESSAGE_TEMPLATE);
+    }
+
+    /**
+     * Sets the template's fields on an outbound message, followed by the per-message fields of a Ballerina
+     * {@code MessageOverrides} record. Properties in the overrides are added to a copy of the template's properties.
+     *
+     * @param message   the outbound message
+     * @param overrides the per-message fields
+     * @throws SDTException if the properties cannot be converted
+     */
+    void apply(XMLMessage message, BMap<BString, Object> overrides) throws SDTException {
+        message.setDeliveryMode(deliveryMode);
+        if (applicationMessageType != null) {
+            message.setApplicationMessageType(applicationMessageType);
+        }
+        if (senderId != null) {
+            message.setSenderId(senderId);
+        }
+        if (replyTo != null) {
+            message.setReplyTo(replyTo);
+        }
+        if (userData != null) {
+            message.setUserData(userData);
+        }
+
+        Long priorityOverride = overrides.getIntValue(PRIORITY_KEY);
+        if (priorityOverride != null) {
+            message.setPriority(priorityOverride.intValue());
+        } else if (priority != null) {
+            message.setPriority(priority);
+        }
+        Long timeToLiveOverride = overrides.getIntValue(TIME_TO_LIVE_KEY);
+        if (timeToLiveOverride != null) {
+            message.setTimeToLive(timeToLiveOverride);
+        } else if (timeToLive != null) {
+            message.setTimeToLive(timeToLive);
+        }
+        BString applicationMessageId = overrides.getStringValue(APPLICATION_MESSAGE_ID_KEY);
+        if (applicationMessageId != null) {
+            message.setApplicationMessageId(applicationMessageId.getValue());
+        }
+        BString correlationId = overrides.getStringValue(CORRELATION_ID_KEY);
+        if (correlationId != null) {
+            message.setCorrelationId(correlationId.getValue());
+        }
+        Long senderTimestamp = overrides.getIntValue(SENDER_TIMESTAMP_KEY);
+        if (senderTimestamp != null) {
+            message.setSenderTimestamp(senderTimestamp);
+        }
+        Long sequenceNumber = overrides.getIntValue(SEQUENCE_NUMBER_KEY);
+        if (sequenceNumber != null) {
+            message.setSequenceNumber(sequenceNumber);
+        }
+
+        Object propertiesOverride = overrides.get(PROPERTIES_KEY);
+        @SuppressWarnings("unchecked")
+        SDTMap added = propertiesOverride instanceof BMap
+                ? PropertyConverter.ballerinaToSDTMap((BMap<BString, Object>) propertiesOverride) : null;
+        if (added != null) {
+            SDTMap merged = PropertyConverter.copyOf(properties);
+            for (String key : added.keySet()) {
+                merged.putObject(key, added.get(key));
+            }
+            message.setProperties(merged);
+        } else if (properties != null) {
+            message.setProperties(properties);
+        }
+    }
+}
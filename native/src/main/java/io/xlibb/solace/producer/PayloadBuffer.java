@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.producer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Growable output buffer a payload is serialized into, reused across the sends of a thread.
+ * <p>
+ * The buffer keeps its capacity between sends, so serializing a payload of a familiar size allocates nothing but the
+ * exact-size array handed to the message. A buffer grown past {@link #MAX_RETAINED_CAPACITY} by an unusually large
+ * payload is not retained.
+ */
+final class PayloadBuffer extends ByteArrayOutputStream {
+
+    static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+    private static final int INITIAL_CAPACITY = 4096;
+
+    private static final ThreadLocal<PayloadBuffer> BUFFERS = ThreadLocal.withInitial(PayloadBuffer::new);
+
+    private final Writer writer = new OutputStreamWriter(this, StandardCharsets.UTF_8);
+
+    private PayloadBuffer() {
+        super(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the calling thread's buffer, emptied.
+     */
+    static PayloadBuffer acquire() {
+        PayloadBuffer buffer = BUFFERS.get();
+        if (buffer.buf.length > MAX_RETAINED_CAPACITY) {
+            buffer = new PayloadBuffer();
+            BUFFERS.set(buffer);
+        }
+        buffer.reset();
+        return buffer;
+    }
+
+    /**
+     * Returns the buffer's backing array, whose first {@link #size()} bytes hold the serialized payload.
+     */
+    byte[] array() {
+        return buf;
+    }
+
+    /**
+     * Returns a UTF-8 writer over the given stream. The writer of a buffer is reused; the caller must flush it.
+     *
+     * @param out the stream a serializer writes to
+     * @return the writer
+     */
+    static Writer writer(OutputStream out) {
+        return out instanceof PayloadBuffer buffer
+                ? buffer.writer : new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    }
+}
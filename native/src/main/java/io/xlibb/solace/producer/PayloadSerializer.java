@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.producer;
+
+import com.solacesystems.jcsmp.XMLMessage;
+
+import java.io.OutputStream;
+
+/**
+ * Serializes the payload of an outbound message into the bytes published as the message's data.
+ * <p>
+ * A serializer writes into the stream it is given, which is a buffer reused across the sends of a thread, so that
+ * serializing a payload needs no intermediate {@code string} or {@code byte[]}. The built-in serializers are defined
+ * in {@link PayloadSerializers}; other native serializers implement this interface. Implementations must be thread
+ * safe, since a producer is shared by concurrent strands.
+ */
+public interface PayloadSerializer {
+
+    /**
+     * Writes the serialized form of a payload.
+     *
+     * @param payload the Ballerina payload value
+     * @param out     the stream to write the serialized payload to
+     * @throws Exception if the payload cannot be serialized
+     */
+    void serialize(Object payload, OutputStream out) throws Exception;
+
+    /**
+     * Sets the message properties a consumer needs to deserialize the payload, such as the ID of the schema it was
+     * serialized with. Called after the message's own fields are set. Does nothing by default.
+     *
+     * @param message the outbound message
+     * @throws Exception if the properties cannot be set
+     */
+    default void describe(XMLMessage message) throws Exception {
+    }
+}
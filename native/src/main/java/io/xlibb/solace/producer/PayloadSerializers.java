@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.producer;
+
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.api.values.BXml;
+import io.xlibb.solace.common.JsonWriter;
+
+import java.io.Writer;
+
+/**
+ * The built-in payload serializers, selected by the {@code serializer} field of a producer configuration.
+ */
+public final class PayloadSerializers {
+
+    /**
+     * Writes a {@code byte[]} payload as is.
+     */
+    public static final PayloadSerializer BYTES = (payload, out) -> {
+        if (!isByteArray(payload)) {
+            throw new IllegalArgumentException("the BYTES_FORMAT serializer requires a byte[] payload");
+        }
+        out.write(((BArray) payload).getBytes());
+    };
+
+    /**
+     * Writes a {@code string} payload, or the string form of any other payload, as UTF-8 text.
+     */
+    public static final PayloadSerializer STRING = (payload, out) -> {
+        Writer writer = PayloadBuffer.writer(out);
+        writer.write(payload instanceof BString string ? string.getValue() : StringUtils.getStringValue(payload));
+        writer.flush();
+    };
+
+    /**
+     * Writes an {@code xml} payload as XML.
+     */
+    public static final PayloadSerializer XML = (payload, out) -> {
+        if (!(payload instanceof BXml xml)) {
+            throw new IllegalArgumentException("the XML_FORMAT serializer requires an xml payload");
+        }
+        xml.serialize(out);
+    };
+
+    /**
+     * Writes a payload as JSON.
+     */
+    public static final PayloadSerializer JSON = (payload, out) -> {
+        Writer writer = PayloadBuffer.writer(out);
+        JsonWriter.write(payload, writer);
+        writer.flush();
+    };
+
+    /**
+     * Writes a {@code byte[]} payload as is, a {@code string} as UTF-8 text, an {@code xml} as XML and any other
+     * payload as JSON.
+     */
+    public static final PayloadSerializer AUTO = (payload, out) -> {
+        if (isByteArray(payload)) {
+            BYTES.serialize(payload, out);
+        } else if (payload instanceof BString) {
+            STRING.serialize(payload, out);
+        } else if (payload instanceof BXml) {
+            XML.serialize(payload, out);
+        } else {
+            JSON.serialize(payload, out);
+        }
+    };
+
+    /**
+     * Sends a {@code map<anydata>} or record payload as an SDT map message and any other array or table as an SDT
+     * stream message, so that C and JMS applications read it as a {@code MapMessage} or {@code StreamMessage}. Those
+     * messages are built by the message converter, so this serializer only writes the remaining payloads, as
+     * {@link #AUTO} does.
+     */
+    public static final PayloadSerializer SDT = AUTO::serialize;
+
+    private PayloadSerializers() {
+    }
+
+    /**
+     * Returns the built-in serializer named by a {@code PayloadFormat} value.
+     *
+     * @param format the format name, or null for the default
+     * @return the serializer
+     */
+    public static PayloadSerializer forFormat(String format) {
+        if (format == null) {
+            return AUTO;
+        }
+        return switch (format) {
+            case "AUTO_FORMAT" -> AUTO;
+            case "JSON_FORMAT" -> JSON;
+            case "STRING_FORMAT" -> STRING;
+            case "XML_FORMAT" -> XML;
+            case "BYTES_FORMAT" -> BYTES;
+            case "SDT_FORMAT" -> SDT;
+            default -> throw new IllegalArgumentException("Unknown payload format: " + format);
+        };
+    }
+
+    /**
+     * Returns whether a payload is a {@code byte[]}, which the default serializers hand to the message without
+     * copying it into a buffer.
+     */
+    public static boolean isByteArray(Object payload) {
+        return payload instanceof BArray array
+                && TypeUtils.getImpliedType(array.getElementType()).getTag() == TypeTags.BYTE_TAG;
+    }
+
+    /**
+     * Returns whether a payload is sent as a structured SDT message by the {@link #SDT} serializer.
+     */
+    public static boolean isStructured(Object payload) {
+        return payload instanceof BMap<?, ?> || payload instanceof BTable<?, ?>
+                || payload instanceof BArray && !isByteArray(payload);
+    }
+}
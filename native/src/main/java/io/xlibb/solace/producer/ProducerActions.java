@@ -18,8 +18,10 @@
 
 package io.xlibb.solace.producer;
 
+import com.solacesystems.jcsmp.DeliveryMode;
 import com.solacesystems.jcsmp.JCSMPFactory;
 import com.solacesystems.jcsmp.JCSMPProperties;
+import com.solacesystems.jcsmp.JCSMPSendMultipleEntry;
 import com.solacesystems.jcsmp.JCSMPSession;
 import com.solacesystems.jcsmp.ProducerFlowProperties;
 import com.solacesystems.jcsmp.SDTMap;
@@ -27,23 +29,40 @@ import com.solacesystems.jcsmp.XMLMessage;
 import com.solacesystems.jcsmp.XMLMessageProducer;
 import com.solacesystems.jcsmp.transaction.TransactedSession;
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.xlibb.solace.ModuleUtils;
 import io.xlibb.solace.common.CommonUtils;
 import io.xlibb.solace.common.DestinationConverter;
+import io.xlibb.solace.common.PropertyConverter;
 import io.xlibb.solace.config.ConfigurationUtils;
+import io.xlibb.solace.config.PayloadCompressionConfig;
 import io.xlibb.solace.config.ProducerConfiguration;
 import io.xlibb.solace.observability.SolaceMetricsUtil;
 import io.xlibb.solace.observability.SolaceTracingUtil;
+import io.xlibb.solace.serdes.SchemaSerializer;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import static io.xlibb.solace.common.Constants.NATIVE_AUTO_COMMITTER;
+import static io.xlibb.solace.common.Constants.NATIVE_CHUNKER;
 import static io.xlibb.solace.common.Constants.NATIVE_CLOSED;
+import static io.xlibb.solace.common.Constants.NATIVE_PAYLOAD_COMPRESSION;
 import static io.xlibb.solace.common.Constants.NATIVE_PRODUCER;
+import static io.xlibb.solace.common.Constants.NATIVE_REQUESTER;
+import static io.xlibb.solace.common.Constants.NATIVE_SERIALIZER;
 import static io.xlibb.solace.common.Constants.NATIVE_SESSION;
 import static io.xlibb.solace.common.Constants.NATIVE_TRANSACTED;
 import static io.xlibb.solace.common.Constants.NATIVE_TX_SESSION;
@@ -63,6 +82,12 @@ public class ProducerActions {
 
     private static final BString QUEUE_NAME_KEY = StringUtils.fromString("queueName");
     private static final BString TOPIC_NAME_KEY = StringUtils.fromString("topicName");
+    private static final String REQUEST_TIMEOUT_ERROR = "RequestTimeoutError";
+    private static final String SEND_RESULT = "SendResult";
+    private static final String DESTINATION_FIELD = "destination";
+    private static final String ERROR_FIELD = "error";
+    // Entries published per sendMultiple call.
+    private static final int SEND_MULTIPLE_BATCH_SIZE = 50;
 
     /**
      * Initialize the producer with connection URL and configuration. Creates either a transacted or non-transacted
@@ -77,6 +102,9 @@ public class ProducerActions {
         try {
             // Create configuration objects from Ballerina map
             ProducerConfiguration producerConfig = new ProducerConfiguration(config);
+            PayloadSerializer serializer = producerConfig.schemaRegistry() != null
+                    ? new SchemaSerializer(producerConfig.schemaRegistry(), producerConfig.schemaSubject())
+                    : PayloadSerializers.forFormat(producerConfig.payloadFormat());
 
             // Build JCSMP properties from configuration (URL passed separately)
             JCSMPProperties jcsmpProps = ConfigurationUtils.buildJCSMPProperties(
@@ -88,6 +116,11 @@ public class ProducerActions {
             session.connect();
 
             boolean isTransacted = producerConfig.connectionConfig().transacted();
+            if (producerConfig.autoCommit() != null && !isTransacted) {
+                session.closeSession();
+                return CommonUtils.createError("autoCommit requires a transacted producer. "
+                        + "Set transacted = true on the producer configuration.");
+            }
             XMLMessageProducer xmlProducer;
             TransactedSession txSession = null;
 
@@ -113,6 +146,12 @@ public class ProducerActions {
             producer.addNativeData(NATIVE_PRODUCER, xmlProducer);
             producer.addNativeData(NATIVE_CLOSED, false);
             producer.addNativeData(NATIVE_URL, url.getValue());
+            producer.addNativeData(NATIVE_SERIALIZER, serializer);
+            producer.addNativeData(NATIVE_PAYLOAD_COMPRESSION, producerConfig.compression());
+            producer.addNativeData(NATIVE_CHUNKER,
+                    producerConfig.chunking() != null ? new MessageChunker(producerConfig.chunking()) : null);
+            producer.addNativeData(NATIVE_AUTO_COMMITTER, producerConfig.autoCommit() != null
+                    ? new AutoCommitter(producerConfig.autoCommit(), txSession, xmlProducer, producer) : null);
 
             SolaceMetricsUtil.reportNewProducer(producer);
             return null;
@@ -123,16 +162,44 @@ public class ProducerActions {
     }
 
     /**
-     * Send a message to the specified destination.
+     * Send a message to the specified destination. The payload is serialized by the producer's built-in serializer
+     * unless it was already serialized by a Ballerina {@code Serializer}.
      *
-     * @param env            the Ballerina environment (injected for tracing)
-     * @param producer       the Ballerina producer object
-     * @param destinationMap the destination (Topic or Queue)
-     * @param message        the message to send
+     * @param env               the Ballerina environment (injected for tracing)
+     * @param producer          the Ballerina producer object
+     * @param destinationMap    the destination (Topic or Queue)
+     * @param message           the message to send
+     * @param serializedPayload the payload serialized by the producer's Ballerina serializer, or null
      * @return null on success, BError on failure
      */
     public static BError send(Environment env, BObject producer, BMap<BString, Object> destinationMap,
-                              BMap<BString, Object> message) {
+                              BMap<BString, Object> message, Object serializedPayload) {
+        return send(env, producer, destinationMap, null, message.get(PAYLOAD_KEY), message, serializedPayload);
+    }
+
+    /**
+     * Send a message built from a template to the specified destination. The message takes its header fields and
+     * properties from the template, already converted, and only its payload and the per-message overrides are read.
+     *
+     * @param env               the Ballerina environment (injected for tracing)
+     * @param producer          the Ballerina producer object
+     * @param destinationMap    the destination (Topic or Queue)
+     * @param template          the Ballerina message template
+     * @param payload           the payload
+     * @param overrides         the per-message fields
+     * @param serializedPayload the payload serialized by the producer's Ballerina serializer, or null
+     * @return null on success, BError on failure
+     */
+    public static BError sendFromTemplate(Environment env, BObject producer, BMap<BString, Object> destinationMap,
+                                          BObject template, Object payload, BMap<BString, Object> overrides,
+                                          Object serializedPayload) {
+        return send(env, producer, destinationMap, MessageTemplate.of(template), payload, overrides,
+                serializedPayload);
+    }
+
+    private static BError send(Environment env, BObject producer, BMap<BString, Object> destinationMap,
+                               MessageTemplate template, Object payload, BMap<BString, Object> fields,
+                               Object serializedPayload) {
         String destinationName = getDestinationName(destinationMap);
         SolaceTracingUtil.traceResourceInvocation(env, producer, destinationName);
         try {
@@ -146,8 +213,8 @@ public class ProducerActions {
                 return CommonUtils.createError("Producer is closed");
             }
 
-            XMLMessage jcsmpMessage = MessageConverter.toJCSMPMessage(xmlProducer, message);
-            injectTraceContext(env, jcsmpMessage);
+            XMLMessage jcsmpMessage = toJCSMPMessage(env, producer, xmlProducer, template, payload, fields,
+                    serializedPayload);
 
             if (destinationMap == null || destinationMap.isEmpty()) {
                 return CommonUtils.createError("Destination must be specified");
@@ -157,10 +224,23 @@ public class ProducerActions {
             com.solacesystems.jcsmp.Destination jcsmpDestination =
                     DestinationConverter.fromDestinationInterface(destination);
 
-            final XMLMessage finalMessage = jcsmpMessage;
+            final List<XMLMessage> messages = split(producer, xmlProducer, jcsmpMessage);
             final com.solacesystems.jcsmp.Destination finalDestination = jcsmpDestination;
+            AutoCommitter autoCommitter = (AutoCommitter) producer.getNativeData(NATIVE_AUTO_COMMITTER);
+            if (autoCommitter != null) {
+                Object result = CommonUtils.executeBlocking(
+                        () -> autoCommitter.send(messages, finalDestination, destinationName));
+                if (result instanceof BError bError) {
+                    // A CommitError is returned as is, so its detail reaches the caller.
+                    return bError;
+                }
+                SolaceMetricsUtil.reportPublish(producer, destinationName, jcsmpMessage.getAttachmentContentLength());
+                return null;
+            }
             Object result = CommonUtils.executeBlocking(() -> {
-                xmlProducer.send(finalMessage, finalDestination);
+                for (XMLMessage chunk : messages) {
+                    xmlProducer.send(chunk, finalDestination);
+                }
             });
 
             if (result instanceof BError bError) {
@@ -168,15 +248,277 @@ public class ProducerActions {
                 return CommonUtils.createError(bError.getMessage());
             }
 
-            int size = getPayloadSize(message);
-            SolaceMetricsUtil.reportPublish(producer, destinationName, size);
+            SolaceMetricsUtil.reportPublish(producer, destinationName, jcsmpMessage.getAttachmentContentLength());
             return null;
+        } catch (BError e) {
+            // A PayloadSerializationError is returned as is.
+            SolaceMetricsUtil.reportProducerError(producer, destinationName, ERROR_TYPE_PUBLISH);
+            return e;
         } catch (Exception e) {
             SolaceMetricsUtil.reportProducerError(producer, destinationName, ERROR_TYPE_PUBLISH);
             return CommonUtils.createError("Failed to send message", e);
         }
     }
 
+    /**
+     * Send one message to several destinations. The message is converted, and its payload serialized, once. A direct
+     * message is published to all destinations through {@code sendMultiple}, in batches of entries; a guaranteed
+     * message is published as a copy per destination sharing the converted payload, since a guaranteed message may not
+     * be sent again before the broker acknowledges it.
+     *
+     * @param env               the Ballerina environment (injected for tracing)
+     * @param producer          the Ballerina producer object
+     * @param destinations      the destinations (Topics or Queues)
+     * @param message           the message to send
+     * @param serializedPayload the payload serialized by the producer's Ballerina serializer, or null
+     * @return a SendResult per destination, in order, on success, BError if the message cannot be converted
+     */
+    @SuppressWarnings("unchecked")
+    public static Object sendToAll(Environment env, BObject producer, BArray destinations,
+                                   BMap<BString, Object> message, Object serializedPayload) {
+        SolaceTracingUtil.traceResourceInvocation(env, producer);
+        try {
+            XMLMessageProducer xmlProducer = (XMLMessageProducer) producer.getNativeData(NATIVE_PRODUCER);
+            if (xmlProducer == null) {
+                return CommonUtils.createError("Producer not initialized");
+            }
+
+            Boolean closed = (Boolean) producer.getNativeData(NATIVE_CLOSED);
+            if (closed != null && closed) {
+                return CommonUtils.createError("Producer is closed");
+            }
+
+            XMLMessage jcsmpMessage = toJCSMPMessage(env, producer, xmlProducer, message, serializedPayload);
+            List<XMLMessage> messages = split(producer, xmlProducer, jcsmpMessage);
+            boolean direct = jcsmpMessage.getDeliveryMode() == DeliveryMode.DIRECT;
+
+            // One entry per message (or chunk) and destination, with the index of the destination it belongs to.
+            int count = destinations.size();
+            String[] names = new String[count];
+            BError[] errors = new BError[count];
+            List<XMLMessage> entryMessages = new ArrayList<>();
+            List<com.solacesystems.jcsmp.Destination> entryDestinations = new ArrayList<>();
+            List<Integer> entryOwners = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                BMap<BString, Object> destinationMap = (BMap<BString, Object>) destinations.get(i);
+                names[i] = getDestinationName(destinationMap);
+                com.solacesystems.jcsmp.Destination jcsmpDestination;
+                try {
+                    jcsmpDestination = DestinationConverter.fromDestinationInterface(
+                            createDestinationFromMap(destinationMap));
+                } catch (Exception e) {
+                    errors[i] = CommonUtils.createError("Invalid destination", e);
+                    continue;
+                }
+                for (XMLMessage jcsmpEntry : messages) {
+                    entryMessages.add(direct || entryOwners.isEmpty() || entryOwners.get(0) == i
+                            ? jcsmpEntry : MessageConverter.copy(xmlProducer, jcsmpEntry));
+                    entryDestinations.add(jcsmpDestination);
+                    entryOwners.add(i);
+                }
+            }
+
+            AutoCommitter autoCommitter = (AutoCommitter) producer.getNativeData(NATIVE_AUTO_COMMITTER);
+            Object result = CommonUtils.executeBlocking(() -> {
+                int sent = 0;
+                try {
+                    if (autoCommitter != null) {
+                        // A destination's entries are its message's chunks, sent and committed as one send.
+                        for (; sent < entryMessages.size(); sent += messages.size()) {
+                            BError commitError = autoCommitter.send(
+                                    entryMessages.subList(sent, sent + messages.size()),
+                                    entryDestinations.get(sent), names[entryOwners.get(sent)]);
+                            if (commitError != null) {
+                                failUnsent(errors, entryOwners, sent, commitError);
+                                return;
+                            }
+                        }
+                    } else if (direct) {
+                        JCSMPFactory factory = JCSMPFactory.onlyInstance();
+                        JCSMPSendMultipleEntry[] entries = new JCSMPSendMultipleEntry[entryMessages.size()];
+                        for (int i = 0; i < entries.length; i++) {
+                            entries[i] = factory.createSendMultipleEntry(entryMessages.get(i),
+                                    entryDestinations.get(i));
+                        }
+                        while (sent < entries.length) {
+                            sent += xmlProducer.sendMultiple(entries, sent,
+                                    Math.min(SEND_MULTIPLE_BATCH_SIZE, entries.length - sent), 0);
+                        }
+                    } else {
+                        for (; sent < entryMessages.size(); sent++) {
+                            xmlProducer.send(entryMessages.get(sent), entryDestinations.get(sent));
+                        }
+                    }
+                } catch (Exception e) {
+                    failUnsent(errors, entryOwners, sent, CommonUtils.createError("Failed to send message", e));
+                }
+            });
+            if (result instanceof BError bError) {
+                return bError;
+            }
+
+            Type resultType = ValueCreator.createRecordValue(ModuleUtils.getModule(), SEND_RESULT).getType();
+            BArray results = ValueCreator.createArrayValue(TypeCreator.createArrayType(resultType));
+            for (int i = 0; i < count; i++) {
+                Map<String, Object> fields = new HashMap<>();
+                fields.put(DESTINATION_FIELD, destinations.get(i));
+                if (errors[i] != null) {
+                    fields.put(ERROR_FIELD, errors[i]);
+                    SolaceMetricsUtil.reportProducerError(producer, names[i], ERROR_TYPE_PUBLISH);
+                } else {
+                    SolaceMetricsUtil.reportPublish(producer, names[i], jcsmpMessage.getAttachmentContentLength());
+                }
+                results.append(ValueCreator.createRecordValue(ModuleUtils.getModule(), SEND_RESULT, fields));
+            }
+            return results;
+        } catch (BError e) {
+            // A PayloadSerializationError is returned as is.
+            SolaceMetricsUtil.reportProducerError(producer, ERROR_TYPE_PUBLISH);
+            return e;
+        } catch (Exception e) {
+            SolaceMetricsUtil.reportProducerError(producer, ERROR_TYPE_PUBLISH);
+            return CommonUtils.createError("Failed to send message", e);
+        }
+    }
+
+    /**
+     * Records an error for the destinations of the entries from the given one on, unless they already failed.
+     */
+    private static void failUnsent(BError[] errors, List<Integer> entryOwners, int from, BError error) {
+        for (int i = from; i < entryOwners.size(); i++) {
+            if (errors[entryOwners.get(i)] == null) {
+                errors[entryOwners.get(i)] = error;
+            }
+        }
+    }
+
+    /**
+     * Send a request message to the specified destination and wait for its reply. The reply is matched to the request
+     * by correlation ID on the producer's reply flow, which is created on the first request and shared by all the
+     * requests of the producer.
+     *
+     * @param env               the Ballerina environment (injected for tracing)
+     * @param producer          the Ballerina producer object
+     * @param destinationMap    the destination (Topic or Queue)
+     * @param message           the request message
+     * @param serializedPayload the payload serialized by the producer's Ballerina serializer, or null
+     * @param timeout           the time to wait for the reply, in seconds
+     * @return the reply message on success, a RequestTimeoutError if no reply arrived in time, BError on failure
+     */
+    public static Object request(Environment env, BObject producer, BMap<BString, Object> destinationMap,
+                                 BMap<BString, Object> message, Object serializedPayload, BDecimal timeout) {
+        String destinationName = getDestinationName(destinationMap);
+        SolaceTracingUtil.traceResourceInvocation(env, producer, destinationName);
+        try {
+            XMLMessageProducer xmlProducer = (XMLMessageProducer) producer.getNativeData(NATIVE_PRODUCER);
+            if (xmlProducer == null) {
+                return CommonUtils.createError("Producer not initialized");
+            }
+
+            Boolean closed = (Boolean) producer.getNativeData(NATIVE_CLOSED);
+            if (closed != null && closed) {
+                return CommonUtils.createError("Producer is closed");
+            }
+
+            Boolean transacted = (Boolean) producer.getNativeData(NATIVE_TRANSACTED);
+            if (transacted != null && transacted) {
+                return CommonUtils.createError("request() cannot be called on transacted producers, "
+                        + "as a request is not delivered until its transaction is committed.");
+            }
+
+            if (destinationMap == null || destinationMap.isEmpty()) {
+                return CommonUtils.createError("Destination must be specified");
+            }
+
+            XMLMessage jcsmpMessage = toJCSMPMessage(env, producer, xmlProducer, message, serializedPayload);
+            com.solacesystems.jcsmp.Destination jcsmpDestination =
+                    DestinationConverter.fromDestinationInterface(createDestinationFromMap(destinationMap));
+            long timeoutMs = timeout.decimalValue().multiply(BigDecimal.valueOf(1000)).longValue();
+
+            Requester requester = requester(producer);
+            String correlationId = requester.prepare(jcsmpMessage);
+            List<XMLMessage> messages = split(producer, xmlProducer, jcsmpMessage);
+            Object result = CommonUtils.executeBlocking(() -> {
+                try {
+                    for (XMLMessage chunk : messages) {
+                        xmlProducer.send(chunk, jcsmpDestination);
+                    }
+                } catch (Exception e) {
+                    requester.cancel(correlationId);
+                    throw e;
+                }
+                return requester.await(correlationId, timeoutMs);
+            });
+
+            if (result instanceof BError bError) {
+                SolaceMetricsUtil.reportProducerError(producer, destinationName, ERROR_TYPE_PUBLISH);
+                return CommonUtils.createError(bError.getMessage());
+            }
+            SolaceMetricsUtil.reportPublish(producer, destinationName, jcsmpMessage.getAttachmentContentLength());
+            if (result == null) {
+                return CommonUtils.createError(REQUEST_TIMEOUT_ERROR,
+                        "No reply received within " + timeout.decimalValue().toPlainString() + " seconds", null, null);
+            }
+            return io.xlibb.solace.consumer.MessageConverter.toBallerinaMessage((XMLMessage) result);
+        } catch (BError e) {
+            // A PayloadSerializationError is returned as is.
+            SolaceMetricsUtil.reportProducerError(producer, destinationName, ERROR_TYPE_PUBLISH);
+            return e;
+        } catch (Exception e) {
+            SolaceMetricsUtil.reportProducerError(producer, destinationName, ERROR_TYPE_PUBLISH);
+            return CommonUtils.createError("Failed to send request", e);
+        }
+    }
+
+    /**
+     * Converts a Ballerina message for sending, with the current span's trace context.
+     */
+    private static XMLMessage toJCSMPMessage(Environment env, BObject producer, XMLMessageProducer xmlProducer,
+                                             BMap<BString, Object> message, Object serializedPayload)
+            throws Exception {
+        return toJCSMPMessage(env, producer, xmlProducer, null, message.get(PAYLOAD_KEY), message, serializedPayload);
+    }
+
+    /**
+     * Converts a payload with the fields of a template and its overrides, or of a Ballerina message, for sending.
+     */
+    private static XMLMessage toJCSMPMessage(Environment env, BObject producer, XMLMessageProducer xmlProducer,
+                                             MessageTemplate template, Object payload, BMap<BString, Object> fields,
+                                             Object serializedPayload) throws Exception {
+        PayloadSerializer serializer = (PayloadSerializer) producer.getNativeData(NATIVE_SERIALIZER);
+        PayloadCompressionConfig compression =
+                (PayloadCompressionConfig) producer.getNativeData(NATIVE_PAYLOAD_COMPRESSION);
+        XMLMessage jcsmpMessage = MessageConverter.toJCSMPMessage(xmlProducer, template, payload, fields, serializer,
+                serializedPayload instanceof BArray serialized ? serialized : null, compression);
+        injectTraceContext(env, jcsmpMessage);
+        return jcsmpMessage;
+    }
+
+    /**
+     * Returns the messages to send for a converted message: a payload larger than the chunk size is sent as an ordered
+     * set of chunks.
+     */
+    private static List<XMLMessage> split(BObject producer, XMLMessageProducer xmlProducer, XMLMessage jcsmpMessage)
+            throws Exception {
+        MessageChunker chunker = (MessageChunker) producer.getNativeData(NATIVE_CHUNKER);
+        return chunker != null && chunker.exceeds(jcsmpMessage)
+                ? chunker.split(xmlProducer, jcsmpMessage) : List.of(jcsmpMessage);
+    }
+
+    /**
+     * Returns the producer's requester, creating its reply flow on first use.
+     */
+    private static Requester requester(BObject producer) throws Exception {
+        synchronized (producer) {
+            Requester requester = (Requester) producer.getNativeData(NATIVE_REQUESTER);
+            if (requester == null) {
+                requester = new Requester((JCSMPSession) producer.getNativeData(NATIVE_SESSION));
+                producer.addNativeData(NATIVE_REQUESTER, requester);
+            }
+            return requester;
+        }
+    }
+
     /**
      * Injects the current span's trace context into the outbound message's properties.
      */
@@ -185,10 +527,7 @@ public class ProducerActions {
         if (traceHeaders == null || traceHeaders.isEmpty()) {
             return;
         }
-        SDTMap properties = jcsmpMessage.getProperties();
-        if (properties == null) {
-            properties = JCSMPFactory.onlyInstance().createMap();
-        }
+        SDTMap properties = PropertyConverter.copyOf(jcsmpMessage.getProperties());
         for (Map.Entry<String, String> entry : traceHeaders.entrySet()) {
             properties.putString(entry.getKey(), entry.getValue());
         }
@@ -221,6 +560,12 @@ public class ProducerActions {
                 return CommonUtils.createError("Producer is closed");
             }
 
+            AutoCommitter autoCommitter = (AutoCommitter) producer.getNativeData(NATIVE_AUTO_COMMITTER);
+            if (autoCommitter != null) {
+                Object result = CommonUtils.executeBlocking(autoCommitter::flush);
+                return result instanceof BError bError ? bError : null;
+            }
+
             // Commit transaction on TransactedSession (blocking operation)
             Object result = CommonUtils.executeBlocking(txSession::commit);
 
@@ -236,6 +581,17 @@ public class ProducerActions {
         }
     }
 
+    /**
+     * Commit the sends not yet committed by a producer's auto-commit policy. Without an auto-commit policy this is the
+     * same as {@link #commit(BObject)}.
+     *
+     * @param producer the Ballerina producer object
+     * @return null on success, BError (a CommitError if the commit failed) on failure
+     */
+    public static BError flush(BObject producer) {
+        return commit(producer);
+    }
+
     /**
      * Rollback the current transaction. Only valid for transacted producers (when connectionConfig.transacted = true).
      *
@@ -263,7 +619,10 @@ public class ProducerActions {
             }
 
             // Rollback transaction on TransactedSession (blocking operation)
-            Object result = CommonUtils.executeBlocking(txSession::rollback);
+            AutoCommitter autoCommitter = (AutoCommitter) producer.getNativeData(NATIVE_AUTO_COMMITTER);
+            Object result = autoCommitter != null
+                    ? CommonUtils.executeBlocking(autoCommitter::rollback)
+                    : CommonUtils.executeBlocking(txSession::rollback);
 
             if (result instanceof BError) {
                 SolaceMetricsUtil.reportProducerError(producer, ERROR_TYPE_ROLLBACK);
@@ -301,6 +660,24 @@ public class ProducerActions {
             XMLMessageProducer xmlProducer = (XMLMessageProducer) producer.getNativeData(NATIVE_PRODUCER);
             JCSMPSession session = (JCSMPSession) producer.getNativeData(NATIVE_SESSION);
 
+            // Commit the sends still pending under an auto-commit policy before closing the session.
+            AutoCommitter autoCommitter = (AutoCommitter) producer.getNativeData(NATIVE_AUTO_COMMITTER);
+            BError commitError = null;
+            if (autoCommitter != null) {
+                Object result = CommonUtils.executeBlocking(autoCommitter::close);
+                commitError = result instanceof BError bError ? bError : null;
+                producer.addNativeData(NATIVE_AUTO_COMMITTER, null);
+            }
+
+            // Fail the requests still awaiting a reply before their reply flow closes with the session.
+            synchronized (producer) {
+                Requester requester = (Requester) producer.getNativeData(NATIVE_REQUESTER);
+                if (requester != null) {
+                    requester.close();
+                    producer.addNativeData(NATIVE_REQUESTER, null);
+                }
+            }
+
             // Close in reverse order: producer, then session
             if (xmlProducer != null) {
                 xmlProducer.close();
@@ -316,7 +693,7 @@ public class ProducerActions {
             producer.addNativeData(NATIVE_SESSION, null);
 
             SolaceMetricsUtil.reportProducerClose(producer);
-            return null;
+            return commitError;
         } catch (Exception e) {
             SolaceMetricsUtil.reportProducerError(producer, ERROR_TYPE_CLOSE);
             return CommonUtils.createError("Failed to close producer", e);
@@ -353,15 +730,4 @@ public class ProducerActions {
         }
         return UNKNOWN;
     }
-
-    private static int getPayloadSize(BMap<BString, Object> message) {
-        if (message == null) {
-            return 0;
-        }
-        Object payload = message.get(PAYLOAD_KEY);
-        if (payload instanceof BArray arr) {
-            return arr.size();
-        }
-        return 0;
-    }
 }
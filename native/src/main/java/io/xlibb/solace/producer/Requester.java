@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.xlibb.solace.producer;
+
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.JCSMPProperties;
+import com.solacesystems.jcsmp.JCSMPSession;
+import com.solacesystems.jcsmp.Topic;
+import com.solacesystems.jcsmp.XMLMessage;
+import com.solacesystems.jcsmp.XMLMessageConsumer;
+import com.solacesystems.jcsmp.XMLMessageListener;
+import io.xlibb.solace.config.ChunkReassemblyConfig;
+import io.xlibb.solace.consumer.ChunkReassembler;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Multiplexes the requests of a producer over a single reply flow.
+ * <p>
+ * Replies are received on the session's P2P inbox, the topic JCSMP subscribes every session to, through one direct
+ * consumer created on the producer's first request. Each request carries a correlation ID unique to this requester
+ * and the inbox as its reply-to destination, and waits on a future registered under that ID; an inbound reply
+ * completes the future of its correlation ID. A request that times out removes its future, so a late reply finds
+ * nothing and is dropped. Chunked replies are reassembled before they are matched.
+ */
+final class Requester implements XMLMessageListener {
+
+    private static final Logger LOGGER = Logger.getLogger(Requester.class.getName());
+
+    private final XMLMessageConsumer consumer;
+    private final Topic replyTo;
+    private final String correlationPrefix = UUID.randomUUID() + "-";
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, CompletableFuture<BytesXMLMessage>> pending = new ConcurrentHashMap<>();
+    private final ChunkReassembler chunkReassembler = new ChunkReassembler(ChunkReassemblyConfig.DEFAULT, null);
+
+    Requester(JCSMPSession session) throws JCSMPException {
+        this.replyTo = JCSMPFactory.onlyInstance().createTopic((String) session.getProperty(
+                JCSMPProperties.P2PINBOX_IN_USE));
+        this.consumer = session.getMessageConsumer(this);
+        consumer.start();
+    }
+
+    /**
+     * Addresses a request to this requester's reply flow and registers it as awaiting a reply. Any correlation ID or
+     * reply-to destination the message already has is replaced.
+     *
+     * @param message the request message, before it is sent
+     * @return the correlation ID under which the reply is awaited
+     */
+    String prepare(XMLMessage message) {
+        String correlationId = correlationPrefix + sequence.incrementAndGet();
+        message.setCorrelationId(correlationId);
+        message.setReplyTo(replyTo);
+        pending.put(correlationId, new CompletableFuture<>());
+        return correlationId;
+    }
+
+    /**
+     * Waits for the reply to a prepared request.
+     *
+     * @param correlationId the correlation ID returned by {@link #prepare(XMLMessage)}
+     * @param timeoutMs     the time to wait, in milliseconds
+     * @return the reply, or null if none arrived in time
+     * @throws Exception if the reply flow failed or was closed while waiting
+     */
+    BytesXMLMessage await(String correlationId, long timeoutMs) throws Exception {
+        CompletableFuture<BytesXMLMessage> reply = pending.get(correlationId);
+        if (reply == null) {
+            throw new IllegalStateException("No request is awaiting a reply with correlation ID " + correlationId);
+        }
+        try {
+            return reply.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } finally {
+            pending.remove(correlationId);
+        }
+    }
+
+    /**
+     * Stops awaiting the reply to a request that could not be sent.
+     *
+     * @param correlationId the correlation ID returned by {@link #prepare(XMLMessage)}
+     */
+    void cancel(String correlationId) {
+        pending.remove(correlationId);
+    }
+
+    @Override
+    public void onReceive(BytesXMLMessage message) {
+        BytesXMLMessage reply;
+        try {
+            reply = chunkReassembler.accept(message);
+        } catch (Exception e) {
+            LOGGER.warning("Dropped a malformed reply chunk: " + e.getMessage());
+            return;
+        }
+        if (reply == null) {
+            return;
+        }
+        String correlationId = reply.getCorrelationId();
+        CompletableFuture<BytesXMLMessage> future = correlationId != null ? pending.get(correlationId) : null;
+        if (future == null) {
+            LOGGER.fine(() -> "Dropped a reply with no request awaiting it: " + correlationId);
+            return;
+        }
+        future.complete(reply);
+    }
+
+    @Override
+    public void onException(JCSMPException exception) {
+        pending.values().forEach(future -> future.completeExceptionally(exception));
+    }
+
+    /**
+     * Closes the reply flow, failing the requests still awaiting a reply.
+     */
+    void close() {
+        consumer.close();
+        chunkReassembler.close();
+        IllegalStateException closed = new IllegalStateException("Producer closed while awaiting a reply");
+        pending.values().forEach(future -> future.completeExceptionally(closed));
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.serdes;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.xlibb.solace.producer.PayloadSerializers;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericEnumSymbol;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes and reads Ballerina values in the Avro binary encoding of a schema, using Apache Avro's generic datum
+ * writer and reader; this class only converts between Ballerina values and Avro generic data.
+ * <p>
+ * Records and maps are written from Ballerina mappings, arrays from lists, enums from their symbol strings, and
+ * {@code bytes} and {@code fixed} from {@code byte[]}. A union is written as its first branch the value matches
+ * exactly, or else the first it can be converted to. Read values are plain {@code anydata} values (mappings for
+ * records and maps, lists for arrays), which the payload binder converts to the requested type. Logical types are
+ * read and written as their underlying types.
+ */
+final class AvroCodec {
+
+    private static final MapType ANYDATA_MAP = TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA);
+    private static final ArrayType ANYDATA_ARRAY = TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA);
+
+    private final Schema schema;
+    private final GenericDatumWriter<Object> writer;
+    private final GenericDatumReader<Object> reader;
+
+    AvroCodec(String definition) {
+        try {
+            this.schema = new Schema.Parser().parse(definition);
+        } catch (AvroRuntimeException e) {
+            throw new IllegalArgumentException("Invalid Avro schema: " + e.getMessage(), e);
+        }
+        this.writer = new GenericDatumWriter<>(schema);
+        this.reader = new GenericDatumReader<>(schema);
+    }
+
+    void write(Object value, OutputStream out) throws IOException {
+        Object datum = toDatum(schema, value);
+        BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+        writer.write(datum, encoder);
+        encoder.flush();
+    }
+
+    Object read(byte[] data) throws IOException {
+        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(data, null);
+        Object datum = reader.read(null, decoder);
+        if (!decoder.isEnd()) {
+            throw new IllegalArgumentException("Avro payload has unexpected trailing bytes");
+        }
+        return fromDatum(datum);
+    }
+
+    // ---- Ballerina value to Avro datum ----
+
+    private static Object toDatum(Schema schema, Object value) {
+        return switch (schema.getType()) {
+            case NULL -> {
+                if (value != null) {
+                    throw mismatch(schema, value);
+                }
+                yield null;
+            }
+            case BOOLEAN -> {
+                if (!(value instanceof Boolean)) {
+                    throw mismatch(schema, value);
+                }
+                yield value;
+            }
+            case INT -> {
+                long number = toLong(schema, value);
+                if (number < Integer.MIN_VALUE || number > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Value " + number + " is out of range for an Avro int");
+                }
+                yield (int) number;
+            }
+            case LONG -> toLong(schema, value);
+            case FLOAT -> (float) toDouble(schema, value);
+            case DOUBLE -> toDouble(schema, value);
+            case STRING -> {
+                if (!(value instanceof BString string)) {
+                    throw mismatch(schema, value);
+                }
+                yield string.getValue();
+            }
+            case BYTES -> ByteBuffer.wrap(toBytes(schema, value));
+            case FIXED -> {
+                byte[] bytes = toBytes(schema, value);
+                if (bytes.length != schema.getFixedSize()) {
+                    throw mismatch(schema, value);
+                }
+                yield new GenericData.Fixed(schema, bytes);
+            }
+            case ENUM -> {
+                if (!(value instanceof BString symbol) || !schema.hasEnumSymbol(symbol.getValue())) {
+                    throw mismatch(schema, value);
+                }
+                yield new GenericData.EnumSymbol(schema, symbol.getValue());
+            }
+            case RECORD -> {
+                if (!(value instanceof BMap<?, ?> mapping)) {
+                    throw mismatch(schema, value);
+                }
+                GenericData.Record record = new GenericData.Record(schema);
+                for (Schema.Field field : schema.getFields()) {
+                    BString key = StringUtils.fromString(field.name());
+                    if (mapping.containsKey(key)) {
+                        record.put(field.pos(), toDatum(field.schema(), mapping.get(key)));
+                    } else if (field.hasDefaultValue()) {
+                        record.put(field.pos(), GenericData.get().getDefaultValue(field));
+                    } else {
+                        throw new IllegalArgumentException("Missing value for Avro field '" + field.name() + "'");
+                    }
+                }
+                yield record;
+            }
+            case ARRAY -> {
+                if (!(value instanceof BArray array) || PayloadSerializers.isByteArray(value)) {
+                    throw mismatch(schema, value);
+                }
+                List<Object> items = new ArrayList<>(array.size());
+                for (int i = 0; i < array.size(); i++) {
+                    items.add(toDatum(schema.getElementType(), array.get(i)));
+                }
+                yield items;
+            }
+            case MAP -> {
+                if (!(value instanceof BMap<?, ?> mapping)) {
+                    throw mismatch(schema, value);
+                }
+                Map<String, Object> entries = new HashMap<>();
+                for (Map.Entry<?, ?> entry : mapping.entrySet()) {
+                    entries.put(entry.getKey().toString(), toDatum(schema.getValueType(), entry.getValue()));
+                }
+                yield entries;
+            }
+            case UNION -> toDatum(selectBranch(schema, value), value);
+        };
+    }
+
+    private static Schema selectBranch(Schema union, Object value) {
+        for (Schema branch : union.getTypes()) {
+            if (matchesExactly(branch, value)) {
+                return branch;
+            }
+        }
+        for (Schema branch : union.getTypes()) {
+            Schema.Type type = branch.getType();
+            if ((type == Schema.Type.FLOAT || type == Schema.Type.DOUBLE)
+                    && (value instanceof Number || value instanceof BDecimal)) {
+                return branch;
+            }
+        }
+        throw new IllegalArgumentException("Value does not match any branch of the Avro union: " + value);
+    }
+
+    private static boolean matchesExactly(Schema schema, Object value) {
+        return switch (schema.getType()) {
+            case NULL -> value == null;
+            case BOOLEAN -> value instanceof Boolean;
+            case INT, LONG -> value instanceof Long || value instanceof Integer;
+            case FLOAT, DOUBLE -> value instanceof Double || value instanceof BDecimal;
+            case BYTES -> PayloadSerializers.isByteArray(value);
+            case FIXED -> PayloadSerializers.isByteArray(value) && ((BArray) value).size() == schema.getFixedSize();
+            case STRING -> value instanceof BString;
+            case ENUM -> value instanceof BString symbol && schema.hasEnumSymbol(symbol.getValue());
+            case RECORD, MAP -> value instanceof BMap;
+            case ARRAY -> value instanceof BArray && !PayloadSerializers.isByteArray(value);
+            default -> false;
+        };
+    }
+
+    private static long toLong(Schema schema, Object value) {
+        if (value instanceof Long || value instanceof Integer) {
+            return ((Number) value).longValue();
+        }
+        throw mismatch(schema, value);
+    }
+
+    private static double toDouble(Schema schema, Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof BDecimal decimal) {
+            return decimal.decimalValue().doubleValue();
+        }
+        throw mismatch(schema, value);
+    }
+
+    private static byte[] toBytes(Schema schema, Object value) {
+        if (!PayloadSerializers.isByteArray(value)) {
+            throw mismatch(schema, value);
+        }
+        return ((BArray) value).getBytes();
+    }
+
+    private static IllegalArgumentException mismatch(Schema schema, Object value) {
+        return new IllegalArgumentException("Value " + (value instanceof BString ? "'" + value + "'" : value)
+                + " does not match Avro type '" + schema.getFullName() + "'");
+    }
+
+    // ---- Avro datum to Ballerina value ----
+
+    private static Object fromDatum(Object datum) {
+        if (datum == null || datum instanceof Boolean || datum instanceof Long || datum instanceof Double) {
+            return datum;
+        }
+        if (datum instanceof Integer number) {
+            return number.longValue();
+        }
+        if (datum instanceof Float number) {
+            return number.doubleValue();
+        }
+        if (datum instanceof CharSequence || datum instanceof GenericEnumSymbol<?>) {
+            return StringUtils.fromString(datum.toString());
+        }
+        if (datum instanceof ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            return ValueCreator.createArrayValue(bytes);
+        }
+        if (datum instanceof GenericFixed fixed) {
+            return ValueCreator.createArrayValue(fixed.bytes().clone());
+        }
+        if (datum instanceof GenericRecord record) {
+            BMap<BString, Object> mapping = ValueCreator.createMapValue(ANYDATA_MAP);
+            for (Schema.Field field : record.getSchema().getFields()) {
+                mapping.put(StringUtils.fromString(field.name()), fromDatum(record.get(field.pos())));
+            }
+            return mapping;
+        }
+        if (datum instanceof Map<?, ?> entries) {
+            BMap<BString, Object> mapping = ValueCreator.createMapValue(ANYDATA_MAP);
+            for (Map.Entry<?, ?> entry : entries.entrySet()) {
+                mapping.put(StringUtils.fromString(entry.getKey().toString()), fromDatum(entry.getValue()));
+            }
+            return mapping;
+        }
+        if (datum instanceof Collection<?> items) {
+            BArray array = ValueCreator.createArrayValue(ANYDATA_ARRAY);
+            for (Object item : items) {
+                array.append(fromDatum(item));
+            }
+            return array;
+        }
+        throw new IllegalArgumentException("Unsupported Avro value: " + datum.getClass().getName());
+    }
+}
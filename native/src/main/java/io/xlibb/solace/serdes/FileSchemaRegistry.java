@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.serdes;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * A registry of schema files in a local directory, standing in for a registry server in tests and development.
+ * <p>
+ * Each subject is a subdirectory holding its schemas as {@code <id>.avsc} (Avro) or {@code <id>.json} (JSON Schema)
+ * files; schema IDs are unique across subjects, and a subject's latest schema is the one with the highest ID.
+ */
+final class FileSchemaRegistry implements SchemaRegistry {
+
+    private final Path directory;
+
+    FileSchemaRegistry(String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    @Override
+    public Schema fetch(long id) throws Exception {
+        try (DirectoryStream<Path> subjects = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path subject : subjects) {
+                for (SchemaType type : SchemaType.values()) {
+                    Path file = subject.resolve(id + type.extension());
+                    if (Files.isRegularFile(file)) {
+                        return new Schema(id, type, Files.readString(file, StandardCharsets.UTF_8));
+                    }
+                }
+            }
+        }
+        throw new IOException("Schema " + id + " not found in " + directory);
+    }
+
+    @Override
+    public long latestId(String subject) throws Exception {
+        long latest = -1;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory.resolve(subject))) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                SchemaType type = SchemaType.fromFileName(name);
+                if (type != null) {
+                    latest = Math.max(latest, Long.parseLong(name.substring(0, name.length()
+                            - type.extension().length())));
+                }
+            }
+        }
+        if (latest < 0) {
+            throw new IOException("No schema registered under subject '" + subject + "' in " + directory);
+        }
+        return latest;
+    }
+}
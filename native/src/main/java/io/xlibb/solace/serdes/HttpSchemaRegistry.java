@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.serdes;
+
+import io.xlibb.solace.config.SchemaRegistryConfig;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * A registry server speaking the Apicurio Registry v3 REST API, as the Solace Schema Registry does. Schema IDs are
+ * the registry's global IDs, and the group of every subject is the configured group.
+ */
+final class HttpSchemaRegistry implements SchemaRegistry {
+
+    private static final String API_PATH = "/apis/registry/v3";
+    private static final String ARTIFACT_TYPE_HEADER = "X-Registry-ArtifactType";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+    private final String baseUrl;
+    private final String group;
+    private final String authorization;
+
+    HttpSchemaRegistry(SchemaRegistryConfig config) {
+        String url = config.url().endsWith("/") ? config.url().substring(0, config.url().length() - 1)
+                : config.url();
+        this.baseUrl = url.endsWith(API_PATH) ? url : url + API_PATH;
+        this.group = encode(config.group());
+        this.authorization = config.username() != null
+                ? "Basic " + Base64.getEncoder().encodeToString((config.username() + ":"
+                        + (config.password() != null ? config.password() : "")).getBytes(StandardCharsets.UTF_8))
+                : null;
+    }
+
+    @Override
+    public Schema fetch(long id) throws Exception {
+        HttpResponse<String> response = get("/ids/globalIds/" + id);
+        SchemaType type = response.headers().firstValue(ARTIFACT_TYPE_HEADER)
+                .map(SchemaType::fromArtifactType)
+                .orElseGet(() -> SchemaType.detect(response.body()));
+        return new Schema(id, type, response.body());
+    }
+
+    @Override
+    public long latestId(String subject) throws Exception {
+        HttpResponse<String> response = get("/groups/" + group + "/artifacts/" + encode(subject)
+                + "/versions/branch=latest");
+        return new JSONObject(response.body()).getLong("globalId");
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT).GET();
+        if (authorization != null) {
+            request.header("Authorization", authorization);
+        }
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Schema registry returned HTTP " + response.statusCode() + " for " + baseUrl + path);
+        }
+        return response;
+    }
+
+    private static String encode(String segment) {
+        return URLEncoder.encode(segment, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
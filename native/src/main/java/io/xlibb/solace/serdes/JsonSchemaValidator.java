@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.serdes;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import com.networknt.schema.SpecVersionDetector;
+import com.networknt.schema.ValidationMessage;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Validates JSON payloads against a JSON Schema, using the networknt JSON Schema validator. The draft is taken from
+ * the schema's {@code $schema} keyword, defaulting to 2020-12.
+ */
+final class JsonSchemaValidator {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonSchema schema;
+
+    JsonSchemaValidator(String definition) {
+        try {
+            JsonNode node = MAPPER.readTree(definition);
+            SpecVersion.VersionFlag version = node.has("$schema")
+                    ? SpecVersionDetector.detect(node)
+                    : SpecVersion.VersionFlag.V202012;
+            this.schema = JsonSchemaFactory.getInstance(version).getSchema(node);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON Schema: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * Validates a JSON document.
+     *
+     * @param json the UTF-8 JSON document
+     * @throws IllegalArgumentException listing the violations, if the document does not conform to the schema
+     * @throws IOException              if the document is not valid JSON
+     */
+    void validate(byte[] json) throws IOException {
+        Set<ValidationMessage> violations = schema.validate(MAPPER.readTree(json));
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException("Payload does not conform to the JSON Schema: " + violations.stream()
+                    .map(ValidationMessage::getMessage).collect(Collectors.joining("; ")));
+        }
+    }
+}
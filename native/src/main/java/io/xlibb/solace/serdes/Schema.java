@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.serdes;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.xlibb.solace.producer.PayloadSerializers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+
+/**
+ * A registered schema, parsed once when it is first seen and then used to write and read any number of payloads.
+ */
+public final class Schema {
+
+    private final long id;
+    private final SchemaType type;
+    private final String definition;
+    private final AvroCodec avroCodec;
+    private final JsonSchemaValidator jsonValidator;
+
+    /**
+     * Parses a schema.
+     *
+     * @param id         the schema's registry ID
+     * @param type       the schema type
+     * @param definition the schema text
+     * @throws IllegalArgumentException if the schema cannot be parsed
+     */
+    Schema(long id, SchemaType type, String definition) {
+        this.id = id;
+        this.type = type;
+        this.definition = definition;
+        this.avroCodec = type == SchemaType.AVRO ? new AvroCodec(definition) : null;
+        this.jsonValidator = type == SchemaType.JSON ? new JsonSchemaValidator(definition) : null;
+    }
+
+    public long id() {
+        return id;
+    }
+
+    SchemaType type() {
+        return type;
+    }
+
+    String definition() {
+        return definition;
+    }
+
+    /**
+     * Writes a payload serialized against this schema.
+     *
+     * @param payload the Ballerina payload value
+     * @param out     the stream to write to
+     * @throws Exception if the payload does not conform to the schema
+     */
+    void write(Object payload, OutputStream out) throws Exception {
+        if (avroCodec != null) {
+            avroCodec.write(payload, out);
+        } else {
+            ByteArrayOutputStream json = new ByteArrayOutputStream();
+            PayloadSerializers.JSON.serialize(payload, json);
+            jsonValidator.validate(json.toByteArray());
+            json.writeTo(out);
+        }
+    }
+
+    /**
+     * Reads a payload serialized against this schema.
+     *
+     * @param data the serialized payload
+     * @return the payload as a Ballerina {@code anydata} value
+     * @throws Exception if the payload is malformed or does not conform to the schema
+     */
+    public Object read(byte[] data) throws Exception {
+        if (avroCodec != null) {
+            return avroCodec.read(data);
+        }
+        jsonValidator.validate(data);
+        return JsonUtils.parse(new ByteArrayInputStream(data));
+    }
+}
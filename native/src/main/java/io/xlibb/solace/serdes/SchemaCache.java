@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.serdes;
+
+import io.xlibb.solace.config.SchemaRegistryConfig;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Caches the schemas of a registry so the registry is contacted only the first time a schema is seen.
+ * <p>
+ * Parsed schemas are held in memory up to the configured size, least recently used first out. With a warm cache
+ * directory, every schema fetched from the registry is also written there as {@code <id>.avsc} or {@code <id>.json},
+ * and a schema missing from memory is read from the directory before the registry is asked, so a restarted client
+ * starts warm. Schemas are immutable once registered, so cached schemas never go stale. The latest schema ID of a
+ * subject is resolved once per cache and kept for its lifetime.
+ */
+public final class SchemaCache {
+
+    private static final Logger LOGGER = Logger.getLogger(SchemaCache.class.getName());
+
+    private final SchemaRegistry registry;
+    private final Path warmDirectory;
+    private final Map<Long, Schema> schemas;
+    private final Map<String, Long> latestIds = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the cache of the registry a configuration refers to.
+     *
+     * @param config the registry configuration
+     */
+    public SchemaCache(SchemaRegistryConfig config) {
+        this(SchemaRegistry.forConfig(config), config.cacheSize(),
+                config.warmCacheDirectory() != null ? Paths.get(config.warmCacheDirectory()) : null);
+    }
+
+    SchemaCache(SchemaRegistry registry, int capacity, Path warmDirectory) {
+        this.registry = registry;
+        this.warmDirectory = warmDirectory;
+        this.schemas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Schema> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns a schema by ID, from memory, the warm cache directory or the registry, in that order.
+     *
+     * @param id the schema ID
+     * @return the schema
+     * @throws Exception if the schema cannot be fetched or parsed
+     */
+    public Schema schema(long id) throws Exception {
+        synchronized (schemas) {
+            Schema schema = schemas.get(id);
+            if (schema != null) {
+                return schema;
+            }
+        }
+        Schema schema = readWarm(id);
+        if (schema == null) {
+            schema = registry.fetch(id);
+            writeWarm(schema);
+        }
+        synchronized (schemas) {
+            schemas.put(id, schema);
+        }
+        return schema;
+    }
+
+    /**
+     * Returns the latest schema of a subject.
+     *
+     * @param subject the subject
+     * @return the schema
+     * @throws Exception if the subject cannot be resolved or its schema cannot be fetched or parsed
+     */
+    public Schema latest(String subject) throws Exception {
+        Long id = latestIds.get(subject);
+        if (id == null) {
+            id = registry.latestId(subject);
+            latestIds.putIfAbsent(subject, id);
+        }
+        return schema(id);
+    }
+
+    private Schema readWarm(long id) throws IOException {
+        if (warmDirectory == null) {
+            return null;
+        }
+        for (SchemaType type : SchemaType.values()) {
+            Path file = warmDirectory.resolve(id + type.extension());
+            if (Files.isRegularFile(file)) {
+                return new Schema(id, type, Files.readString(file, StandardCharsets.UTF_8));
+            }
+        }
+        return null;
+    }
+
+    private void writeWarm(Schema schema) {
+        if (warmDirectory == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(warmDirectory);
+            // Written under a temporary name and moved into place, so a concurrent reader never sees a partial file.
+            Path file = warmDirectory.resolve(schema.id() + schema.type().extension());
+            Path temporary = Files.createTempFile(warmDirectory, schema.id() + "-", ".tmp");
+            Files.writeString(temporary, schema.definition(), StandardCharsets.UTF_8);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The warm cache only saves a registry round trip after a restart.
+            LOGGER.log(Level.WARNING, "Failed to write schema " + schema.id() + " to the warm cache", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.serdes;
+
+import com.solacesystems.jcsmp.SDTMap;
+import com.solacesystems.jcsmp.XMLMessage;
+import io.xlibb.solace.config.SchemaRegistryConfig;
+
+/**
+ * Finds the registered schema a received message's payload was serialized against, from the schema ID in its user
+ * properties.
+ */
+public final class SchemaDeserializer {
+
+    private final SchemaCache schemaCache;
+    private final String schemaIdProperty;
+
+    /**
+     * Creates a deserializer for the registry a configuration refers to.
+     *
+     * @param config the registry configuration
+     */
+    public SchemaDeserializer(SchemaRegistryConfig config) {
+        this.schemaCache = new SchemaCache(config);
+        this.schemaIdProperty = config.schemaIdProperty();
+    }
+
+    /**
+     * Returns the schema a message's payload was serialized against.
+     *
+     * @param message the received message
+     * @return the schema, or null if the message carries no schema ID
+     * @throws Exception if the schema cannot be fetched or parsed
+     */
+    public Schema schemaOf(XMLMessage message) throws Exception {
+        SDTMap properties = message.getProperties();
+        if (properties == null || !properties.containsKey(schemaIdProperty)) {
+            return null;
+        }
+        Object id = properties.get(schemaIdProperty);
+        return schemaCache.schema(id instanceof Number number ? number.longValue() : Long.parseLong(id.toString()));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.serdes;
+
+import io.xlibb.solace.config.SchemaRegistryConfig;
+
+/**
+ * A source of registered schemas. Schemas are immutable once registered, so a schema fetched by ID can be cached
+ * indefinitely; the latest schema of a subject is resolved to an ID first.
+ */
+interface SchemaRegistry {
+
+    String FILE_URL_PREFIX = "file:";
+
+    /**
+     * Fetches a schema by ID.
+     *
+     * @param id the schema ID
+     * @return the schema
+     * @throws Exception if the schema does not exist or the registry cannot be reached
+     */
+    Schema fetch(long id) throws Exception;
+
+    /**
+     * Resolves the ID of the latest schema registered under a subject.
+     *
+     * @param subject the subject
+     * @return the schema ID
+     * @throws Exception if the subject does not exist or the registry cannot be reached
+     */
+    long latestId(String subject) throws Exception;
+
+    /**
+     * Returns the registry a configuration refers to.
+     *
+     * @param config the registry configuration
+     * @return a file-backed registry for a {@code file:} URL, otherwise an HTTP registry
+     */
+    static SchemaRegistry forConfig(SchemaRegistryConfig config) {
+        if (config.url().startsWith(FILE_URL_PREFIX)) {
+            return new FileSchemaRegistry(config.url().substring(FILE_URL_PREFIX.length()));
+        }
+        return new HttpSchemaRegistry(config);
+    }
+}
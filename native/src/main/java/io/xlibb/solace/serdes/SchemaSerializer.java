@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.serdes;
+
+import com.solacesystems.jcsmp.SDTMap;
+import com.solacesystems.jcsmp.XMLMessage;
+import io.xlibb.solace.common.PropertyConverter;
+import io.xlibb.solace.config.SchemaRegistryConfig;
+import io.xlibb.solace.producer.PayloadSerializer;
+
+import java.io.OutputStream;
+
+/**
+ * Serializes payloads against the latest schema of a registry subject, Avro or JSON Schema, and records the schema's
+ * ID in a user property of each message so consumers can deserialize it.
+ */
+public final class SchemaSerializer implements PayloadSerializer {
+
+    private final SchemaCache schemaCache;
+    private final String subject;
+    private final String schemaIdProperty;
+
+    /**
+     * Creates a serializer for a subject.
+     *
+     * @param config  the registry configuration
+     * @param subject the subject whose latest schema payloads are serialized against
+     */
+    public SchemaSerializer(SchemaRegistryConfig config, String subject) {
+        this.schemaCache = new SchemaCache(config);
+        this.subject = subject;
+        this.schemaIdProperty = config.schemaIdProperty();
+    }
+
+    @Override
+    public void serialize(Object payload, OutputStream out) throws Exception {
+        schemaCache.latest(subject).write(payload, out);
+    }
+
+    @Override
+    public void describe(XMLMessage message) throws Exception {
+        SDTMap properties = PropertyConverter.copyOf(message.getProperties());
+        // The subject's schema ID is resolved once per serializer, so this is the schema serialize() used.
+        properties.putLong(schemaIdProperty, schemaCache.latest(subject).id());
+        message.setProperties(properties);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.xlibb.solace.serdes;
+
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+/**
+ * The kinds of schema a payload can be serialized against.
+ */
+public enum SchemaType {
+
+    /**
+     * An Avro schema; payloads are written in the Avro binary encoding.
+     */
+    AVRO(".avsc"),
+
+    /**
+     * A JSON Schema; payloads are written as JSON and validated against the schema.
+     */
+    JSON(".json");
+
+    private final String extension;
+
+    SchemaType(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the file name extension of schemas of this type.
+     */
+    String extension() {
+        return extension;
+    }
+
+    /**
+     * Returns the schema type a file holds, from its name.
+     *
+     * @param fileName the schema file name
+     * @return the schema type, or null if the file is not a schema file
+     */
+    static SchemaType fromFileName(String fileName) {
+        for (SchemaType type : values()) {
+            if (fileName.endsWith(type.extension)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Infers the type of a schema from its text: a JSON Schema declares {@code $schema} or object properties, anything
+     * else is taken to be Avro.
+     *
+     * @param definition the schema text
+     * @return the schema type
+     */
+    static SchemaType detect(String definition) {
+        Object schema = new JSONTokener(definition).nextValue();
+        return schema instanceof JSONObject object && (object.has("$schema") || object.has("properties")
+                && !object.has("fields")) ? JSON : AVRO;
+    }
+
+    /**
+     * Returns the schema type of a registry artifact type.
+     *
+     * @param artifactType the registry's artifact type
+     * @return the schema type
+     * @throws IllegalArgumentException if the artifact type is not supported
+     */
+    static SchemaType fromArtifactType(String artifactType) {
+        return switch (artifactType) {
+            case "AVRO" -> AVRO;
+            case "JSON" -> JSON;
+            default -> throw new IllegalArgumentException("Unsupported schema type: " + artifactType);
+        };
+    }
+}